@@ -0,0 +1,143 @@
+BEGIN;
+SELECT _v.register_patch('259-patient-order-projection', NULL, NULL);
+
+-- Denormalized copy of v_all_patient_order, maintained incrementally so hot read paths (panel lists, counts, detail lookups)
+-- can be indexed lookups instead of re-running the view's CTEs on every call.
+--
+-- Writes to any table the view depends on enqueue the affected patient order ID(s) into patient_order_projection_queue via triggers.
+-- The API drains the queue on a background thread and re-projects those orders from v_all_patient_order.
+-- Time-dependent columns (e.g. outreach_followup_needed, anything comparing against NOW()) are kept fresh by a periodic reconciler.
+--
+-- IMPORTANT: whenever v_all_patient_order is redefined, patient_order_projection must be dropped and recreated
+-- from the new view definition (and v_patient_order_projection/v_all_patient_order_projection recreated alongside it).
+CREATE TABLE patient_order_projection AS SELECT vapo.*, NOW() AS projected_at FROM v_all_patient_order vapo;
+
+ALTER TABLE patient_order_projection ADD PRIMARY KEY (patient_order_id);
+ALTER TABLE patient_order_projection ALTER COLUMN projected_at SET NOT NULL;
+
+CREATE INDEX patient_order_projection_institution_disposition_idx ON patient_order_projection (institution_id, patient_order_disposition_id);
+CREATE INDEX patient_order_projection_panel_account_idx ON patient_order_projection (panel_account_id, patient_order_disposition_id);
+CREATE INDEX patient_order_projection_patient_account_idx ON patient_order_projection (patient_account_id);
+CREATE INDEX patient_order_projection_patient_order_import_idx ON patient_order_projection (patient_order_import_id);
+CREATE INDEX patient_order_projection_patient_mrn_idx ON patient_order_projection (institution_id, patient_mrn);
+CREATE INDEX patient_order_projection_projected_at_idx ON patient_order_projection (projected_at);
+
+CREATE VIEW v_all_patient_order_projection AS
+SELECT *
+FROM patient_order_projection;
+
+CREATE VIEW v_patient_order_projection AS
+SELECT *
+FROM patient_order_projection
+WHERE patient_order_disposition_id != 'ARCHIVED';
+
+-- Outbox of patient orders whose projection is stale
+CREATE TABLE patient_order_projection_queue (
+	patient_order_id UUID PRIMARY KEY,
+	enqueued_at TIMESTAMPTZ NOT NULL DEFAULT NOW()
+);
+
+CREATE INDEX patient_order_projection_queue_enqueued_at_idx ON patient_order_projection_queue (enqueued_at);
+
+-- Generic trigger for tables that have a patient_order_id column
+CREATE OR REPLACE FUNCTION patient_order_projection_enqueue_fn()
+RETURNS trigger AS $function$
+BEGIN
+	IF TG_OP IN ('INSERT', 'UPDATE') AND NEW.patient_order_id IS NOT NULL THEN
+		INSERT INTO patient_order_projection_queue (patient_order_id) VALUES (NEW.patient_order_id) ON CONFLICT DO NOTHING;
+	END IF;
+
+	IF TG_OP IN ('UPDATE', 'DELETE') AND OLD.patient_order_id IS NOT NULL THEN
+		INSERT INTO patient_order_projection_queue (patient_order_id) VALUES (OLD.patient_order_id) ON CONFLICT DO NOTHING;
+	END IF;
+
+	RETURN NULL;
+END;
+$function$ LANGUAGE plpgsql;
+
+CREATE TRIGGER patient_order_projection_enqueue AFTER INSERT OR UPDATE OR DELETE ON patient_order_outreach FOR EACH ROW EXECUTE PROCEDURE patient_order_projection_enqueue_fn();
+CREATE TRIGGER patient_order_projection_enqueue AFTER INSERT OR UPDATE OR DELETE ON patient_order_referral FOR EACH ROW EXECUTE PROCEDURE patient_order_projection_enqueue_fn();
+CREATE TRIGGER patient_order_projection_enqueue AFTER INSERT OR UPDATE OR DELETE ON patient_order_scheduled_message_group FOR EACH ROW EXECUTE PROCEDURE patient_order_projection_enqueue_fn();
+CREATE TRIGGER patient_order_projection_enqueue AFTER INSERT OR UPDATE OR DELETE ON patient_order_scheduled_outreach FOR EACH ROW EXECUTE PROCEDURE patient_order_projection_enqueue_fn();
+CREATE TRIGGER patient_order_projection_enqueue AFTER INSERT OR UPDATE OR DELETE ON patient_order_scheduled_screening FOR EACH ROW EXECUTE PROCEDURE patient_order_projection_enqueue_fn();
+CREATE TRIGGER patient_order_projection_enqueue AFTER INSERT OR UPDATE OR DELETE ON patient_order_triage_group FOR EACH ROW EXECUTE PROCEDURE patient_order_projection_enqueue_fn();
+CREATE TRIGGER patient_order_projection_enqueue AFTER INSERT OR UPDATE OR DELETE ON patient_order_voicemail_task FOR EACH ROW EXECUTE PROCEDURE patient_order_projection_enqueue_fn();
+CREATE TRIGGER patient_order_projection_enqueue AFTER INSERT OR UPDATE OR DELETE ON screening_session FOR EACH ROW EXECUTE PROCEDURE patient_order_projection_enqueue_fn();
+CREATE TRIGGER patient_order_projection_enqueue AFTER INSERT OR UPDATE OR DELETE ON appointment FOR EACH ROW EXECUTE PROCEDURE patient_order_projection_enqueue_fn();
+
+-- Orders themselves.  The view looks at the previous order for the same MRN (most_recent_episode_closed_at),
+-- so a change to one order can affect its siblings too
+CREATE OR REPLACE FUNCTION patient_order_projection_enqueue_patient_order_fn()
+RETURNS trigger AS $function$
+BEGIN
+	IF TG_OP IN ('INSERT', 'UPDATE') THEN
+		INSERT INTO patient_order_projection_queue (patient_order_id)
+		SELECT po.patient_order_id
+		FROM patient_order po
+		WHERE po.patient_order_id = NEW.patient_order_id
+		OR (po.patient_mrn = NEW.patient_mrn AND po.institution_id = NEW.institution_id)
+		ON CONFLICT DO NOTHING;
+	END IF;
+
+	IF TG_OP IN ('UPDATE', 'DELETE') THEN
+		INSERT INTO patient_order_projection_queue (patient_order_id) VALUES (OLD.patient_order_id) ON CONFLICT DO NOTHING;
+
+		INSERT INTO patient_order_projection_queue (patient_order_id)
+		SELECT po.patient_order_id
+		FROM patient_order po
+		WHERE po.patient_mrn = OLD.patient_mrn
+		AND po.institution_id = OLD.institution_id
+		ON CONFLICT DO NOTHING;
+	END IF;
+
+	RETURN NULL;
+END;
+$function$ LANGUAGE plpgsql;
+
+CREATE TRIGGER patient_order_projection_enqueue AFTER INSERT OR UPDATE OR DELETE ON patient_order FOR EACH ROW EXECUTE PROCEDURE patient_order_projection_enqueue_patient_order_fn();
+
+-- Scheduled messages are linked to orders through their group
+CREATE OR REPLACE FUNCTION patient_order_projection_enqueue_scheduled_message_fn()
+RETURNS trigger AS $function$
+BEGIN
+	IF TG_OP IN ('INSERT', 'UPDATE') THEN
+		INSERT INTO patient_order_projection_queue (patient_order_id)
+		SELECT posmg.patient_order_id
+		FROM patient_order_scheduled_message_group posmg
+		WHERE posmg.patient_order_scheduled_message_group_id = NEW.patient_order_scheduled_message_group_id
+		ON CONFLICT DO NOTHING;
+	END IF;
+
+	IF TG_OP IN ('UPDATE', 'DELETE') THEN
+		INSERT INTO patient_order_projection_queue (patient_order_id)
+		SELECT posmg.patient_order_id
+		FROM patient_order_scheduled_message_group posmg
+		WHERE posmg.patient_order_scheduled_message_group_id = OLD.patient_order_scheduled_message_group_id
+		ON CONFLICT DO NOTHING;
+	END IF;
+
+	RETURN NULL;
+END;
+$function$ LANGUAGE plpgsql;
+
+CREATE TRIGGER patient_order_projection_enqueue AFTER INSERT OR UPDATE OR DELETE ON patient_order_scheduled_message FOR EACH ROW EXECUTE PROCEDURE patient_order_projection_enqueue_scheduled_message_fn();
+
+-- Delivery status of patient order messages feeds the delivered counts/timestamps
+CREATE OR REPLACE FUNCTION patient_order_projection_enqueue_message_log_fn()
+RETURNS trigger AS $function$
+BEGIN
+	INSERT INTO patient_order_projection_queue (patient_order_id)
+	SELECT posmg.patient_order_id
+	FROM scheduled_message sm
+	JOIN patient_order_scheduled_message posm ON sm.scheduled_message_id = posm.scheduled_message_id
+	JOIN patient_order_scheduled_message_group posmg ON posm.patient_order_scheduled_message_group_id = posmg.patient_order_scheduled_message_group_id
+	WHERE sm.message_id = NEW.message_id
+	ON CONFLICT DO NOTHING;
+
+	RETURN NULL;
+END;
+$function$ LANGUAGE plpgsql;
+
+CREATE TRIGGER patient_order_projection_enqueue AFTER INSERT OR UPDATE OF message_status_id ON message_log FOR EACH ROW WHEN (NEW.message_status_id = 'DELIVERED') EXECUTE PROCEDURE patient_order_projection_enqueue_message_log_fn();
+
+COMMIT;
@@ -0,0 +1,67 @@
+BEGIN;
+SELECT _v.register_patch('260-analytics-rollup', NULL, NULL);
+
+-- Per-institution, per-day rollups of raw analytics events, so dashboard queries over a date range read a few rows per day
+-- instead of re-scanning every event in the range.
+--
+-- "day" is the event's date in the institution's time zone.
+-- Rollups keep account_id so distinct-user counts stay correct across multi-day ranges (distinct counts can't be summed per day).
+
+-- Page views from analytics_google_bigquery_event (same data as v_analytics_account_interaction).
+-- account_id is NULL for signed-out page views, e.g. the sign-in screen
+CREATE TABLE analytics_daily_page_view (
+	institution_id TEXT NOT NULL REFERENCES institution,
+	day DATE NOT NULL,
+	account_id UUID,
+	url TEXT,
+	page_view_count BIGINT NOT NULL
+);
+
+CREATE INDEX analytics_daily_page_view_institution_day_idx ON analytics_daily_page_view (institution_id, day);
+
+-- Distinct (account, traffic source) combinations seen per day in analytics_google_bigquery_event
+CREATE TABLE analytics_daily_traffic_source (
+	institution_id TEXT NOT NULL REFERENCES institution,
+	day DATE NOT NULL,
+	account_id UUID NOT NULL,
+	medium TEXT,
+	referrer TEXT
+);
+
+CREATE INDEX analytics_daily_traffic_source_institution_day_idx ON analytics_daily_traffic_source (institution_id, day);
+
+-- Accounts with a "meaningful interaction" per day (see v_analytics_account_meaningful_interaction)
+CREATE TABLE analytics_daily_meaningful_interaction (
+	institution_id TEXT NOT NULL REFERENCES institution,
+	day DATE NOT NULL,
+	account_id UUID NOT NULL,
+	PRIMARY KEY (institution_id, day, account_id)
+);
+
+-- Accounts with any analytics_native_event per day
+CREATE TABLE analytics_daily_native_event_account (
+	institution_id TEXT NOT NULL REFERENCES institution,
+	day DATE NOT NULL,
+	account_id UUID NOT NULL,
+	PRIMARY KEY (institution_id, day, account_id)
+);
+
+-- Tracks which days have been rolled up and which need to be (re)computed.
+-- A day is usable by dashboard queries once refreshed_at is set; a non-null refresh_requested_at means newer raw data is waiting to be rolled up
+CREATE TABLE analytics_rollup_day (
+	institution_id TEXT NOT NULL REFERENCES institution,
+	day DATE NOT NULL,
+	refreshed_at TIMESTAMPTZ,
+	refresh_requested_at TIMESTAMPTZ,
+	PRIMARY KEY (institution_id, day)
+);
+
+CREATE INDEX analytics_rollup_day_refresh_requested_at_idx ON analytics_rollup_day (refresh_requested_at) WHERE refresh_requested_at IS NOT NULL;
+
+-- Native events and meaningful interactions arrive continuously, so recent days are periodically re-rolled up.
+-- Handled by the platform itself rather than enterprise plugins
+INSERT INTO cron_job (institution_id, cron_expression, time_zone, callback_type, next_run_at)
+SELECT institution_id, '*/15 * * * *', time_zone, 'ANALYTICS_ROLLUP_REFRESH', NOW()
+FROM institution;
+
+COMMIT;
@@ -0,0 +1,15 @@
+BEGIN;
+SELECT _v.register_patch('261-analytics-bigquery-sync-checkpoint', NULL, NULL);
+
+-- BigQuery exports are synced a page at a time, each page committed in its own transaction.
+-- These columns record how far a date's sync got so a failed sync can pick up from the next page instead of starting over.
+-- checkpoint_page_token is NULL once the final page has been persisted
+ALTER TABLE analytics_event_date_sync ADD COLUMN checkpoint_job_id TEXT;
+ALTER TABLE analytics_event_date_sync ADD COLUMN checkpoint_job_location TEXT;
+ALTER TABLE analytics_event_date_sync ADD COLUMN checkpoint_page_token TEXT;
+ALTER TABLE analytics_event_date_sync ADD COLUMN checkpoint_event_count BIGINT NOT NULL DEFAULT 0;
+
+-- Doubles as a heartbeat: long-running syncs that are still making progress are not considered stuck
+ALTER TABLE analytics_event_date_sync ADD COLUMN checkpointed_at TIMESTAMPTZ;
+
+COMMIT;
@@ -0,0 +1,8 @@
+BEGIN;
+SELECT _v.register_patch('262-provider-availability-provider-date-time-idx', NULL, NULL);
+
+-- Availability syncs now diff each provider-day against what's stored rather than deleting and re-inserting it,
+-- so they read a provider's slots for a date range on every sync
+CREATE INDEX provider_availability_provider_id_date_time_idx ON provider_availability (provider_id, date_time);
+
+COMMIT;
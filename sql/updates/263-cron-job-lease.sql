@@ -0,0 +1,13 @@
+BEGIN;
+SELECT _v.register_patch('263-cron-job-lease', NULL, NULL);
+
+-- Cron jobs are now claimed in a short transaction and executed afterwards on a worker pool.
+-- A claimed job is RUNNING until its lease expires; expired leases are recovered by a later claim pass
+INSERT INTO cron_job_run_status VALUES ('RUNNING', 'Running');
+
+ALTER TABLE cron_job ADD COLUMN lease_id UUID; -- identifies the current claim so a stale worker can't record over a newer run
+ALTER TABLE cron_job ADD COLUMN lease_expires_at TIMESTAMPTZ;
+
+CREATE INDEX cron_job_lease_expires_at_idx ON cron_job (lease_expires_at) WHERE last_run_status_id='RUNNING';
+
+COMMIT;
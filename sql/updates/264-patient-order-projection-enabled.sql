@@ -0,0 +1,121 @@
+BEGIN;
+SELECT _v.register_patch('264-patient-order-projection-enabled', NULL, NULL);
+
+-- The projection enqueue triggers fire on every write to the tables v_all_patient_order depends on,
+-- but the queue is only drained when patientOrderProjection.enabled is true.
+-- Gate the triggers on a database-side flag so disabled environments don't accumulate an unbounded queue.
+-- The API sets the flag at startup from its configuration; when it flips from disabled to enabled,
+-- every order is enqueued so the projection catches up on writes made while it was disabled
+CREATE TABLE patient_order_projection_status (
+	patient_order_projection_status_id BOOLEAN PRIMARY KEY DEFAULT TRUE CHECK (patient_order_projection_status_id), -- single row
+	enabled BOOLEAN NOT NULL DEFAULT FALSE,
+	last_updated TIMESTAMPTZ NOT NULL DEFAULT NOW()
+);
+
+INSERT INTO patient_order_projection_status DEFAULT VALUES;
+
+CREATE OR REPLACE FUNCTION patient_order_projection_enabled()
+RETURNS BOOLEAN AS $function$
+	SELECT COALESCE((SELECT enabled FROM patient_order_projection_status), FALSE);
+$function$ LANGUAGE sql STABLE;
+
+-- Anything enqueued up to now was never going to be drained
+TRUNCATE patient_order_projection_queue;
+
+CREATE OR REPLACE FUNCTION patient_order_projection_enqueue_fn()
+RETURNS trigger AS $function$
+BEGIN
+	IF NOT patient_order_projection_enabled() THEN
+		RETURN NULL;
+	END IF;
+
+	IF TG_OP IN ('INSERT', 'UPDATE') AND NEW.patient_order_id IS NOT NULL THEN
+		INSERT INTO patient_order_projection_queue (patient_order_id) VALUES (NEW.patient_order_id) ON CONFLICT DO NOTHING;
+	END IF;
+
+	IF TG_OP IN ('UPDATE', 'DELETE') AND OLD.patient_order_id IS NOT NULL THEN
+		INSERT INTO patient_order_projection_queue (patient_order_id) VALUES (OLD.patient_order_id) ON CONFLICT DO NOTHING;
+	END IF;
+
+	RETURN NULL;
+END;
+$function$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION patient_order_projection_enqueue_patient_order_fn()
+RETURNS trigger AS $function$
+BEGIN
+	IF NOT patient_order_projection_enabled() THEN
+		RETURN NULL;
+	END IF;
+
+	IF TG_OP IN ('INSERT', 'UPDATE') THEN
+		INSERT INTO patient_order_projection_queue (patient_order_id)
+		SELECT po.patient_order_id
+		FROM patient_order po
+		WHERE po.patient_order_id = NEW.patient_order_id
+		OR (po.patient_mrn = NEW.patient_mrn AND po.institution_id = NEW.institution_id)
+		ON CONFLICT DO NOTHING;
+	END IF;
+
+	IF TG_OP IN ('UPDATE', 'DELETE') THEN
+		INSERT INTO patient_order_projection_queue (patient_order_id) VALUES (OLD.patient_order_id) ON CONFLICT DO NOTHING;
+
+		INSERT INTO patient_order_projection_queue (patient_order_id)
+		SELECT po.patient_order_id
+		FROM patient_order po
+		WHERE po.patient_mrn = OLD.patient_mrn
+		AND po.institution_id = OLD.institution_id
+		ON CONFLICT DO NOTHING;
+	END IF;
+
+	RETURN NULL;
+END;
+$function$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION patient_order_projection_enqueue_scheduled_message_fn()
+RETURNS trigger AS $function$
+BEGIN
+	IF NOT patient_order_projection_enabled() THEN
+		RETURN NULL;
+	END IF;
+
+	IF TG_OP IN ('INSERT', 'UPDATE') THEN
+		INSERT INTO patient_order_projection_queue (patient_order_id)
+		SELECT posmg.patient_order_id
+		FROM patient_order_scheduled_message_group posmg
+		WHERE posmg.patient_order_scheduled_message_group_id = NEW.patient_order_scheduled_message_group_id
+		ON CONFLICT DO NOTHING;
+	END IF;
+
+	IF TG_OP IN ('UPDATE', 'DELETE') THEN
+		INSERT INTO patient_order_projection_queue (patient_order_id)
+		SELECT posmg.patient_order_id
+		FROM patient_order_scheduled_message_group posmg
+		WHERE posmg.patient_order_scheduled_message_group_id = OLD.patient_order_scheduled_message_group_id
+		ON CONFLICT DO NOTHING;
+	END IF;
+
+	RETURN NULL;
+END;
+$function$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION patient_order_projection_enqueue_message_log_fn()
+RETURNS trigger AS $function$
+BEGIN
+	IF NOT patient_order_projection_enabled() THEN
+		RETURN NULL;
+	END IF;
+
+	INSERT INTO patient_order_projection_queue (patient_order_id)
+	SELECT posmg.patient_order_id
+	FROM scheduled_message sm
+	JOIN patient_order_scheduled_message posm ON sm.scheduled_message_id = posm.scheduled_message_id
+	JOIN patient_order_scheduled_message_group posmg ON posm.patient_order_scheduled_message_group_id = posmg.patient_order_scheduled_message_group_id
+	WHERE sm.message_id = NEW.message_id
+	ON CONFLICT DO NOTHING;
+
+	RETURN NULL;
+END;
+$function$ LANGUAGE plpgsql;
+
+COMMIT;
@@ -0,0 +1,22 @@
+BEGIN;
+SELECT _v.register_patch('265-patient-order-import-progress', NULL, NULL);
+
+-- CSV imports now commit in batches as records are read, so a large file no longer holds one long transaction.
+-- Progress is recorded on the import itself and rows that fail validation are kept alongside it
+ALTER TABLE patient_order_import ADD COLUMN processed_record_count INTEGER NOT NULL DEFAULT 0;
+ALTER TABLE patient_order_import ADD COLUMN imported_record_count INTEGER NOT NULL DEFAULT 0;
+ALTER TABLE patient_order_import ADD COLUMN failed_record_count INTEGER NOT NULL DEFAULT 0;
+ALTER TABLE patient_order_import ADD COLUMN completed_at TIMESTAMPTZ; -- NULL while an import is still in progress (or if it was interrupted)
+
+-- Existing imports were all-or-nothing, so they are already complete
+UPDATE patient_order_import SET completed_at=created;
+
+CREATE TABLE patient_order_import_row_error (
+  patient_order_import_id UUID NOT NULL REFERENCES patient_order_import,
+  row_number INTEGER NOT NULL, -- 1-based, excluding the header row
+  error TEXT NOT NULL,
+  created TIMESTAMPTZ NOT NULL DEFAULT NOW(),
+  PRIMARY KEY (patient_order_import_id, row_number)
+);
+
+COMMIT;
@@ -0,0 +1,16 @@
+BEGIN;
+SELECT _v.register_patch('266-patient-order-projection-admin-status', NULL, NULL);
+
+-- patient_order_projection_status is now controlled by an administrator action (PUT /system/patient-order-projection),
+-- not written by every node from its own startup configuration.  One node deployed with a different setting
+-- could otherwise turn the triggers off (and empty the queue) for the whole cluster.
+--
+-- "enabled" still gates the enqueue triggers and background refresh.
+-- "readable" says the projection has been fully rebuilt since it was last enabled, so nodes may read from it.
+-- Enabling is two steps: turn on the triggers first, then rebuild and mark readable, so no write is missed in between
+ALTER TABLE patient_order_projection_status ADD COLUMN readable BOOLEAN NOT NULL DEFAULT FALSE;
+
+-- Anything already enabled was being maintained by the previous startup-driven behavior
+UPDATE patient_order_projection_status SET readable=enabled;
+
+COMMIT;
@@ -0,0 +1,9 @@
+BEGIN;
+SELECT _v.register_patch('267-patient-order-import-failure', NULL, NULL);
+
+-- CSV imports now run in the background after the upload returns, so a failure partway through is recorded on the import
+-- for the client to see.  Uploading the same file again resumes a failed (or abandoned) import after its last committed batch
+ALTER TABLE patient_order_import ADD COLUMN failed_at TIMESTAMPTZ;
+ALTER TABLE patient_order_import ADD COLUMN failure_message TEXT;
+
+COMMIT;
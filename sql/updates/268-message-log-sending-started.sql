@@ -0,0 +1,10 @@
+BEGIN;
+SELECT _v.register_patch('268-message-log-sending-started', NULL, NULL);
+
+-- When a message was claimed for sending.  If its sender goes away mid-send, the message is left in SENDING; this is how
+-- we can tell it has been abandoned and should be marked as an error
+ALTER TABLE message_log ADD COLUMN sending_started_at TIMESTAMPTZ;
+
+CREATE INDEX message_log_sending_started_at_idx ON message_log (sending_started_at) WHERE message_status_id='SENDING';
+
+COMMIT;
@@ -0,0 +1,32 @@
+BEGIN;
+SELECT _v.register_patch('269-analytics-rollup-institution-opt-in', NULL, NULL);
+
+-- Analytics rollups are opt-in per institution.  Only opted-in institutions get an ANALYTICS_ROLLUP_REFRESH cron job,
+-- and the trigger below keeps the job in step with the flag, so enabling an institution is just:
+--
+-- UPDATE institution SET analytics_rollup_enabled=TRUE WHERE institution_id='...';
+ALTER TABLE institution ADD COLUMN analytics_rollup_enabled BOOLEAN NOT NULL DEFAULT FALSE;
+
+-- 260 created the job for every institution
+DELETE FROM cron_job WHERE callback_type='ANALYTICS_ROLLUP_REFRESH';
+
+CREATE OR REPLACE FUNCTION analytics_rollup_refresh_cron_job_fn()
+RETURNS trigger AS $function$
+BEGIN
+	IF NEW.analytics_rollup_enabled THEN
+		INSERT INTO cron_job (institution_id, cron_expression, time_zone, callback_type, next_run_at)
+		VALUES (NEW.institution_id, '*/15 * * * *', NEW.time_zone, 'ANALYTICS_ROLLUP_REFRESH', NOW())
+		ON CONFLICT (institution_id, callback_type) DO NOTHING;
+	ELSE
+		DELETE FROM cron_job
+		WHERE institution_id=NEW.institution_id
+		AND callback_type='ANALYTICS_ROLLUP_REFRESH';
+	END IF;
+
+	RETURN NULL;
+END;
+$function$ LANGUAGE plpgsql;
+
+CREATE TRIGGER analytics_rollup_refresh_cron_job AFTER INSERT OR UPDATE OF analytics_rollup_enabled ON institution FOR EACH ROW EXECUTE PROCEDURE analytics_rollup_refresh_cron_job_fn();
+
+COMMIT;
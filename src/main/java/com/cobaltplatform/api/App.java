@@ -22,6 +22,8 @@ package com.cobaltplatform.api;
 import com.cobaltplatform.api.integration.acuity.AcuitySyncManager;
 import com.cobaltplatform.api.integration.epic.EpicFhirSyncManager;
 import com.cobaltplatform.api.integration.epic.EpicSyncManager;
+import com.cobaltplatform.api.service.AnalyticsNativeEventWriter;
+import com.cobaltplatform.api.service.AnalyticsRollupService;
 import com.cobaltplatform.api.service.AnalyticsService;
 import com.cobaltplatform.api.service.AvailabilityService;
 import com.cobaltplatform.api.service.ContentService;
@@ -29,12 +31,15 @@ import com.cobaltplatform.api.service.CronService;
 import com.cobaltplatform.api.service.DataSyncService;
 import com.cobaltplatform.api.service.GroupSessionService;
 import com.cobaltplatform.api.service.MessageService;
+import com.cobaltplatform.api.service.PatientOrderProjectionService;
 import com.cobaltplatform.api.service.PatientOrderService;
 import com.cobaltplatform.api.service.PatientOrderSyncService;
 import com.cobaltplatform.api.service.StudyService;
 import com.cobaltplatform.api.service.Way2HealthService;
+import com.cobaltplatform.api.util.FanOutExecutor;
 import com.cobaltplatform.api.util.db.ReadReplica;
 import com.cobaltplatform.api.util.db.WritableMaster;
+import com.cobaltplatform.api.web.request.RequestWriteCoalescer;
 import com.google.inject.Guice;
 import com.google.inject.Injector;
 import com.google.inject.Key;
@@ -146,6 +151,13 @@ public class App implements AutoCloseable {
 			getLogger().warn("Failed to start message service", e);
 		}
 
+		try {
+			RequestWriteCoalescer requestWriteCoalescer = getInjector().getInstance(RequestWriteCoalescer.class);
+			requestWriteCoalescer.start();
+		} catch (Exception e) {
+			getLogger().warn("Failed to start request write coalescer", e);
+		}
+
 		if (getConfiguration().getShouldPollAcuity()) {
 			try {
 				AcuitySyncManager acuitySyncManager = getInjector().getInstance(AcuitySyncManager.class);
@@ -201,6 +213,14 @@ public class App implements AutoCloseable {
 			getLogger().warn("Failed to start Patient Order Service background tasks", e);
 		}
 
+		// Always started - whether the projection is in use is a cluster-wide database setting, polled by every node
+		try {
+			PatientOrderProjectionService patientOrderProjectionService = getInjector().getInstance(PatientOrderProjectionService.class);
+			patientOrderProjectionService.start();
+		} catch (Exception e) {
+			getLogger().warn("Failed to start patient order projection", e);
+		}
+
 		try {
 			AnalyticsService analyticsService = getInjector().getInstance(AnalyticsService.class);
 			analyticsService.startAnalyticsSync();
@@ -208,6 +228,22 @@ public class App implements AutoCloseable {
 			getLogger().warn("Failed to start Analytics Service background sync task", e);
 		}
 
+		if (getConfiguration().getAnalyticsRollupEnabled()) {
+			try {
+				AnalyticsRollupService analyticsRollupService = getInjector().getInstance(AnalyticsRollupService.class);
+				analyticsRollupService.start();
+			} catch (Exception e) {
+				getLogger().warn("Failed to start analytics rollup", e);
+			}
+		}
+
+		try {
+			AnalyticsNativeEventWriter analyticsNativeEventWriter = getInjector().getInstance(AnalyticsNativeEventWriter.class);
+			analyticsNativeEventWriter.start();
+		} catch (Exception e) {
+			getLogger().warn("Failed to start analytics native event writer", e);
+		}
+
 		try {
 			ContentService contentService = getInjector().getInstance(ContentService.class);
 			contentService.startBackgroundTask();
@@ -291,6 +327,20 @@ public class App implements AutoCloseable {
 			getLogger().warn("Failed to stop Analytics Service background sync task", e);
 		}
 
+		try {
+			AnalyticsRollupService analyticsRollupService = getInjector().getInstance(AnalyticsRollupService.class);
+			analyticsRollupService.stop();
+		} catch (Exception e) {
+			getLogger().warn("Failed to stop analytics rollup", e);
+		}
+
+		try {
+			AnalyticsNativeEventWriter analyticsNativeEventWriter = getInjector().getInstance(AnalyticsNativeEventWriter.class);
+			analyticsNativeEventWriter.stop();
+		} catch (Exception e) {
+			getLogger().warn("Failed to stop analytics native event writer", e);
+		}
+
 		try {
 			PatientOrderService patientOrderService = getInjector().getInstance(PatientOrderService.class);
 			patientOrderService.stopBackgroundTasks();
@@ -298,6 +348,13 @@ public class App implements AutoCloseable {
 			getLogger().warn("Failed to stop Patient Order Service background tasks", e);
 		}
 
+		try {
+			PatientOrderProjectionService patientOrderProjectionService = getInjector().getInstance(PatientOrderProjectionService.class);
+			patientOrderProjectionService.stop();
+		} catch (Exception e) {
+			getLogger().warn("Failed to stop patient order projection", e);
+		}
+
 		try {
 			AvailabilityService availabilityService = getInjector().getInstance(AvailabilityService.class);
 			availabilityService.stopHistoryBackgroundTask();
@@ -353,6 +410,20 @@ public class App implements AutoCloseable {
 			getLogger().warn("Failed to stop message service", e);
 		}
 
+		try {
+			RequestWriteCoalescer requestWriteCoalescer = getInjector().getInstance(RequestWriteCoalescer.class);
+			requestWriteCoalescer.stop();
+		} catch (Exception e) {
+			getLogger().warn("Failed to stop request write coalescer", e);
+		}
+
+		try {
+			FanOutExecutor fanOutExecutor = getInjector().getInstance(FanOutExecutor.class);
+			fanOutExecutor.close();
+		} catch (Exception e) {
+			getLogger().warn("Failed to stop fan-out executor", e);
+		}
+
 		try {
 			DataSource readReplicaDataSource = getInjector().getInstance(Key.get(DataSource.class, ReadReplica.class));
 
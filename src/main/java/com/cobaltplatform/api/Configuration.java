@@ -26,8 +26,10 @@ import com.cobaltplatform.api.http.HttpRequest;
 import com.cobaltplatform.api.http.HttpResponse;
 import com.cobaltplatform.api.integration.way2health.Way2HealthEnvironment;
 import com.cobaltplatform.api.model.db.Institution.InstitutionId;
+import com.cobaltplatform.api.model.db.MessageVendor.MessageVendorId;
 import com.cobaltplatform.api.model.security.SamlIdentityProvider;
 import com.cobaltplatform.api.model.security.SigningCredentials;
+import com.cobaltplatform.api.model.service.AnalyticsNativeEventDurabilityModeId;
 import com.cobaltplatform.api.util.AwsSecretConfigurationManager;
 import com.cobaltplatform.api.util.AwsSecretManagerClient;
 import com.cobaltplatform.api.util.CryptoUtility;
@@ -74,6 +76,7 @@ import java.time.Instant;
 import java.time.ZoneId;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
@@ -101,6 +104,54 @@ public class Configuration {
 	private static final String DEFAULT_ENV;
 	@Nonnull
 	private static final Integer DEFAULT_PORT;
+	@Nonnull
+	private static final Integer DEFAULT_MESSAGE_SEND_BATCH_SIZE;
+	@Nonnull
+	private static final Integer DEFAULT_MESSAGE_SEND_WORKER_POOL_SIZE;
+	@Nonnull
+	private static final Double DEFAULT_AMAZON_SES_SENDS_PER_SECOND;
+	@Nonnull
+	private static final Double DEFAULT_TWILIO_SENDS_PER_SECOND;
+	@Nonnull
+	private static final Double DEFAULT_GOOGLE_FCM_SENDS_PER_SECOND;
+	@Nonnull
+	private static final Long DEFAULT_INSTITUTION_CACHE_EXPIRATION_IN_SECONDS;
+	@Nonnull
+	private static final Long DEFAULT_PATIENT_ORDER_PROJECTION_REFRESH_INTERVAL_IN_SECONDS;
+	@Nonnull
+	private static final Long DEFAULT_PATIENT_ORDER_PROJECTION_RECONCILE_INTERVAL_IN_SECONDS;
+	@Nonnull
+	private static final Integer DEFAULT_JSON_RESPONSE_COMPRESSION_THRESHOLD_IN_BYTES;
+	@Nonnull
+	private static final Long DEFAULT_ANALYTICS_ROLLUP_REFRESH_INTERVAL_IN_SECONDS;
+	@Nonnull
+	private static final Integer DEFAULT_ANALYTICS_ROLLUP_BACKFILL_DAYS;
+	@Nonnull
+	private static final AnalyticsNativeEventDurabilityModeId DEFAULT_ANALYTICS_NATIVE_EVENT_DURABILITY_MODE_ID;
+	@Nonnull
+	private static final Integer DEFAULT_ANALYTICS_NATIVE_EVENT_QUEUE_CAPACITY;
+	@Nonnull
+	private static final Integer DEFAULT_ANALYTICS_NATIVE_EVENT_BATCH_SIZE;
+	@Nonnull
+	private static final Long DEFAULT_ANALYTICS_NATIVE_EVENT_FLUSH_INTERVAL_IN_MILLISECONDS;
+	@Nonnull
+	private static final Integer DEFAULT_ANALYTICS_SYNC_GOOGLE_BIGQUERY_CONCURRENCY;
+	@Nonnull
+	private static final Integer DEFAULT_ANALYTICS_SYNC_MIXPANEL_CONCURRENCY;
+	@Nonnull
+	private static final Integer DEFAULT_EPIC_AVAILABILITY_SYNC_CONCURRENCY;
+	@Nonnull
+	private static final Integer DEFAULT_EPIC_AVAILABILITY_SYNC_INSTITUTION_CONCURRENCY;
+	@Nonnull
+	private static final Integer DEFAULT_PATIENT_ORDER_IMPORT_CONCURRENCY;
+	@Nonnull
+	private static final Integer DEFAULT_ACUITY_AVAILABILITY_SYNC_CONCURRENCY;
+	@Nonnull
+	private static final Integer DEFAULT_ACUITY_AVAILABILITY_SYNC_INSTITUTION_CONCURRENCY;
+	@Nonnull
+	private static final Integer DEFAULT_CRON_JOB_WORKER_CONCURRENCY;
+	@Nonnull
+	private static final Long DEFAULT_CRON_JOB_LEASE_DURATION_IN_SECONDS;
 
 	@Nonnull
 	private final ValueConverterRegistry valueConverterRegistry;
@@ -292,12 +343,90 @@ public class Configuration {
 	@Nonnull
 	private final Long dataSyncIntervalInSeconds;
 
+	@Nonnull
+	private final Integer messageSendBatchSize;
+	@Nonnull
+	private final Integer messageSendWorkerPoolSize;
+	@Nonnull
+	private final Map<MessageVendorId, Double> messageSendRateLimitsPerSecondByMessageVendorId;
+	@Nonnull
+	private final Long institutionCacheExpirationInSeconds;
+	@Nonnull
+	private final Boolean shouldUseDistributedInstitutionCacheInvalidation;
+	@Nonnull
+	private final Long patientOrderProjectionRefreshIntervalInSeconds;
+	@Nonnull
+	private final Long patientOrderProjectionReconcileIntervalInSeconds;
+	@Nonnull
+	private final Boolean jsonResponseCompressionEnabled;
+	@Nonnull
+	private final Integer jsonResponseCompressionThresholdInBytes;
+	@Nonnull
+	private final Boolean analyticsRollupEnabled;
+	@Nonnull
+	private final Long analyticsRollupRefreshIntervalInSeconds;
+	@Nonnull
+	private final Integer analyticsRollupBackfillDays;
+	@Nonnull
+	private final AnalyticsNativeEventDurabilityModeId analyticsNativeEventDurabilityModeId;
+	@Nonnull
+	private final Integer analyticsNativeEventQueueCapacity;
+	@Nonnull
+	private final Integer analyticsNativeEventBatchSize;
+	@Nonnull
+	private final Long analyticsNativeEventFlushIntervalInMilliseconds;
+	@Nonnull
+	private final Integer analyticsSyncGoogleBigQueryConcurrency;
+	@Nonnull
+	private final Integer analyticsSyncMixpanelConcurrency;
+	@Nonnull
+	private final Integer epicAvailabilitySyncConcurrency;
+	@Nonnull
+	private final Integer epicAvailabilitySyncInstitutionConcurrency;
+	@Nonnull
+	private final Integer patientOrderImportConcurrency;
+	@Nonnull
+	private final Integer acuityAvailabilitySyncConcurrency;
+	@Nonnull
+	private final Integer acuityAvailabilitySyncInstitutionConcurrency;
+	@Nonnull
+	private final Integer cronJobWorkerConcurrency;
+	@Nonnull
+	private final Long cronJobLeaseDurationInSeconds;
+
 	static {
 		ENV_ENV_VARIABLE_NAME = "COBALT_API_ENV";
 		PORT_ENV_VARIABLE_NAME = "COBALT_API_PORT";
 
 		DEFAULT_ENV = "local";
 		DEFAULT_PORT = 8080;
+		DEFAULT_MESSAGE_SEND_BATCH_SIZE = 25;
+		DEFAULT_MESSAGE_SEND_WORKER_POOL_SIZE = 4;
+		// SES production accounts start at 14 sends per second
+		DEFAULT_AMAZON_SES_SENDS_PER_SECOND = 14D;
+		DEFAULT_TWILIO_SENDS_PER_SECOND = 10D;
+		DEFAULT_GOOGLE_FCM_SENDS_PER_SECOND = 100D;
+		DEFAULT_INSTITUTION_CACHE_EXPIRATION_IN_SECONDS = 300L;
+		DEFAULT_PATIENT_ORDER_PROJECTION_REFRESH_INTERVAL_IN_SECONDS = 2L;
+		DEFAULT_PATIENT_ORDER_PROJECTION_RECONCILE_INTERVAL_IN_SECONDS = 60L * 5L;
+		// Below roughly one MTU, compression costs more CPU than it saves on the wire
+		DEFAULT_JSON_RESPONSE_COMPRESSION_THRESHOLD_IN_BYTES = 1_400;
+		DEFAULT_ANALYTICS_ROLLUP_REFRESH_INTERVAL_IN_SECONDS = 60L;
+		DEFAULT_ANALYTICS_ROLLUP_BACKFILL_DAYS = 400;
+		DEFAULT_ANALYTICS_NATIVE_EVENT_DURABILITY_MODE_ID = AnalyticsNativeEventDurabilityModeId.WAIT_FOR_FLUSH;
+		DEFAULT_ANALYTICS_NATIVE_EVENT_QUEUE_CAPACITY = 10_000;
+		DEFAULT_ANALYTICS_NATIVE_EVENT_BATCH_SIZE = 500;
+		DEFAULT_ANALYTICS_NATIVE_EVENT_FLUSH_INTERVAL_IN_MILLISECONDS = 250L;
+		DEFAULT_ANALYTICS_SYNC_GOOGLE_BIGQUERY_CONCURRENCY = 4;
+		// Mixpanel's raw export API allows 3 queries per second and 60 per hour
+		DEFAULT_ANALYTICS_SYNC_MIXPANEL_CONCURRENCY = 2;
+		DEFAULT_EPIC_AVAILABILITY_SYNC_CONCURRENCY = 8;
+		DEFAULT_EPIC_AVAILABILITY_SYNC_INSTITUTION_CONCURRENCY = 4;
+		DEFAULT_PATIENT_ORDER_IMPORT_CONCURRENCY = 8;
+		DEFAULT_ACUITY_AVAILABILITY_SYNC_CONCURRENCY = 4;
+		DEFAULT_ACUITY_AVAILABILITY_SYNC_INSTITUTION_CONCURRENCY = 2;
+		DEFAULT_CRON_JOB_WORKER_CONCURRENCY = 4;
+		DEFAULT_CRON_JOB_LEASE_DURATION_IN_SECONDS = 60L * 30;
 	}
 
 	@Nonnull
@@ -462,6 +591,98 @@ public class Configuration {
 		this.dataSyncRemoteDb = valueFor("com.cobaltplatform.api.dataSyncRemoteDb", String.class);
 		this.dataSyncIntervalInSeconds = valueFor("com.cobaltplatform.api.dataSyncIntervalInSeconds", Long.class);
 
+		// Outbound message dispatch tuning is optional; fall back to defaults if not specified
+		Integer messageSendBatchSize = valueFor("com.cobaltplatform.api.messaging.sendBatchSize", Integer.class, false);
+		Integer messageSendWorkerPoolSize = valueFor("com.cobaltplatform.api.messaging.sendWorkerPoolSize", Integer.class, false);
+
+		this.messageSendBatchSize = messageSendBatchSize == null ? DEFAULT_MESSAGE_SEND_BATCH_SIZE : Math.max(messageSendBatchSize, 1);
+		this.messageSendWorkerPoolSize = messageSendWorkerPoolSize == null ? DEFAULT_MESSAGE_SEND_WORKER_POOL_SIZE : Math.max(messageSendWorkerPoolSize, 1);
+
+		// Platform-wide per-vendor send rate ceilings.  Institutions can further restrict via their enterprise plugin
+		Double amazonSesSendsPerSecond = valueFor("com.cobaltplatform.api.messaging.amazonSesSendsPerSecond", Double.class, false);
+		Double twilioSendsPerSecond = valueFor("com.cobaltplatform.api.messaging.twilioSendsPerSecond", Double.class, false);
+		Double googleFcmSendsPerSecond = valueFor("com.cobaltplatform.api.messaging.googleFcmSendsPerSecond", Double.class, false);
+
+		Map<MessageVendorId, Double> messageSendRateLimitsPerSecondByMessageVendorId = new EnumMap<>(MessageVendorId.class);
+		messageSendRateLimitsPerSecondByMessageVendorId.put(MessageVendorId.AMAZON_SES, amazonSesSendsPerSecond == null ? DEFAULT_AMAZON_SES_SENDS_PER_SECOND : amazonSesSendsPerSecond);
+		messageSendRateLimitsPerSecondByMessageVendorId.put(MessageVendorId.TWILIO, twilioSendsPerSecond == null ? DEFAULT_TWILIO_SENDS_PER_SECOND : twilioSendsPerSecond);
+		messageSendRateLimitsPerSecondByMessageVendorId.put(MessageVendorId.GOOGLE_FCM, googleFcmSendsPerSecond == null ? DEFAULT_GOOGLE_FCM_SENDS_PER_SECOND : googleFcmSendsPerSecond);
+
+		this.messageSendRateLimitsPerSecondByMessageVendorId = Collections.unmodifiableMap(messageSendRateLimitsPerSecondByMessageVendorId);
+
+		// Institution data rarely changes, so it is cached in-process.  Optionally, invalidations are broadcast to other nodes via the distributed cache
+		Long institutionCacheExpirationInSeconds = valueFor("com.cobaltplatform.api.institutionCache.expirationInSeconds", Long.class, false);
+		Boolean shouldUseDistributedInstitutionCacheInvalidation = valueFor("com.cobaltplatform.api.institutionCache.shouldUseDistributedInvalidation", Boolean.class, false);
+
+		this.institutionCacheExpirationInSeconds = institutionCacheExpirationInSeconds == null ? DEFAULT_INSTITUTION_CACHE_EXPIRATION_IN_SECONDS : Math.max(institutionCacheExpirationInSeconds, 0L);
+		this.shouldUseDistributedInstitutionCacheInvalidation = shouldUseDistributedInstitutionCacheInvalidation == null ? false : shouldUseDistributedInstitutionCacheInvalidation;
+
+		// How often the patient_order_projection table is maintained.  Whether it is used at all is controlled cluster-wide
+		// in the database by an administrator, not per-node - see PatientOrderProjectionService
+		Long patientOrderProjectionRefreshIntervalInSeconds = valueFor("com.cobaltplatform.api.patientOrderProjection.refreshIntervalInSeconds", Long.class, false);
+		Long patientOrderProjectionReconcileIntervalInSeconds = valueFor("com.cobaltplatform.api.patientOrderProjection.reconcileIntervalInSeconds", Long.class, false);
+
+		this.patientOrderProjectionRefreshIntervalInSeconds = patientOrderProjectionRefreshIntervalInSeconds == null ? DEFAULT_PATIENT_ORDER_PROJECTION_REFRESH_INTERVAL_IN_SECONDS : Math.max(patientOrderProjectionRefreshIntervalInSeconds, 1L);
+		this.patientOrderProjectionReconcileIntervalInSeconds = patientOrderProjectionReconcileIntervalInSeconds == null ? DEFAULT_PATIENT_ORDER_PROJECTION_RECONCILE_INTERVAL_IN_SECONDS : Math.max(patientOrderProjectionReconcileIntervalInSeconds, 1L);
+
+		Boolean jsonResponseCompressionEnabled = valueFor("com.cobaltplatform.api.jsonResponse.compressionEnabled", Boolean.class, false);
+		Integer jsonResponseCompressionThresholdInBytes = valueFor("com.cobaltplatform.api.jsonResponse.compressionThresholdInBytes", Integer.class, false);
+
+		this.jsonResponseCompressionEnabled = jsonResponseCompressionEnabled == null ? true : jsonResponseCompressionEnabled;
+		this.jsonResponseCompressionThresholdInBytes = jsonResponseCompressionThresholdInBytes == null ? DEFAULT_JSON_RESPONSE_COMPRESSION_THRESHOLD_IN_BYTES : Math.max(jsonResponseCompressionThresholdInBytes, 0);
+
+		// Analytics dashboards can read from per-day rollup tables instead of aggregating raw events on every request
+		Boolean analyticsRollupEnabled = valueFor("com.cobaltplatform.api.analyticsRollup.enabled", Boolean.class, false);
+		Long analyticsRollupRefreshIntervalInSeconds = valueFor("com.cobaltplatform.api.analyticsRollup.refreshIntervalInSeconds", Long.class, false);
+		Integer analyticsRollupBackfillDays = valueFor("com.cobaltplatform.api.analyticsRollup.backfillDays", Integer.class, false);
+
+		this.analyticsRollupEnabled = analyticsRollupEnabled == null ? false : analyticsRollupEnabled;
+		this.analyticsRollupRefreshIntervalInSeconds = analyticsRollupRefreshIntervalInSeconds == null ? DEFAULT_ANALYTICS_ROLLUP_REFRESH_INTERVAL_IN_SECONDS : Math.max(analyticsRollupRefreshIntervalInSeconds, 1L);
+		this.analyticsRollupBackfillDays = analyticsRollupBackfillDays == null ? DEFAULT_ANALYTICS_ROLLUP_BACKFILL_DAYS : Math.max(analyticsRollupBackfillDays, 0);
+
+		// Native analytics events can be queued and inserted in batches rather than one row per request
+		AnalyticsNativeEventDurabilityModeId analyticsNativeEventDurabilityModeId = valueFor("com.cobaltplatform.api.analyticsNativeEventIngestion.durabilityMode", AnalyticsNativeEventDurabilityModeId.class, false);
+		Integer analyticsNativeEventQueueCapacity = valueFor("com.cobaltplatform.api.analyticsNativeEventIngestion.queueCapacity", Integer.class, false);
+		Integer analyticsNativeEventBatchSize = valueFor("com.cobaltplatform.api.analyticsNativeEventIngestion.batchSize", Integer.class, false);
+		Long analyticsNativeEventFlushIntervalInMilliseconds = valueFor("com.cobaltplatform.api.analyticsNativeEventIngestion.flushIntervalInMilliseconds", Long.class, false);
+
+		this.analyticsNativeEventDurabilityModeId = analyticsNativeEventDurabilityModeId == null ? DEFAULT_ANALYTICS_NATIVE_EVENT_DURABILITY_MODE_ID : analyticsNativeEventDurabilityModeId;
+		this.analyticsNativeEventQueueCapacity = analyticsNativeEventQueueCapacity == null ? DEFAULT_ANALYTICS_NATIVE_EVENT_QUEUE_CAPACITY : Math.max(analyticsNativeEventQueueCapacity, 1);
+		this.analyticsNativeEventBatchSize = analyticsNativeEventBatchSize == null ? DEFAULT_ANALYTICS_NATIVE_EVENT_BATCH_SIZE : Math.max(analyticsNativeEventBatchSize, 1);
+		this.analyticsNativeEventFlushIntervalInMilliseconds = analyticsNativeEventFlushIntervalInMilliseconds == null ? DEFAULT_ANALYTICS_NATIVE_EVENT_FLUSH_INTERVAL_IN_MILLISECONDS : Math.max(analyticsNativeEventFlushIntervalInMilliseconds, 1L);
+
+		// How many dates each node syncs at once per analytics vendor, across all institutions
+		Integer analyticsSyncGoogleBigQueryConcurrency = valueFor("com.cobaltplatform.api.analyticsSync.googleBigQueryConcurrency", Integer.class, false);
+		Integer analyticsSyncMixpanelConcurrency = valueFor("com.cobaltplatform.api.analyticsSync.mixpanelConcurrency", Integer.class, false);
+
+		this.analyticsSyncGoogleBigQueryConcurrency = analyticsSyncGoogleBigQueryConcurrency == null ? DEFAULT_ANALYTICS_SYNC_GOOGLE_BIGQUERY_CONCURRENCY : Math.max(analyticsSyncGoogleBigQueryConcurrency, 1);
+		this.analyticsSyncMixpanelConcurrency = analyticsSyncMixpanelConcurrency == null ? DEFAULT_ANALYTICS_SYNC_MIXPANEL_CONCURRENCY : Math.max(analyticsSyncMixpanelConcurrency, 1);
+
+		// EPIC availability sync fans out over provider-dates; the per-institution cap protects each institution's EPIC instance
+		Integer epicAvailabilitySyncConcurrency = valueFor("com.cobaltplatform.api.epicAvailabilitySync.concurrency", Integer.class, false);
+		Integer epicAvailabilitySyncInstitutionConcurrency = valueFor("com.cobaltplatform.api.epicAvailabilitySync.institutionConcurrency", Integer.class, false);
+
+		this.epicAvailabilitySyncConcurrency = epicAvailabilitySyncConcurrency == null ? DEFAULT_EPIC_AVAILABILITY_SYNC_CONCURRENCY : Math.max(epicAvailabilitySyncConcurrency, 1);
+		this.epicAvailabilitySyncInstitutionConcurrency = epicAvailabilitySyncInstitutionConcurrency == null ? DEFAULT_EPIC_AVAILABILITY_SYNC_INSTITUTION_CONCURRENCY : Math.max(epicAvailabilitySyncInstitutionConcurrency, 1);
+
+		// Caps concurrent EPIC demographics lookups performed while importing a patient order CSV
+		Integer patientOrderImportConcurrency = valueFor("com.cobaltplatform.api.patientOrderImport.concurrency", Integer.class, false);
+		this.patientOrderImportConcurrency = patientOrderImportConcurrency == null ? DEFAULT_PATIENT_ORDER_IMPORT_CONCURRENCY : Math.max(patientOrderImportConcurrency, 1);
+
+		// Acuity availability sync fans out over providers; the per-institution cap keeps us under Acuity's (undocumented) limits
+		Integer acuityAvailabilitySyncConcurrency = valueFor("com.cobaltplatform.api.acuityAvailabilitySync.concurrency", Integer.class, false);
+		Integer acuityAvailabilitySyncInstitutionConcurrency = valueFor("com.cobaltplatform.api.acuityAvailabilitySync.institutionConcurrency", Integer.class, false);
+
+		this.acuityAvailabilitySyncConcurrency = acuityAvailabilitySyncConcurrency == null ? DEFAULT_ACUITY_AVAILABILITY_SYNC_CONCURRENCY : Math.max(acuityAvailabilitySyncConcurrency, 1);
+		this.acuityAvailabilitySyncInstitutionConcurrency = acuityAvailabilitySyncInstitutionConcurrency == null ? DEFAULT_ACUITY_AVAILABILITY_SYNC_INSTITUTION_CONCURRENCY : Math.max(acuityAvailabilitySyncInstitutionConcurrency, 1);
+
+		// Claimed cron jobs run on a worker pool; a job still running when its lease expires is recorded as failed and rescheduled
+		Integer cronJobWorkerConcurrency = valueFor("com.cobaltplatform.api.cronJob.workerConcurrency", Integer.class, false);
+		Long cronJobLeaseDurationInSeconds = valueFor("com.cobaltplatform.api.cronJob.leaseDurationInSeconds", Long.class, false);
+
+		this.cronJobWorkerConcurrency = cronJobWorkerConcurrency == null ? DEFAULT_CRON_JOB_WORKER_CONCURRENCY : Math.max(cronJobWorkerConcurrency, 1);
+		this.cronJobLeaseDurationInSeconds = cronJobLeaseDurationInSeconds == null ? DEFAULT_CRON_JOB_LEASE_DURATION_IN_SECONDS : Math.max(cronJobLeaseDurationInSeconds, 1L);
+
 		if (getAmazonUseLocalstack()) {
 			// Prime the default credential provider chain
 			// https://docs.aws.amazon.com/sdk-for-java/latest/developer-guide/credentials.html
@@ -1521,4 +1742,143 @@ public class Configuration {
 	public Long getDataSyncIntervalInSeconds() {
 		return dataSyncIntervalInSeconds;
 	}
+
+	@Nonnull
+	public Integer getMessageSendBatchSize() {
+		return this.messageSendBatchSize;
+	}
+
+	@Nonnull
+	public Integer getMessageSendWorkerPoolSize() {
+		return this.messageSendWorkerPoolSize;
+	}
+
+	/**
+	 * The platform-wide ceiling on how quickly we hand messages to a vendor.
+	 *
+	 * @param messageVendorId (nonnull) the vendor to check
+	 * @return (nonnull) the maximum number of sends per second, or empty if the vendor is not rate-limited
+	 */
+	@Nonnull
+	public Optional<Double> getMessageSendRateLimitPerSecond(@Nonnull MessageVendorId messageVendorId) {
+		requireNonNull(messageVendorId);
+
+		Double messageSendRateLimitPerSecond = this.messageSendRateLimitsPerSecondByMessageVendorId.get(messageVendorId);
+
+		// Non-positive values mean "unlimited"
+		if (messageSendRateLimitPerSecond == null || messageSendRateLimitPerSecond <= 0)
+			return Optional.empty();
+
+		return Optional.of(messageSendRateLimitPerSecond);
+	}
+
+	@Nonnull
+	public Long getInstitutionCacheExpirationInSeconds() {
+		return this.institutionCacheExpirationInSeconds;
+	}
+
+	@Nonnull
+	public Boolean getShouldUseDistributedInstitutionCacheInvalidation() {
+		return this.shouldUseDistributedInstitutionCacheInvalidation;
+	}
+
+	@Nonnull
+	public Long getPatientOrderProjectionRefreshIntervalInSeconds() {
+		return this.patientOrderProjectionRefreshIntervalInSeconds;
+	}
+
+	@Nonnull
+	public Long getPatientOrderProjectionReconcileIntervalInSeconds() {
+		return this.patientOrderProjectionReconcileIntervalInSeconds;
+	}
+
+	@Nonnull
+	public Boolean getJsonResponseCompressionEnabled() {
+		return this.jsonResponseCompressionEnabled;
+	}
+
+	@Nonnull
+	public Integer getJsonResponseCompressionThresholdInBytes() {
+		return this.jsonResponseCompressionThresholdInBytes;
+	}
+
+	@Nonnull
+	public Boolean getAnalyticsRollupEnabled() {
+		return this.analyticsRollupEnabled;
+	}
+
+	@Nonnull
+	public Long getAnalyticsRollupRefreshIntervalInSeconds() {
+		return this.analyticsRollupRefreshIntervalInSeconds;
+	}
+
+	@Nonnull
+	public Integer getAnalyticsRollupBackfillDays() {
+		return this.analyticsRollupBackfillDays;
+	}
+
+	@Nonnull
+	public AnalyticsNativeEventDurabilityModeId getAnalyticsNativeEventDurabilityModeId() {
+		return this.analyticsNativeEventDurabilityModeId;
+	}
+
+	@Nonnull
+	public Integer getAnalyticsNativeEventQueueCapacity() {
+		return this.analyticsNativeEventQueueCapacity;
+	}
+
+	@Nonnull
+	public Integer getAnalyticsNativeEventBatchSize() {
+		return this.analyticsNativeEventBatchSize;
+	}
+
+	@Nonnull
+	public Long getAnalyticsNativeEventFlushIntervalInMilliseconds() {
+		return this.analyticsNativeEventFlushIntervalInMilliseconds;
+	}
+
+	@Nonnull
+	public Integer getAnalyticsSyncGoogleBigQueryConcurrency() {
+		return this.analyticsSyncGoogleBigQueryConcurrency;
+	}
+
+	@Nonnull
+	public Integer getAnalyticsSyncMixpanelConcurrency() {
+		return this.analyticsSyncMixpanelConcurrency;
+	}
+
+	@Nonnull
+	public Integer getEpicAvailabilitySyncConcurrency() {
+		return this.epicAvailabilitySyncConcurrency;
+	}
+
+	@Nonnull
+	public Integer getEpicAvailabilitySyncInstitutionConcurrency() {
+		return this.epicAvailabilitySyncInstitutionConcurrency;
+	}
+
+	@Nonnull
+	public Integer getPatientOrderImportConcurrency() {
+		return this.patientOrderImportConcurrency;
+	}
+
+	@Nonnull
+	public Integer getAcuityAvailabilitySyncConcurrency() {
+		return this.acuityAvailabilitySyncConcurrency;
+	}
+
+	@Nonnull
+	public Integer getAcuityAvailabilitySyncInstitutionConcurrency() {
+		return this.acuityAvailabilitySyncInstitutionConcurrency;
+	}
+
+	@Nonnull
+	public Integer getCronJobWorkerConcurrency() {
+		return this.cronJobWorkerConcurrency;
+	}
+
+	@Nonnull
+	public Long getCronJobLeaseDurationInSeconds() {
+		return this.cronJobLeaseDurationInSeconds;
+	}
 }
@@ -30,9 +30,13 @@ import com.cobaltplatform.api.model.api.request.UpdateAcuityAppointmentTypeReque
 import com.cobaltplatform.api.model.db.AppointmentType;
 import com.cobaltplatform.api.model.db.Institution.InstitutionId;
 import com.cobaltplatform.api.model.db.Provider;
+import com.cobaltplatform.api.model.db.ProviderAvailability;
 import com.cobaltplatform.api.model.db.SchedulingSystem.SchedulingSystemId;
+import com.cobaltplatform.api.model.service.AdvisoryLock;
 import com.cobaltplatform.api.service.AppointmentService;
 import com.cobaltplatform.api.service.ProviderService;
+import com.cobaltplatform.api.util.ConcurrencyLimitedExecutor;
+import com.cobaltplatform.api.util.ExecutorServiceUtility;
 import com.cobaltplatform.api.util.db.DatabaseProvider;
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.lokalized.Strings;
@@ -53,6 +57,7 @@ import java.time.LocalTime;
 import java.time.ZoneId;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -60,9 +65,14 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.TreeMap;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 
 import static java.lang.String.format;
@@ -307,14 +317,47 @@ public class AcuitySyncManager implements ProviderAvailabilitySyncManager, AutoC
 			return;
 		}
 
+		// Serialize concurrent syncs of the same provider (e.g. background sync and a post-booking resync) so the comparison below doesn't race
+		getDatabase().queryForObject("SELECT pg_advisory_xact_lock(?, hashtext(?))::TEXT", String.class,
+				AdvisoryLock.ACUITY_PROVIDER_AVAILABILITY_SYNC.getKey(), insert.getProviderId().toString());
+
+		// Most syncs find nothing new, so don't churn the table if Acuity's times match what we already have
+		List<ProviderAvailability> existingProviderAvailabilities = today
+				? getDatabase().queryForList("SELECT * FROM provider_availability WHERE provider_id=? AND date_time > ? AND date_time <= ?",
+				ProviderAvailability.class, insert.getProviderId(), currentDateTime, LocalDateTime.of(insertDate, LocalTime.MAX))
+				: getDatabase().queryForList("SELECT * FROM provider_availability WHERE provider_id=? AND date_time >= ? AND date_time < ?",
+				ProviderAvailability.class, insert.getProviderId(), insertDate.atStartOfDay(), insertDate.plusDays(1).atStartOfDay());
+
+		Map<UUID, List<LocalDateTime>> existingDateTimesByAppointmentTypeId = new HashMap<>();
+
+		for (ProviderAvailability existingProviderAvailability : existingProviderAvailabilities)
+			existingDateTimesByAppointmentTypeId.computeIfAbsent(existingProviderAvailability.getAppointmentTypeId(), ignored -> new ArrayList<>())
+					.add(existingProviderAvailability.getDateTime());
+
+		Map<UUID, List<LocalDateTime>> fetchedDateTimesByAppointmentTypeId = new HashMap<>();
+
+		for (ProviderAvailabilityDateInsertRow row : insert.getRows())
+			if (!(today && row.getDateTime().isBefore(currentDateTime)))
+				fetchedDateTimesByAppointmentTypeId.computeIfAbsent(row.getAppointmentTypeId(), ignored -> new ArrayList<>()).add(row.getDateTime());
+
+		existingDateTimesByAppointmentTypeId.values().forEach(dateTimes -> Collections.sort(dateTimes));
+		fetchedDateTimesByAppointmentTypeId.values().forEach(dateTimes -> Collections.sort(dateTimes));
+
+		if (existingDateTimesByAppointmentTypeId.equals(fetchedDateTimesByAppointmentTypeId)) {
+			getLogger().debug("Provider ID {} availability on {} is unchanged, skipping write.", insert.getProviderId(), insertDate);
+			return;
+		}
+
 		if (today) {
 			// 1. This is "today" from the provider's perspective - clear out anything after right now for today
 			LocalDateTime endOfDayDateTime = LocalDateTime.of(currentDateTime.toLocalDate(), LocalTime.MAX); // Insert Date @ 23:59:59.999999999
 			getLogger().info("Provider ID {} is being synced for 'today' - removing any availability between {} and {}...", insert.getProviderId(), currentDateTime, endOfDayDateTime);
 			getDatabase().execute("DELETE FROM provider_availability WHERE provider_id=? AND date_time > ? AND date_time <= ?", insert.getProviderId(), currentDateTime, endOfDayDateTime);
 		} else {
-			// 1. This is a future date - clear out the whole day
-			getDatabase().execute("DELETE FROM provider_availability WHERE provider_id=? AND date_time::date=?", insert.getProviderId(), insert.getDate());
+			// 1. This is a future date - clear out the whole day.
+			// Half-open range rather than date_time::date so the (provider_id, date_time) index can be used
+			getDatabase().execute("DELETE FROM provider_availability WHERE provider_id=? AND date_time >= ? AND date_time < ?",
+					insert.getProviderId(), insertDate.atStartOfDay(), insertDate.plusDays(1).atStartOfDay());
 		}
 
 		// 2. Insert new ones for the day (in batch)
@@ -333,7 +376,8 @@ public class AcuitySyncManager implements ProviderAvailabilitySyncManager, AutoC
 			parameterGroups.add(parameterGroup);
 		}
 
-		getDatabase().executeBatch("INSERT INTO provider_availability(provider_id, appointment_type_id, date_time) VALUES (?,?,?)", parameterGroups);
+		if (parameterGroups.size() > 0)
+			getDatabase().executeBatch("INSERT INTO provider_availability(provider_id, appointment_type_id, date_time) VALUES (?,?,?)", parameterGroups);
 	}
 
 	protected void performDebugLogging(@Nonnull Provider provider,
@@ -432,45 +476,95 @@ public class AcuitySyncManager implements ProviderAvailabilitySyncManager, AutoC
 				Collections.shuffle(providers);
 
 				getLogger().info("Running Acuity availability sync for {} providers...", providers.size());
-				int providerSuccessCount = 0;
 
-				for (Provider provider : providers) {
-					try {
-						LocalDate syncDate = LocalDate.now(provider.getTimeZone());
-						LocalDate today = syncDate;
-
-						List<ProviderAvailabilityDateInsert> inserts = new ArrayList<>(getAcuitySyncManager().getAvailabilitySyncNumberOfDaysAhead());
+				// Providers are synced in parallel on a bounded pool.  Submission order still follows the shuffle above
+				ExecutorService executorService = Executors.newFixedThreadPool(getConfiguration().getAcuityAvailabilitySyncConcurrency(),
+						new ThreadFactoryBuilder().setNameFormat("acuity-availability-sync-%d").build());
 
-						for (int i = 0; i < getAcuitySyncManager().getAvailabilitySyncNumberOfDaysAhead(); ++i) {
-							ProviderAvailabilityDateInsert insert = getAcuitySyncManager().generateProviderAvailabilityDateInsert(provider, syncDate);
-							inserts.add(insert);
-							syncDate = syncDate.plusDays(1);
-						}
+				// Cap how many providers in any one institution are syncing at once, to stay clear of Acuity's limits.
+				// Work over the cap waits in the institution's own queue instead of tying up shared pool threads
+				Map<InstitutionId, Executor> institutionExecutorsByInstitutionId = new HashMap<>();
 
-						// After we've done all the Acuity calls to pull data for this provider, commit to DB.
-						// This way we keep transaction time to a minimum to reduce contention
+				try {
+					List<CompletableFuture<Boolean>> providerSyncFutures = new ArrayList<>(providers.size());
 
-						// For each provider-date, clear out existing availabilities and insert the new ones (if any)
-						for (ProviderAvailabilityDateInsert insert : inserts) {
-							// Dump out info for debugging...
-							if (getLogger().isDebugEnabled())
-								getAcuitySyncManager().performDebugLogging(provider, insert);
-
-							getDatabase().transaction(() -> {
-								getAcuitySyncManager().performProviderAvailabilityDateInsert(insert);
-							});
-						}
+					for (Provider provider : providers) {
+						Executor institutionExecutor = institutionExecutorsByInstitutionId.computeIfAbsent(provider.getInstitutionId(),
+								ignored -> new ConcurrencyLimitedExecutor(executorService, getConfiguration().getAcuityAvailabilitySyncInstitutionConcurrency()));
 
-						++providerSuccessCount;
-					} catch (AcuitySchedulingUndocumentedRateLimitException e) {
-						getLogger().warn("Unable to sync provider ID {} ({}) with Acuity: {}", provider.getProviderId(), provider.getName(), e.getMessage());
-					} catch (Exception e) {
-						getLogger().warn(format("Unable to sync provider ID %s (%s) with Acuity", provider.getProviderId(), provider.getName()), e);
+						providerSyncFutures.add(CompletableFuture.supplyAsync(() -> performProviderSyncInCurrentContext(provider, currentContext), institutionExecutor));
 					}
+
+					int providerSuccessCount = 0;
+
+					for (CompletableFuture<Boolean> providerSyncFuture : providerSyncFutures)
+						if (providerSyncFuture.get())
+							++providerSuccessCount;
+
+					getLogger().info("Acuity provider availability sync complete. Successfully synced {} of {} providers.", providerSuccessCount, providers.size());
+				} catch (InterruptedException e) {
+					getLogger().info("Acuity provider availability sync interrupted, stopping...");
+					Thread.currentThread().interrupt();
+				} catch (ExecutionException e) {
+					// Provider syncs handle their own failures, so this is unexpected
+					throw new RuntimeException(e.getCause());
+				} finally {
+					ExecutorServiceUtility.shutdownAndAwaitTermination(executorService);
 				}
+			});
+		}
 
-				getLogger().info("Acuity provider availability sync complete. Successfully synced {} of {} providers.", providerSuccessCount, providers.size());
+		@Nonnull
+		protected Boolean performProviderSyncInCurrentContext(@Nonnull Provider provider,
+																													@Nonnull CurrentContext currentContext) {
+			requireNonNull(provider);
+			requireNonNull(currentContext);
+
+			AtomicBoolean result = new AtomicBoolean(false);
+			getCurrentContextExecutor().execute(currentContext, () -> {
+				result.set(performProviderSync(provider));
 			});
+			return result.get();
+		}
+
+		@Nonnull
+		protected Boolean performProviderSync(@Nonnull Provider provider) {
+			requireNonNull(provider);
+
+			try {
+				LocalDate syncDate = LocalDate.now(provider.getTimeZone());
+
+				// A provider's days are still fetched one at a time so any single provider's call rate stays where it was
+				List<ProviderAvailabilityDateInsert> inserts = new ArrayList<>(getAcuitySyncManager().getAvailabilitySyncNumberOfDaysAhead());
+
+				for (int i = 0; i < getAcuitySyncManager().getAvailabilitySyncNumberOfDaysAhead(); ++i) {
+					ProviderAvailabilityDateInsert insert = getAcuitySyncManager().generateProviderAvailabilityDateInsert(provider, syncDate);
+					inserts.add(insert);
+					syncDate = syncDate.plusDays(1);
+				}
+
+				// After we've done all the Acuity calls to pull data for this provider, commit to DB.
+				// This way we keep transaction time to a minimum to reduce contention
+
+				// For each provider-date, replace existing availabilities with the new ones (if anything changed)
+				for (ProviderAvailabilityDateInsert insert : inserts) {
+					// Dump out info for debugging...
+					if (getLogger().isDebugEnabled())
+						getAcuitySyncManager().performDebugLogging(provider, insert);
+
+					getDatabase().transaction(() -> {
+						getAcuitySyncManager().performProviderAvailabilityDateInsert(insert);
+					});
+				}
+
+				return true;
+			} catch (AcuitySchedulingUndocumentedRateLimitException e) {
+				getLogger().warn("Unable to sync provider ID {} ({}) with Acuity: {}", provider.getProviderId(), provider.getName(), e.getMessage());
+			} catch (Exception e) {
+				getLogger().warn(format("Unable to sync provider ID %s (%s) with Acuity", provider.getProviderId(), provider.getName()), e);
+			}
+
+			return false;
 		}
 
 		@Nonnull
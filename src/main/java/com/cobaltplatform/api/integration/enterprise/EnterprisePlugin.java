@@ -55,6 +55,7 @@ import com.cobaltplatform.api.model.db.Content;
 import com.cobaltplatform.api.model.db.CronJob;
 import com.cobaltplatform.api.model.db.Institution.InstitutionId;
 import com.cobaltplatform.api.model.db.InstitutionFeatureInstitutionReferrer;
+import com.cobaltplatform.api.model.db.MessageVendor.MessageVendorId;
 import com.cobaltplatform.api.model.db.PatientOrder;
 import com.cobaltplatform.api.model.db.PatientOrderReferralSource.PatientOrderReferralSourceId;
 import com.cobaltplatform.api.model.db.ScreeningAnswerOption;
@@ -211,6 +212,14 @@ public interface EnterprisePlugin {
 		return new MockTwilioRequestValidator();
 	}
 
+	// Optional per-institution ceiling, in sends per second, on how quickly we hand messages to the given vendor.
+	// This applies in addition to the platform-wide per-vendor limit from Configuration
+	@Nonnull
+	default Optional<Double> messageSendRateLimitPerSecond(@Nonnull MessageVendorId messageVendorId) {
+		requireNonNull(messageVendorId);
+		return Optional.empty();
+	}
+
 	@Nonnull
 	default Set<UUID> analyticsClinicalScreeningFlowIds() {
 		return Set.of();
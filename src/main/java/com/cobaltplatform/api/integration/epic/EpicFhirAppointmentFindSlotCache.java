@@ -0,0 +1,367 @@
+/*
+ * Copyright 2021 The University of Pennsylvania and Penn Medicine
+ *
+ * Originally created at the University of Pennsylvania and Penn Medicine by:
+ * Dr. David Asch; Dr. Lisa Bellini; Dr. Cecilia Livesey; Kelley Kugler; and Dr. Matthew Press.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cobaltplatform.api.integration.epic;
+
+import com.cobaltplatform.api.integration.epic.code.AppointmentParticipantStatusCode;
+import com.cobaltplatform.api.integration.epic.code.AppointmentStatusCode;
+import com.cobaltplatform.api.integration.epic.code.SlotStatusCode;
+import com.cobaltplatform.api.integration.epic.response.AppointmentFindFhirStu3Response;
+import com.cobaltplatform.api.model.db.EpicFhirAppointmentFindCache;
+import com.cobaltplatform.api.model.db.Institution.InstitutionId;
+import com.cobaltplatform.api.util.db.DatabaseProvider;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.pyranid.Database;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.ThreadSafe;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import static com.cobaltplatform.api.util.DatabaseUtility.sqlInListPlaceholders;
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * In-process cache of parsed {@code epic_fhir_appointment_find_cache} rows, indexed by practitioner FHIR ID.
+ * <p>
+ * Each cached date remembers the {@code last_updated} of the row it was parsed from. Lookups first read just the
+ * {@code (date, last_updated)} pairs for the range, then re-parse only the dates whose rows are new or have changed since,
+ * so a sync on any node is picked up on the next lookup without re-parsing the whole range.
+ *
+ * @author Transmogrify, LLC.
+ */
+@Singleton
+@ThreadSafe
+public class EpicFhirAppointmentFindSlotCache {
+	@Nonnull
+	private static final String PRACTITIONER_REFERENCE_PREFIX;
+
+	@Nonnull
+	private final Cache<String, CachedDate> cachedDatesByKey;
+	@Nonnull
+	private final DatabaseProvider databaseProvider;
+	@Nonnull
+	private final Logger logger;
+
+	static {
+		PRACTITIONER_REFERENCE_PREFIX = "/FHIR/STU3/Practitioner/";
+	}
+
+	@Inject
+	public EpicFhirAppointmentFindSlotCache(@Nonnull DatabaseProvider databaseProvider) {
+		requireNonNull(databaseProvider);
+
+		this.databaseProvider = databaseProvider;
+		// Roughly 90 days ahead for a handful of institutions
+		this.cachedDatesByKey = Caffeine.newBuilder()
+				.maximumSize(2_000)
+				.expireAfterAccess(Duration.ofHours(6))
+				.build();
+		this.logger = LoggerFactory.getLogger(getClass());
+	}
+
+	/**
+	 * Finds the cached slots for an institution's dates in the {@code [startDate, endDate]} range, keyed by practitioner FHIR ID.
+	 * <p>
+	 * Dates are returned in ascending order; slots for a date are in the order Epic returned them.
+	 */
+	@Nonnull
+	public Map<LocalDate, Map<String, List<Slot>>> findSlotsByPractitionerFhirIdByDate(@Nonnull InstitutionId institutionId,
+																																										 @Nonnull LocalDate startDate,
+																																										 @Nonnull LocalDate endDate) {
+		requireNonNull(institutionId);
+		requireNonNull(startDate);
+		requireNonNull(endDate);
+
+		// Only pull versions here - the JSON itself is only needed for dates we haven't parsed yet
+		List<EpicFhirAppointmentFindCache> versions = getDatabase().queryForList("""
+				SELECT institution_id, date, last_updated
+				FROM epic_fhir_appointment_find_cache
+				WHERE institution_id=?
+				AND date >= ?
+				AND date <= ?
+				ORDER BY date
+				""", EpicFhirAppointmentFindCache.class, institutionId, startDate, endDate);
+
+		Map<LocalDate, CachedDate> cachedDatesByDate = new HashMap<>(versions.size());
+		Set<LocalDate> staleDates = new LinkedHashSet<>();
+
+		for (EpicFhirAppointmentFindCache version : versions) {
+			CachedDate cachedDate = getCachedDatesByKey().getIfPresent(cacheKey(institutionId, version.getDate()));
+
+			if (cachedDate != null && cachedDate.getLastUpdated().equals(version.getLastUpdated()))
+				cachedDatesByDate.put(version.getDate(), cachedDate);
+			else
+				staleDates.add(version.getDate());
+		}
+
+		if (staleDates.size() > 0) {
+			getLogger().debug("Parsing Epic FHIR appointment find cache for {} on {} date[s]...", institutionId.name(), staleDates.size());
+
+			List<Object> parameters = new ArrayList<>(staleDates.size() + 1);
+			parameters.add(institutionId);
+			parameters.addAll(staleDates);
+
+			List<EpicFhirAppointmentFindCache> epicFhirAppointmentFindCaches = getDatabase().queryForList(format("""
+					SELECT *
+					FROM epic_fhir_appointment_find_cache
+					WHERE institution_id=?
+					AND date IN %s
+					""", sqlInListPlaceholders(staleDates)), EpicFhirAppointmentFindCache.class, parameters.toArray(new Object[]{}));
+
+			for (EpicFhirAppointmentFindCache epicFhirAppointmentFindCache : epicFhirAppointmentFindCaches) {
+				CachedDate cachedDate = parseCachedDate(epicFhirAppointmentFindCache);
+				String key = cacheKey(institutionId, epicFhirAppointmentFindCache.getDate());
+
+				// Another request may have raced us to a newer version of this date; keep whichever is newest
+				getCachedDatesByKey().asMap().merge(key, cachedDate, (existingCachedDate, newCachedDate) ->
+						existingCachedDate.getLastUpdated().isAfter(newCachedDate.getLastUpdated()) ? existingCachedDate : newCachedDate);
+
+				cachedDatesByDate.put(epicFhirAppointmentFindCache.getDate(), cachedDate);
+			}
+		}
+
+		Map<LocalDate, Map<String, List<Slot>>> slotsByPractitionerFhirIdByDate = new TreeMap<>();
+
+		for (Map.Entry<LocalDate, CachedDate> entry : cachedDatesByDate.entrySet())
+			slotsByPractitionerFhirIdByDate.put(entry.getKey(), entry.getValue().getSlotsByPractitionerFhirId());
+
+		return slotsByPractitionerFhirIdByDate;
+	}
+
+	public void invalidate(@Nonnull InstitutionId institutionId,
+												 @Nonnull LocalDate date) {
+		requireNonNull(institutionId);
+		requireNonNull(date);
+
+		getCachedDatesByKey().invalidate(cacheKey(institutionId, date));
+	}
+
+	public void invalidateAll() {
+		getCachedDatesByKey().invalidateAll();
+	}
+
+	@Nonnull
+	protected CachedDate parseCachedDate(@Nonnull EpicFhirAppointmentFindCache epicFhirAppointmentFindCache) {
+		requireNonNull(epicFhirAppointmentFindCache);
+
+		AppointmentFindFhirStu3Response response = AppointmentFindFhirStu3Response.deserialize(epicFhirAppointmentFindCache.getApiResponse());
+		Map<String, List<Slot>> slotsByPractitionerFhirId = new HashMap<>();
+
+		for (AppointmentFindFhirStu3Response.Entry entry : response.getEntry()) {
+			if (!"Appointment".equals(entry.getResource().getResourceType()))
+				continue;
+
+			// Assumes single service type and coding
+			if (entry.getResource().getServiceType().size() != 1)
+				throw new IllegalStateException("Invalid size of serviceType element");
+
+			if (entry.getResource().getServiceType().get(0).getCoding().size() != 1)
+				throw new IllegalStateException("Invalid size of serviceType.coding element");
+
+			String visitTypeSystem = entry.getResource().getServiceType().get(0).getCoding().get(0).getSystem();
+
+			// Assumes there is only one slot.  Flagged here and enforced when the slot is actually used
+			boolean singleSlotContained = entry.getResource().getContained().size() == 1;
+			SlotStatusCode slotStatusCode = singleSlotContained ? entry.getResource().getContained().get(0).getStatus() : null;
+
+			// Find any participant actor URLs that look like this and extract the Practitioner FHIR ID (xxx below):
+			// $BASE_URL/FHIR/STU3/Practitioner/xxx
+			Set<String> epicPractitionerFhirIds = new LinkedHashSet<>();
+
+			for (AppointmentFindFhirStu3Response.Entry.Resource.Participant participant : entry.getResource().getParticipant()) {
+				String actorReference = participant.getActor().getReference();
+
+				if (actorReference.contains(PRACTITIONER_REFERENCE_PREFIX))
+					epicPractitionerFhirIds.add(actorReference.substring(actorReference.lastIndexOf(PRACTITIONER_REFERENCE_PREFIX) + PRACTITIONER_REFERENCE_PREFIX.length()));
+			}
+
+			if (epicPractitionerFhirIds.size() == 0) {
+				getLogger().warn("Unable to find practitioner FHIR IDs for slot");
+				continue;
+			}
+
+			for (String epicPractitionerFhirId : epicPractitionerFhirIds) {
+				AppointmentFindFhirStu3Response.Entry.Resource.Participant practitioner = entry.getResource().getParticipant().stream()
+						.filter(participant -> participant.getActor().getReference().endsWith(epicPractitionerFhirId))
+						.findAny()
+						.get();
+
+				Slot slot = new Slot(entry.getResource().getId(), entry.getResource().getStart(), visitTypeSystem,
+						entry.getResource().getStatus(), practitioner.getStatus(), slotStatusCode, singleSlotContained);
+
+				slotsByPractitionerFhirId.computeIfAbsent(epicPractitionerFhirId, ignored -> new ArrayList<>()).add(slot);
+			}
+		}
+
+		for (Map.Entry<String, List<Slot>> entry : slotsByPractitionerFhirId.entrySet())
+			entry.setValue(Collections.unmodifiableList(entry.getValue()));
+
+		return new CachedDate(epicFhirAppointmentFindCache.getLastUpdated(), Collections.unmodifiableMap(slotsByPractitionerFhirId));
+	}
+
+	@Nonnull
+	protected String cacheKey(@Nonnull InstitutionId institutionId,
+														@Nonnull LocalDate date) {
+		requireNonNull(institutionId);
+		requireNonNull(date);
+
+		// Key format:
+		// {institutionId}:{date}
+		// e.g.
+		// COBALT:2024-04-20
+		return format("%s:%s", institutionId.name(), date);
+	}
+
+	/**
+	 * A single appointment slot for a single practitioner, flattened out of a FHIR {@code Appointment} entry.
+	 */
+	@Immutable
+	public static class Slot {
+		@Nonnull
+		private final String epicAppointmentFhirId;
+		@Nonnull
+		private final Instant start;
+		@Nonnull
+		private final String visitTypeSystem;
+		@Nullable
+		private final AppointmentStatusCode appointmentStatusCode;
+		@Nullable
+		private final AppointmentParticipantStatusCode appointmentParticipantStatusCode;
+		@Nullable
+		private final SlotStatusCode slotStatusCode;
+		@Nonnull
+		private final Boolean singleSlotContained;
+
+		public Slot(@Nonnull String epicAppointmentFhirId,
+								@Nonnull Instant start,
+								@Nonnull String visitTypeSystem,
+								@Nullable AppointmentStatusCode appointmentStatusCode,
+								@Nullable AppointmentParticipantStatusCode appointmentParticipantStatusCode,
+								@Nullable SlotStatusCode slotStatusCode,
+								@Nonnull Boolean singleSlotContained) {
+			requireNonNull(epicAppointmentFhirId);
+			requireNonNull(start);
+			requireNonNull(visitTypeSystem);
+			requireNonNull(singleSlotContained);
+
+			this.epicAppointmentFhirId = epicAppointmentFhirId;
+			this.start = start;
+			this.visitTypeSystem = visitTypeSystem;
+			this.appointmentStatusCode = appointmentStatusCode;
+			this.appointmentParticipantStatusCode = appointmentParticipantStatusCode;
+			this.slotStatusCode = slotStatusCode;
+			this.singleSlotContained = singleSlotContained;
+		}
+
+		@Nonnull
+		public String getEpicAppointmentFhirId() {
+			return this.epicAppointmentFhirId;
+		}
+
+		@Nonnull
+		public Instant getStart() {
+			return this.start;
+		}
+
+		@Nonnull
+		public String getVisitTypeSystem() {
+			return this.visitTypeSystem;
+		}
+
+		@Nullable
+		public AppointmentStatusCode getAppointmentStatusCode() {
+			return this.appointmentStatusCode;
+		}
+
+		@Nullable
+		public AppointmentParticipantStatusCode getAppointmentParticipantStatusCode() {
+			return this.appointmentParticipantStatusCode;
+		}
+
+		@Nullable
+		public SlotStatusCode getSlotStatusCode() {
+			return this.slotStatusCode;
+		}
+
+		@Nonnull
+		public Boolean getSingleSlotContained() {
+			return this.singleSlotContained;
+		}
+	}
+
+	@Immutable
+	protected static class CachedDate {
+		@Nonnull
+		private final Instant lastUpdated;
+		@Nonnull
+		private final Map<String, List<Slot>> slotsByPractitionerFhirId;
+
+		public CachedDate(@Nonnull Instant lastUpdated,
+											@Nonnull Map<String, List<Slot>> slotsByPractitionerFhirId) {
+			requireNonNull(lastUpdated);
+			requireNonNull(slotsByPractitionerFhirId);
+
+			this.lastUpdated = lastUpdated;
+			this.slotsByPractitionerFhirId = slotsByPractitionerFhirId;
+		}
+
+		@Nonnull
+		public Instant getLastUpdated() {
+			return this.lastUpdated;
+		}
+
+		@Nonnull
+		public Map<String, List<Slot>> getSlotsByPractitionerFhirId() {
+			return this.slotsByPractitionerFhirId;
+		}
+	}
+
+	@Nonnull
+	protected Cache<String, CachedDate> getCachedDatesByKey() {
+		return this.cachedDatesByKey;
+	}
+
+	@Nonnull
+	protected Database getDatabase() {
+		return this.databaseProvider.get();
+	}
+
+	@Nonnull
+	protected Logger getLogger() {
+		return this.logger;
+	}
+}
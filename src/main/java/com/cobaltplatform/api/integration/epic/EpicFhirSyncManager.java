@@ -262,6 +262,8 @@ public class EpicFhirSyncManager implements ProviderAvailabilitySyncManager, Aut
 		@Nonnull
 		private final CurrentContextExecutor currentContextExecutor;
 		@Nonnull
+		private final EpicFhirAppointmentFindSlotCache epicFhirAppointmentFindSlotCache;
+		@Nonnull
 		private final DatabaseProvider databaseProvider;
 		@Nonnull
 		private final Configuration configuration;
@@ -274,6 +276,7 @@ public class EpicFhirSyncManager implements ProviderAvailabilitySyncManager, Aut
 																@Nonnull javax.inject.Provider<InstitutionService> institutionServiceProvider,
 																@Nonnull EnterprisePluginProvider enterprisePluginProvider,
 																@Nonnull CurrentContextExecutor currentContextExecutor,
+																@Nonnull EpicFhirAppointmentFindSlotCache epicFhirAppointmentFindSlotCache,
 																@Nonnull DatabaseProvider databaseProvider,
 																@Nonnull Configuration configuration) {
 			requireNonNull(epicSyncManager);
@@ -281,6 +284,7 @@ public class EpicFhirSyncManager implements ProviderAvailabilitySyncManager, Aut
 			requireNonNull(institutionServiceProvider);
 			requireNonNull(enterprisePluginProvider);
 			requireNonNull(currentContextExecutor);
+			requireNonNull(epicFhirAppointmentFindSlotCache);
 			requireNonNull(databaseProvider);
 			requireNonNull(configuration);
 
@@ -289,6 +293,7 @@ public class EpicFhirSyncManager implements ProviderAvailabilitySyncManager, Aut
 			this.institutionServiceProvider = institutionServiceProvider;
 			this.currentContextExecutor = currentContextExecutor;
 			this.enterprisePluginProvider = enterprisePluginProvider;
+			this.epicFhirAppointmentFindSlotCache = epicFhirAppointmentFindSlotCache;
 			this.databaseProvider = databaseProvider;
 			this.configuration = configuration;
 			this.logger = LoggerFactory.getLogger(getClass());
@@ -447,6 +452,9 @@ public class EpicFhirSyncManager implements ProviderAvailabilitySyncManager, Aut
 					  api_response = EXCLUDED.api_response,
 					  last_updated = EXCLUDED.last_updated
 					""", institution.getInstitutionId(), date, apiResponse, lastUpdated);
+
+			// Other nodes notice the new last_updated on their next lookup; no need to wait for that here
+			getEpicFhirAppointmentFindSlotCache().invalidate(institution.getInstitutionId(), date);
 		}
 
 		@Nonnull
@@ -474,6 +482,11 @@ public class EpicFhirSyncManager implements ProviderAvailabilitySyncManager, Aut
 			return enterprisePluginProvider;
 		}
 
+		@Nonnull
+		protected EpicFhirAppointmentFindSlotCache getEpicFhirAppointmentFindSlotCache() {
+			return this.epicFhirAppointmentFindSlotCache;
+		}
+
 		@Nonnull
 		protected Database getDatabase() {
 			return this.databaseProvider.get();
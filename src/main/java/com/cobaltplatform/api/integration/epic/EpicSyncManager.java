@@ -36,12 +36,15 @@ import com.cobaltplatform.api.model.db.EpicAppointmentFilter.EpicAppointmentFilt
 import com.cobaltplatform.api.model.db.EpicDepartment;
 import com.cobaltplatform.api.model.db.Institution;
 import com.cobaltplatform.api.model.db.Provider;
+import com.cobaltplatform.api.model.db.ProviderAvailability;
 import com.cobaltplatform.api.model.db.SchedulingSystem.SchedulingSystemId;
 import com.cobaltplatform.api.model.service.AdvisoryLock;
 import com.cobaltplatform.api.service.AppointmentService;
 import com.cobaltplatform.api.service.InstitutionService;
 import com.cobaltplatform.api.service.ProviderService;
 import com.cobaltplatform.api.service.SystemService;
+import com.cobaltplatform.api.util.ConcurrencyLimitedExecutor;
+import com.cobaltplatform.api.util.ExecutorServiceUtility;
 import com.cobaltplatform.api.util.db.DatabaseProvider;
 import com.google.common.collect.Range;
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
@@ -65,6 +68,7 @@ import java.time.ZoneId;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -74,9 +78,15 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.TreeMap;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import static java.lang.String.format;
@@ -610,18 +620,26 @@ public class EpicSyncManager implements ProviderAvailabilitySyncManager, AutoClo
 			return;
 		}
 
-		if (today) {
-			// 1. This is "today" from the provider's perspective - clear out anything after right now for today
-			LocalDateTime endOfDayDateTime = LocalDateTime.of(currentDateTime.toLocalDate(), LocalTime.MAX); // Insert Date @ 23:59:59.999999999
-			getLogger().info("Provider ID {} is being synced for 'today' - removing any availability between {} and {}...", insert.getProviderId(), currentDateTime, endOfDayDateTime);
-			getDatabase().execute("DELETE FROM provider_availability WHERE provider_id=? AND date_time > ? AND date_time <= ?", insert.getProviderId(), currentDateTime, endOfDayDateTime);
-		} else {
-			// 1. This is a future date - clear out the whole day
-			getDatabase().execute("DELETE FROM provider_availability WHERE provider_id=? AND date_time::date=?", insert.getProviderId(), insert.getDate());
-		}
+		// Rather than clearing out the day and re-inserting every slot (most of which are usually unchanged),
+		// compare against what's already stored and only touch what changed.
+		// For "today" from the provider's perspective, only slots after right now are in play
+		LocalDateTime windowStartDateTime = today ? currentDateTime : insertDate.atStartOfDay();
+		LocalDateTime windowEndDateTime = today ? LocalDateTime.of(insertDate, LocalTime.MAX) : insertDate.plusDays(1).atStartOfDay();
+
+		// Serialize concurrent syncs of the same provider (e.g. background sync and a post-booking resync) so diffs don't race
+		getDatabase().queryForObject("SELECT pg_advisory_xact_lock(?, hashtext(?))::TEXT", String.class,
+				AdvisoryLock.EPIC_PROVIDER_AVAILABILITY_DATE_SYNC.getKey(), insert.getProviderId().toString());
 
-		// 2. Insert new ones for the day (in batch)
-		List<List<Object>> parameterGroups = new ArrayList<>(insert.getRows().size());
+		List<ProviderAvailability> existingProviderAvailabilities = getDatabase().queryForList(format("""
+				SELECT *
+				FROM provider_availability
+				WHERE provider_id=?
+				AND date_time %s ?
+				AND date_time %s ?
+				""", today ? ">" : ">=", today ? "<=" : "<"), ProviderAvailability.class, insert.getProviderId(), windowStartDateTime, windowEndDateTime);
+
+		// Slots can legitimately repeat, so track how many of each we want rather than just whether we want it
+		Map<ProviderAvailabilitySlot, Integer> desiredCountsBySlot = new HashMap<>(insert.getRows().size());
 
 		for (ProviderAvailabilityDateInsertRow row : insert.getRows()) {
 			if (today && row.getDateTime().isBefore(currentDateTime)) {
@@ -629,15 +647,47 @@ public class EpicSyncManager implements ProviderAvailabilitySyncManager, AutoClo
 				continue;
 			}
 
-			List<Object> parameterGroup = new ArrayList<>(4);
-			parameterGroup.add(insert.getProviderId());
-			parameterGroup.add(row.getAppointmentTypeId());
-			parameterGroup.add(row.getDateTime());
-			parameterGroup.add(row.getEpicDepartmentId());
-			parameterGroups.add(parameterGroup);
+			desiredCountsBySlot.merge(new ProviderAvailabilitySlot(row.getAppointmentTypeId(), row.getDateTime(), row.getEpicDepartmentId()), 1, Integer::sum);
+		}
+
+		// 1. Delete stored slots that are no longer available
+		List<List<Object>> deleteParameterGroups = new ArrayList<>();
+
+		for (ProviderAvailability existingProviderAvailability : existingProviderAvailabilities) {
+			ProviderAvailabilitySlot slot = new ProviderAvailabilitySlot(existingProviderAvailability.getAppointmentTypeId(),
+					existingProviderAvailability.getDateTime(), existingProviderAvailability.getEpicDepartmentId());
+			Integer desiredCount = desiredCountsBySlot.get(slot);
+
+			if (desiredCount == null || desiredCount == 0) {
+				deleteParameterGroups.add(List.of(existingProviderAvailability.getProviderAvailabilityId()));
+			} else {
+				// Already stored - nothing to insert for this one
+				desiredCountsBySlot.put(slot, desiredCount - 1);
+			}
+		}
+
+		if (deleteParameterGroups.size() > 0)
+			getDatabase().executeBatch("DELETE FROM provider_availability WHERE provider_availability_id=?", deleteParameterGroups);
+
+		// 2. Insert slots that aren't stored yet (in batch)
+		List<List<Object>> insertParameterGroups = new ArrayList<>();
+
+		for (Entry<ProviderAvailabilitySlot, Integer> entry : desiredCountsBySlot.entrySet()) {
+			for (int i = 0; i < entry.getValue(); ++i) {
+				List<Object> parameterGroup = new ArrayList<>(4);
+				parameterGroup.add(insert.getProviderId());
+				parameterGroup.add(entry.getKey().getAppointmentTypeId());
+				parameterGroup.add(entry.getKey().getDateTime());
+				parameterGroup.add(entry.getKey().getEpicDepartmentId());
+				insertParameterGroups.add(parameterGroup);
+			}
 		}
 
-		getDatabase().executeBatch("INSERT INTO provider_availability(provider_id, appointment_type_id, date_time, epic_department_id) VALUES (?,?,?,?)", parameterGroups);
+		if (insertParameterGroups.size() > 0)
+			getDatabase().executeBatch("INSERT INTO provider_availability(provider_id, appointment_type_id, date_time, epic_department_id) VALUES (?,?,?,?)", insertParameterGroups);
+
+		getLogger().debug("Provider ID {} availability on {}: {} unchanged, {} deleted, {} inserted.", insert.getProviderId(), insertDate,
+				existingProviderAvailabilities.size() - deleteParameterGroups.size(), deleteParameterGroups.size(), insertParameterGroups.size());
 	}
 
 	protected void performDebugLogging(@Nonnull Provider provider,
@@ -733,77 +783,149 @@ public class EpicSyncManager implements ProviderAvailabilitySyncManager, AutoClo
 					     WHERE institution_id IN (SELECT institution_id FROM provider WHERE scheduling_system_id=? AND active=TRUE);
 					""", Institution.class, SchedulingSystemId.EPIC);
 
-			for (Institution institution : institutions) {
-				CurrentContext currentContext = new CurrentContext.Builder(institution.getInstitutionId(),
-						getConfiguration().getDefaultLocale(), getConfiguration().getDefaultTimeZone()).build();
+			// Provider-dates are fetched from EPIC and persisted in parallel on a bounded pool shared by all institutions
+			ExecutorService executorService = Executors.newFixedThreadPool(getConfiguration().getEpicAvailabilitySyncConcurrency(),
+					new ThreadFactoryBuilder().setNameFormat("epic-availability-sync-%d").build());
+
+			try {
+				Map<Institution, List<CompletableFuture<Boolean>>> providerSyncFuturesByInstitution = new LinkedHashMap<>(institutions.size());
 
-				getCurrentContextExecutor().execute(currentContext, () -> {
-					// Pick out all EPIC-scheduled providers
-					List<Provider> providers = getProviderService().findProvidersByInstitutionId(institution.getInstitutionId()).stream()
-							.filter(provider -> provider.getSchedulingSystemId().equals(SchedulingSystemId.EPIC))
-							.collect(Collectors.toList());
+				for (Institution institution : institutions) {
+					CurrentContext currentContext = new CurrentContext.Builder(institution.getInstitutionId(),
+							getConfiguration().getDefaultLocale(), getConfiguration().getDefaultTimeZone()).build();
 
-					EpicClient epicClient = getEnterprisePluginProvider().enterprisePluginForInstitutionId(institution.getInstitutionId()).epicClientForBackendService().get();
+					// Each institution has its own EPIC instance, so cap how hard we hit any one of them.
+					// Work over the cap waits in the institution's own queue instead of tying up shared pool threads
+					Executor institutionExecutor = new ConcurrencyLimitedExecutor(executorService, getConfiguration().getEpicAvailabilitySyncInstitutionConcurrency());
 
-					getLogger().info("Running EPIC availability sync for {} providers in {}...",
-							providers.size(), institution.getInstitutionId().name());
+					getCurrentContextExecutor().execute(currentContext, () -> {
+						// Pick out all EPIC-scheduled providers
+						List<Provider> providers = getProviderService().findProvidersByInstitutionId(institution.getInstitutionId()).stream()
+								.filter(provider -> provider.getSchedulingSystemId().equals(SchedulingSystemId.EPIC))
+								.collect(Collectors.toList());
 
+						EpicClient epicClient = getEnterprisePluginProvider().enterprisePluginForInstitutionId(institution.getInstitutionId()).epicClientForBackendService().get();
+
+						getLogger().info("Running EPIC availability sync for {} providers in {}...",
+								providers.size(), institution.getInstitutionId().name());
+
+						providerSyncFuturesByInstitution.put(institution, providers.stream()
+								.map(provider -> submitProviderSync(epicClient, institution, provider, currentContext, institutionExecutor))
+								.collect(Collectors.toList()));
+					});
+				}
+
+				for (Entry<Institution, List<CompletableFuture<Boolean>>> entry : providerSyncFuturesByInstitution.entrySet()) {
+					Institution institution = entry.getKey();
+					List<CompletableFuture<Boolean>> providerSyncFutures = entry.getValue();
 					int providerSuccessCount = 0;
 
-					for (Provider provider : providers) {
-						try {
-							LocalDate today = LocalDate.now(provider.getTimeZone());
-							LocalDate syncDate = today;
+					for (CompletableFuture<Boolean> providerSyncFuture : providerSyncFutures)
+						if (providerSyncFuture.get())
+							++providerSuccessCount;
+
+					getLogger().info("EPIC provider availability sync complete for {}. Successfully synced {} of {} providers.",
+							institution.getInstitutionId().name(), providerSuccessCount, providerSyncFutures.size());
+				}
+			} catch (InterruptedException e) {
+				getLogger().info("EPIC provider availability sync interrupted, stopping...");
+				Thread.currentThread().interrupt();
+			} catch (ExecutionException e) {
+				// Provider syncs handle their own failures, so this is unexpected
+				throw new RuntimeException(e.getCause());
+			} finally {
+				ExecutorServiceUtility.shutdownAndAwaitTermination(executorService);
+			}
+		}
 
-							List<ProviderAvailabilityDateInsert> inserts = new ArrayList<>(getEpicSyncManager().getAvailabilitySyncNumberOfDaysAhead());
+		/**
+		 * Syncs each of the provider's dates in parallel, then (if enabled) the provider's booked slots over the whole range.
+		 *
+		 * @return a future which completes with {@code true} if every part of the provider's sync succeeded
+		 */
+		@Nonnull
+		protected CompletableFuture<Boolean> submitProviderSync(@Nonnull EpicClient epicClient,
+																														@Nonnull Institution institution,
+																														@Nonnull Provider provider,
+																														@Nonnull CurrentContext currentContext,
+																														@Nonnull Executor institutionExecutor) {
+			requireNonNull(epicClient);
+			requireNonNull(institution);
+			requireNonNull(provider);
+			requireNonNull(currentContext);
+			requireNonNull(institutionExecutor);
+
+			LocalDate today = LocalDate.now(provider.getTimeZone());
+			LocalDate endDate = today.plusDays(getEpicSyncManager().getAvailabilitySyncNumberOfDaysAhead());
+			List<CompletableFuture<Boolean>> dateSyncFutures = new ArrayList<>(getEpicSyncManager().getAvailabilitySyncNumberOfDaysAhead());
+
+			for (LocalDate syncDate = today; syncDate.isBefore(endDate); syncDate = syncDate.plusDays(1)) {
+				LocalDate date = syncDate;
+
+				dateSyncFutures.add(CompletableFuture.supplyAsync(() -> performOperationInCurrentContext(currentContext, () -> {
+					try {
+						ProviderAvailabilityDateInsert insert = getEpicSyncManager().generateProviderAvailabilityDateInsert(epicClient, institution, provider, date);
 
-							for (int i = 0; i < getEpicSyncManager().getAvailabilitySyncNumberOfDaysAhead(); ++i) {
-								ProviderAvailabilityDateInsert insert = getEpicSyncManager().generateProviderAvailabilityDateInsert(epicClient, institution, provider, syncDate);
-								inserts.add(insert);
-								syncDate = syncDate.plusDays(1);
-							}
+						// Dump out info for debugging...
+						if (getLogger().isDebugEnabled())
+							getEpicSyncManager().performDebugLogging(provider, insert);
 
-							// After we've done all the EPIC calls to pull data for this provider, commit to DB.
-							// This way we keep transaction time to a minimum to reduce contention
+						// Each provider-date is committed on its own to keep transaction time to a minimum and reduce contention
+						getDatabase().transaction(() -> {
+							getEpicSyncManager().performProviderAvailabilityDateInsert(insert);
+						});
+
+						return true;
+					} catch (Exception e) {
+						getLogger().warn(format("Unable to sync provider ID %s (%s) with EPIC on %s", provider.getProviderId(), provider.getName(), date), e);
+						return false;
+					}
+				}), institutionExecutor));
+			}
 
-							// For each provider-date, clear out existing availabilities and insert the new ones (if any)
-							for (ProviderAvailabilityDateInsert insert : inserts) {
-								// Dump out info for debugging...
-								if (getLogger().isDebugEnabled())
-									getEpicSyncManager().performDebugLogging(provider, insert);
+			return CompletableFuture.allOf(dateSyncFutures.toArray(new CompletableFuture[0])).thenApplyAsync((ignored) -> {
+				boolean allDatesSynced = dateSyncFutures.stream().allMatch(dateSyncFuture -> dateSyncFuture.join());
 
-								getDatabase().transaction(() -> {
-									getEpicSyncManager().performProviderAvailabilityDateInsert(insert);
-								});
-							}
+				// Next, pull all of the provider's booked slots over the time range (if enabled for the institution)
+				if (!allDatesSynced || !institution.getEpicProviderSlotBookingSyncEnabled())
+					return allDatesSynced;
 
-							// Next, pull all of the provider's booked slots over the time range (if enabled for the institution)
-							if (institution.getEpicProviderSlotBookingSyncEnabled()) {
-								List<SynchronizeEpicProviderSlotBookingRequest> epicProviderSlotBookingRequests = getEpicSyncManager().generateProviderSlotBookingSyncRequests(epicClient, institution, provider, today, syncDate);
-
-								// We don't want to throw off the whole operation if this fails, so catch the exception
-								// and report the error
-								if (epicProviderSlotBookingRequests.size() > 0) {
-									getDatabase().transaction(() -> {
-										try {
-											getProviderService().synchronizeEpicProviderSlotBookingRequests(epicProviderSlotBookingRequests);
-										} catch (Exception e) {
-											getEpicSyncManager().getErrorReporter().report(e);
-										}
-									});
+				return performOperationInCurrentContext(currentContext, () -> {
+					try {
+						List<SynchronizeEpicProviderSlotBookingRequest> epicProviderSlotBookingRequests = getEpicSyncManager().generateProviderSlotBookingSyncRequests(epicClient, institution, provider, today, endDate);
+
+						// We don't want to throw off the whole operation if this fails, so catch the exception
+						// and report the error
+						if (epicProviderSlotBookingRequests.size() > 0) {
+							getDatabase().transaction(() -> {
+								try {
+									getProviderService().synchronizeEpicProviderSlotBookingRequests(epicProviderSlotBookingRequests);
+								} catch (Exception e) {
+									getEpicSyncManager().getErrorReporter().report(e);
 								}
-							}
-
-							++providerSuccessCount;
-						} catch (Exception e) {
-							getLogger().warn(format("Unable to sync provider ID %s (%s) with EPIC", provider.getProviderId(), provider.getName()), e);
+							});
 						}
-					}
 
-					getLogger().info("EPIC provider availability sync complete for {}. Successfully synced {} of {} providers.",
-							institution.getInstitutionId().name(), providerSuccessCount, providers.size());
+						return true;
+					} catch (Exception e) {
+						getLogger().warn(format("Unable to sync provider ID %s (%s) booked slots with EPIC", provider.getProviderId(), provider.getName()), e);
+						return false;
+					}
 				});
-			}
+			}, institutionExecutor);
+		}
+
+		@Nonnull
+		protected Boolean performOperationInCurrentContext(@Nonnull CurrentContext currentContext,
+																											 @Nonnull Supplier<Boolean> operation) {
+			requireNonNull(currentContext);
+			requireNonNull(operation);
+
+			AtomicBoolean result = new AtomicBoolean(false);
+			getCurrentContextExecutor().execute(currentContext, () -> {
+				result.set(operation.get());
+			});
+			return result.get();
 		}
 
 		@Nonnull
@@ -889,6 +1011,67 @@ public class EpicSyncManager implements ProviderAvailabilitySyncManager, AutoClo
 		}
 	}
 
+	@ThreadSafe
+	protected static final class ProviderAvailabilitySlot {
+		@Nonnull
+		private final UUID appointmentTypeId;
+		@Nonnull
+		private final LocalDateTime dateTime;
+		@Nullable
+		private final UUID epicDepartmentId;
+
+		public ProviderAvailabilitySlot(@Nonnull UUID appointmentTypeId,
+																		@Nonnull LocalDateTime dateTime,
+																		@Nullable UUID epicDepartmentId) {
+			requireNonNull(appointmentTypeId);
+			requireNonNull(dateTime);
+
+			this.appointmentTypeId = appointmentTypeId;
+			this.dateTime = dateTime;
+			this.epicDepartmentId = epicDepartmentId;
+		}
+
+		@Override
+		public boolean equals(@Nullable Object other) {
+			if (this == other)
+				return true;
+
+			if (!(other instanceof ProviderAvailabilitySlot))
+				return false;
+
+			ProviderAvailabilitySlot otherSlot = (ProviderAvailabilitySlot) other;
+
+			return getAppointmentTypeId().equals(otherSlot.getAppointmentTypeId())
+					&& getDateTime().equals(otherSlot.getDateTime())
+					&& Objects.equals(getEpicDepartmentId(), otherSlot.getEpicDepartmentId());
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(getAppointmentTypeId(), getDateTime(), getEpicDepartmentId());
+		}
+
+		@Override
+		public String toString() {
+			return ToStringBuilder.reflectionToString(this, ToStringStyle.JSON_STYLE);
+		}
+
+		@Nonnull
+		public UUID getAppointmentTypeId() {
+			return this.appointmentTypeId;
+		}
+
+		@Nonnull
+		public LocalDateTime getDateTime() {
+			return this.dateTime;
+		}
+
+		@Nullable
+		public UUID getEpicDepartmentId() {
+			return this.epicDepartmentId;
+		}
+	}
+
 	@NotThreadSafe
 	protected static class ProviderAvailabilityDateInsert {
 		@Nonnull
@@ -69,6 +69,7 @@ import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
 import static java.lang.String.format;
 import static java.util.Objects.requireNonNull;
@@ -80,9 +81,13 @@ import static java.util.Objects.requireNonNull;
 public class DefaultGoogleBigQueryClient implements GoogleBigQueryClient {
 	@Nonnull
 	private static final DateTimeFormatter EXPORT_DATE_FORMATTER;
+	@Nonnull
+	private static final Integer EXPORT_PAGE_SIZE;
 
 	static {
 		EXPORT_DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd", Locale.US);
+		// Bounds how many export records are held in memory at once when paging through large resultsets
+		EXPORT_PAGE_SIZE = 10_000;
 	}
 
 	@Nonnull
@@ -590,11 +595,12 @@ public class DefaultGoogleBigQueryClient implements GoogleBigQueryClient {
 	}
 
 	@Override
-	@Nonnull
-	public List<GoogleBigQueryExportRecord> performRestApiQueryForExport(@Nonnull String sql,
-																																			 @Nonnull Duration timeout) {
+	public void streamRestApiQueryForExport(@Nonnull String sql,
+																					@Nonnull Duration timeout,
+																					@Nonnull Consumer<GoogleBigQueryExportPage> pageConsumer) {
 		requireNonNull(sql);
 		requireNonNull(timeout);
+		requireNonNull(pageConsumer);
 
 		// Special behavior: look for "{{datasetId}}" and replace it with the actual value
 		// to make querying easier.
@@ -619,7 +625,8 @@ public class DefaultGoogleBigQueryClient implements GoogleBigQueryClient {
 						// event_name, event_timestamp, user_pseudo_id, event_bundle_sequence_id
 						// See https://stackoverflow.com/a/75894260
 						"use_legacy_sql", "false",
-						"timeout_ms", timeout.toMillis()
+						"timeout_ms", timeout.toMillis(),
+						"maxResults", getExportPageSize()
 				)))
 				.build();
 
@@ -632,52 +639,112 @@ public class DefaultGoogleBigQueryClient implements GoogleBigQueryClient {
 				throw new IOException(format("Received HTTP %d and response body:\n%s", httpResponse.getStatus(), responseBodyAsString));
 
 			// First page of data
-			GoogleBigQueryExportRecordsPage page = extractGoogleBigQueryExportRecordsFromPageJson(responseBodyAsString);
-			List<GoogleBigQueryExportRecord> exportRecords = new ArrayList<>(Integer.valueOf(page.getResponse().getTotalRows()));
-			exportRecords.addAll(page.getExportRecords());
+			GoogleBigQueryExportPage page = toExportPage(extractGoogleBigQueryExportRecordsFromPageJson(responseBodyAsString));
+			long rowCount = page.getExportRecords().size();
 
-			getLogger().info("BigQuery page has {} rows ({} of {} total).", page.getResponse().getRows().size(), exportRecords.size(), page.getResponse().getTotalRows());
+			getLogger().info("BigQuery page has {} rows ({} of {} total).", page.getExportRecords().size(), rowCount, page.getTotalRowCount().orElse(null));
+			pageConsumer.accept(page);
 
 			// More pages?  Walk them using the page token
-			while (page.getResponse().getPageToken() != null) {
-				// See https://cloud.google.com/bigquery/docs/paging-results
-				// See https://cloud.google.com/bigquery/docs/reference/rest/v2/jobs/getQueryResults
-				String pageUrl = format("https://www.googleapis.com/bigquery/v2/projects/%s/queries/%s", projectId, page.getResponse().getJobReference().getJobId());
-
-				HttpRequest httpRequestForPage = new HttpRequest.Builder(HttpMethod.GET, pageUrl)
-						.queryParameters(Map.of(
-								"access_token", accessToken.getTokenValue(),
-								"timeout_ms", timeout.toMillis(),
-								"page_token", page.getResponse().getPageToken()
-						))
-						.build();
-
-				HttpResponse httpResponseForPage = httpClient.execute(httpRequestForPage, HttpRequestOption.SUPPRESS_RESPONSE_BODY_LOGGING);
-				byte[] responseBodyForPage = httpResponseForPage.getBody().orElse(null);
-				String responseBodyAsStringForPage = responseBodyForPage == null ? null : new String(responseBodyForPage, StandardCharsets.UTF_8);
-
-				if (httpResponseForPage.getStatus() >= 400)
-					throw new IOException(format("Received HTTP %d and response body:\n%s", httpResponseForPage.getStatus(), responseBodyAsStringForPage));
-
-				// Parse the page of data
-				page = extractGoogleBigQueryExportRecordsFromPageJson(responseBodyAsStringForPage);
-				exportRecords.addAll(page.getExportRecords());
-				getLogger().info("BigQuery page has {} rows ({} of {} total).", page.getResponse().getRows().size(), exportRecords.size(), page.getResponse().getTotalRows());
-			}
+			if (page.getNextPageToken().isPresent())
+				walkQueryResultPages(httpClient, accessToken, page.getJobId(), page.getJobLocation().orElse(null),
+						page.getNextPageToken().get(), timeout, rowCount, pageConsumer);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
 
-			// Elide sensitive data in URLs
-			for (GoogleBigQueryExportRecord exportRecord : exportRecords) {
-				// These modify `event` in-place
-				elideSensitiveDataInUrlForEventParameterName("page_location", exportRecord.getEvent());
-				elideSensitiveDataInUrlForEventParameterName("page_referrer", exportRecord.getEvent());
-			}
+	@Override
+	public void resumeRestApiQueryForExport(@Nonnull String jobId,
+																					@Nullable String jobLocation,
+																					@Nonnull String pageToken,
+																					@Nonnull Duration timeout,
+																					@Nonnull Consumer<GoogleBigQueryExportPage> pageConsumer) {
+		requireNonNull(jobId);
+		requireNonNull(pageToken);
+		requireNonNull(timeout);
+		requireNonNull(pageConsumer);
 
-			return exportRecords;
+		try {
+			walkQueryResultPages(new DefaultHttpClient("bigquery-rest-api"), acquireAccessToken(), jobId, jobLocation, pageToken, timeout, 0L, pageConsumer);
 		} catch (IOException e) {
 			throw new UncheckedIOException(e);
 		}
 	}
 
+	protected void walkQueryResultPages(@Nonnull HttpClient httpClient,
+																			@Nonnull AccessToken accessToken,
+																			@Nonnull String jobId,
+																			@Nullable String jobLocation,
+																			@Nonnull String pageToken,
+																			@Nonnull Duration timeout,
+																			@Nonnull Long rowCount,
+																			@Nonnull Consumer<GoogleBigQueryExportPage> pageConsumer) throws IOException {
+		requireNonNull(httpClient);
+		requireNonNull(accessToken);
+		requireNonNull(jobId);
+		requireNonNull(pageToken);
+		requireNonNull(timeout);
+		requireNonNull(rowCount);
+		requireNonNull(pageConsumer);
+
+		String nextPageToken = pageToken;
+
+		while (nextPageToken != null) {
+			// See https://cloud.google.com/bigquery/docs/paging-results
+			// See https://cloud.google.com/bigquery/docs/reference/rest/v2/jobs/getQueryResults
+			String pageUrl = format("https://www.googleapis.com/bigquery/v2/projects/%s/queries/%s", getProjectId(), jobId);
+
+			Map<String, Object> queryParameters = new HashMap<>();
+			queryParameters.put("access_token", accessToken.getTokenValue());
+			queryParameters.put("timeout_ms", timeout.toMillis());
+			queryParameters.put("maxResults", getExportPageSize());
+			queryParameters.put("page_token", nextPageToken);
+
+			// Required for jobs outside the US and EU multi-regions
+			if (jobLocation != null)
+				queryParameters.put("location", jobLocation);
+
+			HttpRequest httpRequestForPage = new HttpRequest.Builder(HttpMethod.GET, pageUrl)
+					.queryParameters(queryParameters)
+					.build();
+
+			HttpResponse httpResponseForPage = httpClient.execute(httpRequestForPage, HttpRequestOption.SUPPRESS_RESPONSE_BODY_LOGGING);
+			byte[] responseBodyForPage = httpResponseForPage.getBody().orElse(null);
+			String responseBodyAsStringForPage = responseBodyForPage == null ? null : new String(responseBodyForPage, StandardCharsets.UTF_8);
+
+			if (httpResponseForPage.getStatus() >= 400)
+				throw new IOException(format("Received HTTP %d and response body:\n%s", httpResponseForPage.getStatus(), responseBodyAsStringForPage));
+
+			// Parse the page of data
+			GoogleBigQueryExportPage page = toExportPage(extractGoogleBigQueryExportRecordsFromPageJson(responseBodyAsStringForPage));
+			rowCount += page.getExportRecords().size();
+
+			getLogger().info("BigQuery page has {} rows ({} of {} total).", page.getExportRecords().size(), rowCount, page.getTotalRowCount().orElse(null));
+			pageConsumer.accept(page);
+
+			nextPageToken = page.getNextPageToken().orElse(null);
+		}
+	}
+
+	@Nonnull
+	protected GoogleBigQueryExportPage toExportPage(@Nonnull GoogleBigQueryExportRecordsPage page) {
+		requireNonNull(page);
+
+		// Elide sensitive data in URLs
+		for (GoogleBigQueryExportRecord exportRecord : page.getExportRecords()) {
+			// These modify `event` in-place
+			elideSensitiveDataInUrlForEventParameterName("page_location", exportRecord.getEvent());
+			elideSensitiveDataInUrlForEventParameterName("page_referrer", exportRecord.getEvent());
+		}
+
+		GoogleBigQueryRestApiQueryResponse.JobReference jobReference = page.getResponse().getJobReference();
+		String totalRows = page.getResponse().getTotalRows();
+
+		return new GoogleBigQueryExportPage(page.getExportRecords(), jobReference.getJobId(), jobReference.getLocation(),
+				page.getResponse().getPageToken(), totalRows == null ? null : Long.valueOf(totalRows));
+	}
+
 	// Modifies `event` in-place
 	protected void elideSensitiveDataInUrlForEventParameterName(@Nonnull String parameterName,
 																															@Nonnull AnalyticsGoogleBigQueryEvent.Event event) {
@@ -756,6 +823,11 @@ public class DefaultGoogleBigQueryClient implements GoogleBigQueryClient {
 				.getService();
 	}
 
+	@Nonnull
+	protected Integer getExportPageSize() {
+		return EXPORT_PAGE_SIZE;
+	}
+
 	@Nonnull
 	protected GoogleCredentials getGoogleCredentials() {
 		return this.googleCredentials;
@@ -22,10 +22,13 @@ package com.cobaltplatform.api.integration.google;
 import com.google.cloud.bigquery.FieldValueList;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import java.time.Duration;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 
 import static java.lang.String.format;
 import static java.util.Objects.requireNonNull;
@@ -51,14 +54,55 @@ public interface GoogleBigQueryClient {
 	/**
 	 * This is specifically for the "jobs.query" method documented at https://cloud.google.com/bigquery/docs/reference/rest/v2/jobs/query.
 	 * Also see general documentation for BigQuery's REST API at https://cloud.google.com/bigquery/docs/reference/rest.
+	 * <p>
+	 * Holds every record in memory at once - prefer {@link #streamRestApiQueryForExport(String, Duration, Consumer)} for large resultsets.
 	 *
 	 * @param sql     non-legacy SQL to perform
 	 * @param timeout how long to block waiting for results from BigQuery
 	 * @return the set of all resultset records from BigQuery
 	 */
 	@Nonnull
-	List<GoogleBigQueryExportRecord> performRestApiQueryForExport(@Nonnull String sql,
-																																@Nonnull Duration timeout);
+	default List<GoogleBigQueryExportRecord> performRestApiQueryForExport(@Nonnull String sql,
+																																				@Nonnull Duration timeout) {
+		requireNonNull(sql);
+		requireNonNull(timeout);
+
+		List<GoogleBigQueryExportRecord> exportRecords = new ArrayList<>();
+		streamRestApiQueryForExport(sql, timeout, (page) -> exportRecords.addAll(page.getExportRecords()));
+		return exportRecords;
+	}
+
+	/**
+	 * Like {@link #performRestApiQueryForExport(String, Duration)}, but hands each page to {@code pageConsumer} as soon as it's fetched
+	 * so only one page is held in memory at a time.
+	 * <p>
+	 * {@code pageConsumer} is always invoked at least once, even if the query returns no rows.
+	 *
+	 * @param sql          non-legacy SQL to perform
+	 * @param timeout      how long to block waiting for each page of results from BigQuery
+	 * @param pageConsumer receives pages in order; an exception thrown here stops paging
+	 */
+	void streamRestApiQueryForExport(@Nonnull String sql,
+																	 @Nonnull Duration timeout,
+																	 @Nonnull Consumer<GoogleBigQueryExportPage> pageConsumer);
+
+	/**
+	 * Continues paging through the results of a previously-run query, starting at {@code pageToken}.
+	 * See https://cloud.google.com/bigquery/docs/reference/rest/v2/jobs/getQueryResults.
+	 * <p>
+	 * Fails if BigQuery no longer has the job's results.
+	 *
+	 * @param jobId        job ID from a previous {@link GoogleBigQueryExportPage}
+	 * @param jobLocation  job location from a previous {@link GoogleBigQueryExportPage}, if any
+	 * @param pageToken    next-page token from a previous {@link GoogleBigQueryExportPage}
+	 * @param timeout      how long to block waiting for each page of results from BigQuery
+	 * @param pageConsumer receives pages in order; an exception thrown here stops paging
+	 */
+	void resumeRestApiQueryForExport(@Nonnull String jobId,
+																	 @Nullable String jobLocation,
+																	 @Nonnull String pageToken,
+																	 @Nonnull Duration timeout,
+																	 @Nonnull Consumer<GoogleBigQueryExportPage> pageConsumer);
 
 	@Nonnull
 	default String dateAsTableSuffix(@Nonnull LocalDate date) {
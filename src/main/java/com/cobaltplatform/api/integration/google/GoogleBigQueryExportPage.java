@@ -0,0 +1,93 @@
+/*
+ * Copyright 2021 The University of Pennsylvania and Penn Medicine
+ *
+ * Originally created at the University of Pennsylvania and Penn Medicine by:
+ * Dr. David Asch; Dr. Lisa Bellini; Dr. Cecilia Livesey; Kelley Kugler; and Dr. Matthew Press.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cobaltplatform.api.integration.google;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+import java.util.List;
+import java.util.Optional;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * One page of export records from a BigQuery "jobs.query" or "jobs.getQueryResults" call.
+ * <p>
+ * The job ID, job location and page token are enough to pick up from the next page later, as long as BigQuery still has
+ * the job's results (anonymous result tables are kept for roughly 24 hours).
+ *
+ * @author Transmogrify, LLC.
+ */
+@ThreadSafe
+public class GoogleBigQueryExportPage {
+	@Nonnull
+	private final List<GoogleBigQueryExportRecord> exportRecords;
+	@Nonnull
+	private final String jobId;
+	@Nullable
+	private final String jobLocation;
+	@Nullable
+	private final String nextPageToken;
+	@Nullable
+	private final Long totalRowCount;
+
+	public GoogleBigQueryExportPage(@Nonnull List<GoogleBigQueryExportRecord> exportRecords,
+																	@Nonnull String jobId,
+																	@Nullable String jobLocation,
+																	@Nullable String nextPageToken,
+																	@Nullable Long totalRowCount) {
+		requireNonNull(exportRecords);
+		requireNonNull(jobId);
+
+		this.exportRecords = exportRecords;
+		this.jobId = jobId;
+		this.jobLocation = jobLocation;
+		this.nextPageToken = nextPageToken;
+		this.totalRowCount = totalRowCount;
+	}
+
+	@Nonnull
+	public List<GoogleBigQueryExportRecord> getExportRecords() {
+		return this.exportRecords;
+	}
+
+	@Nonnull
+	public String getJobId() {
+		return this.jobId;
+	}
+
+	@Nonnull
+	public Optional<String> getJobLocation() {
+		return Optional.ofNullable(this.jobLocation);
+	}
+
+	/**
+	 * @return the token for the page after this one, or empty if this is the last page
+	 */
+	@Nonnull
+	public Optional<String> getNextPageToken() {
+		return Optional.ofNullable(this.nextPageToken);
+	}
+
+	@Nonnull
+	public Optional<Long> getTotalRowCount() {
+		return Optional.ofNullable(this.totalRowCount);
+	}
+}
@@ -22,9 +22,11 @@ package com.cobaltplatform.api.integration.google;
 import com.google.cloud.bigquery.FieldValueList;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import javax.annotation.concurrent.ThreadSafe;
 import java.time.Duration;
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * @author Transmogrify, LLC.
@@ -49,10 +51,19 @@ public class MockGoogleBigQueryClient implements GoogleBigQueryClient {
 		return List.of();
 	}
 
-	@Nonnull
 	@Override
-	public List<GoogleBigQueryExportRecord> performRestApiQueryForExport(@Nonnull String sql,
-																																			 @Nonnull Duration timeout) {
-		return List.of();
+	public void streamRestApiQueryForExport(@Nonnull String sql,
+																					@Nonnull Duration timeout,
+																					@Nonnull Consumer<GoogleBigQueryExportPage> pageConsumer) {
+		pageConsumer.accept(new GoogleBigQueryExportPage(List.of(), "mock-job-id", null, null, 0L));
+	}
+
+	@Override
+	public void resumeRestApiQueryForExport(@Nonnull String jobId,
+																					@Nullable String jobLocation,
+																					@Nonnull String pageToken,
+																					@Nonnull Duration timeout,
+																					@Nonnull Consumer<GoogleBigQueryExportPage> pageConsumer) {
+		pageConsumer.accept(new GoogleBigQueryExportPage(List.of(), jobId, jobLocation, null, 0L));
 	}
 }
@@ -23,14 +23,13 @@ import ca.uhn.hl7v2.DefaultHapiContext;
 import ca.uhn.hl7v2.HapiContext;
 import ca.uhn.hl7v2.model.Message;
 import ca.uhn.hl7v2.model.v251.message.ORM_O01;
+import ca.uhn.hl7v2.parser.GenericParser;
 import ca.uhn.hl7v2.parser.Parser;
 import com.cobaltplatform.api.integration.hl7.model.event.Hl7GeneralOrderTriggerEvent;
 
 import javax.annotation.Nonnull;
 import javax.annotation.concurrent.ThreadSafe;
 import javax.inject.Singleton;
-import java.io.IOException;
-import java.io.UncheckedIOException;
 import java.nio.charset.Charset;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -49,6 +48,27 @@ import static java.util.Objects.requireNonNull;
 @Singleton
 @ThreadSafe
 public class Hl7Client {
+	@Nonnull
+	private static final String SUPPORTED_HL7_VERSION;
+
+	// Building a context loads model classes and validation rules, so we build it once and share it.
+	// The context is threadsafe, but to be safe about parser internals, each thread gets its own parser backed by the shared context
+	@Nonnull
+	private final HapiContext hapiContext;
+	@Nonnull
+	private final ThreadLocal<Parser> parserHolder;
+
+	static {
+		// See https://hl7-definition.caristix.com/v2/hl7v2.5.1/TriggerEvents/ORM_O01
+		SUPPORTED_HL7_VERSION = "2.5.1";
+	}
+
+	public Hl7Client() {
+		// Default model class factory and validation rules, same as what we used when creating a context per message
+		this.hapiContext = new DefaultHapiContext();
+		this.parserHolder = ThreadLocal.withInitial(() -> new GenericParser(getHapiContext()));
+	}
+
 	@Nonnull
 	public String messageFromBytes(@Nonnull byte[] bytes) {
 		requireNonNull(bytes);
@@ -66,45 +86,38 @@ public class Hl7Client {
 	public Hl7GeneralOrderTriggerEvent parseGeneralOrder(@Nonnull String generalOrderHl7AsString) throws Hl7ParsingException {
 		requireNonNull(generalOrderHl7AsString);
 
-		// TODO: determine if HapiContext/Parser instances are threadsafe, would be nice to share them across threads
-		try (HapiContext hapiContext = new DefaultHapiContext()) {
-			Parser parser = hapiContext.getGenericParser();
-			Message message;
+		Parser parser = getParserHolder().get();
+		Message message;
 
-			// Patient order messages must have CRLF endings, otherwise parsing will fail.  Ensure that here.
-			generalOrderHl7AsString = generalOrderHl7AsString.trim().lines().collect(Collectors.joining("\r\n"));
+		// Patient order messages must have CRLF endings, otherwise parsing will fail.  Ensure that here.
+		generalOrderHl7AsString = generalOrderHl7AsString.trim().lines().collect(Collectors.joining("\r\n"));
 
-			// Rewrite illegally-formatted messages where GT1 (guarantor) appears before IN1, IN2, IN3 (insurance)
-			// by swapping them
-			generalOrderHl7AsString = ensureInsuranceAppearsBeforeGuarantorForGeneralOrderHl7(generalOrderHl7AsString);
+		// Rewrite illegally-formatted messages where GT1 (guarantor) appears before IN1, IN2, IN3 (insurance)
+		// by swapping them
+		generalOrderHl7AsString = ensureInsuranceAppearsBeforeGuarantorForGeneralOrderHl7(generalOrderHl7AsString);
 
-			try {
-				message = parser.parse(generalOrderHl7AsString);
-			} catch (Exception e) {
-				throw new Hl7ParsingException(format("Unable to parse HL7 message:\n%s", generalOrderHl7AsString), e);
-			}
+		try {
+			message = parser.parse(generalOrderHl7AsString);
+		} catch (Exception e) {
+			throw new Hl7ParsingException(format("Unable to parse HL7 message:\n%s", generalOrderHl7AsString), e);
+		}
 
-			try {
-				final String SUPPORTED_HL7_VERSION = "2.5.1";
-				String messageVersion = trimToNull(message.getVersion());
+		try {
+			String messageVersion = trimToNull(message.getVersion());
 
-				// See https://hl7-definition.caristix.com/v2/hl7v2.5.1/TriggerEvents/ORM_O01
-				if (!SUPPORTED_HL7_VERSION.equals(messageVersion)) {
-					throw new Hl7ParsingException(format("Supported HL7 version is %s but received message with version %s",
-							SUPPORTED_HL7_VERSION, messageVersion == null ? "[unknown]" : messageVersion));
-				}
+			if (!SUPPORTED_HL7_VERSION.equals(messageVersion)) {
+				throw new Hl7ParsingException(format("Supported HL7 version is %s but received message with version %s",
+						SUPPORTED_HL7_VERSION, messageVersion == null ? "[unknown]" : messageVersion));
+			}
 
-				ORM_O01 ormMessage = (ORM_O01) message;
+			ORM_O01 ormMessage = (ORM_O01) message;
 
-				if (!Hl7GeneralOrderTriggerEvent.isPresent(ormMessage))
-					throw new Hl7ParsingException(format("No %s message data was found", ORM_O01.class.getSimpleName()));
+			if (!Hl7GeneralOrderTriggerEvent.isPresent(ormMessage))
+				throw new Hl7ParsingException(format("No %s message data was found", ORM_O01.class.getSimpleName()));
 
-				return new Hl7GeneralOrderTriggerEvent(ormMessage);
-			} catch (Exception e) {
-				throw new Hl7ParsingException(format("Encountered an unexpected problem while processing HL7 message:\n%s", generalOrderHl7AsString), e);
-			}
-		} catch (IOException e) {
-			throw new UncheckedIOException(e);
+			return new Hl7GeneralOrderTriggerEvent(ormMessage);
+		} catch (Exception e) {
+			throw new Hl7ParsingException(format("Encountered an unexpected problem while processing HL7 message:\n%s", generalOrderHl7AsString), e);
 		}
 	}
 
@@ -149,4 +162,14 @@ public class Hl7Client {
 
 		return rewrittenLines.stream().collect(Collectors.joining("\r\n"));
 	}
+
+	@Nonnull
+	protected HapiContext getHapiContext() {
+		return this.hapiContext;
+	}
+
+	@Nonnull
+	protected ThreadLocal<Parser> getParserHolder() {
+		return this.parserHolder;
+	}
 }
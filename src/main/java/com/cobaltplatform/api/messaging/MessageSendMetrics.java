@@ -0,0 +1,163 @@
+/*
+ * Copyright 2021 The University of Pennsylvania and Penn Medicine
+ *
+ * Originally created at the University of Pennsylvania and Penn Medicine by:
+ * Dr. David Asch; Dr. Lisa Bellini; Dr. Cecilia Livesey; Kelley Kugler; and Dr. Matthew Press.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cobaltplatform.api.messaging;
+
+import com.cobaltplatform.api.model.db.MessageVendor.MessageVendorId;
+
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.ThreadSafe;
+import javax.inject.Singleton;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * In-memory counters for outbound message sends on this node, per vendor.
+ * <p>
+ * Counters are cumulative since startup; they are not persisted or shared across nodes.
+ *
+ * @author Transmogrify, LLC.
+ */
+@Singleton
+@ThreadSafe
+public class MessageSendMetrics {
+	@Nonnull
+	private final Map<MessageVendorId, VendorCounters> vendorCountersByMessageVendorId;
+
+	public MessageSendMetrics() {
+		Map<MessageVendorId, VendorCounters> vendorCountersByMessageVendorId = new EnumMap<>(MessageVendorId.class);
+
+		for (MessageVendorId messageVendorId : MessageVendorId.values())
+			vendorCountersByMessageVendorId.put(messageVendorId, new VendorCounters());
+
+		this.vendorCountersByMessageVendorId = Collections.unmodifiableMap(vendorCountersByMessageVendorId);
+	}
+
+	public void recordSendSucceeded(@Nonnull MessageVendorId messageVendorId,
+																	@Nonnull Duration latency) {
+		requireNonNull(messageVendorId);
+		requireNonNull(latency);
+
+		VendorCounters vendorCounters = getVendorCounters(messageVendorId);
+		vendorCounters.sendsSucceeded.increment();
+		vendorCounters.sendLatencyInMilliseconds.add(latency.toMillis());
+	}
+
+	public void recordSendFailed(@Nonnull MessageVendorId messageVendorId) {
+		requireNonNull(messageVendorId);
+		getVendorCounters(messageVendorId).sendsFailed.increment();
+	}
+
+	public void recordRateLimiterWait(@Nonnull MessageVendorId messageVendorId,
+																		@Nonnull Duration wait) {
+		requireNonNull(messageVendorId);
+		requireNonNull(wait);
+
+		if (wait.isZero())
+			return;
+
+		VendorCounters vendorCounters = getVendorCounters(messageVendorId);
+		vendorCounters.rateLimiterWaits.increment();
+		vendorCounters.rateLimiterWaitInMilliseconds.add(wait.toMillis());
+	}
+
+	public void recordVendorThrottled(@Nonnull MessageVendorId messageVendorId) {
+		requireNonNull(messageVendorId);
+		getVendorCounters(messageVendorId).vendorThrottles.increment();
+	}
+
+	public void recordRequeued(@Nonnull MessageVendorId messageVendorId) {
+		requireNonNull(messageVendorId);
+		getVendorCounters(messageVendorId).requeues.increment();
+	}
+
+	/**
+	 * @return (nonnull) a point-in-time copy of the counters, keyed by vendor name
+	 */
+	@Nonnull
+	public SortedMap<String, Map<String, Long>> snapshot() {
+		SortedMap<String, Map<String, Long>> snapshot = new TreeMap<>();
+
+		for (Map.Entry<MessageVendorId, VendorCounters> entry : getVendorCountersByMessageVendorId().entrySet()) {
+			VendorCounters vendorCounters = entry.getValue();
+			long sendsSucceeded = vendorCounters.sendsSucceeded.sum();
+			long sendLatencyInMilliseconds = vendorCounters.sendLatencyInMilliseconds.sum();
+
+			Map<String, Long> vendorSnapshot = new LinkedHashMap<>();
+			vendorSnapshot.put("sendsSucceeded", sendsSucceeded);
+			vendorSnapshot.put("sendsFailed", vendorCounters.sendsFailed.sum());
+			vendorSnapshot.put("averageSendLatencyInMilliseconds", sendsSucceeded == 0 ? 0 : sendLatencyInMilliseconds / sendsSucceeded);
+			vendorSnapshot.put("rateLimiterWaits", vendorCounters.rateLimiterWaits.sum());
+			vendorSnapshot.put("rateLimiterWaitInMilliseconds", vendorCounters.rateLimiterWaitInMilliseconds.sum());
+			vendorSnapshot.put("vendorThrottles", vendorCounters.vendorThrottles.sum());
+			vendorSnapshot.put("requeues", vendorCounters.requeues.sum());
+
+			snapshot.put(entry.getKey().name(), vendorSnapshot);
+		}
+
+		return snapshot;
+	}
+
+	@Nonnull
+	protected VendorCounters getVendorCounters(@Nonnull MessageVendorId messageVendorId) {
+		requireNonNull(messageVendorId);
+		return getVendorCountersByMessageVendorId().get(messageVendorId);
+	}
+
+	@Nonnull
+	protected Map<MessageVendorId, VendorCounters> getVendorCountersByMessageVendorId() {
+		return this.vendorCountersByMessageVendorId;
+	}
+
+	@ThreadSafe
+	protected static class VendorCounters {
+		@Nonnull
+		private final LongAdder sendsSucceeded;
+		@Nonnull
+		private final LongAdder sendsFailed;
+		@Nonnull
+		private final LongAdder sendLatencyInMilliseconds;
+		@Nonnull
+		private final LongAdder rateLimiterWaits;
+		@Nonnull
+		private final LongAdder rateLimiterWaitInMilliseconds;
+		@Nonnull
+		private final LongAdder vendorThrottles;
+		@Nonnull
+		private final LongAdder requeues;
+
+		public VendorCounters() {
+			this.sendsSucceeded = new LongAdder();
+			this.sendsFailed = new LongAdder();
+			this.sendLatencyInMilliseconds = new LongAdder();
+			this.rateLimiterWaits = new LongAdder();
+			this.rateLimiterWaitInMilliseconds = new LongAdder();
+			this.vendorThrottles = new LongAdder();
+			this.requeues = new LongAdder();
+		}
+	}
+}
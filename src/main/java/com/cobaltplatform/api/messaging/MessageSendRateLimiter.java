@@ -0,0 +1,125 @@
+/*
+ * Copyright 2021 The University of Pennsylvania and Penn Medicine
+ *
+ * Originally created at the University of Pennsylvania and Penn Medicine by:
+ * Dr. David Asch; Dr. Lisa Bellini; Dr. Cecilia Livesey; Kelley Kugler; and Dr. Matthew Press.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cobaltplatform.api.messaging;
+
+import com.cobaltplatform.api.Configuration;
+import com.cobaltplatform.api.integration.enterprise.EnterprisePluginProvider;
+import com.cobaltplatform.api.model.db.Institution.InstitutionId;
+import com.cobaltplatform.api.model.db.MessageVendor.MessageVendorId;
+import com.google.common.util.concurrent.RateLimiter;
+
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.ThreadSafe;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Paces outbound message sends with token buckets, one per vendor (platform-wide) and one per institution/vendor pair.
+ * <p>
+ * Platform-wide limits come from {@link Configuration#getMessageSendRateLimitPerSecond(MessageVendorId)} and
+ * per-institution limits come from {@link com.cobaltplatform.api.integration.enterprise.EnterprisePlugin#messageSendRateLimitPerSecond(MessageVendorId)}.
+ * A send must acquire a permit from both buckets.
+ *
+ * @author Transmogrify, LLC.
+ */
+@Singleton
+@ThreadSafe
+public class MessageSendRateLimiter {
+	@Nonnull
+	private final EnterprisePluginProvider enterprisePluginProvider;
+	@Nonnull
+	private final Configuration configuration;
+	@Nonnull
+	private final Map<MessageVendorId, Optional<RateLimiter>> rateLimitersByMessageVendorId;
+	@Nonnull
+	private final Map<String, Optional<RateLimiter>> rateLimitersByInstitutionMessageVendorKey;
+
+	@Inject
+	public MessageSendRateLimiter(@Nonnull EnterprisePluginProvider enterprisePluginProvider,
+																@Nonnull Configuration configuration) {
+		requireNonNull(enterprisePluginProvider);
+		requireNonNull(configuration);
+
+		this.enterprisePluginProvider = enterprisePluginProvider;
+		this.configuration = configuration;
+		this.rateLimitersByMessageVendorId = new ConcurrentHashMap<>();
+		this.rateLimitersByInstitutionMessageVendorKey = new ConcurrentHashMap<>();
+	}
+
+	/**
+	 * Blocks until the given institution is permitted to send one message through the given vendor.
+	 *
+	 * @param institutionId   (nonnull) the institution sending the message
+	 * @param messageVendorId (nonnull) the vendor the message will be sent through
+	 * @return (nonnull) how long we waited for a permit
+	 */
+	@Nonnull
+	public Duration acquire(@Nonnull InstitutionId institutionId,
+													@Nonnull MessageVendorId messageVendorId) {
+		requireNonNull(institutionId);
+		requireNonNull(messageVendorId);
+
+		double secondsWaited = 0;
+
+		RateLimiter institutionRateLimiter = getRateLimitersByInstitutionMessageVendorKey().computeIfAbsent(format("%s.%s", institutionId.name(), messageVendorId.name()), (ignored) ->
+				getEnterprisePluginProvider().enterprisePluginForInstitutionId(institutionId).messageSendRateLimitPerSecond(messageVendorId)
+						.filter(permitsPerSecond -> permitsPerSecond > 0)
+						.map(permitsPerSecond -> RateLimiter.create(permitsPerSecond))).orElse(null);
+
+		if (institutionRateLimiter != null)
+			secondsWaited += institutionRateLimiter.acquire();
+
+		RateLimiter vendorRateLimiter = getRateLimitersByMessageVendorId().computeIfAbsent(messageVendorId, (ignored) ->
+				getConfiguration().getMessageSendRateLimitPerSecond(messageVendorId)
+						.map(permitsPerSecond -> RateLimiter.create(permitsPerSecond))).orElse(null);
+
+		if (vendorRateLimiter != null)
+			secondsWaited += vendorRateLimiter.acquire();
+
+		return Duration.ofNanos((long) (secondsWaited * 1_000_000_000D));
+	}
+
+	@Nonnull
+	protected EnterprisePluginProvider getEnterprisePluginProvider() {
+		return this.enterprisePluginProvider;
+	}
+
+	@Nonnull
+	protected Configuration getConfiguration() {
+		return this.configuration;
+	}
+
+	@Nonnull
+	protected Map<MessageVendorId, Optional<RateLimiter>> getRateLimitersByMessageVendorId() {
+		return this.rateLimitersByMessageVendorId;
+	}
+
+	@Nonnull
+	protected Map<String, Optional<RateLimiter>> getRateLimitersByInstitutionMessageVendorKey() {
+		return this.rateLimitersByInstitutionMessageVendorKey;
+	}
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2021 The University of Pennsylvania and Penn Medicine
+ *
+ * Originally created at the University of Pennsylvania and Penn Medicine by:
+ * Dr. David Asch; Dr. Lisa Bellini; Dr. Cecilia Livesey; Kelley Kugler; and Dr. Matthew Press.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cobaltplatform.api.messaging;
+
+import com.cobaltplatform.api.model.db.MessageVendor.MessageVendorId;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+import java.time.Duration;
+import java.util.Optional;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Thrown by a {@link MessageSender} when the vendor has rejected a send attempt because we are sending too quickly
+ * (e.g. HTTP 429).
+ * <p>
+ * The message never left Cobalt, so it is safe to retry later.
+ *
+ * @author Transmogrify, LLC.
+ */
+@ThreadSafe
+public class MessageSenderThrottledException extends RuntimeException {
+	@Nonnull
+	private final MessageVendorId messageVendorId;
+	@Nullable
+	private final Duration retryAfter;
+
+	public MessageSenderThrottledException(@Nullable String message,
+																				 @Nonnull MessageVendorId messageVendorId) {
+		this(message, null, messageVendorId, null);
+	}
+
+	public MessageSenderThrottledException(@Nullable String message,
+																				 @Nullable Throwable cause,
+																				 @Nonnull MessageVendorId messageVendorId,
+																				 @Nullable Duration retryAfter) {
+		super(message, cause);
+
+		requireNonNull(messageVendorId);
+
+		this.messageVendorId = messageVendorId;
+		this.retryAfter = retryAfter;
+	}
+
+	@Nonnull
+	public MessageVendorId getMessageVendorId() {
+		return this.messageVendorId;
+	}
+
+	/**
+	 * @return (nonnull) how long the vendor asked us to wait before retrying, if it told us
+	 */
+	@Nonnull
+	public Optional<Duration> getRetryAfter() {
+		return Optional.ofNullable(this.retryAfter);
+	}
+}
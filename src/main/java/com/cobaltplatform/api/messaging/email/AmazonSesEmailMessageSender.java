@@ -21,6 +21,7 @@ package com.cobaltplatform.api.messaging.email;
 
 import com.cobaltplatform.api.Configuration;
 import com.cobaltplatform.api.messaging.MessageSender;
+import com.cobaltplatform.api.messaging.MessageSenderThrottledException;
 import com.cobaltplatform.api.model.db.Institution;
 import com.cobaltplatform.api.model.db.MessageType.MessageTypeId;
 import com.cobaltplatform.api.model.db.MessageVendor.MessageVendorId;
@@ -47,6 +48,7 @@ import software.amazon.awssdk.services.ses.SesClientBuilder;
 import software.amazon.awssdk.services.ses.model.RawMessage;
 import software.amazon.awssdk.services.ses.model.SendRawEmailRequest;
 import software.amazon.awssdk.services.ses.model.SendRawEmailResponse;
+import software.amazon.awssdk.services.ses.model.SesException;
 
 import javax.annotation.Nonnull;
 import javax.annotation.concurrent.ThreadSafe;
@@ -200,7 +202,17 @@ public class AmazonSesEmailMessageSender implements MessageSender<EmailMessage>
 					.configurationSetName(getConfiguration().getAmazonSesConfigurationSetName().orElse(null))
 					.build();
 
-			SendRawEmailResponse result = getAmazonSimpleEmailService().sendRawEmail(request);
+			SendRawEmailResponse result;
+
+			try {
+				result = getAmazonSimpleEmailService().sendRawEmail(request);
+			} catch (SesException e) {
+				// SES rejects sends with a "Throttling" error once we exceed our account's maximum send rate
+				if (e.isThrottlingException())
+					throw new MessageSenderThrottledException(format("SES throttled %s", emailMessage), e, getMessageVendorId(), null);
+
+				throw e;
+			}
 
 			getLogger().info("Successfully sent email (message ID {}) in {} ms.", result.messageId(), System.currentTimeMillis() - time);
 
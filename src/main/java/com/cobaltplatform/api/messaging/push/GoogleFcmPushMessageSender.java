@@ -25,6 +25,7 @@ import com.cobaltplatform.api.http.HttpMethod;
 import com.cobaltplatform.api.http.HttpRequest;
 import com.cobaltplatform.api.http.HttpResponse;
 import com.cobaltplatform.api.messaging.MessageSender;
+import com.cobaltplatform.api.messaging.MessageSenderThrottledException;
 import com.cobaltplatform.api.model.db.MessageType.MessageTypeId;
 import com.cobaltplatform.api.model.db.MessageVendor.MessageVendorId;
 import com.cobaltplatform.api.util.HandlebarsTemplater;
@@ -162,6 +163,11 @@ public class GoogleFcmPushMessageSender implements MessageSender<PushMessage> {
 					}
 				}
 
+				// FCM responds with a 429 when we exceed its sending quotas
+				if (httpResponse.getStatus() == 429 || "RESOURCE_EXHAUSTED".equals(errorStatus))
+					throw new MessageSenderThrottledException(format("FCM throttled push message to device with push token '%s'.  Message was '%s'",
+							pushMessage.getPushToken(), errorMessage), getMessageVendorId());
+
 				if (httpResponse.getStatus() == 404 || ("NOT_FOUND".equals(errorStatus) || "INVALID_ARGUMENT".equals(errorStatus)))
 					throw new PushMessageInvalidDeviceException(format("FCM says push device with token '%s' is invalid (might have been refreshed or uninstalled).  Message was '%s'",
 							pushMessage.getPushToken(), errorMessage), pushMessage);
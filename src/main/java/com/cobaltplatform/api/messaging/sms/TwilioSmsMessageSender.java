@@ -25,6 +25,7 @@ import com.cobaltplatform.api.http.HttpMethod;
 import com.cobaltplatform.api.http.HttpRequest;
 import com.cobaltplatform.api.http.HttpResponse;
 import com.cobaltplatform.api.messaging.MessageSender;
+import com.cobaltplatform.api.messaging.MessageSenderThrottledException;
 import com.cobaltplatform.api.model.db.MessageType.MessageTypeId;
 import com.cobaltplatform.api.model.db.MessageVendor.MessageVendorId;
 import com.cobaltplatform.api.util.HandlebarsTemplater;
@@ -189,6 +190,10 @@ public class TwilioSmsMessageSender implements MessageSender<SmsMessage> {
 			byte[] responseBodyAsBytes = httpResponse.getBody().orElse(null);
 			String responseBody = responseBodyAsBytes == null ? null : new String(responseBodyAsBytes, StandardCharsets.UTF_8).trim();
 
+			// Twilio responds with a 429 (error code 20429) when we exceed our account's rate or concurrency limits
+			if (httpResponse.getStatus() == 429)
+				throw new MessageSenderThrottledException(format("Twilio throttled SMS to %s. Response body was: %s", normalizedToNumber, responseBody), getMessageVendorId());
+
 			if (httpResponse.getStatus() >= 400)
 				throw new RuntimeException(format("Unable to send SMS to %s. Response body was: %s", normalizedToNumber, responseBody));
 
@@ -89,6 +89,10 @@ public class FindPatientOrdersRequest {
 	@Nullable
 	private Integer pageSize;
 	@Nullable
+	private String pageCursor;
+	@Nullable
+	private Boolean useCachedTotalCount;
+	@Nullable
 	private List<PatientOrderSortRule> patientOrderSortRules;
 	@Nullable
 	private PatientOrdersQueryMode patientOrdersQueryMode;
@@ -339,6 +343,24 @@ public class FindPatientOrdersRequest {
 		this.pageSize = pageSize;
 	}
 
+	@Nullable
+	public String getPageCursor() {
+		return this.pageCursor;
+	}
+
+	public void setPageCursor(@Nullable String pageCursor) {
+		this.pageCursor = pageCursor;
+	}
+
+	@Nullable
+	public Boolean getUseCachedTotalCount() {
+		return this.useCachedTotalCount;
+	}
+
+	public void setUseCachedTotalCount(@Nullable Boolean useCachedTotalCount) {
+		this.useCachedTotalCount = useCachedTotalCount;
+	}
+
 	@Nullable
 	public List<PatientOrderSortRule> getPatientOrderSortRules() {
 		return this.patientOrderSortRules;
@@ -45,6 +45,16 @@ public class AnalyticsEventDateSync {
 	private Instant syncStartedAt;
 	@Nullable
 	private Instant syncEndedAt;
+	@Nullable
+	private String checkpointJobId;
+	@Nullable
+	private String checkpointJobLocation;
+	@Nullable
+	private String checkpointPageToken;
+	@Nullable
+	private Long checkpointEventCount;
+	@Nullable
+	private Instant checkpointedAt;
 
 	@Nullable
 	public InstitutionId getInstitutionId() {
@@ -99,4 +109,49 @@ public class AnalyticsEventDateSync {
 	public void setSyncEndedAt(@Nullable Instant syncEndedAt) {
 		this.syncEndedAt = syncEndedAt;
 	}
-}
\ No newline at end of file
+
+	@Nullable
+	public String getCheckpointJobId() {
+		return this.checkpointJobId;
+	}
+
+	public void setCheckpointJobId(@Nullable String checkpointJobId) {
+		this.checkpointJobId = checkpointJobId;
+	}
+
+	@Nullable
+	public String getCheckpointJobLocation() {
+		return this.checkpointJobLocation;
+	}
+
+	public void setCheckpointJobLocation(@Nullable String checkpointJobLocation) {
+		this.checkpointJobLocation = checkpointJobLocation;
+	}
+
+	@Nullable
+	public String getCheckpointPageToken() {
+		return this.checkpointPageToken;
+	}
+
+	public void setCheckpointPageToken(@Nullable String checkpointPageToken) {
+		this.checkpointPageToken = checkpointPageToken;
+	}
+
+	@Nullable
+	public Long getCheckpointEventCount() {
+		return this.checkpointEventCount;
+	}
+
+	public void setCheckpointEventCount(@Nullable Long checkpointEventCount) {
+		this.checkpointEventCount = checkpointEventCount;
+	}
+
+	@Nullable
+	public Instant getCheckpointedAt() {
+		return this.checkpointedAt;
+	}
+
+	public void setCheckpointedAt(@Nullable Instant checkpointedAt) {
+		this.checkpointedAt = checkpointedAt;
+	}
+}
@@ -55,6 +55,10 @@ public class CronJob {
 	@Nullable
 	private String lastRunStackTrace;
 	@Nullable
+	private UUID leaseId;
+	@Nullable
+	private Instant leaseExpiresAt;
+	@Nullable
 	private Boolean enabled;
 	@Nullable
 	private Instant created;
@@ -160,6 +164,24 @@ public class CronJob {
 		this.lastRunStackTrace = lastRunStackTrace;
 	}
 
+	@Nullable
+	public UUID getLeaseId() {
+		return this.leaseId;
+	}
+
+	public void setLeaseId(@Nullable UUID leaseId) {
+		this.leaseId = leaseId;
+	}
+
+	@Nullable
+	public Instant getLeaseExpiresAt() {
+		return this.leaseExpiresAt;
+	}
+
+	public void setLeaseExpiresAt(@Nullable Instant leaseExpiresAt) {
+		this.leaseExpiresAt = leaseExpiresAt;
+	}
+
 	@Nullable
 	public Boolean getEnabled() {
 		return this.enabled;
@@ -36,6 +36,7 @@ public class CronJobRunStatus {
 
 	public enum CronJobRunStatusId {
 		UNDEFINED,
+		RUNNING,
 		SUCCEEDED,
 		FAILED
 	}
@@ -463,6 +463,9 @@ public class Institution {
 	@Nullable
 	private AnalyticsProfileId analyticsProfileId;
 
+	@Nullable
+	private Boolean analyticsRollupEnabled;
+
 	@Nullable
 	private String platformName;
 
@@ -2120,6 +2123,15 @@ public class Institution {
 		this.analyticsProfileId = analyticsProfileId;
 	}
 
+	@Nullable
+	public Boolean getAnalyticsRollupEnabled() {
+		return this.analyticsRollupEnabled;
+	}
+
+	public void setAnalyticsRollupEnabled(@Nullable Boolean analyticsRollupEnabled) {
+		this.analyticsRollupEnabled = analyticsRollupEnabled;
+	}
+
 	@Nullable
 	public String getPlatformName() {
 		return this.platformName;
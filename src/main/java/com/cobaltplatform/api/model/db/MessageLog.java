@@ -57,6 +57,8 @@ public class MessageLog {
 	@Nullable
 	private Instant processed;
 	@Nullable
+	private Instant sendingStartedAt;
+	@Nullable
 	private Instant delivered;
 	@Nullable
 	private Instant deliveryFailed;
@@ -164,6 +166,15 @@ public class MessageLog {
 		this.processed = processed;
 	}
 
+	@Nullable
+	public Instant getSendingStartedAt() {
+		return this.sendingStartedAt;
+	}
+
+	public void setSendingStartedAt(@Nullable Instant sendingStartedAt) {
+		this.sendingStartedAt = sendingStartedAt;
+	}
+
 	@Nullable
 	public Instant getDelivered() {
 		return this.delivered;
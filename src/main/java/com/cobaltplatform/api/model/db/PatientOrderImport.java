@@ -49,6 +49,18 @@ public class PatientOrderImport {
 	@Nullable
 	private String rawOrderFilename;
 	@Nullable
+	private Integer processedRecordCount;
+	@Nullable
+	private Integer importedRecordCount;
+	@Nullable
+	private Integer failedRecordCount;
+	@Nullable
+	private Instant completedAt;
+	@Nullable
+	private Instant failedAt;
+	@Nullable
+	private String failureMessage;
+	@Nullable
 	private Instant created;
 	@Nullable
 	private Instant lastUpdated;
@@ -125,6 +137,60 @@ public class PatientOrderImport {
 		this.rawOrderFilename = rawOrderFilename;
 	}
 
+	@Nullable
+	public Integer getProcessedRecordCount() {
+		return this.processedRecordCount;
+	}
+
+	public void setProcessedRecordCount(@Nullable Integer processedRecordCount) {
+		this.processedRecordCount = processedRecordCount;
+	}
+
+	@Nullable
+	public Integer getImportedRecordCount() {
+		return this.importedRecordCount;
+	}
+
+	public void setImportedRecordCount(@Nullable Integer importedRecordCount) {
+		this.importedRecordCount = importedRecordCount;
+	}
+
+	@Nullable
+	public Integer getFailedRecordCount() {
+		return this.failedRecordCount;
+	}
+
+	public void setFailedRecordCount(@Nullable Integer failedRecordCount) {
+		this.failedRecordCount = failedRecordCount;
+	}
+
+	@Nullable
+	public Instant getCompletedAt() {
+		return this.completedAt;
+	}
+
+	public void setCompletedAt(@Nullable Instant completedAt) {
+		this.completedAt = completedAt;
+	}
+
+	@Nullable
+	public Instant getFailedAt() {
+		return this.failedAt;
+	}
+
+	public void setFailedAt(@Nullable Instant failedAt) {
+		this.failedAt = failedAt;
+	}
+
+	@Nullable
+	public String getFailureMessage() {
+		return this.failureMessage;
+	}
+
+	public void setFailureMessage(@Nullable String failureMessage) {
+		this.failureMessage = failureMessage;
+	}
+
 	@Nullable
 	public Instant getCreated() {
 		return this.created;
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2021 The University of Pennsylvania and Penn Medicine
+ *
+ * Originally created at the University of Pennsylvania and Penn Medicine by:
+ * Dr. David Asch; Dr. Lisa Bellini; Dr. Cecilia Livesey; Kelley Kugler; and Dr. Matthew Press.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cobaltplatform.api.model.db;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.NotThreadSafe;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * @author Transmogrify, LLC.
+ */
+@NotThreadSafe
+public class PatientOrderImportRowError {
+	@Nullable
+	private UUID patientOrderImportId;
+	@Nullable
+	private Integer rowNumber;
+	@Nullable
+	private String error;
+	@Nullable
+	private Instant created;
+
+	@Nullable
+	public UUID getPatientOrderImportId() {
+		return this.patientOrderImportId;
+	}
+
+	public void setPatientOrderImportId(@Nullable UUID patientOrderImportId) {
+		this.patientOrderImportId = patientOrderImportId;
+	}
+
+	@Nullable
+	public Integer getRowNumber() {
+		return this.rowNumber;
+	}
+
+	public void setRowNumber(@Nullable Integer rowNumber) {
+		this.rowNumber = rowNumber;
+	}
+
+	@Nullable
+	public String getError() {
+		return this.error;
+	}
+
+	public void setError(@Nullable String error) {
+		this.error = error;
+	}
+
+	@Nullable
+	public Instant getCreated() {
+		return this.created;
+	}
+
+	public void setCreated(@Nullable Instant created) {
+		this.created = created;
+	}
+}
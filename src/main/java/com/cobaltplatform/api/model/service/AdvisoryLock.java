@@ -34,7 +34,12 @@ public enum AdvisoryLock {
 	EPIC_FHIR_PROVIDER_AVAILABILITY_SYNC(104),
 	ANALYTICS_SYNC(105),
 	PATIENT_ORDER_IMPORT_SYNC(106),
-	DATA_SYNC(107);
+	DATA_SYNC(107),
+	PATIENT_ORDER_PROJECTION_RECONCILE(108),
+	PATIENT_ORDER_PROJECTION_REFRESH(109),
+	ANALYTICS_ROLLUP_REFRESH(110),
+	ACUITY_PROVIDER_AVAILABILITY_SYNC(111),
+	EPIC_PROVIDER_AVAILABILITY_DATE_SYNC(112);
 
 	@Nonnull
 	private final Integer key;
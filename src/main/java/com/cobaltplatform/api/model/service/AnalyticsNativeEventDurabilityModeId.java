@@ -0,0 +1,31 @@
+/*
+ * Copyright 2021 The University of Pennsylvania and Penn Medicine
+ *
+ * Originally created at the University of Pennsylvania and Penn Medicine by:
+ * Dr. David Asch; Dr. Lisa Bellini; Dr. Cecilia Livesey; Kelley Kugler; and Dr. Matthew Press.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cobaltplatform.api.model.service;
+
+/**
+ * How native analytics event writes are acknowledged to the client.
+ *
+ * @author Transmogrify, LLC.
+ */
+public enum AnalyticsNativeEventDurabilityModeId {
+	SYNCHRONOUS, // Inserted on the request thread before responding
+	WAIT_FOR_FLUSH, // Queued for a batched insert; the request waits until its batch is committed
+	FIRE_AND_FORGET // Queued for a batched insert; the request responds immediately
+}
@@ -20,10 +20,12 @@
 package com.cobaltplatform.api.model.service;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import javax.annotation.concurrent.Immutable;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 import static java.util.Objects.requireNonNull;
 
@@ -36,6 +38,8 @@ public class FindResult<T> {
 	private final List<T> results;
 	@Nonnull
 	private final Integer totalCount;
+	@Nullable
+	private final String nextPageCursor;
 
 	@Nonnull
 	private static final FindResult<?> EMPTY;
@@ -50,11 +54,18 @@ public class FindResult<T> {
 	}
 
 	public FindResult(@Nonnull List<T> results, @Nonnull Integer totalCount) {
+		this(results, totalCount, null);
+	}
+
+	public FindResult(@Nonnull List<T> results,
+										@Nonnull Integer totalCount,
+										@Nullable String nextPageCursor) {
 		requireNonNull(results);
 		requireNonNull(totalCount);
 
 		this.results = Collections.unmodifiableList(new ArrayList<>(results));
 		this.totalCount = totalCount;
+		this.nextPageCursor = nextPageCursor;
 	}
 
 	@Nonnull
@@ -66,4 +77,13 @@ public class FindResult<T> {
 	public Integer getTotalCount() {
 		return totalCount;
 	}
+
+	/**
+	 * @return an opaque cursor for fetching the page after this one via keyset pagination, or empty if this is the last page
+	 * (or the query does not support cursors)
+	 */
+	@Nonnull
+	public Optional<String> getNextPageCursor() {
+		return Optional.ofNullable(nextPageCursor);
+	}
 }
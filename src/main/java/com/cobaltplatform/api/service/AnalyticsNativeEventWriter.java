@@ -0,0 +1,501 @@
+/*
+ * Copyright 2021 The University of Pennsylvania and Penn Medicine
+ *
+ * Originally created at the University of Pennsylvania and Penn Medicine by:
+ * Dr. David Asch; Dr. Lisa Bellini; Dr. Cecilia Livesey; Kelley Kugler; and Dr. Matthew Press.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cobaltplatform.api.service;
+
+import com.cobaltplatform.api.Configuration;
+import com.cobaltplatform.api.model.service.AnalyticsNativeEventDurabilityModeId;
+import com.cobaltplatform.api.util.ExecutorServiceUtility;
+import com.cobaltplatform.api.util.db.DatabaseProvider;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.pyranid.Database;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Writes {@code analytics_native_event} rows.  Every page view and click on the webapp produces one, so this is one of the
+ * highest-volume write paths we have.
+ * <p>
+ * Depending on {@link Configuration#getAnalyticsNativeEventDurabilityModeId()}, events are either inserted on the calling thread,
+ * or handed to a bounded in-memory queue that a background writer drains with multi-row inserts.
+ * If the queue is full or the writer isn't running, events are inserted on the calling thread so nothing is dropped.
+ * <p>
+ * Queued events are never part of a transaction; if the caller is in one, the event is inserted synchronously instead.
+ *
+ * @author Transmogrify, LLC.
+ */
+@Singleton
+@ThreadSafe
+public class AnalyticsNativeEventWriter implements AutoCloseable {
+	@Nonnull
+	private static final List<String> COLUMN_NAMES;
+	@Nonnull
+	private static final String VALUES_PLACEHOLDER;
+	@Nonnull
+	private static final Integer MAXIMUM_BATCH_SIZE;
+	@Nonnull
+	private static final Duration WAIT_FOR_FLUSH_TIMEOUT;
+
+	@Nonnull
+	private final DatabaseProvider databaseProvider;
+	@Nonnull
+	private final Configuration configuration;
+	@Nonnull
+	private final BlockingQueue<PendingAnalyticsNativeEvent> queue;
+	@Nonnull
+	private final Counters counters;
+	@Nonnull
+	private final Object lock;
+	@Nonnull
+	private final Logger logger;
+
+	@Nullable
+	private ExecutorService writerExecutorService;
+	@Nonnull
+	private volatile Boolean started;
+
+	static {
+		COLUMN_NAMES = List.of(
+				"analytics_native_event_id",
+				"analytics_native_event_type_id",
+				"institution_id",
+				"client_device_id",
+				"account_id",
+				"session_id",
+				"referring_message_id",
+				"referring_campaign",
+				"timestamp",
+				"timestamp_epoch_second",
+				"timestamp_epoch_second_nano_offset",
+				"webapp_url",
+				"data",
+				"app_name",
+				"app_version",
+				"client_device_operating_system_name",
+				"client_device_operating_system_version",
+				"client_device_supported_locales",
+				"client_device_locale",
+				"client_device_time_zone",
+				"ip_address",
+				"user_agent",
+				"user_agent_device_family",
+				"user_agent_browser_family",
+				"user_agent_browser_version",
+				"user_agent_operating_system_name",
+				"user_agent_operating_system_version",
+				"screen_color_depth",
+				"screen_pixel_depth",
+				"screen_width",
+				"screen_height",
+				"screen_orientation",
+				"window_device_pixel_ratio",
+				"window_width",
+				"window_height",
+				"navigator_max_touch_points",
+				"document_visibility_state"
+		);
+
+		VALUES_PLACEHOLDER = "(?,?,?,?,?,?,?,?,?,?,?,?,CAST (? AS JSONB),?,?,?,?,CAST (? AS JSONB),?,?,CAST (? AS INET),?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?)";
+
+		// Postgres allows at most 32767 bind parameters per statement
+		MAXIMUM_BATCH_SIZE = Short.MAX_VALUE / COLUMN_NAMES.size();
+		WAIT_FOR_FLUSH_TIMEOUT = Duration.ofSeconds(10);
+	}
+
+	@Inject
+	public AnalyticsNativeEventWriter(@Nonnull DatabaseProvider databaseProvider,
+																		@Nonnull Configuration configuration) {
+		requireNonNull(databaseProvider);
+		requireNonNull(configuration);
+
+		this.databaseProvider = databaseProvider;
+		this.configuration = configuration;
+		this.queue = new ArrayBlockingQueue<>(configuration.getAnalyticsNativeEventQueueCapacity());
+		this.counters = new Counters();
+		this.lock = new Object();
+		this.started = false;
+		this.logger = LoggerFactory.getLogger(getClass());
+	}
+
+	@Override
+	public void close() throws Exception {
+		stop();
+	}
+
+	@Nonnull
+	public Boolean start() {
+		synchronized (getLock()) {
+			if (isStarted())
+				return false;
+
+			if (getConfiguration().getAnalyticsNativeEventDurabilityModeId() == AnalyticsNativeEventDurabilityModeId.SYNCHRONOUS) {
+				getLogger().trace("Analytics native events are written synchronously, not starting writer.");
+				return false;
+			}
+
+			getLogger().trace("Starting analytics native event writer...");
+
+			this.writerExecutorService = Executors.newSingleThreadExecutor(new ThreadFactoryBuilder().setNameFormat("analytics-native-event-writer").build());
+			this.started = true;
+
+			getWriterExecutorService().get().submit(() -> {
+				while (isStarted()) {
+					try {
+						flushNextBatch(getConfiguration().getAnalyticsNativeEventFlushIntervalInMilliseconds());
+					} catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+						break;
+					} catch (Throwable t) {
+						getLogger().warn("Unable to flush analytics native events", t);
+					}
+				}
+			});
+
+			getLogger().trace("Analytics native event writer started.");
+
+			return true;
+		}
+	}
+
+	@Nonnull
+	public Boolean stop() {
+		synchronized (getLock()) {
+			if (!isStarted())
+				return false;
+
+			getLogger().trace("Stopping analytics native event writer...");
+
+			// Writer loop exits after its current batch
+			this.started = false;
+			ExecutorServiceUtility.shutdownAndAwaitTermination(getWriterExecutorService().get());
+			this.writerExecutorService = null;
+
+			// Don't lose anything still sitting in the queue
+			try {
+				flushQueue();
+			} catch (Exception e) {
+				getLogger().warn("Unable to flush queued analytics native events on shutdown", e);
+			}
+
+			getLogger().trace("Analytics native event writer stopped.");
+
+			return true;
+		}
+	}
+
+	/**
+	 * Writes a single event according to the configured durability mode.
+	 *
+	 * @param parameters (nonnull) column values, in the same order as {@link #getColumnNames()}
+	 */
+	public void write(@Nonnull List<Object> parameters) {
+		requireNonNull(parameters);
+
+		if (parameters.size() != getColumnNames().size())
+			throw new IllegalArgumentException(format("Expected %d analytics native event parameters but got %d",
+					getColumnNames().size(), parameters.size()));
+
+		AnalyticsNativeEventDurabilityModeId durabilityModeId = getConfiguration().getAnalyticsNativeEventDurabilityModeId();
+
+		// Callers inside a transaction get a synchronous insert so the event commits or rolls back with their work
+		if (durabilityModeId == AnalyticsNativeEventDurabilityModeId.SYNCHRONOUS
+				|| !isStarted()
+				|| getDatabase().currentTransaction().isPresent()) {
+			insert(List.of(parameters));
+			getCounters().synchronousWrites.increment();
+			return;
+		}
+
+		PendingAnalyticsNativeEvent pendingAnalyticsNativeEvent = new PendingAnalyticsNativeEvent(parameters);
+
+		if (!getQueue().offer(pendingAnalyticsNativeEvent)) {
+			// Queue is full - fall back to a direct insert rather than dropping the event
+			getCounters().overflows.increment();
+			insert(List.of(parameters));
+			getCounters().synchronousWrites.increment();
+			return;
+		}
+
+		getCounters().enqueued.increment();
+
+		// If stop() ran between our isStarted() check and the offer, it may already have drained the queue and nobody
+		// else will write this event - drain it ourselves
+		if (!isStarted()) {
+			try {
+				flushQueue();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new RuntimeException("Interrupted while flushing analytics native events after the writer stopped", e);
+			}
+		}
+
+		if (durabilityModeId != AnalyticsNativeEventDurabilityModeId.WAIT_FOR_FLUSH)
+			return;
+
+		try {
+			pendingAnalyticsNativeEvent.getFlushed().get(getWaitForFlushTimeout().toMillis(), TimeUnit.MILLISECONDS);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException)
+				throw (RuntimeException) e.getCause();
+
+			throw new RuntimeException(e.getCause());
+		} catch (TimeoutException e) {
+			// Event is still queued and will be written; the caller just doesn't get confirmation
+			getCounters().waitForFlushTimeouts.increment();
+			getLogger().warn("Timed out after {} waiting for analytics native event to be flushed", getWaitForFlushTimeout());
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new RuntimeException("Interrupted while waiting for analytics native event to be flushed", e);
+		}
+	}
+
+	/**
+	 * @return (nonnull) a point-in-time copy of this node's ingestion counters, cumulative since startup
+	 */
+	@Nonnull
+	public Map<String, Long> snapshot() {
+		long batches = getCounters().batches.sum();
+		long flushed = getCounters().flushed.sum();
+
+		Map<String, Long> snapshot = new LinkedHashMap<>();
+		snapshot.put("queueDepth", (long) getQueue().size());
+		snapshot.put("queueCapacity", (long) getConfiguration().getAnalyticsNativeEventQueueCapacity());
+		snapshot.put("enqueued", getCounters().enqueued.sum());
+		snapshot.put("flushed", flushed);
+		snapshot.put("batches", batches);
+		snapshot.put("averageBatchSize", batches == 0 ? 0 : flushed / batches);
+		snapshot.put("failed", getCounters().failed.sum());
+		snapshot.put("overflows", getCounters().overflows.sum());
+		snapshot.put("synchronousWrites", getCounters().synchronousWrites.sum());
+		snapshot.put("waitForFlushTimeouts", getCounters().waitForFlushTimeouts.sum());
+
+		return snapshot;
+	}
+
+	/**
+	 * Inserts everything currently in the queue, without waiting for more.
+	 */
+	protected void flushQueue() throws InterruptedException {
+		while (getQueue().size() > 0)
+			flushNextBatch(0L);
+	}
+
+	/**
+	 * Waits up to {@code pollTimeoutInMilliseconds} for at least one queued event, then inserts everything available up to the batch size.
+	 */
+	protected void flushNextBatch(@Nonnull Long pollTimeoutInMilliseconds) throws InterruptedException {
+		requireNonNull(pollTimeoutInMilliseconds);
+
+		PendingAnalyticsNativeEvent firstPendingAnalyticsNativeEvent = getQueue().poll(pollTimeoutInMilliseconds, TimeUnit.MILLISECONDS);
+
+		if (firstPendingAnalyticsNativeEvent == null)
+			return;
+
+		int batchSize = Math.min(getConfiguration().getAnalyticsNativeEventBatchSize(), getMaximumBatchSize());
+		List<PendingAnalyticsNativeEvent> pendingAnalyticsNativeEvents = new ArrayList<>(batchSize);
+		pendingAnalyticsNativeEvents.add(firstPendingAnalyticsNativeEvent);
+		getQueue().drainTo(pendingAnalyticsNativeEvents, batchSize - 1);
+
+		try {
+			insert(pendingAnalyticsNativeEvents.stream()
+					.map(pendingAnalyticsNativeEvent -> pendingAnalyticsNativeEvent.getParameters())
+					.collect(Collectors.toList()));
+
+			getCounters().batches.increment();
+			getCounters().flushed.add(pendingAnalyticsNativeEvents.size());
+
+			for (PendingAnalyticsNativeEvent pendingAnalyticsNativeEvent : pendingAnalyticsNativeEvents)
+				pendingAnalyticsNativeEvent.getFlushed().complete(null);
+		} catch (Exception e) {
+			getLogger().warn(format("Unable to insert batch of %d analytics native events, retrying individually...", pendingAnalyticsNativeEvents.size()), e);
+
+			// A single bad row fails the whole statement, so isolate it
+			for (PendingAnalyticsNativeEvent pendingAnalyticsNativeEvent : pendingAnalyticsNativeEvents) {
+				try {
+					insert(List.of(pendingAnalyticsNativeEvent.getParameters()));
+					getCounters().flushed.increment();
+					pendingAnalyticsNativeEvent.getFlushed().complete(null);
+				} catch (Exception individualException) {
+					getCounters().failed.increment();
+					getLogger().error(format("Unable to insert analytics native event ID %s", pendingAnalyticsNativeEvent.getParameters().get(0)), individualException);
+					pendingAnalyticsNativeEvent.getFlushed().completeExceptionally(individualException);
+				}
+			}
+		}
+	}
+
+	protected void insert(@Nonnull List<List<Object>> parameterGroups) {
+		requireNonNull(parameterGroups);
+
+		if (parameterGroups.size() == 0)
+			return;
+
+		String sql = format("INSERT INTO analytics_native_event (%s) VALUES %s",
+				getColumnNames().stream().collect(Collectors.joining(", ")),
+				Collections.nCopies(parameterGroups.size(), getValuesPlaceholder()).stream().collect(Collectors.joining(", ")));
+
+		List<Object> parameters = new ArrayList<>(parameterGroups.size() * getColumnNames().size());
+
+		for (List<Object> parameterGroup : parameterGroups)
+			parameters.addAll(parameterGroup);
+
+		getDatabase().execute(sql, parameters.toArray(new Object[]{}));
+	}
+
+	@ThreadSafe
+	protected static class PendingAnalyticsNativeEvent {
+		@Nonnull
+		private final List<Object> parameters;
+		@Nonnull
+		private final CompletableFuture<Void> flushed;
+
+		public PendingAnalyticsNativeEvent(@Nonnull List<Object> parameters) {
+			requireNonNull(parameters);
+
+			// Parameters may contain nulls, so List.copyOf() won't work here
+			this.parameters = Collections.unmodifiableList(new ArrayList<>(parameters));
+			this.flushed = new CompletableFuture<>();
+		}
+
+		@Nonnull
+		public List<Object> getParameters() {
+			return this.parameters;
+		}
+
+		@Nonnull
+		public CompletableFuture<Void> getFlushed() {
+			return this.flushed;
+		}
+	}
+
+	@ThreadSafe
+	protected static class Counters {
+		@Nonnull
+		private final LongAdder enqueued;
+		@Nonnull
+		private final LongAdder flushed;
+		@Nonnull
+		private final LongAdder batches;
+		@Nonnull
+		private final LongAdder failed;
+		@Nonnull
+		private final LongAdder overflows;
+		@Nonnull
+		private final LongAdder synchronousWrites;
+		@Nonnull
+		private final LongAdder waitForFlushTimeouts;
+
+		public Counters() {
+			this.enqueued = new LongAdder();
+			this.flushed = new LongAdder();
+			this.batches = new LongAdder();
+			this.failed = new LongAdder();
+			this.overflows = new LongAdder();
+			this.synchronousWrites = new LongAdder();
+			this.waitForFlushTimeouts = new LongAdder();
+		}
+	}
+
+	@Nonnull
+	public Boolean isStarted() {
+		// Deliberately unsynchronized - this is checked on every write
+		return this.started;
+	}
+
+	@Nonnull
+	public List<String> getColumnNames() {
+		return COLUMN_NAMES;
+	}
+
+	@Nonnull
+	protected String getValuesPlaceholder() {
+		return VALUES_PLACEHOLDER;
+	}
+
+	@Nonnull
+	protected Integer getMaximumBatchSize() {
+		return MAXIMUM_BATCH_SIZE;
+	}
+
+	@Nonnull
+	protected Duration getWaitForFlushTimeout() {
+		return WAIT_FOR_FLUSH_TIMEOUT;
+	}
+
+	@Nonnull
+	protected Database getDatabase() {
+		return this.databaseProvider.get();
+	}
+
+	@Nonnull
+	protected Configuration getConfiguration() {
+		return this.configuration;
+	}
+
+	@Nonnull
+	protected BlockingQueue<PendingAnalyticsNativeEvent> getQueue() {
+		return this.queue;
+	}
+
+	@Nonnull
+	protected Counters getCounters() {
+		return this.counters;
+	}
+
+	@Nonnull
+	protected Object getLock() {
+		return this.lock;
+	}
+
+	@Nonnull
+	protected Optional<ExecutorService> getWriterExecutorService() {
+		return Optional.ofNullable(this.writerExecutorService);
+	}
+
+	@Nonnull
+	protected Logger getLogger() {
+		return this.logger;
+	}
+}
@@ -0,0 +1,476 @@
+/*
+ * Copyright 2021 The University of Pennsylvania and Penn Medicine
+ *
+ * Originally created at the University of Pennsylvania and Penn Medicine by:
+ * Dr. David Asch; Dr. Lisa Bellini; Dr. Cecilia Livesey; Kelley Kugler; and Dr. Matthew Press.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cobaltplatform.api.service;
+
+import com.cobaltplatform.api.Configuration;
+import com.cobaltplatform.api.model.db.Institution;
+import com.cobaltplatform.api.model.db.Institution.InstitutionId;
+import com.cobaltplatform.api.model.service.AdvisoryLock;
+import com.cobaltplatform.api.util.ExecutorServiceUtility;
+import com.cobaltplatform.api.util.db.DatabaseProvider;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.pyranid.Database;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.NotThreadSafe;
+import javax.annotation.concurrent.ThreadSafe;
+import javax.inject.Inject;
+import javax.inject.Provider;
+import javax.inject.Singleton;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Maintains per-institution, per-day analytics rollup tables ({@code analytics_daily_*}) so dashboards don't have to
+ * aggregate raw events over the whole requested date range.
+ * <p>
+ * Days are marked as needing a refresh in {@code analytics_rollup_day} when their raw data changes - by {@code AnalyticsSyncTask}
+ * as each vendor date finishes syncing, and by the {@code ANALYTICS_ROLLUP_REFRESH} cron job for recent days, whose native events
+ * and meaningful interactions arrive continuously.  This service recomputes requested days on a background thread.
+ * <p>
+ * Only active if {@link Configuration#getAnalyticsRollupEnabled()} is true, and then only for institutions whose
+ * {@code analytics_rollup_enabled} flag is set - those are also the only institutions with a refresh cron job.
+ *
+ * @author Transmogrify, LLC.
+ */
+@Singleton
+@ThreadSafe
+public class AnalyticsRollupService implements AutoCloseable {
+	@Nonnull
+	public static final String ANALYTICS_ROLLUP_REFRESH_CRON_JOB_CALLBACK_TYPE;
+
+	@Nonnull
+	private static final Integer RECENT_DAYS_TO_REFRESH;
+
+	@Nonnull
+	private final Provider<InstitutionService> institutionServiceProvider;
+	@Nonnull
+	private final DatabaseProvider databaseProvider;
+	@Nonnull
+	private final Configuration configuration;
+	@Nonnull
+	private final Object lock;
+	@Nonnull
+	private final Logger logger;
+
+	@Nullable
+	private ScheduledExecutorService backgroundTaskExecutorService;
+	@Nonnull
+	private Boolean started;
+
+	static {
+		ANALYTICS_ROLLUP_REFRESH_CRON_JOB_CALLBACK_TYPE = "ANALYTICS_ROLLUP_REFRESH";
+		// Today and yesterday - late-arriving data for "yesterday" is common right after midnight
+		RECENT_DAYS_TO_REFRESH = 2;
+	}
+
+	@Inject
+	public AnalyticsRollupService(@Nonnull Provider<InstitutionService> institutionServiceProvider,
+																@Nonnull DatabaseProvider databaseProvider,
+																@Nonnull Configuration configuration) {
+		requireNonNull(institutionServiceProvider);
+		requireNonNull(databaseProvider);
+		requireNonNull(configuration);
+
+		this.institutionServiceProvider = institutionServiceProvider;
+		this.databaseProvider = databaseProvider;
+		this.configuration = configuration;
+		this.lock = new Object();
+		this.started = false;
+		this.logger = LoggerFactory.getLogger(getClass());
+	}
+
+	@Override
+	public void close() throws Exception {
+		stop();
+	}
+
+	@Nonnull
+	public Boolean start() {
+		synchronized (getLock()) {
+			if (isStarted())
+				return false;
+
+			if (!getConfiguration().getAnalyticsRollupEnabled()) {
+				getLogger().trace("Analytics rollup is disabled, not starting.");
+				return false;
+			}
+
+			getLogger().trace("Starting analytics rollup...");
+
+			this.backgroundTaskExecutorService = Executors.newSingleThreadScheduledExecutor(new ThreadFactoryBuilder().setNameFormat("analytics-rollup").build());
+			this.started = true;
+
+			Long refreshIntervalInSeconds = getConfiguration().getAnalyticsRollupRefreshIntervalInSeconds();
+
+			getBackgroundTaskExecutorService().get().scheduleWithFixedDelay(new Runnable() {
+				@Override
+				public void run() {
+					try {
+						refreshRequestedRollups();
+					} catch (Exception e) {
+						getLogger().warn(format("Unable to refresh analytics rollups - will retry in %s seconds", refreshIntervalInSeconds), e);
+					}
+				}
+			}, refreshIntervalInSeconds, refreshIntervalInSeconds, TimeUnit.SECONDS);
+
+			getLogger().trace("Analytics rollup started.");
+
+			return true;
+		}
+	}
+
+	@Nonnull
+	public Boolean stop() {
+		synchronized (getLock()) {
+			if (!isStarted())
+				return false;
+
+			getLogger().trace("Stopping analytics rollup...");
+
+			ExecutorServiceUtility.shutdownAndAwaitTermination(getBackgroundTaskExecutorService().get());
+			this.backgroundTaskExecutorService = null;
+			this.started = false;
+
+			getLogger().trace("Analytics rollup stopped.");
+
+			return true;
+		}
+	}
+
+	/**
+	 * Can dashboard queries for the given date range be answered from rollups?
+	 * <p>
+	 * True only if rollups are enabled and every day in the range (through today) has been rolled up at least once.
+	 * Days with a pending refresh still count - their rollups lag raw data by at most a refresh interval.
+	 *
+	 * @param institutionId (nonnull) the institution whose analytics are being queried
+	 * @param startDate     (nonnull) first day of the range, inclusive
+	 * @param endDate       (nonnull) last day of the range, inclusive
+	 * @return (nonnull) true if the rollup tables cover the whole range
+	 */
+	@Nonnull
+	public Boolean isRollupAvailable(@Nonnull InstitutionId institutionId,
+																	 @Nonnull LocalDate startDate,
+																	 @Nonnull LocalDate endDate) {
+		requireNonNull(institutionId);
+		requireNonNull(startDate);
+		requireNonNull(endDate);
+
+		if (!isRollupEnabledForInstitutionId(institutionId))
+			return false;
+
+		Institution institution = getInstitutionService().findInstitutionById(institutionId).get();
+		LocalDate today = LocalDate.now(institution.getTimeZone());
+
+		// Nothing has happened in the future, so there is nothing to roll up there
+		LocalDate effectiveEndDate = endDate.isAfter(today) ? today : endDate;
+
+		if (effectiveEndDate.isBefore(startDate))
+			return true;
+
+		long expectedDayCount = ChronoUnit.DAYS.between(startDate, effectiveEndDate) + 1;
+
+		Long rolledUpDayCount = getDatabase().queryForObject("""
+				SELECT COUNT(*)
+				FROM analytics_rollup_day
+				WHERE institution_id=?
+				AND day BETWEEN ? AND ?
+				AND refreshed_at IS NOT NULL
+				""", Long.class, institutionId, startDate, effectiveEndDate).get();
+
+		return rolledUpDayCount == expectedDayCount;
+	}
+
+	@Nonnull
+	protected Boolean isRollupEnabledForInstitutionId(@Nonnull InstitutionId institutionId) {
+		requireNonNull(institutionId);
+
+		if (!getConfiguration().getAnalyticsRollupEnabled())
+			return false;
+
+		Institution institution = getInstitutionService().findInstitutionById(institutionId).get();
+		return institution.getAnalyticsRollupEnabled() != null && institution.getAnalyticsRollupEnabled();
+	}
+
+	/**
+	 * Marks days as needing their rollups recomputed.  The background task picks them up on its next run.
+	 *
+	 * @param institutionId (nonnull) the institution whose raw analytics data changed
+	 * @param days          (nonnull) the days (in the institution's time zone) whose raw data changed
+	 */
+	public void requestRollupRefresh(@Nonnull InstitutionId institutionId,
+																	 @Nonnull Collection<LocalDate> days) {
+		requireNonNull(institutionId);
+		requireNonNull(days);
+
+		if (days.size() == 0 || !isRollupEnabledForInstitutionId(institutionId))
+			return;
+
+		List<List<Object>> parameterGroups = new ArrayList<>(days.size());
+
+		for (LocalDate day : days.stream().distinct().sorted().collect(Collectors.toList())) {
+			List<Object> parameterGroup = new ArrayList<>(2);
+			parameterGroup.add(institutionId);
+			parameterGroup.add(day);
+			parameterGroups.add(parameterGroup);
+		}
+
+		getDatabase().executeBatch("""
+				INSERT INTO analytics_rollup_day (institution_id, day, refresh_requested_at)
+				VALUES (?,?,NOW())
+				ON CONFLICT (institution_id, day) DO UPDATE
+				SET refresh_requested_at=EXCLUDED.refresh_requested_at
+				""", parameterGroups);
+	}
+
+	/**
+	 * Handles the {@code ANALYTICS_ROLLUP_REFRESH} cron job: requests a refresh of the institution's most recent days,
+	 * plus any day inside the backfill window that has never been rolled up.
+	 * <p>
+	 * Only enqueues work, so it's safe to call inside the cron job's transaction.
+	 *
+	 * @param institutionId (nonnull) the institution to refresh
+	 */
+	public void requestRecentRollupRefresh(@Nonnull InstitutionId institutionId) {
+		requireNonNull(institutionId);
+
+		if (!isRollupEnabledForInstitutionId(institutionId))
+			return;
+
+		Institution institution = getInstitutionService().findInstitutionById(institutionId).get();
+		LocalDate today = LocalDate.now(institution.getTimeZone());
+		List<LocalDate> recentDays = new ArrayList<>(getRecentDaysToRefresh());
+
+		for (int i = 0; i < getRecentDaysToRefresh(); ++i)
+			recentDays.add(today.minusDays(i));
+
+		requestRollupRefresh(institutionId, recentDays);
+
+		// Backfill: existing rows are left alone
+		getDatabase().execute("""
+				INSERT INTO analytics_rollup_day (institution_id, day, refresh_requested_at)
+				SELECT ?, backfill_day::DATE, NOW()
+				FROM generate_series(?::DATE, ?::DATE, INTERVAL '1 day') AS backfill_day
+				ON CONFLICT (institution_id, day) DO NOTHING
+				""", institutionId, today.minusDays(getConfiguration().getAnalyticsRollupBackfillDays()), today);
+	}
+
+	/**
+	 * Recomputes every day with a pending refresh request, each in its own transaction.
+	 * <p>
+	 * Safe to run on multiple nodes at once - requested days are claimed with {@code SKIP LOCKED}.
+	 *
+	 * @return (nonnull) the number of days that were refreshed
+	 */
+	@Nonnull
+	public Integer refreshRequestedRollups() {
+		int totalRefreshedCount = 0;
+
+		while (true) {
+			List<AnalyticsRollupDay> analyticsRollupDays = new ArrayList<>(1);
+
+			getDatabase().transaction(() -> {
+				// Row stays locked until the refresh commits, so a concurrent refresh request for the same day waits
+				// and then re-flags it, rather than being lost
+				getDatabase().queryForObject("""
+						SELECT institution_id, day
+						FROM analytics_rollup_day
+						WHERE refresh_requested_at IS NOT NULL
+						ORDER BY refresh_requested_at
+						LIMIT 1
+						FOR UPDATE SKIP LOCKED
+						""", AnalyticsRollupDay.class).ifPresent(analyticsRollupDay -> {
+					analyticsRollupDays.add(analyticsRollupDay);
+					refreshRollup(analyticsRollupDay.getInstitutionId(), analyticsRollupDay.getDay());
+				});
+			});
+
+			if (analyticsRollupDays.size() == 0)
+				break;
+
+			++totalRefreshedCount;
+		}
+
+		if (totalRefreshedCount > 0)
+			getLogger().trace("Refreshed {} analytics rollup day[s].", totalRefreshedCount);
+
+		return totalRefreshedCount;
+	}
+
+	/**
+	 * Replaces all rollup rows for the given institution and day with fresh aggregates of raw event data.
+	 * <p>
+	 * Must be called inside a transaction.
+	 *
+	 * @param institutionId (nonnull) the institution to roll up
+	 * @param day           (nonnull) the day to roll up, in the institution's time zone
+	 */
+	public void refreshRollup(@Nonnull InstitutionId institutionId,
+														@Nonnull LocalDate day) {
+		requireNonNull(institutionId);
+		requireNonNull(day);
+
+		Institution institution = getInstitutionService().findInstitutionById(institutionId).get();
+		ZoneId timeZone = institution.getTimeZone();
+		Instant startTimestamp = day.atStartOfDay(timeZone).toInstant();
+		Instant endTimestamp = day.plusDays(1).atStartOfDay(timeZone).toInstant();
+
+		// Serialize concurrent refreshes of the same institution-day
+		getDatabase().queryForObject("SELECT pg_advisory_xact_lock(?, hashtext(CONCAT(?::TEXT, ?::TEXT)))::TEXT", String.class,
+				AdvisoryLock.ANALYTICS_ROLLUP_REFRESH.getKey(), institutionId, day);
+
+		getDatabase().execute("DELETE FROM analytics_daily_page_view WHERE institution_id=? AND day=?", institutionId, day);
+		getDatabase().execute("DELETE FROM analytics_daily_traffic_source WHERE institution_id=? AND day=?", institutionId, day);
+		getDatabase().execute("DELETE FROM analytics_daily_meaningful_interaction WHERE institution_id=? AND day=?", institutionId, day);
+		getDatabase().execute("DELETE FROM analytics_daily_native_event_account WHERE institution_id=? AND day=?", institutionId, day);
+
+		getDatabase().execute("""
+				INSERT INTO analytics_daily_page_view (institution_id, day, account_id, url, page_view_count)
+				SELECT institution_id, ?::DATE, account_id, url, COUNT(*)
+				FROM v_analytics_account_interaction
+				WHERE activity='page_view'
+				AND institution_id=?
+				AND activity_timestamp >= ?
+				AND activity_timestamp < ?
+				GROUP BY institution_id, account_id, url
+				""", day, institutionId, startTimestamp, endTimestamp);
+
+		getDatabase().execute("""
+				INSERT INTO analytics_daily_traffic_source (institution_id, day, account_id, medium, referrer)
+				SELECT DISTINCT institution_id, ?::DATE, account_id, traffic_source->>'medium', traffic_source->>'source'
+				FROM analytics_google_bigquery_event
+				WHERE account_id IS NOT NULL
+				AND institution_id=?
+				AND timestamp >= ?
+				AND timestamp < ?
+				""", day, institutionId, startTimestamp, endTimestamp);
+
+		getDatabase().execute("""
+				INSERT INTO analytics_daily_meaningful_interaction (institution_id, day, account_id)
+				SELECT DISTINCT institution_id, ?::DATE, account_id
+				FROM v_analytics_account_meaningful_interaction
+				WHERE institution_id=?
+				AND activity_timestamp >= ?
+				AND activity_timestamp < ?
+				""", day, institutionId, startTimestamp, endTimestamp);
+
+		getDatabase().execute("""
+				INSERT INTO analytics_daily_native_event_account (institution_id, day, account_id)
+				SELECT DISTINCT institution_id, ?::DATE, account_id
+				FROM analytics_native_event
+				WHERE account_id IS NOT NULL
+				AND institution_id=?
+				AND timestamp >= ?
+				AND timestamp < ?
+				""", day, institutionId, startTimestamp, endTimestamp);
+
+		getDatabase().execute("""
+				INSERT INTO analytics_rollup_day (institution_id, day, refreshed_at, refresh_requested_at)
+				VALUES (?,?,NOW(),NULL)
+				ON CONFLICT (institution_id, day) DO UPDATE
+				SET refreshed_at=EXCLUDED.refreshed_at, refresh_requested_at=NULL
+				""", institutionId, day);
+	}
+
+	@NotThreadSafe
+	protected static class AnalyticsRollupDay {
+		@Nullable
+		private InstitutionId institutionId;
+		@Nullable
+		private LocalDate day;
+
+		@Nullable
+		public InstitutionId getInstitutionId() {
+			return this.institutionId;
+		}
+
+		public void setInstitutionId(@Nullable InstitutionId institutionId) {
+			this.institutionId = institutionId;
+		}
+
+		@Nullable
+		public LocalDate getDay() {
+			return this.day;
+		}
+
+		public void setDay(@Nullable LocalDate day) {
+			this.day = day;
+		}
+	}
+
+	@Nonnull
+	public Boolean isStarted() {
+		synchronized (getLock()) {
+			return this.started;
+		}
+	}
+
+	@Nonnull
+	protected Integer getRecentDaysToRefresh() {
+		return RECENT_DAYS_TO_REFRESH;
+	}
+
+	@Nonnull
+	protected InstitutionService getInstitutionService() {
+		return this.institutionServiceProvider.get();
+	}
+
+	@Nonnull
+	protected Database getDatabase() {
+		return this.databaseProvider.get();
+	}
+
+	@Nonnull
+	protected Configuration getConfiguration() {
+		return this.configuration;
+	}
+
+	@Nonnull
+	protected Object getLock() {
+		return this.lock;
+	}
+
+	@Nonnull
+	protected Optional<ScheduledExecutorService> getBackgroundTaskExecutorService() {
+		return Optional.ofNullable(this.backgroundTaskExecutorService);
+	}
+
+	@Nonnull
+	protected Logger getLogger() {
+		return this.logger;
+	}
+}
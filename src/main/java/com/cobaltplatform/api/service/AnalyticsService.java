@@ -27,6 +27,7 @@ import com.cobaltplatform.api.integration.enterprise.EnterprisePlugin;
 import com.cobaltplatform.api.integration.enterprise.EnterprisePluginProvider;
 import com.cobaltplatform.api.integration.google.GoogleAnalyticsDataClient;
 import com.cobaltplatform.api.integration.google.GoogleBigQueryClient;
+import com.cobaltplatform.api.integration.google.GoogleBigQueryExportPage;
 import com.cobaltplatform.api.integration.google.GoogleBigQueryExportRecord;
 import com.cobaltplatform.api.integration.mixpanel.MixpanelClient;
 import com.cobaltplatform.api.integration.mixpanel.MixpanelEvent;
@@ -47,6 +48,7 @@ import com.cobaltplatform.api.model.db.UserExperienceType.UserExperienceTypeId;
 import com.cobaltplatform.api.model.service.AdvisoryLock;
 import com.cobaltplatform.api.model.service.ScreeningScore;
 import com.cobaltplatform.api.model.service.ScreeningSessionScreeningWithType;
+import com.cobaltplatform.api.util.ExecutorServiceUtility;
 import com.cobaltplatform.api.util.GsonUtility;
 import com.cobaltplatform.api.util.ValidationException;
 import com.cobaltplatform.api.util.ValidationException.FieldError;
@@ -82,6 +84,7 @@ import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
@@ -93,10 +96,14 @@ import java.util.Set;
 import java.util.SortedMap;
 import java.util.TreeMap;
 import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
-import java.util.function.BiConsumer;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -131,6 +138,8 @@ public class AnalyticsService implements AutoCloseable {
 	@Nonnull
 	private static final Long ANALYTICS_SYNC_INITIAL_DELAY_IN_SECONDS;
 	@Nonnull
+	private static final Integer GOOGLE_BIGQUERY_EVENT_INSERT_BATCH_SIZE;
+	@Nonnull
 	private static final Pattern JWT_PATTERN;
 	@Nonnull
 	private static final Gson GSON_FOR_ANALYTICS_NATIVE_DATA;
@@ -138,6 +147,7 @@ public class AnalyticsService implements AutoCloseable {
 	static {
 		ANALYTICS_SYNC_INTERVAL_IN_SECONDS = 60L * 5L;
 		ANALYTICS_SYNC_INITIAL_DELAY_IN_SECONDS = 10L;
+		GOOGLE_BIGQUERY_EVENT_INSERT_BATCH_SIZE = 1_000;
 
 		// Thanks to https://stackoverflow.com/a/65755789
 		JWT_PATTERN = Pattern.compile("(?:[\\w-]*\\.){2}[\\w-]*");
@@ -159,6 +169,10 @@ public class AnalyticsService implements AutoCloseable {
 	@Nonnull
 	private final Provider<AnalyticsSyncTask> analyticsSyncTaskProvider;
 	@Nonnull
+	private final Provider<AnalyticsRollupService> analyticsRollupServiceProvider;
+	@Nonnull
+	private final Provider<AnalyticsNativeEventWriter> analyticsNativeEventWriterProvider;
+	@Nonnull
 	private final EnterprisePluginProvider enterprisePluginProvider;
 	@Nonnull
 	private final DatabaseProvider databaseProvider;
@@ -180,6 +194,8 @@ public class AnalyticsService implements AutoCloseable {
 													@Nonnull Provider<ScreeningService> screeningServiceProvider,
 													@Nonnull Provider<TagService> tagServiceProvider,
 													@Nonnull Provider<AnalyticsSyncTask> analyticsSyncTaskProvider,
+													@Nonnull Provider<AnalyticsRollupService> analyticsRollupServiceProvider,
+													@Nonnull Provider<AnalyticsNativeEventWriter> analyticsNativeEventWriterProvider,
 													@Nonnull EnterprisePluginProvider enterprisePluginProvider,
 													@Nonnull DatabaseProvider databaseProvider,
 													@Nonnull Strings strings) {
@@ -188,6 +204,8 @@ public class AnalyticsService implements AutoCloseable {
 		requireNonNull(screeningServiceProvider);
 		requireNonNull(tagServiceProvider);
 		requireNonNull(analyticsSyncTaskProvider);
+		requireNonNull(analyticsRollupServiceProvider);
+		requireNonNull(analyticsNativeEventWriterProvider);
 		requireNonNull(enterprisePluginProvider);
 		requireNonNull(databaseProvider);
 		requireNonNull(strings);
@@ -197,6 +215,8 @@ public class AnalyticsService implements AutoCloseable {
 		this.screeningServiceProvider = screeningServiceProvider;
 		this.tagServiceProvider = tagServiceProvider;
 		this.analyticsSyncTaskProvider = analyticsSyncTaskProvider;
+		this.analyticsRollupServiceProvider = analyticsRollupServiceProvider;
+		this.analyticsNativeEventWriterProvider = analyticsNativeEventWriterProvider;
 		this.enterprisePluginProvider = enterprisePluginProvider;
 		this.databaseProvider = databaseProvider;
 		this.strings = strings;
@@ -226,9 +246,8 @@ public class AnalyticsService implements AutoCloseable {
 				@Override
 				public void run() {
 					try {
-						getSystemService().performAdvisoryLockOperationIfAvailable(AdvisoryLock.ANALYTICS_SYNC, () -> {
-							getAnalyticsSyncTaskProvider().get().run();
-						});
+						// Every node runs the sync task; nodes coordinate by claiming dates via analytics_event_date_sync
+						getAnalyticsSyncTaskProvider().get().run();
 					} catch (Exception e) {
 						getLogger().warn(format("Unable to sync analytics - will retry in %s seconds", String.valueOf(getAnalyticsSyncIntervalInSeconds())), e);
 					}
@@ -403,47 +422,8 @@ public class AnalyticsService implements AutoCloseable {
 
 		UUID analyticsNativeEventId = UUID.randomUUID();
 
-		getDatabase().execute("""
-						INSERT INTO analytics_native_event (
-							analytics_native_event_id,
-							analytics_native_event_type_id,
-							institution_id,
-							client_device_id,
-							account_id,
-							session_id,
-							referring_message_id,
-							referring_campaign,
-							timestamp,
-							timestamp_epoch_second,
-							timestamp_epoch_second_nano_offset,
-							webapp_url,
-							data,
-							app_name,
-							app_version,
-							client_device_operating_system_name,
-							client_device_operating_system_version,
-							client_device_supported_locales,
-							client_device_locale,
-							client_device_time_zone,
-							ip_address,
-							user_agent,
-							user_agent_device_family,
-							user_agent_browser_family,
-							user_agent_browser_version,
-							user_agent_operating_system_name,
-							user_agent_operating_system_version,
-							screen_color_depth,
-							screen_pixel_depth,
-							screen_width,
-							screen_height,
-							screen_orientation,
-							window_device_pixel_ratio,
-							window_width,
-							window_height,
-							navigator_max_touch_points,
-							document_visibility_state
-						) VALUES (?,?,?,?,?,?,?,?,?,?,?,?,CAST (? AS JSONB),?,?,?,?,CAST (? AS JSONB),?,?,CAST (? AS INET),?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?)
-						""",
+		// Order must match AnalyticsNativeEventWriter#getColumnNames().  Some values are null, so build with Arrays.asList()
+		getAnalyticsNativeEventWriter().write(Arrays.asList(
 				analyticsNativeEventId,
 				analyticsNativeEventTypeId,
 				institutionId,
@@ -481,7 +461,7 @@ public class AnalyticsService implements AutoCloseable {
 				windowHeight,
 				navigatorMaxTouchPoints,
 				documentVisibilityState
-		);
+		));
 
 		return analyticsNativeEventId;
 	}
@@ -860,6 +840,12 @@ public class AnalyticsService implements AutoCloseable {
 		Instant startTimestamp = LocalDateTime.of(startDate, LocalTime.MIN).atZone(institution.getTimeZone()).toInstant();
 		Instant endTimestamp = LocalDateTime.of(endDate, LocalTime.MAX).atZone(institution.getTimeZone()).toInstant();
 
+		// Prefer precomputed daily rollups if they cover the range.  Rollups are keyed by day, raw events by timestamp
+		Boolean useRollup = getAnalyticsRollupService().isRollupAvailable(institutionId, startDate, endDate);
+		Object rangeStart = useRollup ? startDate : startTimestamp;
+		Object rangeEnd = useRollup ? endDate : endTimestamp;
+		String pageViewSourceSql = pageViewSourceSql(useRollup);
+
 		List<Feature> features = getDatabase().queryForList("""
 				SELECT f.feature_id, f.navigation_header_id, COALESCE(if.name_override, f.name) AS name, url_name
 				FROM feature f, institution_feature if
@@ -893,25 +879,23 @@ public class AnalyticsService implements AutoCloseable {
 				    select
 				        *, regexp_replace(url, ?, '') as url_path
 				    from
-				        v_analytics_account_interaction
+				        ({{pageViewSource}}) pv
 				    where
-				        activity='page_view'
-				        and activity_timestamp BETWEEN ? AND ?
-				        and institution_id=?
+				        institution_id=?
 				)
-				""";
+				""".replace("{{pageViewSource}}", pageViewSourceSql);
 
 		List<Object> pageViewParameters = new ArrayList<>();
 		pageViewParameters.add(urlPathRegex);
-		pageViewParameters.add(startTimestamp);
-		pageViewParameters.add(endTimestamp);
+		pageViewParameters.add(rangeStart);
+		pageViewParameters.add(rangeEnd);
 		pageViewParameters.add(institutionId);
 
 		List<String> pageViewsSectionSqls = new ArrayList<>();
 
 		// Home
 		pageViewsSectionSqls.add("""							
-						SELECT ? AS section, COUNT(aai.*) AS count
+						SELECT ? AS section, SUM(aai.page_view_count)::BIGINT AS count
 						FROM aai
 						WHERE (url_path = '/' OR url_path LIKE '/?%')
 						GROUP BY section
@@ -922,7 +906,7 @@ public class AnalyticsService implements AutoCloseable {
 		// Features
 		for (Feature feature : features) {
 			pageViewsSectionSqls.add("""							
-							SELECT COALESCE(if.name_override, f.name) AS section, COUNT(aai.*) AS count
+							SELECT COALESCE(if.name_override, f.name) AS section, SUM(aai.page_view_count)::BIGINT AS count
 							FROM aai, feature f, institution_feature if
 							WHERE f.feature_id=?
 							AND if.feature_id=f.feature_id
@@ -939,22 +923,19 @@ public class AnalyticsService implements AutoCloseable {
 		List<SectionCount> pageViewSectionCounts = getDatabase().queryForList(pageViewSql, SectionCount.class, pageViewParameters.toArray(new Object[]{}));
 
 		// Sign In page views - needs special handling.
-		// We query for this differently because there is no signed-in user, so can't use v_analytics_account_interaction.
-		// We just want the raw sign-in page views
+		// There is no signed-in user, so we just want the raw sign-in page views (including those without an account)
 		SectionCount signInPageViewSectionCount = getDatabase().queryForObject("""
 				   WITH agbe AS (
-				     SELECT regexp_replace(event->'parameters'->'page_location'->>'value', ?, '') as url_path
-				     FROM analytics_google_bigquery_event
-				     WHERE name='page_view'
-				     AND institution_id=?
-				     AND timestamp BETWEEN ? AND ?
+				     SELECT regexp_replace(url, ?, '') as url_path, page_view_count
+				     FROM ({{pageViewSource}}) pv
+				     WHERE institution_id=?
 				   )
-				   SELECT ? AS section, COUNT(*) AS count
+				   SELECT ? AS section, SUM(page_view_count)::BIGINT AS count
 				   FROM agbe
 				   WHERE url_path = '/sign-in'
 				   OR url_path LIKE '/sign-in?%'
 				   GROUP BY section
-				""", SectionCount.class, urlPathRegex, institutionId, startTimestamp, endTimestamp, SIGN_IN_SECTION).orElse(null);
+				""".replace("{{pageViewSource}}", pageViewSourceSql), SectionCount.class, urlPathRegex, rangeStart, rangeEnd, institutionId, SIGN_IN_SECTION).orElse(null);
 
 		// No data at all?  Count is zero
 		if (signInPageViewSectionCount == null) {
@@ -971,18 +952,16 @@ public class AnalyticsService implements AutoCloseable {
 				    select
 				        *, regexp_replace(url, ?, '') as url_path
 				    from
-				        v_analytics_account_interaction
+				        ({{pageViewSource}}) pv
 				    where
-				        activity='page_view'
-				        and activity_timestamp BETWEEN ? AND ?
-				        and institution_id=?
+				        institution_id=?
 				)
-				""";
+				""".replace("{{pageViewSource}}", pageViewSourceSql);
 
 		List<Object> userParameters = new ArrayList<>();
 		userParameters.add(urlPathRegex);
-		userParameters.add(startTimestamp);
-		userParameters.add(endTimestamp);
+		userParameters.add(rangeStart);
+		userParameters.add(rangeEnd);
 		userParameters.add(institutionId);
 
 		List<String> userSectionSqls = new ArrayList<>();
@@ -1028,28 +1007,26 @@ public class AnalyticsService implements AutoCloseable {
 				    select
 				        *, regexp_replace(url, ?, '') as url_path
 				    from
-				        v_analytics_account_interaction
+				        ({{pageViewSource}}) pv
 				    where
-				        activity='page_view'
-				        and activity_timestamp BETWEEN ? AND ?
-				        and institution_id=?
+				        institution_id=?
 				        and account_id in (
 				          select account_id
-				          from v_analytics_account_meaningful_interaction
+				          from ({{meaningfulInteractionSource}}) mi
 				          where institution_id=?
-				          and activity_timestamp BETWEEN ? AND ?
 				        )
 				)
-				""";
+				""".replace("{{pageViewSource}}", pageViewSourceSql)
+				.replace("{{meaningfulInteractionSource}}", meaningfulInteractionSourceSql(useRollup));
 
 		List<Object> activeUserParameters = new ArrayList<>();
 		activeUserParameters.add(urlPathRegex);
-		activeUserParameters.add(startTimestamp);
-		activeUserParameters.add(endTimestamp);
+		activeUserParameters.add(rangeStart);
+		activeUserParameters.add(rangeEnd);
 		activeUserParameters.add(institutionId);
+		activeUserParameters.add(rangeStart);
+		activeUserParameters.add(rangeEnd);
 		activeUserParameters.add(institutionId);
-		activeUserParameters.add(startTimestamp);
-		activeUserParameters.add(endTimestamp);
 
 		List<String> activeUserSectionSqls = new ArrayList<>();
 
@@ -1139,21 +1116,25 @@ public class AnalyticsService implements AutoCloseable {
 
 		String webappBaseUrl = getInstitutionService().findWebappBaseUrlByInstitutionIdAndUserExperienceTypeId(institutionId, UserExperienceTypeId.PATIENT).get();
 
+		// Prefer precomputed daily rollups if they cover the range.  Rollups are keyed by day, raw events by timestamp
+		Boolean useRollup = getAnalyticsRollupService().isRollupAvailable(institutionId, startDate, endDate);
+		Object rangeStart = useRollup ? startDate : startTimestamp;
+		Object rangeEnd = useRollup ? endDate : endTimestamp;
+		String trafficSourceSql = trafficSourceSql(useRollup);
+
 		// e.g. "referral, organic, (direct), ..."
 		// Distinct by account since an account's events can have the same medium many times
 		List<TrafficSourceMediumCount> trafficSourceMediumCounts = getDatabase().queryForList("""
 				WITH ts AS (
-				   SELECT DISTINCT traffic_source->>'medium' AS medium, account_id
-				   FROM analytics_google_bigquery_event
-				   WHERE account_id IS NOT NULL
-				   AND timestamp BETWEEN ? AND ?
-				   AND institution_id=?
+				   SELECT DISTINCT medium, account_id
+				   FROM ({{trafficSource}}) t
+				   WHERE institution_id=?
 				)
 				SELECT COUNT(*) AS user_count, ts.medium
 				FROM ts
 				GROUP BY ts.medium
 				ORDER BY user_count DESC
-				""", TrafficSourceMediumCount.class, startTimestamp, endTimestamp, institutionId);
+				""".replace("{{trafficSource}}", trafficSourceSql), TrafficSourceMediumCount.class, rangeStart, rangeEnd, institutionId);
 
 		// Nicer names here
 		for (TrafficSourceMediumCount trafficSourceMediumCount : trafficSourceMediumCounts) {
@@ -1174,18 +1155,16 @@ public class AnalyticsService implements AutoCloseable {
 		if (useTrafficSourceReferrer) {
 			trafficSourceReferrerCounts = getDatabase().queryForList("""
 					WITH ts AS (
-					   SELECT DISTINCT traffic_source->>'source' AS referrer, account_id, institution_id
-					   FROM analytics_google_bigquery_event
-					   WHERE account_id IS NOT NULL
-					   AND timestamp BETWEEN ? AND ?
-					   AND institution_id=?
+					   SELECT DISTINCT referrer, account_id, institution_id
+					   FROM ({{trafficSource}}) t
+					   WHERE institution_id=?
 					)
 					SELECT COUNT(*) AS user_count, ts.referrer
 					FROM ts
 					WHERE ts.referrer != '(direct)'
 					GROUP BY ts.referrer
 					ORDER BY user_count DESC
-					""", TrafficSourceReferrerCount.class, startTimestamp, endTimestamp, institutionId);
+					""".replace("{{trafficSource}}", trafficSourceSql), TrafficSourceReferrerCount.class, rangeStart, rangeEnd, institutionId);
 		} else {
 			// Distinct by account since an account's events can have the same referrer many times
 			trafficSourceReferrerCounts = getDatabase().queryForList("""
@@ -1223,6 +1202,74 @@ public class AnalyticsService implements AutoCloseable {
 		return trafficSourceSummary;
 	}
 
+	/**
+	 * Subquery of page views with columns {@code (institution_id, account_id, url, page_view_count)}.
+	 * Takes two parameters, the start and end of the range: dates if reading from rollups, otherwise timestamps.
+	 */
+	@Nonnull
+	protected String pageViewSourceSql(@Nonnull Boolean useRollup) {
+		requireNonNull(useRollup);
+
+		if (useRollup)
+			return """
+					SELECT institution_id, account_id, url, page_view_count
+					FROM analytics_daily_page_view
+					WHERE day BETWEEN ? AND ?
+					""";
+
+		return """
+				SELECT institution_id, account_id, url, 1 AS page_view_count
+				FROM v_analytics_account_interaction
+				WHERE activity='page_view'
+				AND activity_timestamp BETWEEN ? AND ?
+				""";
+	}
+
+	/**
+	 * Subquery of accounts with meaningful interactions, with columns {@code (institution_id, account_id)}.
+	 * Takes the same range parameters as {@link #pageViewSourceSql(Boolean)}.
+	 */
+	@Nonnull
+	protected String meaningfulInteractionSourceSql(@Nonnull Boolean useRollup) {
+		requireNonNull(useRollup);
+
+		if (useRollup)
+			return """
+					SELECT institution_id, account_id
+					FROM analytics_daily_meaningful_interaction
+					WHERE day BETWEEN ? AND ?
+					""";
+
+		return """
+				SELECT institution_id, account_id
+				FROM v_analytics_account_meaningful_interaction
+				WHERE activity_timestamp BETWEEN ? AND ?
+				""";
+	}
+
+	/**
+	 * Subquery of signed-in traffic sources, with columns {@code (institution_id, account_id, medium, referrer)}.
+	 * Takes the same range parameters as {@link #pageViewSourceSql(Boolean)}.
+	 */
+	@Nonnull
+	protected String trafficSourceSql(@Nonnull Boolean useRollup) {
+		requireNonNull(useRollup);
+
+		if (useRollup)
+			return """
+					SELECT institution_id, account_id, medium, referrer
+					FROM analytics_daily_traffic_source
+					WHERE day BETWEEN ? AND ?
+					""";
+
+		return """
+				SELECT institution_id, account_id, traffic_source->>'medium' AS medium, traffic_source->>'source' AS referrer
+				FROM analytics_google_bigquery_event
+				WHERE account_id IS NOT NULL
+				AND timestamp BETWEEN ? AND ?
+				""";
+	}
+
 	@Nonnull
 	public Map<UUID, ScreeningSessionCompletion> findClinicalScreeningSessionCompletionsByScreeningFlowId(@Nonnull InstitutionId institutionId,
 																																																				@Nonnull LocalDate startDate,
@@ -1672,20 +1719,24 @@ public class AnalyticsService implements AutoCloseable {
 		String webappBaseUrl = getInstitutionService().findWebappBaseUrlByInstitutionIdAndUserExperienceTypeId(institutionId, UserExperienceTypeId.PATIENT).get();
 		String urlPathRegex = format("^%s", webappBaseUrl);
 
+		// Prefer precomputed daily rollups if they cover the range.  Rollups are keyed by day, raw events by timestamp
+		Boolean useRollup = getAnalyticsRollupService().isRollupAvailable(institutionId, startDate, endDate);
+		Object rangeStart = useRollup ? startDate : startTimestamp;
+		Object rangeEnd = useRollup ? endDate : endTimestamp;
+		String pageViewSourceSql = pageViewSourceSql(useRollup);
+
 		// Tag group page views
 		// Chops off query parameters, so /resource-library/tag-groups/symptoms?test=123 is counted as /resource-library/tag-groups/symptoms.
 		// Also determines tags based on URL name suffix.
 		List<TagGroupPageView> directTagGroupPageViews = getDatabase().queryForList("""
 				WITH tag_group_page_normalized_view AS (
 				  WITH tag_group_page_view AS (
-				      SELECT regexp_replace(url, ?, '') AS raw_url_path
-				      FROM v_analytics_account_interaction
-				      WHERE activity = 'page_view'
-				      AND activity_timestamp BETWEEN ? AND ?
-				      AND institution_id=?
+				      SELECT regexp_replace(url, ?, '') AS raw_url_path, page_view_count
+				      FROM ({{pageViewSource}}) pv
+				      WHERE institution_id=?
 				      AND regexp_replace(url, ?, '') LIKE '/resource-library/tag-groups/%'
 				  )
-				  SELECT COUNT(*) AS page_view_count,
+				  SELECT SUM(page_view_count)::BIGINT AS page_view_count,
 				    CASE
 				      WHEN STRPOS(tgpv.raw_url_path, ?) > 0 THEN SUBSTR(tgpv.raw_url_path, 0, STRPOS(tgpv.raw_url_path, ?))
 				      ELSE tgpv.raw_url_path
@@ -1697,7 +1748,7 @@ public class AnalyticsService implements AutoCloseable {
 				FROM tag_group_page_normalized_view tgpnv, tag_group tg
 				WHERE tg.url_name = REVERSE(SUBSTR(REVERSE(tgpnv.url_path), 0, STRPOS(REVERSE(tgpnv.url_path), '/')))
 				ORDER BY tgpnv.page_view_count DESC
-				""", TagGroupPageView.class, urlPathRegex, startTimestamp, endTimestamp, institutionId, urlPathRegex, "?", "?");
+				""".replace("{{pageViewSource}}", pageViewSourceSql), TagGroupPageView.class, urlPathRegex, rangeStart, rangeEnd, institutionId, urlPathRegex, "?", "?");
 
 		// Tag page views
 		// Chops off query parameters, so /resource-library/tags/anxiety?test=123 is counted as /resource-library/tags/anxiety.
@@ -1705,14 +1756,12 @@ public class AnalyticsService implements AutoCloseable {
 		List<TagPageView> directTagPageViews = getDatabase().queryForList("""
 				WITH tag_page_normalized_view AS (
 				  WITH tag_page_view AS (
-				      SELECT regexp_replace(url, ?, '') AS raw_url_path
-				      FROM v_analytics_account_interaction
-				      WHERE activity = 'page_view'
-				      AND activity_timestamp BETWEEN ? AND ?
-				      AND institution_id=?
+				      SELECT regexp_replace(url, ?, '') AS raw_url_path, page_view_count
+				      FROM ({{pageViewSource}}) pv
+				      WHERE institution_id=?
 				      AND regexp_replace(url, ?, '') LIKE '/resource-library/tags/%'
 				  )
-				  SELECT COUNT(*) AS page_view_count,
+				  SELECT SUM(page_view_count)::BIGINT AS page_view_count,
 				    CASE
 				      WHEN STRPOS(tpv.raw_url_path, ?) > 0 THEN SUBSTR(tpv.raw_url_path, 0, STRPOS(tpv.raw_url_path, ?))
 				      ELSE tpv.raw_url_path
@@ -1724,7 +1773,7 @@ public class AnalyticsService implements AutoCloseable {
 				FROM tag_page_normalized_view tpnv, tag t
 				WHERE t.url_name = REVERSE(SUBSTR(REVERSE(tpnv.url_path), 0, STRPOS(REVERSE(tpnv.url_path), '/')))
 				ORDER BY tpnv.page_view_count DESC
-				""", TagPageView.class, urlPathRegex, startTimestamp, endTimestamp, institutionId, urlPathRegex, "?", "?");
+				""".replace("{{pageViewSource}}", pageViewSourceSql), TagPageView.class, urlPathRegex, rangeStart, rangeEnd, institutionId, urlPathRegex, "?", "?");
 
 		// Index by tag ID for easy access
 		Map<String, TagPageView> directTagPageViewsByTagId = directTagPageViews.stream()
@@ -1761,14 +1810,12 @@ public class AnalyticsService implements AutoCloseable {
 				WITH page_views_by_tag AS (
 				    WITH content_page_normalized_view AS (
 				        WITH content_page_view AS (
-				            SELECT regexp_replace(url, ?, '') AS raw_url_path
-				            FROM v_analytics_account_interaction
-				            WHERE activity = 'page_view'
-				            AND activity_timestamp BETWEEN ? AND ?
-				            AND institution_id=?
+				            SELECT regexp_replace(url, ?, '') AS raw_url_path, page_view_count
+				            FROM ({{pageViewSource}}) pv
+				            WHERE institution_id=?
 				            AND regexp_replace(url, ?, '') ~ '^/resource-library/[0-9a-f]{8}-[0-9a-f]{4}-[4][0-9a-f]{3}-[89ab][0-9a-f]{3}-[0-9a-f]{12}'
 				        )
-				        SELECT COUNT(*) AS page_view_count,
+				        SELECT SUM(page_view_count)::BIGINT AS page_view_count,
 				        CASE
 				            WHEN STRPOS(cpv.raw_url_path, ?) > 0 THEN SUBSTR(cpv.raw_url_path, 0, STRPOS(cpv.raw_url_path, ?))
 				            ELSE cpv.raw_url_path
@@ -1787,7 +1834,7 @@ public class AnalyticsService implements AutoCloseable {
 				FROM page_views_by_tag pvbt, tag t
 				WHERE pvbt.tag_id=t.tag_id
 				GROUP BY pvbt.tag_id, t.name, t.tag_group_id, t.url_name
-				""", TagPageView.class, urlPathRegex, startTimestamp, endTimestamp, institutionId, urlPathRegex, "?", "?", institutionId);
+				""".replace("{{pageViewSource}}", pageViewSourceSql), TagPageView.class, urlPathRegex, rangeStart, rangeEnd, institutionId, urlPathRegex, "?", "?", institutionId);
 
 		// Overlay the query results onto the zeroed-out initial list
 		for (TagPageView activeContentTagPageView : activeContentTagPageViews) {
@@ -1804,14 +1851,12 @@ public class AnalyticsService implements AutoCloseable {
 		List<ContentPageView> contentPageViews = getDatabase().queryForList("""
 				WITH content_page_normalized_view AS (
 				  WITH content_page_view AS (
-				      SELECT regexp_replace(url, ?, '') AS raw_url_path
-				      FROM v_analytics_account_interaction
-				      WHERE activity = 'page_view'
-				      AND activity_timestamp BETWEEN ? AND ?
-				      AND institution_id=?
+				      SELECT regexp_replace(url, ?, '') AS raw_url_path, page_view_count
+				      FROM ({{pageViewSource}}) pv
+				      WHERE institution_id=?
 				      AND regexp_replace(url, ?, '') ~ '^/resource-library/[0-9a-f]{8}-[0-9a-f]{4}-[4][0-9a-f]{3}-[89ab][0-9a-f]{3}-[0-9a-f]{12}'
 				  )
-				  SELECT COUNT(*) AS page_view_count,
+				  SELECT SUM(page_view_count)::BIGINT AS page_view_count,
 				    CASE
 				      WHEN STRPOS(cpv.raw_url_path, ?) > 0 THEN SUBSTR(cpv.raw_url_path, 0, STRPOS(cpv.raw_url_path, ?))
 				      ELSE cpv.raw_url_path
@@ -1824,7 +1869,7 @@ public class AnalyticsService implements AutoCloseable {
 				WHERE c.content_id = (REVERSE(SUBSTR(REVERSE(cpnv.url_path), 0, STRPOS(REVERSE(cpnv.url_path), '/'))))::UUID
 				ORDER BY cpnv.page_view_count DESC, c.title
 				LIMIT 25
-				""", ContentPageView.class, urlPathRegex, startTimestamp, endTimestamp, institutionId, urlPathRegex, "?", "?");
+				""".replace("{{pageViewSource}}", pageViewSourceSql), ContentPageView.class, urlPathRegex, rangeStart, rangeEnd, institutionId, urlPathRegex, "?", "?");
 
 		Set<UUID> contentIds = contentPageViews.stream().map(cpv -> cpv.getContentId()).collect(Collectors.toSet());
 
@@ -3165,6 +3210,22 @@ public class AnalyticsService implements AutoCloseable {
 		}
 	}
 
+	public void deleteGoogleBigQueryEvents(@Nonnull InstitutionId institutionId,
+																				 @Nonnull LocalDate date) {
+		requireNonNull(institutionId);
+		requireNonNull(date);
+
+		getDatabase().execute("""
+				DELETE FROM analytics_google_bigquery_event
+				WHERE institution_id=?
+				AND date=?
+				""", institutionId, date);
+	}
+
+	/**
+	 * Appends events for the institution/date.  Callers are responsible for clearing out previously-synced events first
+	 * via {@link #deleteGoogleBigQueryEvents(InstitutionId, LocalDate)}.
+	 */
 	public void persistGoogleBigQueryEvents(@Nonnull InstitutionId institutionId,
 																					@Nonnull LocalDate date,
 																					@Nonnull List<GoogleBigQueryExportRecord> exportRecords) {
@@ -3174,14 +3235,21 @@ public class AnalyticsService implements AutoCloseable {
 
 		getLogger().info("Persisting {} Google BigQuery events for {} on {}...", exportRecords.size(), institutionId.name(), date);
 
-		// First, clear out anything that's already stored off for this institution/date
-		getDatabase().execute("""
-				DELETE FROM analytics_google_bigquery_event
-				WHERE institution_id=?
-				AND date=?
-				""", institutionId, date);
+		// Insert in fixed-size chunks so parameter lists stay small no matter how large a page BigQuery hands us
+		for (int i = 0; i < exportRecords.size(); i += getGoogleBigQueryEventInsertBatchSize())
+			persistGoogleBigQueryEventsBatch(institutionId, date,
+					exportRecords.subList(i, Math.min(i + getGoogleBigQueryEventInsertBatchSize(), exportRecords.size())));
+
+		getLogger().info("Successfully persisted {} Google BigQuery events for {} on {}.", exportRecords.size(), institutionId.name(), date);
+	}
+
+	protected void persistGoogleBigQueryEventsBatch(@Nonnull InstitutionId institutionId,
+																									@Nonnull LocalDate date,
+																									@Nonnull List<GoogleBigQueryExportRecord> exportRecords) {
+		requireNonNull(institutionId);
+		requireNonNull(exportRecords);
+		requireNonNull(date);
 
-		// Then, prepare for batch insert of events for the institution/date
 		List<List<Object>> parameterGroups = new ArrayList<>(exportRecords.size());
 
 		for (GoogleBigQueryExportRecord exportRecord : exportRecords) {
@@ -3230,8 +3298,6 @@ public class AnalyticsService implements AutoCloseable {
 				    device
 				) VALUES (?,?,?,?,?,?,?,?,CAST(? AS JSONB),CAST(? AS JSONB),CAST(? AS JSONB),CAST(? AS JSONB),CAST(? AS JSONB),CAST(? AS JSONB))
 				""", parameterGroups);
-
-		getLogger().info("Successfully persisted {} Google BigQuery events for {} on {}.", exportRecords.size(), institutionId.name(), date);
 	}
 
 	public void persistMixpanelEvents(@Nonnull InstitutionId institutionId,
@@ -3302,6 +3368,8 @@ public class AnalyticsService implements AutoCloseable {
 		@Nonnull
 		private final Provider<AnalyticsService> analyticsServiceProvider;
 		@Nonnull
+		private final Provider<AnalyticsRollupService> analyticsRollupServiceProvider;
+		@Nonnull
 		private final Provider<InstitutionService> institutionServiceProvider;
 		@Nonnull
 		private final Provider<SystemService> systemServiceProvider;
@@ -3320,6 +3388,7 @@ public class AnalyticsService implements AutoCloseable {
 
 		@Inject
 		public AnalyticsSyncTask(@Nonnull Provider<AnalyticsService> analyticsServiceProvider,
+														 @Nonnull Provider<AnalyticsRollupService> analyticsRollupServiceProvider,
 														 @Nonnull Provider<InstitutionService> institutionServiceProvider,
 														 @Nonnull Provider<SystemService> systemServiceProvider,
 														 @Nonnull EnterprisePluginProvider enterprisePluginProvider,
@@ -3328,6 +3397,7 @@ public class AnalyticsService implements AutoCloseable {
 														 @Nonnull DatabaseProvider databaseProvider,
 														 @Nonnull Configuration configuration) {
 			requireNonNull(analyticsServiceProvider);
+			requireNonNull(analyticsRollupServiceProvider);
 			requireNonNull(institutionServiceProvider);
 			requireNonNull(systemServiceProvider);
 			requireNonNull(enterprisePluginProvider);
@@ -3337,6 +3407,7 @@ public class AnalyticsService implements AutoCloseable {
 			requireNonNull(configuration);
 
 			this.analyticsServiceProvider = analyticsServiceProvider;
+			this.analyticsRollupServiceProvider = analyticsRollupServiceProvider;
 			this.institutionServiceProvider = institutionServiceProvider;
 			this.systemServiceProvider = systemServiceProvider;
 			this.enterprisePluginProvider = enterprisePluginProvider;
@@ -3349,221 +3420,445 @@ public class AnalyticsService implements AutoCloseable {
 
 		@Override
 		public void run() {
-			List<Institution> institutions = getDatabase().queryForList("""
-					     SELECT *
-					     FROM institution
-					     WHERE google_bigquery_sync_enabled=TRUE OR mixpanel_sync_enabled=TRUE
-					     ORDER BY institution_id
-					""", Institution.class);
+			// Dates that fail during this run are left for the next run rather than retried in a tight loop
+			Instant runStartedAt = Instant.now();
+
+			// One pool per vendor, sized to the vendor's concurrency limit (API rate limits, query costs).
+			// The limit itself is enforced cluster-wide when dates are claimed
+			ExecutorService googleBigQueryExecutorService = Executors.newFixedThreadPool(getConfiguration().getAnalyticsSyncGoogleBigQueryConcurrency(),
+					new ThreadFactoryBuilder().setNameFormat("analytics-sync-google-bigquery-%d").build());
+			ExecutorService mixpanelExecutorService = Executors.newFixedThreadPool(getConfiguration().getAnalyticsSyncMixpanelConcurrency(),
+					new ThreadFactoryBuilder().setNameFormat("analytics-sync-mixpanel-%d").build());
+
+			try {
+				// Each round claims as many dates as each vendor's cluster-wide limit allows, then waits for them to finish.
+				// Claiming in small rounds rather than all at once lets other nodes share a large backlog
+				for (int round = 0; !Thread.currentThread().isInterrupted(); ++round) {
+					List<Institution> institutions = new ArrayList<>(getDatabase().queryForList("""
+							     SELECT *
+							     FROM institution
+							     WHERE google_bigquery_sync_enabled=TRUE OR mixpanel_sync_enabled=TRUE
+							     ORDER BY institution_id
+							""", Institution.class));
+
+					// Vendor limits are shared by all institutions, so rotate who claims first to keep one backlog from starving the rest
+					Collections.rotate(institutions, -round);
+
+					List<Future<?>> futures = new ArrayList<>();
+
+					for (Institution institution : institutions) {
+						if (institution.getMixpanelSyncEnabled())
+							futures.addAll(submitDateSyncs(institution, AnalyticsVendorId.MIXPANEL, institution.getMixpanelSyncStartsAt(),
+									getConfiguration().getAnalyticsSyncMixpanelConcurrency(), runStartedAt, mixpanelExecutorService, (date) -> {
+										performMixpanelSyncForDate(institution, date);
+									}));
 
-			for (Institution institution : institutions) {
-				getLogger().trace("Analytics sync starting for {}...", institution.getInstitutionId().name());
+						if (institution.getGoogleBigQuerySyncEnabled())
+							futures.addAll(submitDateSyncs(institution, AnalyticsVendorId.GOOGLE_BIGQUERY, institution.getGoogleBigQuerySyncStartsAt(),
+									getConfiguration().getAnalyticsSyncGoogleBigQueryConcurrency(), runStartedAt, googleBigQueryExecutorService, (date) -> {
+										performGoogleBigQuerySyncForDate(institution, date);
+									}));
+					}
 
-				CurrentContext currentContext = new CurrentContext.Builder(institution.getInstitutionId(),
-						getConfiguration().getDefaultLocale(), getConfiguration().getDefaultTimeZone()).build();
+					if (futures.size() == 0)
+						break;
 
-				try {
-					getCurrentContextExecutor().execute(currentContext, () -> {
-						EnterprisePlugin enterprisePlugin = getEnterprisePluginProvider().enterprisePluginForInstitutionId(institution.getInstitutionId());
+					for (Future<?> future : futures) {
+						try {
+							future.get();
+						} catch (ExecutionException e) {
+							// Date syncs handle their own failures, so this is unexpected
+							getLogger().error("Analytics date sync failed unexpectedly", e.getCause());
+						}
+					}
+				}
+			} catch (InterruptedException e) {
+				getLogger().info("Analytics sync interrupted, stopping...");
+				Thread.currentThread().interrupt();
+			} finally {
+				ExecutorServiceUtility.shutdownAndAwaitTermination(googleBigQueryExecutorService);
+				ExecutorServiceUtility.shutdownAndAwaitTermination(mixpanelExecutorService);
+			}
+		}
 
-						if (institution.getMixpanelSyncEnabled())
-							performMixpanelSync(institution, enterprisePlugin.mixpanelClient());
+		/**
+		 * Claims up to {@code maximumDateCount} dates for the institution and vendor and submits a sync for each one.
+		 */
+		@Nonnull
+		protected List<Future<?>> submitDateSyncs(@Nonnull Institution institution,
+																							@Nonnull AnalyticsVendorId analyticsVendorId,
+																							@Nonnull LocalDate minimumDate,
+																							@Nonnull Integer maximumDateCount,
+																							@Nonnull Instant runStartedAt,
+																							@Nonnull ExecutorService executorService,
+																							@Nonnull Consumer<LocalDate> dateSyncFunction) {
+			requireNonNull(institution);
+			requireNonNull(analyticsVendorId);
+			requireNonNull(minimumDate);
+			requireNonNull(maximumDateCount);
+			requireNonNull(runStartedAt);
+			requireNonNull(executorService);
+			requireNonNull(dateSyncFunction);
+
+			List<LocalDate> datesToSync;
+
+			try {
+				datesToSync = claimDatesToSync(institution, analyticsVendorId, minimumDate, maximumDateCount, runStartedAt);
+			} catch (Exception e) {
+				getLogger().error(format("Unable to determine %s dates to sync for %s", analyticsVendorId, institution.getInstitutionId()), e);
+				getErrorReporter().report(e);
+				return List.of();
+			}
 
-						if (institution.getGoogleBigQuerySyncEnabled())
-							performGoogleBigQuerySync(institution, enterprisePlugin.googleBigQueryClient());
+			CurrentContext currentContext = new CurrentContext.Builder(institution.getInstitutionId(),
+					getConfiguration().getDefaultLocale(), getConfiguration().getDefaultTimeZone()).build();
+
+			List<Future<?>> futures = new ArrayList<>(datesToSync.size());
+
+			for (LocalDate dateToSync : datesToSync) {
+				futures.add(executorService.submit(() -> {
+					getCurrentContextExecutor().execute(currentContext, () -> {
+						performDateSync(institution, analyticsVendorId, dateToSync, dateSyncFunction);
 					});
-				} finally {
-					getLogger().trace("Analytics sync complete for {}.", institution.getInstitutionId().name());
-				}
+				}));
 			}
+
+			return futures;
 		}
 
-		protected void performMixpanelSync(@Nonnull Institution institution,
-																			 @Nonnull MixpanelClient mixpanelClient) {
+		protected void performDateSync(@Nonnull Institution institution,
+																	 @Nonnull AnalyticsVendorId analyticsVendorId,
+																	 @Nonnull LocalDate date,
+																	 @Nonnull Consumer<LocalDate> dateSyncFunction) {
+			requireNonNull(institution);
+			requireNonNull(analyticsVendorId);
+			requireNonNull(date);
+			requireNonNull(dateSyncFunction);
+
+			getLogger().info("Performing {} analytics sync for {} at {}...", analyticsVendorId.name(), date, institution.getInstitutionId().name());
+
+			try {
+				// The date may have waited in the queue behind other dates, so restart the "stuck sync" clock now that work is actually starting
+				getDatabase().execute("""
+						UPDATE analytics_event_date_sync
+						SET sync_started_at=NOW()
+						WHERE date=?
+						AND analytics_vendor_id=?
+						AND institution_id=?
+						""", date, analyticsVendorId, institution.getInstitutionId());
+
+				dateSyncFunction.accept(date);
+			} catch (Exception e) {
+				getLogger().error(format("Failed to sync %s events for %s on %s", analyticsVendorId,
+						institution.getInstitutionId(), date), e);
+
+				getErrorReporter().report(e);
+				markDateSyncFailed(institution, analyticsVendorId, date);
+			}
+		}
+
+		protected void performMixpanelSyncForDate(@Nonnull Institution institution,
+																							@Nonnull LocalDate date) {
+			requireNonNull(institution);
+			requireNonNull(date);
+
 			// Note rate limits per https://docs.mixpanel.com/docs/other-bits/rate-limits
 			// Raw Export API (endpoint: data.mixpanel.com/api/2.0/export):
 			// * A maximum of 100 concurrent queries, 60 queries per hour, and 3 queries per second.
-			performAnalyticsSync(institution, AnalyticsVendorId.MIXPANEL, institution.getMixpanelSyncStartsAt(), (date) -> {
-				// Pull events for date
-				return mixpanelClient.findEventsForDateRange(date, date);
-			}, (date, mixpanelEvents) -> {
-				// Persist events for date
+			MixpanelClient mixpanelClient = getEnterprisePluginProvider().enterprisePluginForInstitutionId(institution.getInstitutionId()).mixpanelClient();
+
+			// Pull events for date
+			List<MixpanelEvent> mixpanelEvents = mixpanelClient.findEventsForDateRange(date, date);
+
+			getLogger().info("Found {} {} events for {} at {}.", mixpanelEvents.size(), AnalyticsVendorId.MIXPANEL.name(), date, institution.getInstitutionId().name());
+
+			// Persist events for date
+			getDatabase().transaction(() -> {
 				getAnalyticsService().persistMixpanelEvents(institution.getInstitutionId(), date, mixpanelEvents);
+				markDateSynced(institution, AnalyticsVendorId.MIXPANEL, date);
+			});
+		}
+
+		/**
+		 * Unlike other vendors, BigQuery days can be hundreds of thousands of events, so rather than fetching the whole day
+		 * into memory and persisting it in one transaction, stream it page by page and checkpoint after each page.
+		 */
+		protected void performGoogleBigQuerySyncForDate(@Nonnull Institution institution,
+																										@Nonnull LocalDate date) {
+			requireNonNull(institution);
+			requireNonNull(date);
+
+			GoogleBigQueryClient googleBigQueryClient = getEnterprisePluginProvider().enterprisePluginForInstitutionId(institution.getInstitutionId()).googleBigQueryClient();
+
+			persistGoogleBigQueryEventsForDate(institution, googleBigQueryClient, date);
+
+			getDatabase().transaction(() -> {
+				markDateSynced(institution, AnalyticsVendorId.GOOGLE_BIGQUERY, date);
+			});
+		}
+
+		protected void persistGoogleBigQueryEventsForDate(@Nonnull Institution institution,
+																											@Nonnull GoogleBigQueryClient googleBigQueryClient,
+																											@Nonnull LocalDate date) {
+			requireNonNull(institution);
+			requireNonNull(googleBigQueryClient);
+			requireNonNull(date);
+
+			AnalyticsEventDateSync analyticsEventDateSync = getDatabase().queryForObject("""
+					SELECT *
+					FROM analytics_event_date_sync
+					WHERE institution_id=?
+					AND analytics_vendor_id=?
+					AND date=?
+					""", AnalyticsEventDateSync.class, institution.getInstitutionId(), AnalyticsVendorId.GOOGLE_BIGQUERY, date).get();
+
+			Duration timeout = Duration.ofSeconds(30);
+
+			if (analyticsEventDateSync.getCheckpointJobId() != null) {
+				// A previous attempt persisted its final page but failed before the date was marked as synced
+				if (analyticsEventDateSync.getCheckpointPageToken() == null) {
+					getLogger().info("All {} {} events for {} at {} were already persisted by a previous attempt.", analyticsEventDateSync.getCheckpointEventCount(),
+							AnalyticsVendorId.GOOGLE_BIGQUERY.name(), date, institution.getInstitutionId().name());
+					return;
+				}
+
+				getLogger().info("Resuming {} analytics sync for {} at {} after {} events...", AnalyticsVendorId.GOOGLE_BIGQUERY.name(), date,
+						institution.getInstitutionId().name(), analyticsEventDateSync.getCheckpointEventCount());
+
+				AtomicBoolean pagePersisted = new AtomicBoolean(false);
+
+				try {
+					googleBigQueryClient.resumeRestApiQueryForExport(analyticsEventDateSync.getCheckpointJobId(),
+							analyticsEventDateSync.getCheckpointJobLocation(), analyticsEventDateSync.getCheckpointPageToken(), timeout, (page) -> {
+								persistGoogleBigQueryExportPage(institution, date, page, false);
+								pagePersisted.set(true);
+							});
+
+					return;
+				} catch (Exception e) {
+					// If we got partway through, the checkpoint moved forward; fail so the next attempt resumes from there
+					if (pagePersisted.get())
+						throw e;
+
+					// Otherwise the job's results are most likely gone (BigQuery only keeps them for about a day), so start over
+					getLogger().warn(format("Unable to resume %s analytics sync for %s at %s from checkpoint, starting over...",
+							AnalyticsVendorId.GOOGLE_BIGQUERY.name(), date, institution.getInstitutionId().name()), e);
+				}
+			}
+
+			AtomicBoolean firstPage = new AtomicBoolean(true);
+
+			googleBigQueryClient.streamRestApiQueryForExport(format("""
+							SELECT *
+							FROM `{{datasetId}}.events_*`
+							WHERE _TABLE_SUFFIX BETWEEN '%s' AND '%s'
+							""",
+					googleBigQueryClient.dateAsTableSuffix(date),
+					googleBigQueryClient.dateAsTableSuffix(date)), timeout, (page) -> {
+				persistGoogleBigQueryExportPage(institution, date, page, firstPage.getAndSet(false));
 			});
 		}
 
-		protected void performGoogleBigQuerySync(@Nonnull Institution institution,
-																						 @Nonnull GoogleBigQueryClient googleBigQueryClient) {
-			performAnalyticsSync(institution, AnalyticsVendorId.GOOGLE_BIGQUERY, institution.getGoogleBigQuerySyncStartsAt(), (date) -> {
-				// Pull events for date
-				List<GoogleBigQueryExportRecord> exportRecords = googleBigQueryClient.performRestApiQueryForExport(format("""
-								SELECT *
-								FROM `{{datasetId}}.events_*`
-								WHERE _TABLE_SUFFIX BETWEEN '%s' AND '%s'
-								""",
-						googleBigQueryClient.dateAsTableSuffix(date),
-						googleBigQueryClient.dateAsTableSuffix(date)), Duration.ofSeconds(30));
-
-				return exportRecords;
-			}, (date, exportRecords) -> {
-				// Persist events for date
-				getAnalyticsService().persistGoogleBigQueryEvents(institution.getInstitutionId(), date, exportRecords);
+		/**
+		 * Persists a page of events and moves the date's checkpoint past it in the same transaction, so a page is never persisted twice.
+		 */
+		protected void persistGoogleBigQueryExportPage(@Nonnull Institution institution,
+																									 @Nonnull LocalDate date,
+																									 @Nonnull GoogleBigQueryExportPage page,
+																									 @Nonnull Boolean firstPage) {
+			requireNonNull(institution);
+			requireNonNull(date);
+			requireNonNull(page);
+			requireNonNull(firstPage);
+
+			getDatabase().transaction(() -> {
+				// Starting from scratch - clear out anything that's already stored off for this institution/date
+				if (firstPage)
+					getAnalyticsService().deleteGoogleBigQueryEvents(institution.getInstitutionId(), date);
+
+				getAnalyticsService().persistGoogleBigQueryEvents(institution.getInstitutionId(), date, page.getExportRecords());
+
+				getDatabase().execute("""
+						UPDATE analytics_event_date_sync
+						SET checkpoint_job_id=?, checkpoint_job_location=?, checkpoint_page_token=?,
+						checkpoint_event_count=(CASE WHEN ? THEN 0 ELSE checkpoint_event_count END) + ?, checkpointed_at=NOW()
+						WHERE date=?
+						AND analytics_vendor_id=?
+						AND institution_id=?
+						""", page.getJobId(), page.getJobLocation().orElse(null), page.getNextPageToken().orElse(null),
+						firstPage, page.getExportRecords().size(), date, AnalyticsVendorId.GOOGLE_BIGQUERY, institution.getInstitutionId());
 			});
 		}
 
-		protected <T> void performAnalyticsSync(@Nonnull Institution institution,
-																						@Nonnull AnalyticsVendorId analyticsVendorId,
-																						@Nonnull LocalDate minimumDate,
-																						@Nonnull Function<LocalDate, List<T>> analyticsEventsFetchFunction,
-																						@Nonnull BiConsumer<LocalDate, List<T>> analyticsEventsPersistFunction) {
+		/**
+		 * Determines which dates still need syncing (earliest first, at most {@code maximumDateCount} of them)
+		 * and marks them as "busy syncing" so other threads and nodes skip them.
+		 * <p>
+		 * The vendor's concurrency limit is enforced cluster-wide here: dates already "busy syncing" for the vendor on any node
+		 * (for any institution) count against it, so fewer (possibly zero) dates are claimed when the vendor is saturated.
+		 * <p>
+		 * Dates whose sync failed at or after {@code retryFailedSyncsEndedBefore} are not claimed.
+		 */
+		@Nonnull
+		protected List<LocalDate> claimDatesToSync(@Nonnull Institution institution,
+																							 @Nonnull AnalyticsVendorId analyticsVendorId,
+																							 @Nonnull LocalDate minimumDate,
+																							 @Nonnull Integer maximumDateCount,
+																							 @Nonnull Instant retryFailedSyncsEndedBefore) {
 			requireNonNull(institution);
 			requireNonNull(analyticsVendorId);
 			requireNonNull(minimumDate);
-			requireNonNull(analyticsEventsFetchFunction);
-			requireNonNull(analyticsEventsPersistFunction);
+			requireNonNull(maximumDateCount);
+			requireNonNull(retryFailedSyncsEndedBefore);
 
 			List<LocalDate> datesToSync = new ArrayList<>();
 
-			// Initial "fast" transaction to pull a set of all syncable dates, guarded by advisory lock.
+			// Initial "fast" transaction to pull a set of syncable dates.
+			// Claims from every node and thread are serialized by this transaction-scoped advisory lock
 			getDatabase().transaction(() -> {
-				getSystemService().performAdvisoryLockOperationIfAvailable(AdvisoryLock.ANALYTICS_SYNC, () -> {
-					// If "busy syncing" and sync started over an hour ago, assume there was a problem, and transition to "failed"
-					// so sync can be retried
-					getDatabase().execute("""
-							UPDATE analytics_event_date_sync
-							SET analytics_sync_status_id=?, sync_ended_at=NOW()
-							WHERE (NOW() - sync_started_at) > INTERVAL '60 minutes'
-							AND analytics_sync_status_id=?
-							""", AnalyticsSyncStatusId.SYNC_FAILED, AnalyticsSyncStatusId.BUSY_SYNCING);
-
-					// Find dates that we know are either already synced or in-progress, so we can skip over them
-					Set<LocalDate> skippableDates = getDatabase().queryForList("""
-											SELECT *
-											FROM analytics_event_date_sync
-											WHERE institution_id=?
-											AND analytics_sync_status_id IN (?,?)
-											AND analytics_vendor_id=?
-											""", AnalyticsEventDateSync.class, institution.getInstitutionId(), AnalyticsSyncStatusId.BUSY_SYNCING, AnalyticsSyncStatusId.SYNCED,
-									analyticsVendorId).stream()
-							.map(analyticsEventDateSync -> analyticsEventDateSync.getDate())
-							.collect(Collectors.toSet());
-
-					// Furthest we can sync to is whatever date it was 36 hours ago in the institution's timezone.
-					// This is because we don't have accurate up-to-the-minute data from our data warehouses
-					LocalDate maximumDate = LocalDate.ofInstant(Instant.now().minus(36, ChronoUnit.HOURS), institution.getTimeZone());
-
-					if (minimumDate.isAfter(maximumDate))
-						throw new IllegalStateException(format("Configured minimum date %s is after maximum date %s", minimumDate, maximumDate));
-
-					LocalDate potentialDateToSync = minimumDate;
-
-					while (!potentialDateToSync.isAfter(maximumDate)) {
-						if (!skippableDates.contains(potentialDateToSync))
-							datesToSync.add(potentialDateToSync);
-
-						potentialDateToSync = potentialDateToSync.plusDays(1);
-					}
+				getDatabase().queryForObject("SELECT pg_advisory_xact_lock(?)::TEXT", String.class, AdvisoryLock.ANALYTICS_SYNC.getKey());
+
+				// If "busy syncing" and sync hasn't made progress in over an hour, assume there was a problem, and transition to "failed"
+				// so sync can be retried
+				getDatabase().execute("""
+						UPDATE analytics_event_date_sync
+						SET analytics_sync_status_id=?, sync_ended_at=NOW()
+						WHERE (NOW() - GREATEST(sync_started_at, checkpointed_at)) > INTERVAL '60 minutes'
+						AND analytics_sync_status_id=?
+						""", AnalyticsSyncStatusId.SYNC_FAILED, AnalyticsSyncStatusId.BUSY_SYNCING);
+
+				// Everything in flight for this vendor, across all institutions and nodes, counts against the vendor's limit
+				Long busySyncingCount = getDatabase().queryForObject("""
+						SELECT COUNT(*)
+						FROM analytics_event_date_sync
+						WHERE analytics_vendor_id=?
+						AND analytics_sync_status_id=?
+						""", Long.class, analyticsVendorId, AnalyticsSyncStatusId.BUSY_SYNCING).get();
+
+				long claimableDateCount = Math.min(maximumDateCount, concurrencyFor(analyticsVendorId) - busySyncingCount);
+
+				if (claimableDateCount <= 0)
+					return;
+
+				// Find dates that we know are either already synced, in-progress, or just failed, so we can skip over them
+				Set<LocalDate> skippableDates = getDatabase().queryForList("""
+										SELECT *
+										FROM analytics_event_date_sync
+										WHERE institution_id=?
+										AND analytics_vendor_id=?
+										AND (analytics_sync_status_id IN (?,?) OR (analytics_sync_status_id=? AND sync_ended_at >= ?))
+										""", AnalyticsEventDateSync.class, institution.getInstitutionId(), analyticsVendorId,
+								AnalyticsSyncStatusId.BUSY_SYNCING, AnalyticsSyncStatusId.SYNCED, AnalyticsSyncStatusId.SYNC_FAILED, retryFailedSyncsEndedBefore).stream()
+						.map(analyticsEventDateSync -> analyticsEventDateSync.getDate())
+						.collect(Collectors.toSet());
 
-					// Mark all dates as "busy syncing"
-					if (datesToSync.size() > 0) {
-						getLogger().info("Need to sync {} {} dates: {}", datesToSync.size(), analyticsVendorId.name(), datesToSync);
+				// Furthest we can sync to is whatever date it was 36 hours ago in the institution's timezone.
+				// This is because we don't have accurate up-to-the-minute data from our data warehouses
+				LocalDate maximumDate = LocalDate.ofInstant(Instant.now().minus(36, ChronoUnit.HOURS), institution.getTimeZone());
 
-						List<List<Object>> parameterGroups = new ArrayList<>(datesToSync.size());
-						Instant syncStartedAt = Instant.now();
+				if (minimumDate.isAfter(maximumDate))
+					throw new IllegalStateException(format("Configured minimum date %s is after maximum date %s", minimumDate, maximumDate));
 
-						for (LocalDate dateToSync : datesToSync) {
-							List<Object> parameterGroup = new ArrayList<>();
-							parameterGroup.add(institution.getInstitutionId());
-							parameterGroup.add(analyticsVendorId);
-							parameterGroup.add(AnalyticsSyncStatusId.BUSY_SYNCING);
-							parameterGroup.add(dateToSync);
-							parameterGroup.add(syncStartedAt);
-							parameterGroup.add(null); // sync_ended_at
+				LocalDate potentialDateToSync = minimumDate;
 
-							parameterGroups.add(parameterGroup);
-						}
+				while (!potentialDateToSync.isAfter(maximumDate) && datesToSync.size() < claimableDateCount) {
+					if (!skippableDates.contains(potentialDateToSync))
+						datesToSync.add(potentialDateToSync);
+
+					potentialDateToSync = potentialDateToSync.plusDays(1);
+				}
+
+				// Mark all dates as "busy syncing"
+				if (datesToSync.size() > 0) {
+					getLogger().info("Need to sync {} {} dates: {}", datesToSync.size(), analyticsVendorId.name(), datesToSync);
+
+					List<List<Object>> parameterGroups = new ArrayList<>(datesToSync.size());
+					Instant syncStartedAt = Instant.now();
 
-						// Batch upsert to keep track of syncing.
-						// Upsert is for scenarios like retrying a date that was in AnalyticsSyncStatusId.SYNC_FAILED state
-						getDatabase().executeBatch("""
-								INSERT INTO analytics_event_date_sync (
-								  institution_id,
-								  analytics_vendor_id,
-								  analytics_sync_status_id,
-								  date,
-								  sync_started_at,
-								  sync_ended_at
-								) VALUES (?,?,?,?,?,?)
-								ON CONFLICT ON CONSTRAINT analytics_event_date_sync_pk DO UPDATE
-								  SET analytics_sync_status_id = EXCLUDED.analytics_sync_status_id,
-								  sync_started_at = EXCLUDED.sync_started_at,
-								  sync_ended_at = EXCLUDED.sync_ended_at
-								""", parameterGroups);
+					for (LocalDate dateToSync : datesToSync) {
+						List<Object> parameterGroup = new ArrayList<>();
+						parameterGroup.add(institution.getInstitutionId());
+						parameterGroup.add(analyticsVendorId);
+						parameterGroup.add(AnalyticsSyncStatusId.BUSY_SYNCING);
+						parameterGroup.add(dateToSync);
+						parameterGroup.add(syncStartedAt);
+						parameterGroup.add(null); // sync_ended_at
+
+						parameterGroups.add(parameterGroup);
 					}
-				});
+
+					// Batch upsert to keep track of syncing.
+					// Upsert is for scenarios like retrying a date that was in AnalyticsSyncStatusId.SYNC_FAILED state
+					getDatabase().executeBatch("""
+							INSERT INTO analytics_event_date_sync (
+							  institution_id,
+							  analytics_vendor_id,
+							  analytics_sync_status_id,
+							  date,
+							  sync_started_at,
+							  sync_ended_at
+							) VALUES (?,?,?,?,?,?)
+							ON CONFLICT ON CONSTRAINT analytics_event_date_sync_pk DO UPDATE
+							  SET analytics_sync_status_id = EXCLUDED.analytics_sync_status_id,
+							  sync_started_at = EXCLUDED.sync_started_at,
+							  sync_ended_at = EXCLUDED.sync_ended_at
+							""", parameterGroups);
+				}
 			});
 
-			if (datesToSync.size() > 0) {
-				for (LocalDate dateToSync : datesToSync) {
-					getLogger().info("Performing {} analytics sync for {} at {}...", analyticsVendorId.name(), dateToSync, institution.getInstitutionId().name());
+			return datesToSync;
+		}
 
-					List<T> analyticsEvents = new ArrayList<>();
+		@Nonnull
+		protected Integer concurrencyFor(@Nonnull AnalyticsVendorId analyticsVendorId) {
+			requireNonNull(analyticsVendorId);
 
-					try {
-						analyticsEvents.addAll(analyticsEventsFetchFunction.apply(dateToSync));
-					} catch (Exception e) {
-						getLogger().error(format("Failed to fetch %s events for %s on %s", analyticsVendorId,
-								institution.getInstitutionId(), dateToSync), e);
-
-						getErrorReporter().report(e);
-
-						// Mark the sync as failed in a separate transaction
-						getDatabase().transaction(() -> {
-							getDatabase().execute("""
-									UPDATE analytics_event_date_sync
-									SET sync_ended_at=NOW(), analytics_sync_status_id=?
-									WHERE date=?
-									AND analytics_vendor_id=?
-									AND institution_id=?
-									""", AnalyticsSyncStatusId.SYNC_FAILED, dateToSync, analyticsVendorId, institution.getInstitutionId());
-						});
-
-						continue;
-					}
+			if (analyticsVendorId == AnalyticsVendorId.MIXPANEL)
+				return getConfiguration().getAnalyticsSyncMixpanelConcurrency();
+			if (analyticsVendorId == AnalyticsVendorId.GOOGLE_BIGQUERY)
+				return getConfiguration().getAnalyticsSyncGoogleBigQueryConcurrency();
 
-					getLogger().info("Found {} {} events for {} at {}.", analyticsEvents.size(), analyticsVendorId.name(), dateToSync, institution.getInstitutionId().name());
+			throw new IllegalStateException(format("Not sure what to do with %s.%s", AnalyticsVendorId.class.getSimpleName(), analyticsVendorId.name()));
+		}
 
-					getDatabase().transaction(() -> {
-						try {
-							analyticsEventsPersistFunction.accept(dateToSync, analyticsEvents);
-
-							getDatabase().execute("""
-									UPDATE analytics_event_date_sync
-									SET sync_ended_at=NOW(), analytics_sync_status_id=?
-									WHERE date=?
-									AND analytics_vendor_id=?
-									AND institution_id=?
-									""", AnalyticsSyncStatusId.SYNCED, dateToSync, analyticsVendorId, institution.getInstitutionId());
-						} catch (Exception e) {
-							getLogger().error(format("Failed to persist %s events for %s on %s", analyticsVendorId,
-									institution.getInstitutionId(), dateToSync), e);
-
-							getErrorReporter().report(e);
-
-							// Mark the sync as failed in a separate transaction
-							getDatabase().transaction(() -> {
-								getDatabase().execute("""
-										UPDATE analytics_event_date_sync
-										SET sync_ended_at=NOW(), analytics_sync_status_id=?
-										WHERE date=?
-										AND analytics_vendor_id=?
-										AND institution_id=?
-										""", AnalyticsSyncStatusId.SYNC_FAILED, dateToSync, analyticsVendorId, institution.getInstitutionId());
-							});
-						}
-					});
-				}
-			}
+		protected void markDateSynced(@Nonnull Institution institution,
+																	@Nonnull AnalyticsVendorId analyticsVendorId,
+																	@Nonnull LocalDate date) {
+			requireNonNull(institution);
+			requireNonNull(analyticsVendorId);
+			requireNonNull(date);
+
+			getDatabase().execute("""
+					UPDATE analytics_event_date_sync
+					SET sync_ended_at=NOW(), analytics_sync_status_id=?, checkpoint_job_id=NULL, checkpoint_job_location=NULL, checkpoint_page_token=NULL
+					WHERE date=?
+					AND analytics_vendor_id=?
+					AND institution_id=?
+					""", AnalyticsSyncStatusId.SYNCED, date, analyticsVendorId, institution.getInstitutionId());
+
+			// Vendor dates don't necessarily line up with the institution's time zone, so events can land on adjacent days too
+			getAnalyticsRollupService().requestRollupRefresh(institution.getInstitutionId(),
+					List.of(date.minusDays(1), date, date.plusDays(1)));
+		}
+
+		protected void markDateSyncFailed(@Nonnull Institution institution,
+																			@Nonnull AnalyticsVendorId analyticsVendorId,
+																			@Nonnull LocalDate date) {
+			requireNonNull(institution);
+			requireNonNull(analyticsVendorId);
+			requireNonNull(date);
+
+			// Mark the sync as failed in a separate transaction.
+			// Checkpoint columns are left as-is so the next attempt can resume
+			getDatabase().transaction(() -> {
+				getDatabase().execute("""
+						UPDATE analytics_event_date_sync
+						SET sync_ended_at=NOW(), analytics_sync_status_id=?
+						WHERE date=?
+						AND analytics_vendor_id=?
+						AND institution_id=?
+						""", AnalyticsSyncStatusId.SYNC_FAILED, date, analyticsVendorId, institution.getInstitutionId());
+			});
 		}
 
 		@Nonnull
@@ -3571,6 +3866,11 @@ public class AnalyticsService implements AutoCloseable {
 			return this.analyticsServiceProvider.get();
 		}
 
+		@Nonnull
+		protected AnalyticsRollupService getAnalyticsRollupService() {
+			return this.analyticsRollupServiceProvider.get();
+		}
+
 		@Nonnull
 		protected InstitutionService getInstitutionService() {
 			return this.institutionServiceProvider.get();
@@ -3622,6 +3922,11 @@ public class AnalyticsService implements AutoCloseable {
 		return ANALYTICS_SYNC_INTERVAL_IN_SECONDS;
 	}
 
+	@Nonnull
+	protected Integer getGoogleBigQueryEventInsertBatchSize() {
+		return GOOGLE_BIGQUERY_EVENT_INSERT_BATCH_SIZE;
+	}
+
 	@Nonnull
 	protected Pattern getJwtPattern() {
 		return JWT_PATTERN;
@@ -3657,6 +3962,16 @@ public class AnalyticsService implements AutoCloseable {
 		return this.analyticsSyncTaskProvider;
 	}
 
+	@Nonnull
+	protected AnalyticsRollupService getAnalyticsRollupService() {
+		return this.analyticsRollupServiceProvider.get();
+	}
+
+	@Nonnull
+	protected AnalyticsNativeEventWriter getAnalyticsNativeEventWriter() {
+		return this.analyticsNativeEventWriterProvider.get();
+	}
+
 	@Nonnull
 	protected EnterprisePluginProvider getEnterprisePluginProvider() {
 		return this.enterprisePluginProvider;
@@ -89,6 +89,8 @@ public class AnalyticsXrayService {
 	@Nonnull
 	private final Provider<CourseService> courseServiceProvider;
 	@Nonnull
+	private final Provider<AnalyticsRollupService> analyticsRollupServiceProvider;
+	@Nonnull
 	private final DatabaseProvider databaseProvider;
 	@Nonnull
 	private final Strings strings;
@@ -100,11 +102,13 @@ public class AnalyticsXrayService {
 	@Inject
 	public AnalyticsXrayService(@Nonnull Provider<InstitutionService> institutionServiceProvider,
 															@Nonnull Provider<CourseService> courseServiceProvider,
+															@Nonnull Provider<AnalyticsRollupService> analyticsRollupServiceProvider,
 															@Nonnull DatabaseProvider databaseProvider,
 															@Nonnull Strings strings,
 															@Nonnull Formatter formatter) {
 		requireNonNull(institutionServiceProvider);
 		requireNonNull(courseServiceProvider);
+		requireNonNull(analyticsRollupServiceProvider);
 		requireNonNull(databaseProvider);
 		requireNonNull(strings);
 		requireNonNull(formatter);
@@ -113,6 +117,7 @@ public class AnalyticsXrayService {
 
 		this.institutionServiceProvider = institutionServiceProvider;
 		this.courseServiceProvider = courseServiceProvider;
+		this.analyticsRollupServiceProvider = analyticsRollupServiceProvider;
 		this.databaseProvider = databaseProvider;
 		this.strings = strings;
 		this.formatter = formatter;
@@ -174,6 +179,36 @@ public class AnalyticsXrayService {
 		ZoneId timeZone = institution.getTimeZone();
 		Boolean behaviorBridgeProvider = analyticsXrayFilter.getBehaviorBridgeProvider();
 
+		// Prefer precomputed per-day distinct accounts if they cover the range
+		String dailySql = getAnalyticsRollupService().isRollupAvailable(institutionId, startDate, endDate) ? """
+				SELECT
+				    r.day,
+				    COUNT(*) AS distinct_accounts
+				FROM account a, analytics_daily_native_event_account r
+				CROSS JOIN bounds b
+				WHERE r.day BETWEEN b.start_date AND b.end_date
+				AND r.institution_id=?
+				AND r.account_id=a.account_id
+				AND a.role_id=?
+				AND a.test_account=FALSE
+				AND (?::BOOLEAN IS NULL OR a.metadata #> '{behaviorBridge,isProvider}' = to_jsonb(?::BOOLEAN))
+				GROUP BY 1
+				""" : """
+				SELECT
+				    (timezone(b.tz, ane."timestamp"))::date AS day,
+				    COUNT(DISTINCT ane.account_id) AS distinct_accounts
+				FROM account a, analytics_native_event ane
+				CROSS JOIN bounds b
+				WHERE ane."timestamp" >= b.start_utc
+				AND ane."timestamp" <  b.end_utc
+				AND ane.institution_id=?
+				AND ane.account_id=a.account_id
+				AND a.role_id=?
+				AND a.test_account=FALSE
+				AND (?::BOOLEAN IS NULL OR a.metadata #> '{behaviorBridge,isProvider}' = to_jsonb(?::BOOLEAN))
+				GROUP BY 1
+				""";
+
 		List<AccountVisitsRow> rows = getReadReplicaDatabase().queryForList("""
 				WITH params AS (
 				  SELECT
@@ -189,19 +224,7 @@ public class AnalyticsXrayService {
 				  FROM params
 				),
 				daily AS (
-				  SELECT
-				      (timezone(b.tz, ane."timestamp"))::date AS day,
-				      COUNT(DISTINCT ane.account_id) AS distinct_accounts
-				  FROM account a, analytics_native_event ane
-				  CROSS JOIN bounds b
-				  WHERE ane."timestamp" >= b.start_utc
-				  AND ane."timestamp" <  b.end_utc
-				  AND ane.institution_id=?
-				  AND ane.account_id=a.account_id
-				  AND a.role_id=?
-				  AND a.test_account=FALSE
-				  AND (?::BOOLEAN IS NULL OR a.metadata #> '{behaviorBridge,isProvider}' = to_jsonb(?::BOOLEAN))
-				  GROUP BY 1
+				  {{daily}}
 				)
 				SELECT d.day, COALESCE(dd.distinct_accounts, 0) AS distinct_accounts
 				FROM (
@@ -210,7 +233,7 @@ public class AnalyticsXrayService {
 				) d
 				LEFT JOIN daily dd USING (day)
 				ORDER BY d.day
-				""", AccountVisitsRow.class, startDate, endDate, timeZone, institutionId, RoleId.PATIENT,
+				""".replace("{{daily}}", dailySql), AccountVisitsRow.class, startDate, endDate, timeZone, institutionId, RoleId.PATIENT,
 				behaviorBridgeProvider, behaviorBridgeProvider);
 
 		List<InstitutionColorValue> chartColorValues = findChartColorValuesByInstitutionId(institutionId);
@@ -2498,6 +2521,11 @@ public class AnalyticsXrayService {
 		return this.courseServiceProvider.get();
 	}
 
+	@Nonnull
+	protected AnalyticsRollupService getAnalyticsRollupService() {
+		return this.analyticsRollupServiceProvider.get();
+	}
+
 	@Nonnull
 	protected Database getReadReplicaDatabase() {
 		return this.databaseProvider.getReadReplicaDatabase();
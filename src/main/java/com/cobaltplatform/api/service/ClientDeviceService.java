@@ -38,6 +38,7 @@ import com.cobaltplatform.api.model.db.ClientDeviceType.ClientDeviceTypeId;
 import com.cobaltplatform.api.util.ValidationException;
 import com.cobaltplatform.api.util.ValidationException.FieldError;
 import com.cobaltplatform.api.util.db.DatabaseProvider;
+import com.google.common.collect.Lists;
 import com.lokalized.Strings;
 import com.pyranid.Database;
 import com.pyranid.DatabaseException;
@@ -52,12 +53,19 @@ import javax.inject.Inject;
 import javax.inject.Provider;
 import javax.inject.Singleton;
 import java.sql.Savepoint;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
+import static com.cobaltplatform.api.util.DatabaseUtility.sqlVaragsParameters;
+import static java.lang.String.format;
 import static java.util.Objects.requireNonNull;
 import static org.apache.commons.lang3.StringUtils.trimToNull;
 
@@ -67,6 +75,9 @@ import static org.apache.commons.lang3.StringUtils.trimToNull;
 @Singleton
 @ThreadSafe
 public class ClientDeviceService {
+	@Nonnull
+	private static final Integer MULTI_ROW_UPSERT_BATCH_SIZE;
+
 	@Nonnull
 	private final Provider<MessageService> messageServiceProvider;
 	@Nonnull
@@ -80,6 +91,10 @@ public class ClientDeviceService {
 	@Nonnull
 	private final Logger logger;
 
+	static {
+		MULTI_ROW_UPSERT_BATCH_SIZE = 500;
+	}
+
 	@Inject
 	public ClientDeviceService(@Nonnull Provider<MessageService> messageServiceProvider,
 														 @Nonnull Provider<AccountService> accountServiceProvider,
@@ -297,6 +312,96 @@ public class ClientDeviceService {
 		});
 	}
 
+	/**
+	 * Upserts many client devices (and their account associations) at once using multi-row statements.
+	 * <p>
+	 * Requests are deduplicated by fingerprint - the last request for a given fingerprint wins.
+	 * Requests missing a client device type or fingerprint are ignored.
+	 * <p>
+	 * Runs in its own transaction, unless the caller already has one open.
+	 */
+	public void upsertClientDevices(@Nonnull List<UpsertClientDeviceRequest> requests) {
+		requireNonNull(requests);
+
+		Map<UUID, UpsertClientDeviceRequest> requestsByFingerprint = new LinkedHashMap<>(requests.size());
+		Set<List<UUID>> accountIdFingerprintPairs = new LinkedHashSet<>();
+
+		for (UpsertClientDeviceRequest request : requests) {
+			if (request.getClientDeviceTypeId() == null || request.getFingerprint() == null)
+				continue;
+
+			requestsByFingerprint.put(request.getFingerprint(), request);
+
+			if (request.getAccountId() != null)
+				accountIdFingerprintPairs.add(List.of(request.getAccountId(), request.getFingerprint()));
+		}
+
+		if (requestsByFingerprint.size() == 0)
+			return;
+
+		Runnable upsertOperation = () -> {
+			for (List<UpsertClientDeviceRequest> batch : Lists.partition(new ArrayList<>(requestsByFingerprint.values()), getMultiRowUpsertBatchSize())) {
+				List<Object> parameters = new ArrayList<>(batch.size() * 6);
+
+				for (UpsertClientDeviceRequest request : batch) {
+					parameters.add(request.getClientDeviceTypeId());
+					parameters.add(request.getFingerprint());
+					parameters.add(trimToNull(request.getModel()));
+					parameters.add(trimToNull(request.getBrand()));
+					parameters.add(trimToNull(request.getOperatingSystemName()));
+					parameters.add(trimToNull(request.getOperatingSystemVersion()));
+				}
+
+				// Only touch rows whose OS details actually changed, so repeat sightings of a device don't rewrite it
+				getDatabase().execute(format("""
+						INSERT INTO client_device (
+						  client_device_type_id,
+						  fingerprint,
+						  model,
+						  brand,
+						  operating_system_name,
+						  operating_system_version
+						)
+						VALUES %s
+						ON CONFLICT ON CONSTRAINT client_device_unique_idx
+						DO UPDATE SET
+						  operating_system_name=EXCLUDED.operating_system_name,
+						  operating_system_version=EXCLUDED.operating_system_version
+						WHERE client_device.operating_system_name IS DISTINCT FROM EXCLUDED.operating_system_name
+						OR client_device.operating_system_version IS DISTINCT FROM EXCLUDED.operating_system_version
+						""", batch.stream().map(request -> "(?,CAST(? AS UUID),?,?,?,?)").collect(Collectors.joining(","))), sqlVaragsParameters(parameters));
+			}
+
+			for (List<List<UUID>> batch : Lists.partition(new ArrayList<>(accountIdFingerprintPairs), getMultiRowUpsertBatchSize())) {
+				List<Object> parameters = new ArrayList<>(batch.size() * 2);
+
+				for (List<UUID> accountIdFingerprintPair : batch) {
+					parameters.add(accountIdFingerprintPair.get(0));
+					parameters.add(accountIdFingerprintPair.get(1));
+				}
+
+				getDatabase().execute(format("""
+						INSERT INTO account_client_device (
+						  client_device_id,
+						  account_id
+						)
+						SELECT cd.client_device_id, v.account_id
+						FROM (VALUES %s) AS v (account_id, fingerprint), client_device cd
+						WHERE cd.fingerprint=v.fingerprint
+						ON CONFLICT ON CONSTRAINT account_client_device_unique_idx
+						DO NOTHING
+						""", batch.stream().map(accountIdFingerprintPair -> "(CAST(? AS UUID),CAST(? AS UUID))").collect(Collectors.joining(","))), sqlVaragsParameters(parameters));
+			}
+		};
+
+		if (getDatabase().currentTransaction().isPresent())
+			upsertOperation.run();
+		else
+			getDatabase().transaction(() -> {
+				upsertOperation.run();
+			});
+	}
+
 	protected void upsertAccountClientDevice(@Nonnull UUID accountId,
 																					 @Nonnull UUID clientDeviceId) {
 		requireNonNull(accountId);
@@ -519,6 +624,11 @@ public class ClientDeviceService {
 		return this.enterprisePluginProvider;
 	}
 
+	@Nonnull
+	protected Integer getMultiRowUpsertBatchSize() {
+		return MULTI_ROW_UPSERT_BATCH_SIZE;
+	}
+
 	@Nonnull
 	protected Database getDatabase() {
 		return this.databaseProvider.get();
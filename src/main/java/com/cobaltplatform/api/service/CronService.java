@@ -29,6 +29,7 @@ import com.cobaltplatform.api.model.db.CronJob;
 import com.cobaltplatform.api.model.db.CronJobRunStatus.CronJobRunStatusId;
 import com.cobaltplatform.api.model.db.FootprintEventGroupType.FootprintEventGroupTypeId;
 import com.cobaltplatform.api.model.db.Institution.InstitutionId;
+import com.cobaltplatform.api.util.ExecutorServiceUtility;
 import com.cobaltplatform.api.util.Formatter;
 import com.cobaltplatform.api.util.db.DatabaseProvider;
 import com.cronutils.model.Cron;
@@ -50,11 +51,19 @@ import javax.inject.Provider;
 import javax.inject.Singleton;
 import java.time.Instant;
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import static java.lang.String.format;
 import static java.util.Objects.requireNonNull;
@@ -85,9 +94,17 @@ public class CronService implements AutoCloseable {
 	@Nonnull
 	private final Object backgroundTaskLock;
 	@Nonnull
+	private final ConcurrentMap<UUID, CronJob> runningCronJobsByLeaseId;
+	@Nonnull
+	private final AtomicBoolean backgroundTaskStopping;
+	@Nonnull
 	private Boolean backgroundTaskStarted;
 	@Nullable
 	private ScheduledExecutorService backgroundTaskExecutorService;
+	@Nullable
+	private ExecutorService workerExecutorService;
+	@Nullable
+	private Semaphore workerPermits;
 
 	static {
 		BACKGROUND_TASK_INITIAL_DELAY_IN_SECONDS = 10L;
@@ -112,6 +129,8 @@ public class CronService implements AutoCloseable {
 		this.configuration = configuration;
 		this.strings = strings;
 		this.backgroundTaskLock = new Object();
+		this.runningCronJobsByLeaseId = new ConcurrentHashMap<>();
+		this.backgroundTaskStopping = new AtomicBoolean(false);
 		this.backgroundTaskStarted = false;
 		this.logger = LoggerFactory.getLogger(getClass());
 	}
@@ -129,7 +148,15 @@ public class CronService implements AutoCloseable {
 
 			getLogger().trace("Starting cron background task...");
 
-			this.backgroundTaskExecutorService = Executors.newScheduledThreadPool(1, new ThreadFactoryBuilder().setNameFormat("cron-task").build());
+			// One thread claims due jobs, the other keeps the leases of running jobs alive
+			this.backgroundTaskExecutorService = Executors.newScheduledThreadPool(2, new ThreadFactoryBuilder().setNameFormat("cron-task-%d").build());
+
+			// The background task only claims due jobs; claimed jobs are executed on this pool.
+			// Permits track idle workers so we never claim (and start the lease clock on) more jobs than we can run right away
+			this.workerExecutorService = Executors.newFixedThreadPool(getConfiguration().getCronJobWorkerConcurrency(),
+					new ThreadFactoryBuilder().setNameFormat("cron-worker-%d").build());
+			this.workerPermits = new Semaphore(getConfiguration().getCronJobWorkerConcurrency());
+			this.backgroundTaskStopping.set(false);
 			this.backgroundTaskStarted = true;
 
 			getBackgroundTaskExecutorService().get().scheduleWithFixedDelay(new Runnable() {
@@ -143,6 +170,20 @@ public class CronService implements AutoCloseable {
 				}
 			}, getBackgroundTaskInitialDelayInSeconds(), BACKGROUND_TASK_INTERVAL_IN_SECONDS, TimeUnit.SECONDS);
 
+			// Renew well before expiry so a long-running job never has its lease recovered out from under it
+			long leaseRenewalIntervalInSeconds = Math.max(getConfiguration().getCronJobLeaseDurationInSeconds() / 3, 1L);
+
+			getBackgroundTaskExecutorService().get().scheduleWithFixedDelay(new Runnable() {
+				@Override
+				public void run() {
+					try {
+						getBackgroundTaskProvider().get().renewRunningCronJobLeases();
+					} catch (Exception e) {
+						getLogger().warn(format("Unable to renew running cron job leases - will retry in %s seconds", leaseRenewalIntervalInSeconds), e);
+					}
+				}
+			}, leaseRenewalIntervalInSeconds, leaseRenewalIntervalInSeconds, TimeUnit.SECONDS);
+
 			getLogger().trace("Cron background task started.");
 
 			return true;
@@ -159,6 +200,24 @@ public class CronService implements AutoCloseable {
 
 			getBackgroundTaskExecutorService().get().shutdownNow();
 			this.backgroundTaskExecutorService = null;
+
+			// Jobs interrupted by shutdown hand their leases back instead of recording a failure (see BackgroundTask#execute)
+			this.backgroundTaskStopping.set(true);
+			ExecutorServiceUtility.shutdownAndAwaitTermination(getWorkerExecutorService().get());
+			this.workerExecutorService = null;
+
+			// Anything still registered ignored the interrupt - release its lease now rather than leaving it RUNNING until expiry
+			for (CronJob cronJob : getRunningCronJobsByLeaseId().values()) {
+				try {
+					getBackgroundTaskProvider().get().releaseCronJobLease(cronJob);
+				} catch (Exception e) {
+					getLogger().warn(format("Unable to release lease for cron job ID %s (%s for %s), leaving it to lease recovery",
+							cronJob.getCronJobId(), cronJob.getCallbackType(), cronJob.getInstitutionId()), e);
+				}
+			}
+
+			getRunningCronJobsByLeaseId().clear();
+			this.workerPermits = null;
 			this.backgroundTaskStarted = false;
 
 			getLogger().trace("Cron background task stopped.");
@@ -169,9 +228,13 @@ public class CronService implements AutoCloseable {
 
 	@ThreadSafe
 	protected static class BackgroundTask implements Runnable {
+		@Nonnull
+		private final Provider<CronService> cronServiceProvider;
 		@Nonnull
 		private final Provider<SystemService> systemServiceProvider;
 		@Nonnull
+		private final Provider<AnalyticsRollupService> analyticsRollupServiceProvider;
+		@Nonnull
 		private final EnterprisePluginProvider enterprisePluginProvider;
 		@Nonnull
 		private final CurrentContextExecutor currentContextExecutor;
@@ -187,14 +250,18 @@ public class CronService implements AutoCloseable {
 		private final Logger logger;
 
 		@Inject
-		public BackgroundTask(@Nonnull Provider<SystemService> systemServiceProvider,
+		public BackgroundTask(@Nonnull Provider<CronService> cronServiceProvider,
+													@Nonnull Provider<SystemService> systemServiceProvider,
+													@Nonnull Provider<AnalyticsRollupService> analyticsRollupServiceProvider,
 													@Nonnull EnterprisePluginProvider enterprisePluginProvider,
 													@Nonnull CurrentContextExecutor currentContextExecutor,
 													@Nonnull ErrorReporter errorReporter,
 													@Nonnull Formatter formatter,
 													@Nonnull DatabaseProvider databaseProvider,
 													@Nonnull Configuration configuration) {
+			requireNonNull(cronServiceProvider);
 			requireNonNull(systemServiceProvider);
+			requireNonNull(analyticsRollupServiceProvider);
 			requireNonNull(enterprisePluginProvider);
 			requireNonNull(currentContextExecutor);
 			requireNonNull(errorReporter);
@@ -202,7 +269,9 @@ public class CronService implements AutoCloseable {
 			requireNonNull(databaseProvider);
 			requireNonNull(configuration);
 
+			this.cronServiceProvider = cronServiceProvider;
 			this.systemServiceProvider = systemServiceProvider;
+			this.analyticsRollupServiceProvider = analyticsRollupServiceProvider;
 			this.enterprisePluginProvider = enterprisePluginProvider;
 			this.currentContextExecutor = currentContextExecutor;
 			this.errorReporter = errorReporter;
@@ -219,33 +288,8 @@ public class CronService implements AutoCloseable {
 
 			getCurrentContextExecutor().execute(currentContext, () -> {
 				try {
-					getDatabase().transaction(() -> {
-						List<CronJob> dueCronJobs = getDatabase().queryForList("""
-								    SELECT *
-								    FROM cron_job
-								    WHERE next_run_at <= now()
-								    AND enabled=TRUE
-								    ORDER BY next_run_at
-								    FOR UPDATE SKIP LOCKED
-								    LIMIT 5
-								""", CronJob.class);
-
-						if (dueCronJobs.size() > 0) {
-							getSystemService().applyFootprintEventGroupToCurrentTransaction(FootprintEventGroupTypeId.CRON_JOB);
-							
-							// Note: keep cron job "run" time very short so we don't hold this txn open for a long time!
-							// If there is a longer-running task like firing off a materialized view refresh, fire off a separate
-							// thread (in your EnterprisePlugin::runCronJob implementation)
-							for (CronJob cronJob : dueCronJobs) {
-								try {
-									run(cronJob);
-									markSuccess(cronJob);
-								} catch (Throwable t) {
-									markFailure(cronJob, t);
-								}
-							}
-						}
-					});
+					recoverExpiredCronJobLeases();
+					claimAndSubmitDueCronJobs(currentContext);
 				} catch (Exception e) {
 					getLogger().error("Unable to complete cron background task", e);
 					getErrorReporter().report(e);
@@ -253,27 +297,218 @@ public class CronService implements AutoCloseable {
 			});
 		}
 
+		/**
+		 * Jobs whose lease expired before their worker recorded an outcome (e.g. the worker's instance went away) are
+		 * marked as failed and scheduled for their next run.
+		 */
+		protected void recoverExpiredCronJobLeases() {
+			getDatabase().transaction(() -> {
+				List<CronJob> expiredCronJobs = getDatabase().queryForList("""
+						    SELECT *
+						    FROM cron_job
+						    WHERE last_run_status_id=?
+						    AND lease_expires_at <= now()
+						    ORDER BY lease_expires_at
+						    FOR UPDATE SKIP LOCKED
+						""", CronJob.class, CronJobRunStatusId.RUNNING);
+
+				if (expiredCronJobs.size() > 0) {
+					getSystemService().applyFootprintEventGroupToCurrentTransaction(FootprintEventGroupTypeId.CRON_JOB);
+
+					for (CronJob cronJob : expiredCronJobs)
+						markFailure(cronJob, new IllegalStateException(format("Lease for cron job ID %s (%s for %s) expired at %s before its run finished",
+								cronJob.getCronJobId(), cronJob.getCallbackType(), cronJob.getInstitutionId(), cronJob.getLeaseExpiresAt())));
+				}
+			});
+		}
+
+		protected void claimAndSubmitDueCronJobs(@Nonnull CurrentContext currentContext) {
+			requireNonNull(currentContext);
+
+			CronService cronService = getCronService();
+			ExecutorService workerExecutorService = cronService.getWorkerExecutorService().orElse(null);
+			Semaphore workerPermits = cronService.getWorkerPermits().orElse(null);
+
+			// Background task has been stopped
+			if (workerExecutorService == null || workerPermits == null)
+				return;
+
+			int availableWorkerCount = workerPermits.availablePermits();
+
+			if (availableWorkerCount == 0) {
+				getLogger().debug("All cron workers are busy, will try to claim due jobs next time.");
+				return;
+			}
+
+			List<CronJob> claimedCronJobs = new ArrayList<>(availableWorkerCount);
+
+			// Claim in a short transaction: mark due jobs as running under a fresh lease, then let the row locks go.
+			// This write also fails fast if we can't write to the database (e.g. unintentionally operating on a read-replica),
+			// so a job is never run without us being able to record that it ran
+			getDatabase().transaction(() -> {
+				claimedCronJobs.addAll(getDatabase().queryForList("""
+						    UPDATE cron_job
+						    SET
+						      next_run_at=NULL,
+						      last_run_started_at=now(),
+						      last_run_finished_at=NULL,
+						      last_run_status_id=?,
+						      last_run_stack_trace=NULL,
+						      lease_id=uuid_generate_v4(),
+						      lease_expires_at=now() + ? * INTERVAL '1 second'
+						    WHERE cron_job_id IN (
+						      SELECT cron_job_id
+						      FROM cron_job
+						      WHERE next_run_at <= now()
+						      AND enabled=TRUE
+						      ORDER BY next_run_at
+						      LIMIT ?
+						      FOR UPDATE SKIP LOCKED
+						    )
+						    RETURNING *
+						""", CronJob.class, CronJobRunStatusId.RUNNING, getConfiguration().getCronJobLeaseDurationInSeconds(), availableWorkerCount));
+
+				if (claimedCronJobs.size() > 0)
+					getSystemService().applyFootprintEventGroupToCurrentTransaction(FootprintEventGroupTypeId.CRON_JOB);
+			});
+
+			for (CronJob cronJob : claimedCronJobs) {
+				workerPermits.acquireUninterruptibly();
+
+				// Registered so the lease is renewed while the job runs, and released if we shut down first
+				cronService.getRunningCronJobsByLeaseId().put(cronJob.getLeaseId(), cronJob);
+
+				try {
+					workerExecutorService.execute(() -> {
+						try {
+							getCurrentContextExecutor().execute(currentContext, () -> {
+								execute(cronJob);
+							});
+						} finally {
+							cronService.getRunningCronJobsByLeaseId().remove(cronJob.getLeaseId());
+							workerPermits.release();
+						}
+					});
+				} catch (RejectedExecutionException e) {
+					// Shutting down - the lease will expire and the job will be recovered
+					cronService.getRunningCronJobsByLeaseId().remove(cronJob.getLeaseId());
+					workerPermits.release();
+					getLogger().warn("Unable to submit cron job ID {} ({} for {}) for execution, leaving it to lease recovery",
+							cronJob.getCronJobId(), cronJob.getCallbackType(), cronJob.getInstitutionId());
+				}
+			}
+		}
+
+		/**
+		 * Runs a claimed job in its own transaction, then records the outcome in a separate one.
+		 */
+		protected void execute(@Nonnull CronJob cronJob) {
+			requireNonNull(cronJob);
+
+			try {
+				try {
+					getDatabase().transaction(() -> {
+						getSystemService().applyFootprintEventGroupToCurrentTransaction(FootprintEventGroupTypeId.CRON_JOB);
+						run(cronJob);
+					});
+				} catch (Throwable t) {
+					// Interrupted by shutdown rather than genuinely failing, so hand the job back to run again right away
+					if (getCronService().isBackgroundTaskStopping()) {
+						getLogger().info("Cron job ID {} ({} for {}) was interrupted by shutdown, releasing its lease",
+								cronJob.getCronJobId(), cronJob.getCallbackType(), cronJob.getInstitutionId());
+
+						// Clear the interrupt so it doesn't also break the write that releases the lease
+						boolean interrupted = Thread.interrupted();
+
+						try {
+							releaseCronJobLease(cronJob);
+						} finally {
+							if (interrupted)
+								Thread.currentThread().interrupt();
+						}
+
+						return;
+					}
+
+					getDatabase().transaction(() -> {
+						getSystemService().applyFootprintEventGroupToCurrentTransaction(FootprintEventGroupTypeId.CRON_JOB);
+						markFailure(cronJob, t);
+					});
+
+					return;
+				}
+
+				getDatabase().transaction(() -> {
+					getSystemService().applyFootprintEventGroupToCurrentTransaction(FootprintEventGroupTypeId.CRON_JOB);
+					markSuccess(cronJob);
+				});
+			} catch (Exception e) {
+				// Couldn't record the outcome - the lease will expire and the job will be recovered
+				getLogger().error(format("Unable to record outcome of cron job ID %s (%s for %s)", cronJob.getCronJobId(), cronJob.getCallbackType(), cronJob.getInstitutionId()), e);
+				getErrorReporter().report(e);
+			}
+		}
+
+		/**
+		 * Pushes out the lease expiry of every job this instance is still running, so lease recovery only ever picks up
+		 * jobs whose worker actually went away - no matter how long a job legitimately takes.
+		 */
+		protected void renewRunningCronJobLeases() {
+			UUID[] leaseIds = getCronService().getRunningCronJobsByLeaseId().keySet().toArray(new UUID[0]);
+
+			if (leaseIds.length == 0)
+				return;
+
+			getDatabase().transaction(() -> {
+				getSystemService().applyFootprintEventGroupToCurrentTransaction(FootprintEventGroupTypeId.CRON_JOB);
+
+				getDatabase().execute("""
+						    UPDATE cron_job
+						    SET lease_expires_at=now() + ? * INTERVAL '1 second'
+						    WHERE lease_id = ANY (CAST(? AS UUID[]))
+						    AND last_run_status_id=?
+						""", getConfiguration().getCronJobLeaseDurationInSeconds(), (Object) leaseIds, CronJobRunStatusId.RUNNING);
+			});
+		}
+
+		/**
+		 * Gives up this instance's claim on a job whose run was cut short, marking the run failed and making the job due immediately
+		 * so it's picked up by the next claim pass on any node.  No-op if the lease has already been recovered.
+		 */
+		protected void releaseCronJobLease(@Nonnull CronJob cronJob) {
+			requireNonNull(cronJob);
+
+			getDatabase().transaction(() -> {
+				getSystemService().applyFootprintEventGroupToCurrentTransaction(FootprintEventGroupTypeId.CRON_JOB);
+
+				getDatabase().execute("""
+								UPDATE
+									cron_job
+								SET
+									next_run_at=now(),
+									last_run_finished_at=now(),
+									last_run_status_id=?,
+									lease_id=NULL,
+									lease_expires_at=NULL
+								WHERE
+									cron_job_id=?
+									AND lease_id=?
+								""",
+						CronJobRunStatusId.FAILED, cronJob.getCronJobId(), cronJob.getLeaseId());
+			});
+		}
+
 		protected void run(@Nonnull CronJob cronJob) {
-			getLogger().info("Running cron job ID {} ({} for {})...", cronJob.getCronJobId(), cronJob.getCallbackType(), cronJob.getInstitutionId());
 			requireNonNull(cronJob);
 
-			// Immediately attempt a write to the cron record before running the job.
-			// This will ensure there is no issue writing to the database (gives confidence we can mark the run as finished after executing it).
-			// For example, suppose we are unintentionally operating on a read-replica.  This would fail-fast and the cron job would never be run.
-			// If this write did not occur, the cron job could potentially be run and then fail to be marked as completed, causing repeated re-runs.
-			getDatabase().execute("""
-							UPDATE
-								cron_job
-							SET
-								next_run_at=NULL,
-								last_run_started_at=?,
-								last_run_finished_at=NULL,
-								last_run_status_id=?,
-								last_run_stack_trace=NULL
-							WHERE
-								cron_job_id=?
-							""",
-					Instant.now(), CronJobRunStatusId.UNDEFINED, cronJob.getCronJobId());
+			getLogger().info("Running cron job ID {} ({} for {})...", cronJob.getCronJobId(), cronJob.getCallbackType(), cronJob.getInstitutionId());
+
+			// Platform-level jobs are handled here, everything else is institution-specific.
+			// Enterprise plugins (some maintained outside this repo) reject callback types they don't know, so these can't go through them
+			if (AnalyticsRollupService.ANALYTICS_ROLLUP_REFRESH_CRON_JOB_CALLBACK_TYPE.equals(cronJob.getCallbackType())) {
+				getAnalyticsRollupService().requestRecentRollupRefresh(cronJob.getInstitutionId());
+				return;
+			}
 
 			// Delegate execution to the enterprise plugin
 			EnterprisePlugin enterprisePlugin = getEnterprisePluginProvider().enterprisePluginForInstitutionId(cronJob.getInstitutionId());
@@ -294,18 +529,25 @@ public class CronService implements AutoCloseable {
 				getErrorReporter().report(e);
 			}
 
-			getDatabase().execute("""
+			boolean recorded = getDatabase().execute("""
 							UPDATE
 								cron_job
 							SET
 								next_run_at=?,
 								last_run_finished_at=?,
 								last_run_status_id=?,
-								last_run_stack_trace=NULL
+								last_run_stack_trace=NULL,
+								lease_id=NULL,
+								lease_expires_at=NULL
 							WHERE
 								cron_job_id=?
+								AND lease_id=?
 							""",
-					nextRunAt, lastRunFinishedAt, CronJobRunStatusId.SUCCEEDED, cronJob.getCronJobId());
+					nextRunAt, lastRunFinishedAt, CronJobRunStatusId.SUCCEEDED, cronJob.getCronJobId(), cronJob.getLeaseId()) > 0;
+
+			if (!recorded)
+				getLogger().warn("Cron job ID {} ({} for {}) finished after its lease was recovered, not recording success",
+						cronJob.getCronJobId(), cronJob.getCallbackType(), cronJob.getInstitutionId());
 		}
 
 		protected void markFailure(@Nonnull CronJob cronJob,
@@ -327,18 +569,25 @@ public class CronService implements AutoCloseable {
 				getErrorReporter().report(e);
 			}
 
-			getDatabase().execute("""
+			boolean recorded = getDatabase().execute("""
 							UPDATE
 								cron_job
 							SET
 								next_run_at=?,
 								last_run_finished_at=?,
 								last_run_status_id=?,
-								last_run_stack_trace=?
+								last_run_stack_trace=?,
+								lease_id=NULL,
+								lease_expires_at=NULL
 							WHERE
 								cron_job_id=?
+								AND lease_id=?
 							""",
-					nextRunAt, lastRunFinishedAt, CronJobRunStatusId.FAILED, getFormatter().formatStackTrace(throwable), cronJob.getCronJobId());
+					nextRunAt, lastRunFinishedAt, CronJobRunStatusId.FAILED, getFormatter().formatStackTrace(throwable), cronJob.getCronJobId(), cronJob.getLeaseId()) > 0;
+
+			if (!recorded)
+				getLogger().warn("Cron job ID {} ({} for {}) failed after its lease was recovered, not recording failure",
+						cronJob.getCronJobId(), cronJob.getCallbackType(), cronJob.getInstitutionId());
 		}
 
 		@Nonnull
@@ -360,11 +609,21 @@ public class CronService implements AutoCloseable {
 					.orElseThrow(() -> new IllegalStateException("Unreachable – invalid cron"));
 		}
 
+		@Nonnull
+		protected CronService getCronService() {
+			return this.cronServiceProvider.get();
+		}
+
 		@Nonnull
 		protected SystemService getSystemService() {
 			return this.systemServiceProvider.get();
 		}
 
+		@Nonnull
+		protected AnalyticsRollupService getAnalyticsRollupService() {
+			return this.analyticsRollupServiceProvider.get();
+		}
+
 		@Nonnull
 		protected EnterprisePluginProvider getEnterprisePluginProvider() {
 			return this.enterprisePluginProvider;
@@ -452,4 +711,28 @@ public class CronService implements AutoCloseable {
 	protected Optional<ScheduledExecutorService> getBackgroundTaskExecutorService() {
 		return Optional.ofNullable(this.backgroundTaskExecutorService);
 	}
+
+	@Nonnull
+	protected Optional<ExecutorService> getWorkerExecutorService() {
+		synchronized (getBackgroundTaskLock()) {
+			return Optional.ofNullable(this.workerExecutorService);
+		}
+	}
+
+	@Nonnull
+	protected Boolean isBackgroundTaskStopping() {
+		return this.backgroundTaskStopping.get();
+	}
+
+	@Nonnull
+	protected ConcurrentMap<UUID, CronJob> getRunningCronJobsByLeaseId() {
+		return this.runningCronJobsByLeaseId;
+	}
+
+	@Nonnull
+	protected Optional<Semaphore> getWorkerPermits() {
+		synchronized (getBackgroundTaskLock()) {
+			return Optional.ofNullable(this.workerPermits);
+		}
+	}
 }
\ No newline at end of file
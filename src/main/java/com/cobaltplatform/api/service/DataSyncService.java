@@ -31,6 +31,7 @@ import com.cobaltplatform.api.util.db.DatabaseProvider;
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.lokalized.Strings;
 import com.pyranid.Database;
+import com.pyranid.Transaction;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -450,6 +451,14 @@ public class DataSyncService implements AutoCloseable {
 					WHERE content_audience.content_id = vrc.content_id
 					AND content_audience.content_audience_type_id = vrc.content_audience_type_id)
 					AND remote_data_flag = true""");
+
+			// We may have pulled over new institutions; make sure cached lookups see them once committed
+			Transaction transaction = getDatabase().currentTransaction().orElse(null);
+
+			if (transaction == null)
+				getInstitutionService().invalidateInstitutionCaches();
+			else
+				transaction.addPostCommitOperation(() -> getInstitutionService().invalidateInstitutionCaches());
 		});
 	}
 
@@ -2,17 +2,26 @@ package com.cobaltplatform.api.service;
 
 import com.cobaltplatform.api.Configuration;
 import com.cobaltplatform.api.util.db.DatabaseProvider;
+import com.google.common.collect.Lists;
 import com.lokalized.Strings;
 import com.pyranid.Database;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import javax.annotation.Nonnull;
+import javax.annotation.concurrent.Immutable;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
+import static com.cobaltplatform.api.util.DatabaseUtility.sqlVaragsParameters;
+import static java.lang.String.format;
 import static java.util.Objects.requireNonNull;
 
 /**
@@ -20,6 +29,9 @@ import static java.util.Objects.requireNonNull;
  */
 @Singleton
 public class FingerprintService {
+	@Nonnull
+	private static final Integer MULTI_ROW_UPSERT_BATCH_SIZE;
+
 	@Nonnull
 	private final DatabaseProvider databaseProvider;
 	@Nonnull
@@ -29,6 +41,9 @@ public class FingerprintService {
 	@Nonnull
 	private final Logger logger;
 
+	static {
+		MULTI_ROW_UPSERT_BATCH_SIZE = 500;
+	}
 
 	@Inject
 	public FingerprintService(@Nonnull DatabaseProvider databaseProvider,
@@ -49,6 +64,46 @@ public class FingerprintService {
 				"ON CONFLICT ON CONSTRAINT account_fingerprint_key DO UPDATE SET last_updated=?", accountId, fingerprintId, Instant.now());
 	}
 
+	/**
+	 * Upserts many account fingerprints at once using multi-row {@code INSERT ... ON CONFLICT} statements.
+	 * <p>
+	 * Keys must be unique per statement (Postgres will not update the same row twice in one upsert), which the map guarantees.
+	 */
+	public void storeFingerprintsForAccounts(@Nonnull Map<AccountFingerprint, Instant> lastUpdatedByAccountFingerprint) {
+		requireNonNull(lastUpdatedByAccountFingerprint);
+
+		if (lastUpdatedByAccountFingerprint.size() == 0)
+			return;
+
+		List<Map.Entry<AccountFingerprint, Instant>> entries = new ArrayList<>(lastUpdatedByAccountFingerprint.entrySet());
+
+		getDatabase().transaction(() -> {
+			for (List<Map.Entry<AccountFingerprint, Instant>> batch : Lists.partition(entries, getMultiRowUpsertBatchSize())) {
+				List<Object> parameters = new ArrayList<>(batch.size() * 3);
+
+				for (Map.Entry<AccountFingerprint, Instant> entry : batch) {
+					parameters.add(entry.getKey().getAccountId());
+					parameters.add(entry.getKey().getFingerprintId());
+					parameters.add(entry.getValue());
+				}
+
+				String valuesSql = batch.stream().map(entry -> "(?,?,?)").collect(Collectors.joining(","));
+
+				getDatabase().execute(format("""
+						INSERT INTO account_fingerprint (account_id, fingerprint_id, last_updated)
+						VALUES %s
+						ON CONFLICT ON CONSTRAINT account_fingerprint_key
+						DO UPDATE SET last_updated=GREATEST(account_fingerprint.last_updated, EXCLUDED.last_updated)
+						""", valuesSql), sqlVaragsParameters(parameters));
+			}
+		});
+	}
+
+	@Nonnull
+	protected Integer getMultiRowUpsertBatchSize() {
+		return MULTI_ROW_UPSERT_BATCH_SIZE;
+	}
+
 	@Nonnull
 	protected Database getDatabase() {
 		return this.databaseProvider.get();
@@ -68,4 +123,54 @@ public class FingerprintService {
 	protected Logger getLogger() {
 		return logger;
 	}
+
+	@Immutable
+	public static class AccountFingerprint {
+		@Nonnull
+		private final UUID accountId;
+		@Nonnull
+		private final String fingerprintId;
+
+		public AccountFingerprint(@Nonnull UUID accountId,
+															@Nonnull String fingerprintId) {
+			requireNonNull(accountId);
+			requireNonNull(fingerprintId);
+
+			this.accountId = accountId;
+			this.fingerprintId = fingerprintId;
+		}
+
+		@Override
+		public String toString() {
+			return format("%s{accountId=%s, fingerprintId=%s}", getClass().getSimpleName(), getAccountId(), getFingerprintId());
+		}
+
+		@Override
+		public boolean equals(Object other) {
+			if (this == other)
+				return true;
+
+			if (other == null || !getClass().equals(other.getClass()))
+				return false;
+
+			AccountFingerprint otherAccountFingerprint = (AccountFingerprint) other;
+			return Objects.equals(getAccountId(), otherAccountFingerprint.getAccountId())
+					&& Objects.equals(getFingerprintId(), otherAccountFingerprint.getFingerprintId());
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(getAccountId(), getFingerprintId());
+		}
+
+		@Nonnull
+		public UUID getAccountId() {
+			return this.accountId;
+		}
+
+		@Nonnull
+		public String getFingerprintId() {
+			return this.fingerprintId;
+		}
+	}
 }
@@ -20,6 +20,8 @@
 package com.cobaltplatform.api.service;
 
 import com.cobaltplatform.api.Configuration;
+import com.cobaltplatform.api.cache.Cache;
+import com.cobaltplatform.api.cache.DistributedCache;
 import com.cobaltplatform.api.model.db.Account;
 import com.cobaltplatform.api.model.db.BusinessHour;
 import com.cobaltplatform.api.model.db.BusinessHourOverride;
@@ -51,6 +53,7 @@ import com.cobaltplatform.api.util.JsonMapper;
 import com.cobaltplatform.api.util.db.DatabaseProvider;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import com.lokalized.Strings;
 import com.pyranid.Database;
 import org.slf4j.Logger;
@@ -70,11 +73,16 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.SortedMap;
+import java.util.TreeMap;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 
 import static com.cobaltplatform.api.util.WebUtility.normalizedHostnameForUrl;
@@ -88,6 +96,11 @@ import static org.apache.commons.lang3.StringUtils.trimToNull;
 @Singleton
 @ThreadSafe
 public class InstitutionService {
+	@Nonnull
+	private static final String CACHE_GENERATION_DISTRIBUTED_CACHE_KEY;
+	@Nonnull
+	private static final Duration DISTRIBUTED_CACHE_GENERATION_CHECK_INTERVAL;
+
 	@Nonnull
 	private final DatabaseProvider databaseProvider;
 	@Nonnull
@@ -104,6 +117,26 @@ public class InstitutionService {
 	private final Provider<FeatureService> featureServiceProvider;
 	@Nonnull
 	private final LoadingCache<InstitutionUrlCacheKey, Optional<InstitutionUrl>> institutionUrlCache;
+	@Nonnull
+	private final Cache distributedCache;
+	// Note: cached Institution instances are shared across threads and must be treated as read-only
+	@Nonnull
+	private final LoadingCache<InstitutionId, Optional<Institution>> institutionCache;
+	@Nonnull
+	private final LoadingCache<String, Optional<InstitutionId>> institutionIdByHostnameCache;
+	@Nonnull
+	private final LoadingCache<InstitutionId, List<BusinessHour>> businessHoursCache;
+	@Nonnull
+	private final LoadingCache<InstitutionId, List<Holiday>> holidaysCache;
+	@Nonnull
+	private final AtomicReference<String> cacheGeneration;
+	@Nonnull
+	private final AtomicLong lastDistributedCacheGenerationCheckAtNanos;
+
+	static {
+		CACHE_GENERATION_DISTRIBUTED_CACHE_KEY = "institutionService.cacheGeneration";
+		DISTRIBUTED_CACHE_GENERATION_CHECK_INTERVAL = Duration.ofSeconds(15);
+	}
 
 	@Inject
 	public InstitutionService(@Nonnull DatabaseProvider databaseProvider,
@@ -111,13 +144,15 @@ public class InstitutionService {
 														@Nonnull Configuration configuration,
 														@Nonnull Strings strings,
 														@Nonnull Provider<ScreeningService> screeningServiceProvider,
-														@Nonnull Provider<FeatureService> featureServiceProvider) {
+														@Nonnull Provider<FeatureService> featureServiceProvider,
+														@Nonnull @DistributedCache Cache distributedCache) {
 		requireNonNull(databaseProvider);
 		requireNonNull(jsonMapper);
 		requireNonNull(configuration);
 		requireNonNull(strings);
 		requireNonNull(screeningServiceProvider);
 		requireNonNull(featureServiceProvider);
+		requireNonNull(distributedCache);
 
 		this.databaseProvider = databaseProvider;
 		this.jsonMapper = jsonMapper;
@@ -126,11 +161,128 @@ public class InstitutionService {
 		this.logger = LoggerFactory.getLogger(getClass());
 		this.screeningServiceProvider = screeningServiceProvider;
 		this.featureServiceProvider = featureServiceProvider;
+		this.distributedCache = distributedCache;
 		this.institutionUrlCache = Caffeine.newBuilder()
 				.maximumSize(100)
 				.refreshAfterWrite(Duration.ofMinutes(5))
 				.expireAfterWrite(Duration.ofMinutes(10))
 				.build(key -> findUncachedInstitutionUrlByInstitutionIdAndUserExperienceTypeId(key));
+
+		Duration institutionCacheExpiration = Duration.ofSeconds(configuration.getInstitutionCacheExpirationInSeconds());
+
+		this.institutionCache = Caffeine.newBuilder()
+				.maximumSize(100)
+				.expireAfterWrite(institutionCacheExpiration)
+				.recordStats()
+				.build(institutionId -> findUncachedInstitutionById(institutionId));
+		this.institutionIdByHostnameCache = Caffeine.newBuilder()
+				.maximumSize(1_000)
+				.expireAfterWrite(institutionCacheExpiration)
+				.recordStats()
+				.build(hostname -> findUncachedInstitutionIdByHostname(hostname));
+		this.businessHoursCache = Caffeine.newBuilder()
+				.maximumSize(100)
+				.expireAfterWrite(institutionCacheExpiration)
+				.recordStats()
+				.build(institutionId -> findUncachedBusinessHoursByInstitutionId(institutionId));
+		this.holidaysCache = Caffeine.newBuilder()
+				.maximumSize(100)
+				.expireAfterWrite(institutionCacheExpiration)
+				.recordStats()
+				.build(institutionId -> findUncachedHolidaysByInstitutionId(institutionId));
+
+		this.cacheGeneration = new AtomicReference<>(null);
+		this.lastDistributedCacheGenerationCheckAtNanos = new AtomicLong(System.nanoTime());
+	}
+
+	/**
+	 * Discards cached institution data (institutions, hostname lookups, business hours, holidays, URLs) on this node.
+	 * <p>
+	 * If distributed invalidation is enabled, other nodes will also discard their cached data within
+	 * {@link #getDistributedCacheGenerationCheckInterval()}.
+	 */
+	public void invalidateInstitutionCaches() {
+		invalidateLocalInstitutionCaches();
+
+		if (!getConfiguration().getShouldUseDistributedInstitutionCacheInvalidation())
+			return;
+
+		String cacheGeneration = UUID.randomUUID().toString();
+
+		try {
+			getDistributedCache().put(getCacheGenerationDistributedCacheKey(), cacheGeneration);
+			getCacheGeneration().set(cacheGeneration);
+		} catch (Exception e) {
+			getLogger().warn("Unable to broadcast institution cache invalidation", e);
+		}
+	}
+
+	protected void invalidateLocalInstitutionCaches() {
+		getInstitutionCache().invalidateAll();
+		getInstitutionIdByHostnameCache().invalidateAll();
+		getBusinessHoursCache().invalidateAll();
+		getHolidaysCache().invalidateAll();
+		getInstitutionUrlCache().invalidateAll();
+	}
+
+	/**
+	 * Periodically (not on every call) checks whether another node has invalidated institution data and, if so, follows suit.
+	 */
+	protected void checkForDistributedInstitutionCacheInvalidation() {
+		if (!getConfiguration().getShouldUseDistributedInstitutionCacheInvalidation())
+			return;
+
+		long lastCheckAtNanos = getLastDistributedCacheGenerationCheckAtNanos().get();
+		long now = System.nanoTime();
+
+		// Only one caller per interval does the check
+		if (now - lastCheckAtNanos < getDistributedCacheGenerationCheckInterval().toNanos()
+				|| !getLastDistributedCacheGenerationCheckAtNanos().compareAndSet(lastCheckAtNanos, now))
+			return;
+
+		try {
+			String distributedCacheGeneration = getDistributedCache().get(getCacheGenerationDistributedCacheKey(), String.class).orElse(null);
+			String localCacheGeneration = getCacheGeneration().getAndSet(distributedCacheGeneration);
+
+			if (distributedCacheGeneration != null && !distributedCacheGeneration.equals(localCacheGeneration)) {
+				getLogger().debug("Institution data was invalidated on another node, invalidating local institution caches...");
+				invalidateLocalInstitutionCaches();
+			}
+		} catch (Exception e) {
+			getLogger().warn("Unable to check for distributed institution cache invalidation", e);
+		}
+	}
+
+	/**
+	 * @return (nonnull) hit/miss statistics for the institution caches on this node, keyed by cache name
+	 */
+	@Nonnull
+	public SortedMap<String, Map<String, Object>> findInstitutionCacheStatistics() {
+		SortedMap<String, Map<String, Object>> institutionCacheStatistics = new TreeMap<>();
+
+		institutionCacheStatistics.put("institution", cacheStatisticsFor(getInstitutionCache()));
+		institutionCacheStatistics.put("institutionIdByHostname", cacheStatisticsFor(getInstitutionIdByHostnameCache()));
+		institutionCacheStatistics.put("businessHours", cacheStatisticsFor(getBusinessHoursCache()));
+		institutionCacheStatistics.put("holidays", cacheStatisticsFor(getHolidaysCache()));
+
+		return institutionCacheStatistics;
+	}
+
+	@Nonnull
+	protected Map<String, Object> cacheStatisticsFor(@Nonnull LoadingCache<?, ?> cache) {
+		requireNonNull(cache);
+
+		CacheStats cacheStats = cache.stats();
+
+		Map<String, Object> cacheStatistics = new LinkedHashMap<>();
+		cacheStatistics.put("hitCount", cacheStats.hitCount());
+		cacheStatistics.put("missCount", cacheStats.missCount());
+		cacheStatistics.put("hitRate", cacheStats.hitRate());
+		cacheStatistics.put("loadFailureCount", cacheStats.loadFailureCount());
+		cacheStatistics.put("evictionCount", cacheStats.evictionCount());
+		cacheStatistics.put("estimatedSize", cache.estimatedSize());
+
+		return cacheStatistics;
 	}
 
 	@Nonnull
@@ -138,6 +290,15 @@ public class InstitutionService {
 		if (institutionId == null)
 			return Optional.empty();
 
+		checkForDistributedInstitutionCacheInvalidation();
+
+		return getInstitutionCache().get(institutionId);
+	}
+
+	@Nonnull
+	protected Optional<Institution> findUncachedInstitutionById(@Nonnull InstitutionId institutionId) {
+		requireNonNull(institutionId);
+
 		return getDatabase().queryForObject("SELECT * FROM institution WHERE institution_id=?",
 				Institution.class, institutionId);
 	}
@@ -233,12 +394,22 @@ public class InstitutionService {
 		if (hostname == null)
 			return Optional.empty();
 
+		checkForDistributedInstitutionCacheInvalidation();
+
+		InstitutionId institutionId = getInstitutionIdByHostnameCache().get(hostname).orElse(null);
+		return findInstitutionById(institutionId);
+	}
+
+	@Nonnull
+	protected Optional<InstitutionId> findUncachedInstitutionIdByHostname(@Nonnull String hostname) {
+		requireNonNull(hostname);
+
 		return getDatabase().queryForObject("""
-				SELECT i.* 
+				SELECT i.institution_id
 				FROM institution_url iu, institution i
 				WHERE iu.hostname=?
 				AND iu.institution_id=i.institution_id
-				""", Institution.class, hostname);
+				""", InstitutionId.class, hostname);
 	}
 
 	@Nonnull
@@ -627,13 +798,22 @@ public class InstitutionService {
 		if (institutionId == null)
 			return List.of();
 
-		return getDatabase().queryForList("""
+		checkForDistributedInstitutionCacheInvalidation();
+
+		return getBusinessHoursCache().get(institutionId);
+	}
+
+	@Nonnull
+	protected List<BusinessHour> findUncachedBusinessHoursByInstitutionId(@Nonnull InstitutionId institutionId) {
+		requireNonNull(institutionId);
+
+		return Collections.unmodifiableList(getDatabase().queryForList("""
 				SELECT bh.*
 				FROM business_hour bh, institution_business_hour ibh
 				WHERE bh.business_hour_id=ibh.business_hour_id
 				AND ibh.institution_id=?
 				ORDER BY ibh.display_order
-				""", BusinessHour.class, institutionId);
+				""", BusinessHour.class, institutionId));
 	}
 
 	@Nonnull
@@ -655,13 +835,22 @@ public class InstitutionService {
 		if (institutionId == null)
 			return List.of();
 
-		return getDatabase().queryForList("""
+		checkForDistributedInstitutionCacheInvalidation();
+
+		return getHolidaysCache().get(institutionId);
+	}
+
+	@Nonnull
+	protected List<Holiday> findUncachedHolidaysByInstitutionId(@Nonnull InstitutionId institutionId) {
+		requireNonNull(institutionId);
+
+		return Collections.unmodifiableList(getDatabase().queryForList("""
 				SELECT h.*
 				FROM holiday h, institution_holiday ih
 				WHERE h.holiday_id=ih.holiday_id
 				AND ih.institution_id=?
 				ORDER BY h.display_order
-				""", Holiday.class, institutionId);
+				""", Holiday.class, institutionId));
 	}
 
 	@Immutable
@@ -743,4 +932,49 @@ public class InstitutionService {
 	protected LoadingCache<InstitutionUrlCacheKey, Optional<InstitutionUrl>> getInstitutionUrlCache() {
 		return this.institutionUrlCache;
 	}
+
+	@Nonnull
+	protected Cache getDistributedCache() {
+		return this.distributedCache;
+	}
+
+	@Nonnull
+	protected LoadingCache<InstitutionId, Optional<Institution>> getInstitutionCache() {
+		return this.institutionCache;
+	}
+
+	@Nonnull
+	protected LoadingCache<String, Optional<InstitutionId>> getInstitutionIdByHostnameCache() {
+		return this.institutionIdByHostnameCache;
+	}
+
+	@Nonnull
+	protected LoadingCache<InstitutionId, List<BusinessHour>> getBusinessHoursCache() {
+		return this.businessHoursCache;
+	}
+
+	@Nonnull
+	protected LoadingCache<InstitutionId, List<Holiday>> getHolidaysCache() {
+		return this.holidaysCache;
+	}
+
+	@Nonnull
+	protected AtomicReference<String> getCacheGeneration() {
+		return this.cacheGeneration;
+	}
+
+	@Nonnull
+	protected AtomicLong getLastDistributedCacheGenerationCheckAtNanos() {
+		return this.lastDistributedCacheGenerationCheckAtNanos;
+	}
+
+	@Nonnull
+	protected String getCacheGenerationDistributedCacheKey() {
+		return CACHE_GENERATION_DISTRIBUTED_CACHE_KEY;
+	}
+
+	@Nonnull
+	protected Duration getDistributedCacheGenerationCheckInterval() {
+		return DISTRIBUTED_CACHE_GENERATION_CHECK_INTERVAL;
+	}
 }
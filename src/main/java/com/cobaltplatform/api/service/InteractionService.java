@@ -547,7 +547,7 @@ public class InteractionService {
 		// We could do this as a single query, but the dataset is small, and this is a little clearer and fast enough
 		for (ScreeningSessionScreening screeningSessionScreening : screeningSessionScreenings) {
 			ScreeningVersion screeningVersion = getScreeningService().findScreeningVersionById(screeningSessionScreening.getScreeningVersionId()).get();
-			List<ScreeningQuestionWithAnswerOptions> screeningQuestionsWithAnswerOptions = getScreeningService().findScreeningQuestionsWithAnswerOptionsByScreeningSessionScreeningId(screeningSessionScreening.getScreeningSessionScreeningId());
+			List<ScreeningQuestionWithAnswerOptions> screeningQuestionsWithAnswerOptions = getScreeningService().findScreeningQuestionsWithAnswerOptionsByScreeningVersionId(screeningSessionScreening.getScreeningVersionId());
 			List<ScreeningAnswer> screeningAnswers = getScreeningService().findScreeningAnswersAcrossAllQuestionsByScreeningSessionScreeningId(screeningSessionScreening.getScreeningSessionScreeningId());
 			List<ScreeningQuestionAndAnswers> screeningQuestionsAndAnswers = new ArrayList<>();
 
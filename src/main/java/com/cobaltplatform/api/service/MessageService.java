@@ -28,7 +28,10 @@ import com.cobaltplatform.api.integration.enterprise.EnterprisePlugin;
 import com.cobaltplatform.api.integration.enterprise.EnterprisePluginProvider;
 import com.cobaltplatform.api.integration.twilio.TwilioMessageWebhookRequestBody;
 import com.cobaltplatform.api.messaging.Message;
+import com.cobaltplatform.api.messaging.MessageSendMetrics;
+import com.cobaltplatform.api.messaging.MessageSendRateLimiter;
 import com.cobaltplatform.api.messaging.MessageSender;
+import com.cobaltplatform.api.messaging.MessageSenderThrottledException;
 import com.cobaltplatform.api.messaging.call.CallMessage;
 import com.cobaltplatform.api.messaging.call.CallMessageSerializer;
 import com.cobaltplatform.api.messaging.email.EmailMessage;
@@ -49,7 +52,9 @@ import com.cobaltplatform.api.model.db.MessageType.MessageTypeId;
 import com.cobaltplatform.api.model.db.MessageVendor.MessageVendorId;
 import com.cobaltplatform.api.model.db.ScheduledMessage;
 import com.cobaltplatform.api.model.db.ScheduledMessageStatus.ScheduledMessageStatusId;
+import com.cobaltplatform.api.util.ExecutorServiceUtility;
 import com.cobaltplatform.api.util.Formatter;
+import com.cobaltplatform.api.util.Holder;
 import com.cobaltplatform.api.util.JsonMapper;
 import com.cobaltplatform.api.util.Normalizer;
 import com.cobaltplatform.api.util.ValidationException;
@@ -65,27 +70,35 @@ import org.slf4j.LoggerFactory;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
 import javax.annotation.concurrent.ThreadSafe;
 import javax.inject.Inject;
 import javax.inject.Provider;
 import javax.inject.Singleton;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
+import static com.cobaltplatform.api.util.DatabaseUtility.sqlInListPlaceholders;
+import static com.cobaltplatform.api.util.DatabaseUtility.sqlVaragsParameters;
 import static java.lang.String.format;
 import static java.util.Objects.requireNonNull;
 import static org.apache.commons.lang3.StringUtils.trimToNull;
@@ -150,6 +163,8 @@ public class MessageService implements AutoCloseable {
 	private ScheduledExecutorService sendMessageTaskExecutorService;
 	@Nullable
 	private ScheduledExecutorService scheduledMessageTaskExecutorService;
+	@Nullable
+	private Map<MessageTypeId, ExecutorService> sendMessageWorkerExecutorServicesByMessageTypeId;
 
 	static {
 		MAXIMUM_SMS_BODY_CHARACTER_COUNT = 1_600;
@@ -229,6 +244,15 @@ public class MessageService implements AutoCloseable {
 			this.sendMessageTaskExecutorService = Executors.newScheduledThreadPool(1, new ThreadFactoryBuilder().setNameFormat("send-message-task-executor").build());
 			this.scheduledMessageTaskExecutorService = Executors.newScheduledThreadPool(1, new ThreadFactoryBuilder().setNameFormat("scheduled-message-task-executor").build());
 
+			// Each message type gets its own bounded worker pool so a slow vendor (e.g. outbound calls) cannot starve the others
+			Map<MessageTypeId, ExecutorService> sendMessageWorkerExecutorServicesByMessageTypeId = new EnumMap<>(MessageTypeId.class);
+
+			for (MessageTypeId messageTypeId : MessageTypeId.values())
+				sendMessageWorkerExecutorServicesByMessageTypeId.put(messageTypeId, Executors.newFixedThreadPool(getConfiguration().getMessageSendWorkerPoolSize(),
+						new ThreadFactoryBuilder().setNameFormat(format("send-message-worker-%s-%%d", messageTypeId.name().toLowerCase(Locale.US))).build()));
+
+			this.sendMessageWorkerExecutorServicesByMessageTypeId = Collections.unmodifiableMap(sendMessageWorkerExecutorServicesByMessageTypeId);
+
 			this.started = true;
 
 			getSendMessageTaskExecutorService().get().scheduleWithFixedDelay(new Runnable() {
@@ -272,6 +296,12 @@ public class MessageService implements AutoCloseable {
 			getSendMessageTaskExecutorService().get().shutdown();
 			this.sendMessageTaskExecutorService = null;
 
+			// Let in-flight sends finish - their messages have already been claimed
+			for (ExecutorService sendMessageWorkerExecutorService : this.sendMessageWorkerExecutorServicesByMessageTypeId.values())
+				ExecutorServiceUtility.shutdownAndAwaitTermination(sendMessageWorkerExecutorService);
+
+			this.sendMessageWorkerExecutorServicesByMessageTypeId = null;
+
 			started = false;
 
 			getLogger().trace("Message service stopped.");
@@ -533,6 +563,27 @@ public class MessageService implements AutoCloseable {
 				""", MessageLog.class, messageLogId);
 	}
 
+	@Nonnull
+	public Map<MessageTypeId, Long> findEnqueuedMessageCountsByMessageTypeId() {
+		Map<MessageTypeId, Long> enqueuedMessageCountsByMessageTypeId = new EnumMap<>(MessageTypeId.class);
+
+		// Types with nothing enqueued don't come back from the query, but should still be reported
+		for (MessageTypeId messageTypeId : MessageTypeId.values())
+			enqueuedMessageCountsByMessageTypeId.put(messageTypeId, 0L);
+
+		List<MessageTypeIdWithCount> messageTypeIdsWithCount = getDatabase().queryForList("""
+				SELECT message_type_id, COUNT(*) AS count
+				FROM message_log
+				WHERE message_status_id=?
+				GROUP BY message_type_id
+				""", MessageTypeIdWithCount.class, MessageStatusId.ENQUEUED);
+
+		for (MessageTypeIdWithCount messageTypeIdWithCount : messageTypeIdsWithCount)
+			enqueuedMessageCountsByMessageTypeId.put(messageTypeIdWithCount.getMessageTypeId(), messageTypeIdWithCount.getCount());
+
+		return enqueuedMessageCountsByMessageTypeId;
+	}
+
 	@Nonnull
 	public Optional<MessageLog> findMessageLogByVendorAssignedId(@Nullable String vendorAssignedId,
 																															 @Nullable MessageVendorId messageVendorId) {
@@ -651,6 +702,15 @@ public class MessageService implements AutoCloseable {
 
 	@ThreadSafe
 	public static class SendMessageTask implements Runnable {
+		@Nonnull
+		private static final Integer MAXIMUM_THROTTLED_SEND_ATTEMPTS;
+		@Nonnull
+		private static final Long THROTTLED_SEND_INITIAL_BACKOFF_IN_MILLISECONDS;
+		@Nonnull
+		private static final Long THROTTLED_SEND_MAXIMUM_BACKOFF_IN_MILLISECONDS;
+		@Nonnull
+		private static final Long ABANDONED_SENDING_MESSAGE_THRESHOLD_IN_SECONDS;
+
 		@Nonnull
 		private final MessageService messageService;
 		@Nonnull
@@ -674,10 +734,22 @@ public class MessageService implements AutoCloseable {
 		@Nonnull
 		private final Formatter formatter;
 		@Nonnull
+		private final MessageSendRateLimiter messageSendRateLimiter;
+		@Nonnull
+		private final MessageSendMetrics messageSendMetrics;
+		@Nonnull
 		private final Configuration configuration;
 		@Nonnull
 		private final Logger logger;
 
+		static {
+			MAXIMUM_THROTTLED_SEND_ATTEMPTS = 4;
+			THROTTLED_SEND_INITIAL_BACKOFF_IN_MILLISECONDS = 1_000L;
+			THROTTLED_SEND_MAXIMUM_BACKOFF_IN_MILLISECONDS = 16_000L;
+			// Far longer than a send can legitimately take, even waiting on the rate limiter and throttling backoff
+			ABANDONED_SENDING_MESSAGE_THRESHOLD_IN_SECONDS = 60L * 30L;
+		}
+
 		@Inject
 		public SendMessageTask(@Nonnull MessageService messageService,
 													 @Nonnull EmailMessageSerializer emailMessageSerializer,
@@ -690,6 +762,8 @@ public class MessageService implements AutoCloseable {
 													 @Nonnull CurrentContextExecutor currentContextExecutor,
 													 @Nonnull ErrorReporter errorReporter,
 													 @Nonnull Formatter formatter,
+													 @Nonnull MessageSendRateLimiter messageSendRateLimiter,
+													 @Nonnull MessageSendMetrics messageSendMetrics,
 													 @Nonnull Configuration configuration) {
 			requireNonNull(messageService);
 			requireNonNull(emailMessageSerializer);
@@ -702,6 +776,8 @@ public class MessageService implements AutoCloseable {
 			requireNonNull(currentContextExecutor);
 			requireNonNull(errorReporter);
 			requireNonNull(formatter);
+			requireNonNull(messageSendRateLimiter);
+			requireNonNull(messageSendMetrics);
 			requireNonNull(configuration);
 
 			this.messageService = messageService;
@@ -715,14 +791,16 @@ public class MessageService implements AutoCloseable {
 			this.currentContextExecutor = currentContextExecutor;
 			this.errorReporter = errorReporter;
 			this.formatter = formatter;
+			this.messageSendRateLimiter = messageSendRateLimiter;
+			this.messageSendMetrics = messageSendMetrics;
 			this.configuration = configuration;
 			this.logger = LoggerFactory.getLogger(getClass());
 		}
 
-		protected void forceTransitionMessageToError(@Nonnull Message message) {
-			requireNonNull(message);
+		protected void forceTransitionMessageToError(@Nonnull UUID messageId) {
+			requireNonNull(messageId);
 
-			getLogger().warn("Force-transitioning message ID {} to {}...", message.getMessageId(), MessageStatusId.ERROR.name());
+			getLogger().warn("Force-transitioning message ID {} to {}...", messageId, MessageStatusId.ERROR.name());
 
 			Transaction transaction = getDatabase().currentTransaction().orElse(null);
 
@@ -731,87 +809,185 @@ public class MessageService implements AutoCloseable {
 
 				// TODO: once Pyranid supports PostTransactionOperations, use one of them instead of splitting like this
 				transaction.addPostCommitOperation(() -> {
-					getLogger().warn("OK, we are post-commit, now force-transitioning message ID {} to {}...", message.getMessageId(), MessageStatusId.ERROR.name());
-					forceTransitionMessageToErrorInternal(message);
+					getLogger().warn("OK, we are post-commit, now force-transitioning message ID {} to {}...", messageId, MessageStatusId.ERROR.name());
+					forceTransitionMessageToErrorInternal(messageId);
 				});
 
 				transaction.addPostRollbackOperation(() -> {
-					getLogger().warn("OK, we are post-rollback, now force-transitioning message ID {} to {}...", message.getMessageId(), MessageStatusId.ERROR.name());
-					forceTransitionMessageToErrorInternal(message);
+					getLogger().warn("OK, we are post-rollback, now force-transitioning message ID {} to {}...", messageId, MessageStatusId.ERROR.name());
+					forceTransitionMessageToErrorInternal(messageId);
 				});
 			} else {
-				forceTransitionMessageToErrorInternal(message);
+				forceTransitionMessageToErrorInternal(messageId);
 			}
 		}
 
-		protected void forceTransitionMessageToErrorInternal(@Nonnull Message message) {
-			requireNonNull(message);
+		protected void forceTransitionMessageToErrorInternal(@Nonnull UUID messageId) {
+			requireNonNull(messageId);
 
 			try {
 				getDatabase().execute("UPDATE message_log SET message_status_id=?, processed=NOW() WHERE message_id=?",
-						MessageStatusId.ERROR, message.getMessageId());
+						MessageStatusId.ERROR, messageId);
 
-				getLogger().warn("Force-transitioning message ID {} to {} has completed successfully.", message.getMessageId(), MessageStatusId.ERROR.name());
+				getLogger().warn("Force-transitioning message ID {} to {} has completed successfully.", messageId, MessageStatusId.ERROR.name());
 			} catch (Throwable t) {
-				getLogger().error(format("Unable to force-transition message ID %s to %s", message.getMessageId(), MessageStatusId.ENQUEUED), t);
+				getLogger().error(format("Unable to force-transition message ID %s to %s", messageId, MessageStatusId.ERROR), t);
 				getErrorReporter().report(t);
 			}
 		}
 
+		/**
+		 * Claims up to {@code batchSize} enqueued messages for sending.
+		 * <p>
+		 * Claimed messages are marked as {@link MessageStatusId#SENDING} and committed before this method returns,
+		 * which is our guarantee that no message is ever sent twice: other nodes (and subsequent runs of this task) only
+		 * claim {@link MessageStatusId#ENQUEUED} messages.  It also means the database is confirmed writable before
+		 * anything leaves Cobalt - for example, if we are unintentionally operating on a read-replica, this fails fast and
+		 * nothing is sent.
+		 *
+		 * @param batchSize (nonnull) the maximum number of messages to claim
+		 * @return (nonnull) the claimed messages, which might be empty
+		 */
 		@Nonnull
-		protected Boolean dequeueAndSendMessage(@Nonnull MessageLog messageLog) {
-			requireNonNull(messageLog);
+		protected List<MessageLog> claimSendableMessages(@Nonnull Integer batchSize) {
+			requireNonNull(batchSize);
+
+			List<MessageLog> claimedMessageLogs = new ArrayList<>(batchSize);
+
+			getDatabase().transaction(() -> {
+				// Anything in ENQUEUED status can be sent.
+				// SKIP LOCKED lets multiple nodes claim disjoint batches concurrently
+				List<MessageLog> sendableMessageLogs = getDatabase().queryForList("""
+						SELECT *
+						FROM message_log
+						WHERE message_status_id=?
+						ORDER BY enqueued
+						LIMIT ?
+						FOR UPDATE
+						SKIP LOCKED
+						""", MessageLog.class, MessageStatusId.ENQUEUED, batchSize);
+
+				if (sendableMessageLogs.size() == 0)
+					return;
+
+				List<UUID> messageIds = sendableMessageLogs.stream()
+						.map(sendableMessageLog -> sendableMessageLog.getMessageId())
+						.collect(Collectors.toList());
+
+				List<Object> parameters = new ArrayList<>(messageIds.size() + 1);
+				parameters.add(MessageStatusId.SENDING);
+				parameters.addAll(messageIds);
+
+				getDatabase().execute(format("""
+						UPDATE message_log
+						SET message_status_id=?, sending_started_at=NOW()
+						WHERE message_id IN %s
+						""", sqlInListPlaceholders(messageIds)), sqlVaragsParameters(parameters));
+
+				claimedMessageLogs.addAll(sendableMessageLogs);
+			});
 
-			MessageSender messageSender;
-			Message deserializedMessage;
-
-			if (messageLog.getMessageTypeId() == MessageTypeId.EMAIL) {
-				deserializedMessage = getEmailMessageSerializer().deserializeMessage(messageLog.getSerializedMessage());
-				messageSender = getEmailMessageSender();
-			} else if (messageLog.getMessageTypeId() == MessageTypeId.SMS) {
-				deserializedMessage = getSmsMessageSerializer().deserializeMessage(messageLog.getSerializedMessage());
-				messageSender = getEnterprisePluginProvider().enterprisePluginForInstitutionId(deserializedMessage.getInstitutionId()).smsMessageSender();
-			} else if (messageLog.getMessageTypeId() == MessageTypeId.CALL) {
-				deserializedMessage = getCallMessageSerializer().deserializeMessage(messageLog.getSerializedMessage());
-				messageSender = getEnterprisePluginProvider().enterprisePluginForInstitutionId(deserializedMessage.getInstitutionId()).callMessageSender();
-			} else if (messageLog.getMessageTypeId() == MessageTypeId.PUSH) {
-				deserializedMessage = getPushMessageSerializer().deserializeMessage(messageLog.getSerializedMessage());
-				PushMessage pushMessage = (PushMessage) deserializedMessage;
-				messageSender = getEnterprisePluginProvider().enterprisePluginForInstitutionId(deserializedMessage.getInstitutionId()).pushMessageSenderForPushTokenTypeId(pushMessage.getClientDevicePushTokenTypeId());
-			} else {
-				throw new IllegalStateException(format("Sorry, %s.%s is not yet supported.",
-						MessageTypeId.class.getSimpleName(), messageLog.getMessageTypeId().name()));
+			return claimedMessageLogs;
+		}
+
+		/**
+		 * Marks messages that have been {@link MessageStatusId#SENDING} for too long as {@link MessageStatusId#ERROR}.
+		 * <p>
+		 * This happens when the instance that claimed a message goes away before recording the outcome of its send.
+		 * We can't know whether the vendor accepted the message, so it is not re-enqueued - that could send it twice.
+		 */
+		protected void failAbandonedSendingMessages() {
+			List<UUID> abandonedMessageIds = getDatabase().queryForList("""
+					UPDATE message_log
+					SET message_status_id=?, processed=NOW(), stack_trace=?
+					WHERE message_status_id=?
+					AND COALESCE(sending_started_at, enqueued, created) <= NOW() - ? * INTERVAL '1 second'
+					RETURNING message_id
+					""", UUID.class, MessageStatusId.ERROR,
+					format("Message was still %s after %d seconds; its sender most likely went away before recording the outcome",
+							MessageStatusId.SENDING.name(), getAbandonedSendingMessageThresholdInSeconds()),
+					MessageStatusId.SENDING, getAbandonedSendingMessageThresholdInSeconds());
+
+			for (UUID abandonedMessageId : abandonedMessageIds)
+				getLogger().warn("Message ID {} was abandoned in {} status, marked it as {}.", abandonedMessageId,
+						MessageStatusId.SENDING.name(), MessageStatusId.ERROR.name());
+		}
+
+		/**
+		 * Fans out sends for already-claimed messages to the worker pool for each message's type and waits for all of them to finish.
+		 * <p>
+		 * Each message's outcome is committed as soon as its own send completes, so vendor webhooks that arrive right after a
+		 * send can find the message by its vendor-assigned ID.
+		 *
+		 * @param messageLogs (nonnull) the claimed messages to send
+		 * @return (nonnull) the outcome of each send, in the same order as {@code messageLogs}
+		 */
+		@Nonnull
+		protected List<MessageSendResult> sendClaimedMessages(@Nonnull List<MessageLog> messageLogs) {
+			requireNonNull(messageLogs);
+
+			List<CompletableFuture<MessageSendResult>> messageSendResultFutures = new ArrayList<>(messageLogs.size());
+
+			for (MessageLog messageLog : messageLogs) {
+				ExecutorService sendMessageWorkerExecutorService = getMessageService().getSendMessageWorkerExecutorService(messageLog.getMessageTypeId()).orElse(null);
+				CompletableFuture<MessageSendResult> messageSendResultFuture = null;
+
+				if (sendMessageWorkerExecutorService != null) {
+					try {
+						messageSendResultFuture = CompletableFuture.supplyAsync(() -> sendAndRecordClaimedMessage(messageLog), sendMessageWorkerExecutorService);
+					} catch (RejectedExecutionException e) {
+						getLogger().warn("Send-message worker pool for {} is not accepting work, sending message ID {} on the current thread instead...",
+								messageLog.getMessageTypeId().name(), messageLog.getMessageId());
+					}
+				}
+
+				// We have already claimed this message, so it must be sent even if the worker pool is shutting down
+				if (messageSendResultFuture == null)
+					messageSendResultFuture = CompletableFuture.completedFuture(sendAndRecordClaimedMessage(messageLog));
+
+				messageSendResultFutures.add(messageSendResultFuture);
 			}
 
-			try {
-				// Mark the message as "sending" immediately prior to the message leaving Cobalt.
-				// This will ensure there is no issue writing to the database prior to sending (gives confidence we can mark the message as sent after sending it).
-				// For example, suppose we are unintentionally operating on a read-replica.  This would fail-fast and the message would never be sent.
-				// If this write did not occur, the message could be sent and then fail to be marked as sent, causing repeated re-sends.
-				getDatabase().execute("UPDATE message_log SET message_status_id=? WHERE message_id=?",
-						MessageStatusId.SENDING, deserializedMessage.getMessageId());
+			List<MessageSendResult> messageSendResults = new ArrayList<>(messageSendResultFutures.size());
 
-				String vendorAssignedId = messageSender.sendMessage(deserializedMessage);
+			for (int i = 0; i < messageSendResultFutures.size(); ++i) {
+				MessageLog messageLog = messageLogs.get(i);
 
 				try {
-					getDatabase().execute("UPDATE message_log SET message_status_id=?, vendor_assigned_id=?, processed=NOW() WHERE message_id=?",
-							MessageStatusId.SENT, vendorAssignedId, deserializedMessage.getMessageId());
-
-					return true;
+					messageSendResults.add(messageSendResultFutures.get(i).join());
 				} catch (Throwable t) {
+					// Should not happen since sendAndRecordClaimedMessage handles its own failures, but one message must never sink the rest of the batch
 					try {
-						// Not much we can do, just bail
-						getLogger().error(format("Unable to update message log for message ID %s", deserializedMessage.getMessageId()), t);
+						getLogger().error(format("Unable to complete send for message ID %s", messageLog.getMessageId()), t);
 						getErrorReporter().report(t);
 					} finally {
-						forceTransitionMessageToError(deserializedMessage);
+						forceTransitionMessageToError(messageLog.getMessageId());
 					}
 
-					return false;
+					messageSendResults.add(new MessageSendResult(messageLog.getMessageId(), MessageStatusId.ERROR, null, null));
 				}
+			}
+
+			return messageSendResults;
+		}
+
+		/**
+		 * Sends a claimed message and immediately commits its outcome in its own transaction.
+		 *
+		 * @param messageLog (nonnull) the claimed message to send
+		 * @return (nonnull) the outcome of the send
+		 */
+		@Nonnull
+		protected MessageSendResult sendAndRecordClaimedMessage(@Nonnull MessageLog messageLog) {
+			requireNonNull(messageLog);
+
+			MessageSendResult messageSendResult;
+
+			try {
+				messageSendResult = sendClaimedMessage(messageLog);
 			} catch (Throwable t) {
 				getLogger().warn(format("Unable to send message with message ID %s, going to mark as %s...",
-						deserializedMessage.getMessageId(), MessageStatusId.ERROR.name()), t);
+						messageLog.getMessageId(), MessageStatusId.ERROR.name()), t);
 
 				String stackTrace = null;
 
@@ -819,24 +995,167 @@ public class MessageService implements AutoCloseable {
 					stackTrace = getFormatter().formatStackTrace(t);
 				} catch (Throwable t2) {
 					getLogger().warn(format("Unable to extract stack trace for failed message send for message ID %s",
-							deserializedMessage.getMessageId()), t);
+							messageLog.getMessageId()), t);
 				}
 
+				messageSendResult = new MessageSendResult(messageLog.getMessageId(), MessageStatusId.ERROR, null, stackTrace);
+			}
+
+			// If the send was interrupted, clear the interrupt so it doesn't also break the write that records the outcome
+			boolean interrupted = Thread.interrupted();
+
+			try {
+				recordMessageSendResult(messageSendResult);
+			} finally {
+				if (interrupted)
+					Thread.currentThread().interrupt();
+			}
+
+			return messageSendResult;
+		}
+
+		@Nonnull
+		protected MessageSendResult sendClaimedMessage(@Nonnull MessageLog messageLog) {
+			requireNonNull(messageLog);
+
+			InstitutionId institutionId = messageLog.getInstitutionId() == null ? InstitutionId.COBALT : messageLog.getInstitutionId();
+			CurrentContext currentContext = new CurrentContext.Builder(institutionId,
+					getConfiguration().getDefaultLocale(), getConfiguration().getDefaultTimeZone()).build();
+
+			Holder<MessageSendResult> messageSendResultHolder = new Holder<>();
+
+			getCurrentContextExecutor().execute(currentContext, () -> {
 				try {
-					getDatabase().execute("UPDATE message_log SET message_status_id=?, processed=NOW(), stack_trace=? WHERE message_id=?",
-							MessageStatusId.ERROR, stackTrace, deserializedMessage.getMessageId());
+					MessageSender messageSender;
+					Message deserializedMessage;
+
+					if (messageLog.getMessageTypeId() == MessageTypeId.EMAIL) {
+						deserializedMessage = getEmailMessageSerializer().deserializeMessage(messageLog.getSerializedMessage());
+						messageSender = getEmailMessageSender();
+					} else if (messageLog.getMessageTypeId() == MessageTypeId.SMS) {
+						deserializedMessage = getSmsMessageSerializer().deserializeMessage(messageLog.getSerializedMessage());
+						messageSender = getEnterprisePluginProvider().enterprisePluginForInstitutionId(deserializedMessage.getInstitutionId()).smsMessageSender();
+					} else if (messageLog.getMessageTypeId() == MessageTypeId.CALL) {
+						deserializedMessage = getCallMessageSerializer().deserializeMessage(messageLog.getSerializedMessage());
+						messageSender = getEnterprisePluginProvider().enterprisePluginForInstitutionId(deserializedMessage.getInstitutionId()).callMessageSender();
+					} else if (messageLog.getMessageTypeId() == MessageTypeId.PUSH) {
+						deserializedMessage = getPushMessageSerializer().deserializeMessage(messageLog.getSerializedMessage());
+						PushMessage pushMessage = (PushMessage) deserializedMessage;
+						messageSender = getEnterprisePluginProvider().enterprisePluginForInstitutionId(deserializedMessage.getInstitutionId()).pushMessageSenderForPushTokenTypeId(pushMessage.getClientDevicePushTokenTypeId());
+					} else {
+						throw new IllegalStateException(format("Sorry, %s.%s is not yet supported.",
+								MessageTypeId.class.getSimpleName(), messageLog.getMessageTypeId().name()));
+					}
+
+					MessageVendorId messageVendorId = messageSender.getMessageVendorId();
+					int attempt = 1;
+
+					while (true) {
+						// Pace ourselves so we stay under vendor (and institution) send rates
+						Duration rateLimiterWait = getMessageSendRateLimiter().acquire(institutionId, messageVendorId);
+						getMessageSendMetrics().recordRateLimiterWait(messageVendorId, rateLimiterWait);
+
+						long startTime = System.nanoTime();
+
+						try {
+							String vendorAssignedId = messageSender.sendMessage(deserializedMessage);
+							getMessageSendMetrics().recordSendSucceeded(messageVendorId, Duration.ofNanos(System.nanoTime() - startTime));
+							messageSendResultHolder.setValue(new MessageSendResult(messageLog.getMessageId(), MessageStatusId.SENT, vendorAssignedId, null));
+							break;
+						} catch (MessageSenderThrottledException e) {
+							getMessageSendMetrics().recordVendorThrottled(messageVendorId);
+
+							// The vendor rejected the send, so the message never left Cobalt - safe to put it back in the queue
+							// for a later run instead of marking it as an error
+							if (attempt >= getMaximumThrottledSendAttempts()) {
+								getLogger().warn("{} is still throttling message ID {} after {} attempt[s], re-enqueuing it for a later run...",
+										messageVendorId.name(), messageLog.getMessageId(), attempt);
+								getMessageSendMetrics().recordRequeued(messageVendorId);
+								messageSendResultHolder.setValue(new MessageSendResult(messageLog.getMessageId(), MessageStatusId.ENQUEUED, null, null));
+								break;
+							}
+
+							long backoffInMilliseconds = e.getRetryAfter().isPresent() ? e.getRetryAfter().get().toMillis()
+									: Math.min(getThrottledSendInitialBackoffInMilliseconds() << (attempt - 1), getThrottledSendMaximumBackoffInMilliseconds());
+
+							getLogger().info("{} throttled message ID {} on attempt {}, backing off for {} ms...",
+									messageVendorId.name(), messageLog.getMessageId(), attempt, backoffInMilliseconds);
+
+							try {
+								Thread.sleep(backoffInMilliseconds);
+							} catch (InterruptedException interruptedException) {
+								// Most likely shutting down.  The vendor never accepted the message, so put it back in the queue
+								// for a later run instead of marking it as an error, and let our caller see the interrupt
+								Thread.currentThread().interrupt();
+								getLogger().warn("Interrupted while backing off from {} throttling for message ID {}, re-enqueuing it for a later run...",
+										messageVendorId.name(), messageLog.getMessageId());
+								getMessageSendMetrics().recordRequeued(messageVendorId);
+								messageSendResultHolder.setValue(new MessageSendResult(messageLog.getMessageId(), MessageStatusId.ENQUEUED, null, null));
+								break;
+							}
+
+							++attempt;
+						}
+					}
+				} catch (Throwable t) {
+					getLogger().warn(format("Unable to send message with message ID %s, going to mark as %s...",
+							messageLog.getMessageId(), MessageStatusId.ERROR.name()), t);
+
+					String stackTrace = null;
 
-					return false;
-				} catch (Throwable t2) {
-					// Not much we can do, just bail
 					try {
-						getLogger().error(format("Unable to update message log for message ID %s", deserializedMessage.getMessageId()), t2);
-						getErrorReporter().report(t2);
-					} finally {
-						forceTransitionMessageToError(deserializedMessage);
+						stackTrace = getFormatter().formatStackTrace(t);
+					} catch (Throwable t2) {
+						getLogger().warn(format("Unable to extract stack trace for failed message send for message ID %s",
+								messageLog.getMessageId()), t);
 					}
 
-					return false;
+					if (messageLog.getMessageVendorId() != null)
+						getMessageSendMetrics().recordSendFailed(messageLog.getMessageVendorId());
+
+					messageSendResultHolder.setValue(new MessageSendResult(messageLog.getMessageId(), MessageStatusId.ERROR, null, stackTrace));
+				}
+			});
+
+			return messageSendResultHolder.getValue().get();
+		}
+
+		/**
+		 * Commits the outcome of a single send in its own transaction.
+		 * <p>
+		 * If the update fails, the message is forced to {@link MessageStatusId#ERROR} so it cannot be left stuck in
+		 * {@link MessageStatusId#SENDING}.
+		 *
+		 * @param messageSendResult (nonnull) the send outcome to record
+		 */
+		protected void recordMessageSendResult(@Nonnull MessageSendResult messageSendResult) {
+			requireNonNull(messageSendResult);
+
+			try {
+				getDatabase().transaction(() -> {
+					if (messageSendResult.getMessageStatusId() == MessageStatusId.ENQUEUED)
+						getDatabase().execute("""
+								UPDATE message_log
+								SET message_status_id=?, sending_started_at=NULL
+								WHERE message_id=?
+								AND message_status_id=?
+								""", MessageStatusId.ENQUEUED, messageSendResult.getMessageId(), MessageStatusId.SENDING);
+					else
+						getDatabase().execute("""
+										UPDATE message_log
+										SET message_status_id=?, vendor_assigned_id=?, stack_trace=?, processed=NOW()
+										WHERE message_id=?
+										AND message_status_id=?
+										""", messageSendResult.getMessageStatusId(), messageSendResult.getVendorAssignedId().orElse(null),
+								messageSendResult.getStackTrace().orElse(null), messageSendResult.getMessageId(), MessageStatusId.SENDING);
+				});
+			} catch (Throwable t) {
+				try {
+					// Not much we can do, just bail
+					getLogger().error(format("Unable to update message log for message ID %s", messageSendResult.getMessageId()), t);
+					getErrorReporter().report(t);
+				} finally {
+					forceTransitionMessageToError(messageSendResult.getMessageId());
 				}
 			}
 		}
@@ -847,54 +1166,53 @@ public class MessageService implements AutoCloseable {
 					getConfiguration().getDefaultLocale(), getConfiguration().getDefaultTimeZone()).build();
 
 			getCurrentContextExecutor().execute(currentContext, () -> {
-				// Not used for thead safety, but rather as a "pinned" reference we can change inside of the closure
-				AtomicBoolean moreMessagesExist = new AtomicBoolean(true);
-				AtomicInteger totalMessagesProcessed = new AtomicInteger(0);
-				AtomicInteger totalMessagesSent = new AtomicInteger(0);
-				AtomicInteger totalMessagesFailed = new AtomicInteger(0);
-
-				while (moreMessagesExist.get()) {
-					getDatabase().transaction(() -> {
-						// For now, keep batch size at 1 so we insert right away after the send, which
-						// means by the time a confirmation webhook arrives, we'll certainly have the transaction committed/record ready to receive it.
-						// In the future, if we need higher-volume sending, we should revisit this approach
-						int batchSize = 1;
-
-						// Anything in ENQUEUED status can be sent
-						List<MessageLog> sendableMessages = getDatabase().queryForList("""
-								SELECT *
-								FROM message_log
-								WHERE message_status_id=?
-								LIMIT ?
-								FOR UPDATE
-								SKIP LOCKED
-								""", MessageLog.class, MessageStatusId.ENQUEUED, batchSize);
-
-						if (sendableMessages.size() == 0) {
-							moreMessagesExist.set(false);
-						} else {
-							getLogger().info("Sending a batch of {} message[s]...", sendableMessages.size());
-							int i = 0;
+				// Each message's status transition is committed as soon as its own send completes, so the batch size
+				// only controls how many messages are claimed (and sent concurrently) at once
+				Integer batchSize = getConfiguration().getMessageSendBatchSize();
+				int totalMessagesProcessed = 0;
+				int totalMessagesSent = 0;
+				int totalMessagesFailed = 0;
+				int totalMessagesRequeued = 0;
 
-							for (MessageLog sendableMessage : sendableMessages) {
-								totalMessagesProcessed.incrementAndGet();
+				try {
+					failAbandonedSendingMessages();
+				} catch (Exception e) {
+					getLogger().warn("Unable to fail abandoned sending messages, will retry on the next run", e);
+				}
 
-								getLogger().info("Sending message {} of {}...", i + 1, sendableMessages.size());
+				while (true) {
+					List<MessageLog> claimedMessageLogs = claimSendableMessages(batchSize);
 
-								if (dequeueAndSendMessage(sendableMessage))
-									totalMessagesSent.incrementAndGet();
-								else
-									totalMessagesFailed.incrementAndGet();
+					if (claimedMessageLogs.size() == 0)
+						break;
 
-								++i;
-							}
+					getLogger().info("Sending a batch of {} message[s]...", claimedMessageLogs.size());
+
+					List<MessageSendResult> messageSendResults = sendClaimedMessages(claimedMessageLogs);
+
+					boolean throttled = false;
+
+					for (MessageSendResult messageSendResult : messageSendResults) {
+						++totalMessagesProcessed;
+
+						if (messageSendResult.getMessageStatusId() == MessageStatusId.SENT) {
+							++totalMessagesSent;
+						} else if (messageSendResult.getMessageStatusId() == MessageStatusId.ENQUEUED) {
+							++totalMessagesRequeued;
+							throttled = true;
+						} else {
+							++totalMessagesFailed;
 						}
-					});
+					}
+
+					// A vendor is still throttling us after backing off - stop for now and let the next scheduled run pick up the rest
+					if (throttled)
+						break;
 				}
 
-				if (totalMessagesProcessed.get() > 0)
-					getLogger().info("Processed a total of {} message[s] in this send-message task invocation: {} sent and {} failed.",
-							totalMessagesProcessed.get(), totalMessagesSent.get(), totalMessagesFailed.get());
+				if (totalMessagesProcessed > 0)
+					getLogger().info("Processed a total of {} message[s] in this send-message task invocation: {} sent, {} failed, and {} re-enqueued due to vendor throttling.",
+							totalMessagesProcessed, totalMessagesSent, totalMessagesFailed, totalMessagesRequeued);
 			});
 		}
 
@@ -953,6 +1271,36 @@ public class MessageService implements AutoCloseable {
 			return this.formatter;
 		}
 
+		@Nonnull
+		protected MessageSendRateLimiter getMessageSendRateLimiter() {
+			return this.messageSendRateLimiter;
+		}
+
+		@Nonnull
+		protected MessageSendMetrics getMessageSendMetrics() {
+			return this.messageSendMetrics;
+		}
+
+		@Nonnull
+		protected Integer getMaximumThrottledSendAttempts() {
+			return MAXIMUM_THROTTLED_SEND_ATTEMPTS;
+		}
+
+		@Nonnull
+		protected Long getThrottledSendInitialBackoffInMilliseconds() {
+			return THROTTLED_SEND_INITIAL_BACKOFF_IN_MILLISECONDS;
+		}
+
+		@Nonnull
+		protected Long getThrottledSendMaximumBackoffInMilliseconds() {
+			return THROTTLED_SEND_MAXIMUM_BACKOFF_IN_MILLISECONDS;
+		}
+
+		@Nonnull
+		protected Long getAbandonedSendingMessageThresholdInSeconds() {
+			return ABANDONED_SENDING_MESSAGE_THRESHOLD_IN_SECONDS;
+		}
+
 		@Nonnull
 		protected Configuration getConfiguration() {
 			return this.configuration;
@@ -964,6 +1312,77 @@ public class MessageService implements AutoCloseable {
 		}
 	}
 
+	@NotThreadSafe
+	protected static class MessageTypeIdWithCount {
+		@Nullable
+		private MessageTypeId messageTypeId;
+		@Nullable
+		private Long count;
+
+		@Nullable
+		public MessageTypeId getMessageTypeId() {
+			return this.messageTypeId;
+		}
+
+		public void setMessageTypeId(@Nullable MessageTypeId messageTypeId) {
+			this.messageTypeId = messageTypeId;
+		}
+
+		@Nullable
+		public Long getCount() {
+			return this.count;
+		}
+
+		public void setCount(@Nullable Long count) {
+			this.count = count;
+		}
+	}
+
+	@Immutable
+	protected static class MessageSendResult {
+		@Nonnull
+		private final UUID messageId;
+		@Nonnull
+		private final MessageStatusId messageStatusId;
+		@Nullable
+		private final String vendorAssignedId;
+		@Nullable
+		private final String stackTrace;
+
+		public MessageSendResult(@Nonnull UUID messageId,
+														 @Nonnull MessageStatusId messageStatusId,
+														 @Nullable String vendorAssignedId,
+														 @Nullable String stackTrace) {
+			requireNonNull(messageId);
+			requireNonNull(messageStatusId);
+
+			this.messageId = messageId;
+			this.messageStatusId = messageStatusId;
+			this.vendorAssignedId = vendorAssignedId;
+			this.stackTrace = stackTrace;
+		}
+
+		@Nonnull
+		public UUID getMessageId() {
+			return this.messageId;
+		}
+
+		@Nonnull
+		public MessageStatusId getMessageStatusId() {
+			return this.messageStatusId;
+		}
+
+		@Nonnull
+		public Optional<String> getVendorAssignedId() {
+			return Optional.ofNullable(this.vendorAssignedId);
+		}
+
+		@Nonnull
+		public Optional<String> getStackTrace() {
+			return Optional.ofNullable(this.stackTrace);
+		}
+	}
+
 	@ThreadSafe
 	public static class ScheduledMessageTask implements Runnable {
 		@Nonnull
@@ -1276,6 +1695,14 @@ public class MessageService implements AutoCloseable {
 		return Optional.ofNullable(scheduledMessageTaskExecutorService);
 	}
 
+	@Nonnull
+	protected Optional<ExecutorService> getSendMessageWorkerExecutorService(@Nonnull MessageTypeId messageTypeId) {
+		requireNonNull(messageTypeId);
+
+		Map<MessageTypeId, ExecutorService> sendMessageWorkerExecutorServicesByMessageTypeId = this.sendMessageWorkerExecutorServicesByMessageTypeId;
+		return sendMessageWorkerExecutorServicesByMessageTypeId == null ? Optional.empty() : Optional.ofNullable(sendMessageWorkerExecutorServicesByMessageTypeId.get(messageTypeId));
+	}
+
 	@Nonnull
 	protected Logger getLogger() {
 		return logger;
@@ -0,0 +1,718 @@
+/*
+ * Copyright 2021 The University of Pennsylvania and Penn Medicine
+ *
+ * Originally created at the University of Pennsylvania and Penn Medicine by:
+ * Dr. David Asch; Dr. Lisa Bellini; Dr. Cecilia Livesey; Kelley Kugler; and Dr. Matthew Press.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cobaltplatform.api.service;
+
+import com.cobaltplatform.api.Configuration;
+import com.cobaltplatform.api.model.db.Institution.InstitutionId;
+import com.cobaltplatform.api.model.db.PatientOrderProjectionStatus;
+import com.cobaltplatform.api.model.service.AdvisoryLock;
+import com.cobaltplatform.api.util.ExecutorServiceUtility;
+import com.cobaltplatform.api.util.db.DatabaseProvider;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.pyranid.Database;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.NotThreadSafe;
+import javax.annotation.concurrent.ThreadSafe;
+import javax.inject.Inject;
+import javax.inject.Provider;
+import javax.inject.Singleton;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Keeps the {@code patient_order_projection} table in sync with {@code v_all_patient_order}.
+ * <p>
+ * Database triggers enqueue the IDs of patient orders whose view data may have changed into {@code patient_order_projection_queue}.
+ * This service drains that queue on a background thread and re-projects the affected orders.
+ * Because some view columns are time-dependent (e.g. "outreach follow-up needed" flips after N days with no writes at all),
+ * orders are also periodically re-projected by a reconciler.
+ * <p>
+ * Whether the projection is used is a cluster-wide setting in {@code patient_order_projection_status}, changed only by an
+ * administrator via {@link #updatePatientOrderProjectionEnabled(Boolean)}.  Every node polls it on the refresh interval,
+ * so after it's turned off, other nodes may keep reading the projection for up to one interval.
+ * <p>
+ * Reads that need to see just-made writes (single-order lookups, panel lists and counts) re-project queued orders inline first.
+ *
+ * @author Transmogrify, LLC.
+ */
+@Singleton
+@ThreadSafe
+public class PatientOrderProjectionService implements AutoCloseable {
+	@Nonnull
+	private static final Integer REFRESH_BATCH_SIZE;
+	@Nonnull
+	private static final Integer RECONCILE_BATCH_SIZE;
+	@Nonnull
+	private static final String PROJECTED_AT_COLUMN_NAME;
+
+	@Nonnull
+	private final Provider<SystemService> systemServiceProvider;
+	@Nonnull
+	private final DatabaseProvider databaseProvider;
+	@Nonnull
+	private final Configuration configuration;
+	@Nonnull
+	private final Object lock;
+	@Nonnull
+	private final Logger logger;
+
+	@Nullable
+	private ScheduledExecutorService backgroundTaskExecutorService;
+	@Nonnull
+	private Boolean started;
+	@Nullable
+	private List<String> patientOrderProjectionColumnNames;
+	@Nonnull
+	private volatile Boolean patientOrderProjectionEnabled;
+	@Nonnull
+	private volatile Boolean patientOrderProjectionReadable;
+
+	static {
+		REFRESH_BATCH_SIZE = 500;
+		RECONCILE_BATCH_SIZE = 1_000;
+		PROJECTED_AT_COLUMN_NAME = "projected_at";
+	}
+
+	@Inject
+	public PatientOrderProjectionService(@Nonnull Provider<SystemService> systemServiceProvider,
+																			 @Nonnull DatabaseProvider databaseProvider,
+																			 @Nonnull Configuration configuration) {
+		requireNonNull(systemServiceProvider);
+		requireNonNull(databaseProvider);
+		requireNonNull(configuration);
+
+		this.systemServiceProvider = systemServiceProvider;
+		this.databaseProvider = databaseProvider;
+		this.configuration = configuration;
+		this.lock = new Object();
+		this.started = false;
+		this.patientOrderProjectionEnabled = false;
+		this.patientOrderProjectionReadable = false;
+		this.logger = LoggerFactory.getLogger(getClass());
+	}
+
+	@Override
+	public void close() throws Exception {
+		stop();
+	}
+
+	/**
+	 * Starts polling the cluster-wide projection status and, while it's enabled, maintaining the projection.
+	 * <p>
+	 * Fails fast if {@code patient_order_projection} no longer matches {@code v_all_patient_order}, in which case this node
+	 * keeps reading from the view.
+	 */
+	@Nonnull
+	public Boolean start() {
+		synchronized (getLock()) {
+			if (isStarted())
+				return false;
+
+			getLogger().trace("Starting patient order projection...");
+
+			// Throws if the view has been redefined without recreating the projection table
+			getPatientOrderProjectionColumnNames();
+
+			reloadPatientOrderProjectionStatus();
+
+			this.backgroundTaskExecutorService = Executors.newScheduledThreadPool(2, new ThreadFactoryBuilder().setNameFormat("patient-order-projection-%d").build());
+			this.started = true;
+
+			Long refreshIntervalInSeconds = getConfiguration().getPatientOrderProjectionRefreshIntervalInSeconds();
+			Long reconcileIntervalInSeconds = getConfiguration().getPatientOrderProjectionReconcileIntervalInSeconds();
+
+			getBackgroundTaskExecutorService().get().scheduleWithFixedDelay(new Runnable() {
+				@Override
+				public void run() {
+					try {
+						reloadPatientOrderProjectionStatus();
+
+						// While the projection is being rebuilt, queued orders wait so they don't race the rebuild
+						if (getPatientOrderProjectionEnabled() && getPatientOrderProjectionReadable())
+							refreshQueuedPatientOrderProjections();
+					} catch (Exception e) {
+						getLogger().warn(format("Unable to refresh queued patient order projections - will retry in %s seconds", refreshIntervalInSeconds), e);
+					}
+				}
+			}, 0, refreshIntervalInSeconds, TimeUnit.SECONDS);
+
+			getBackgroundTaskExecutorService().get().scheduleWithFixedDelay(new Runnable() {
+				@Override
+				public void run() {
+					try {
+						if (getPatientOrderProjectionEnabled() && getPatientOrderProjectionReadable())
+							reconcilePatientOrderProjections();
+					} catch (Exception e) {
+						getLogger().warn(format("Unable to reconcile patient order projections - will retry in %s seconds", reconcileIntervalInSeconds), e);
+					}
+				}
+			}, reconcileIntervalInSeconds, reconcileIntervalInSeconds, TimeUnit.SECONDS);
+
+			getLogger().trace("Patient order projection started.");
+
+			return true;
+		}
+	}
+
+	@Nonnull
+	public Boolean stop() {
+		synchronized (getLock()) {
+			if (!isStarted())
+				return false;
+
+			getLogger().trace("Stopping patient order projection...");
+
+			ExecutorServiceUtility.shutdownAndAwaitTermination(getBackgroundTaskExecutorService().get());
+			this.backgroundTaskExecutorService = null;
+			this.started = false;
+
+			getLogger().trace("Patient order projection stopped.");
+
+			return true;
+		}
+	}
+
+	/**
+	 * Should patient order reads on this node come from the projection rather than {@code v_patient_order}?
+	 *
+	 * @return (nonnull) true if this node is maintaining the projection and it has been fully built
+	 */
+	@Nonnull
+	public Boolean isPatientOrderProjectionReadable() {
+		return isStarted() && getPatientOrderProjectionEnabled() && getPatientOrderProjectionReadable();
+	}
+
+	@Nonnull
+	public PatientOrderProjectionStatus findPatientOrderProjectionStatus() {
+		return getDatabase().queryForObject("""
+				SELECT enabled, readable, last_updated
+				FROM patient_order_projection_status
+				""", PatientOrderProjectionStatus.class).get();
+	}
+
+	/**
+	 * Administrator action: turns the projection on or off for the whole cluster.
+	 * <p>
+	 * Turning it off stops the enqueue triggers and clears the queue, since nothing will drain it.
+	 * Turning it on is two steps: the triggers are enabled first, then the projection is rebuilt from the view and marked
+	 * readable, so a write made during the rebuild is either in the rebuild or in the queue.  The rebuild can be slow.
+	 * <p>
+	 * Must be called outside of a transaction, since each step commits on its own.
+	 *
+	 * @param enabled (nonnull) should the projection be maintained and read from?
+	 */
+	public void updatePatientOrderProjectionEnabled(@Nonnull Boolean enabled) {
+		requireNonNull(enabled);
+
+		if (getDatabase().currentTransaction().isPresent())
+			throw new IllegalStateException("Patient order projection status must be changed outside of a transaction");
+
+		if (!enabled) {
+			getDatabase().transaction(() -> {
+				lockPatientOrderProjectionStatus();
+
+				getDatabase().execute("""
+						UPDATE patient_order_projection_status
+						SET enabled=FALSE, readable=FALSE, last_updated=NOW()
+						""");
+
+				getDatabase().execute("DELETE FROM patient_order_projection_queue");
+			});
+
+			getLogger().info("Patient order projection has been disabled.");
+			reloadPatientOrderProjectionStatus();
+			return;
+		}
+
+		// Don't turn the triggers on for a projection we can't write to
+		getPatientOrderProjectionColumnNames();
+
+		AtomicBoolean alreadyReadable = new AtomicBoolean(false);
+
+		getDatabase().transaction(() -> {
+			PatientOrderProjectionStatus patientOrderProjectionStatus = lockPatientOrderProjectionStatus();
+
+			if (patientOrderProjectionStatus.getEnabled() && patientOrderProjectionStatus.getReadable()) {
+				alreadyReadable.set(true);
+				return;
+			}
+
+			getDatabase().execute("""
+					UPDATE patient_order_projection_status
+					SET enabled=TRUE, readable=FALSE, last_updated=NOW()
+					""");
+		});
+
+		if (alreadyReadable.get()) {
+			getLogger().info("Patient order projection is already enabled.");
+			return;
+		}
+
+		getLogger().info("Patient order projection triggers enabled, rebuilding projection...");
+
+		getDatabase().transaction(() -> {
+			PatientOrderProjectionStatus patientOrderProjectionStatus = lockPatientOrderProjectionStatus();
+
+			// Disabled again while we were between steps
+			if (!patientOrderProjectionStatus.getEnabled())
+				return;
+
+			rebuildPatientOrderProjections();
+
+			getDatabase().execute("""
+					UPDATE patient_order_projection_status
+					SET readable=TRUE, last_updated=NOW()
+					""");
+		});
+
+		getLogger().info("Patient order projection has been rebuilt and enabled.");
+		reloadPatientOrderProjectionStatus();
+	}
+
+	/**
+	 * Replaces every projection row with fresh data from {@code v_all_patient_order}.
+	 * <p>
+	 * Must be called inside a transaction.  Takes an exclusive lock on the projection table so no incremental refresh
+	 * can interleave with the rebuild.
+	 */
+	public void rebuildPatientOrderProjections() {
+		getDatabase().execute("LOCK TABLE patient_order_projection IN EXCLUSIVE MODE");
+		getDatabase().execute("DELETE FROM patient_order_projection");
+		getDatabase().execute(format("""
+				INSERT INTO patient_order_projection (%s)
+				SELECT %s
+				FROM v_all_patient_order vapo
+				""", patientOrderProjectionInsertColumnsSql(), patientOrderProjectionSelectColumnsSql()));
+	}
+
+	/**
+	 * Drains the projection queue, re-projecting each batch of queued patient orders in its own transaction.
+	 * <p>
+	 * Safe to run on multiple nodes at once - queue rows are claimed with {@code SKIP LOCKED}.
+	 *
+	 * @return (nonnull) the number of patient orders that were re-projected
+	 */
+	@Nonnull
+	public Integer refreshQueuedPatientOrderProjections() {
+		int totalRefreshedCount = 0;
+
+		while (true) {
+			List<UUID> patientOrderIds = new ArrayList<>();
+
+			getDatabase().transaction(() -> {
+				patientOrderIds.addAll(getDatabase().queryForList("""
+						DELETE FROM patient_order_projection_queue
+						WHERE patient_order_id IN (
+						  SELECT patient_order_id
+						  FROM patient_order_projection_queue
+						  ORDER BY enqueued_at
+						  LIMIT ?
+						  FOR UPDATE SKIP LOCKED
+						)
+						RETURNING patient_order_id
+						""", UUID.class, getRefreshBatchSize()));
+
+				refreshPatientOrderProjections(patientOrderIds);
+			});
+
+			totalRefreshedCount += patientOrderIds.size();
+
+			if (patientOrderIds.size() < getRefreshBatchSize())
+				break;
+		}
+
+		if (totalRefreshedCount > 0)
+			getLogger().trace("Refreshed {} queued patient order projection[s].", totalRefreshedCount);
+
+		return totalRefreshedCount;
+	}
+
+	/**
+	 * Re-projects any queued orders for the institution right away, so institution-wide lists and counts see writes
+	 * that were just made instead of waiting for the background refresh.
+	 * <p>
+	 * Queue rows are left for the background refresh to clear; re-projecting an order twice is harmless.
+	 *
+	 * @param institutionId (nullable) the institution whose queued orders should be re-projected
+	 */
+	public void refreshQueuedPatientOrderProjectionsForInstitutionId(@Nullable InstitutionId institutionId) {
+		if (institutionId == null)
+			return;
+
+		refreshQueuedPatientOrderProjections("po.institution_id=?", institutionId);
+	}
+
+	/**
+	 * Re-projects any queued orders in the panel right away, so panel lists and counts see writes that were just made.
+	 *
+	 * @param panelAccountId (nullable) the panel account whose queued orders should be re-projected
+	 */
+	public void refreshQueuedPatientOrderProjectionsForPanelAccountId(@Nullable UUID panelAccountId) {
+		if (panelAccountId == null)
+			return;
+
+		refreshQueuedPatientOrderProjections("po.panel_account_id=?", panelAccountId);
+	}
+
+	protected void refreshQueuedPatientOrderProjections(@Nonnull String whereClause,
+																											@Nonnull Object parameter) {
+		requireNonNull(whereClause);
+		requireNonNull(parameter);
+
+		List<UUID> patientOrderIds = getDatabase().queryForList(format("""
+				SELECT q.patient_order_id
+				FROM patient_order_projection_queue q, patient_order po
+				WHERE q.patient_order_id=po.patient_order_id
+				AND %s
+				ORDER BY q.enqueued_at
+				LIMIT ?
+				""", whereClause), UUID.class, parameter, getRefreshBatchSize());
+
+		if (patientOrderIds.size() == 0)
+			return;
+
+		// Advisory locks are transaction-scoped, so make sure we have a transaction to hold them
+		if (getDatabase().currentTransaction().isPresent())
+			refreshPatientOrderProjections(patientOrderIds);
+		else
+			getDatabase().transaction(() -> refreshPatientOrderProjections(patientOrderIds));
+	}
+
+	/**
+	 * Re-projects orders that haven't been projected recently, so time-dependent columns stay accurate.
+	 * Also picks up changes to data that isn't trigger-tracked (e.g. patient addresses, account names, institution settings).
+	 * <p>
+	 * Covers every disposition, not only open orders, since closed and archived orders are listed and counted too.
+	 * Works through every stale order in batches, each batch in its own transaction.
+	 *
+	 * @return (nonnull) the number of patient orders that were re-projected
+	 */
+	@Nonnull
+	public Integer reconcilePatientOrderProjections() {
+		int totalReconciledCount = 0;
+
+		while (true) {
+			List<UUID> patientOrderIds = new ArrayList<>();
+			AtomicBoolean lockAcquired = new AtomicBoolean(false);
+
+			getDatabase().transaction(() -> {
+				lockAcquired.set(getSystemService().performAdvisoryLockOperationIfAvailable(AdvisoryLock.PATIENT_ORDER_PROJECTION_RECONCILE, () -> {
+					patientOrderIds.addAll(getDatabase().queryForList("""
+							SELECT patient_order_id
+							FROM patient_order_projection
+							WHERE projected_at < NOW() - make_interval(secs => ?)
+							ORDER BY projected_at
+							LIMIT ?
+							""", UUID.class, getConfiguration().getPatientOrderProjectionReconcileIntervalInSeconds(), getReconcileBatchSize()));
+
+					refreshPatientOrderProjections(patientOrderIds);
+				}));
+			});
+
+			totalReconciledCount += patientOrderIds.size();
+
+			// Another node is reconciling, or we've caught up
+			if (!lockAcquired.get() || patientOrderIds.size() < getReconcileBatchSize())
+				break;
+		}
+
+		if (totalReconciledCount > 0)
+			getLogger().trace("Reconciled {} patient order projection[s].", totalReconciledCount);
+
+		return totalReconciledCount;
+	}
+
+	/**
+	 * Re-projects the given patient order immediately if it's waiting in the projection queue.
+	 * <p>
+	 * Used on read paths so a transaction that just modified an order sees its own changes, rather than waiting for the background refresh.
+	 *
+	 * @param patientOrderId (nullable) the patient order to check
+	 */
+	public void refreshPatientOrderProjectionIfStale(@Nullable UUID patientOrderId) {
+		if (patientOrderId == null)
+			return;
+
+		Boolean stale = getDatabase().queryForObject("""
+				SELECT EXISTS (
+				  SELECT 1
+				  FROM patient_order_projection_queue
+				  WHERE patient_order_id=?
+				)
+				""", Boolean.class, patientOrderId).get();
+
+		if (!stale)
+			return;
+
+		// Advisory locks are transaction-scoped, so make sure we have a transaction to hold them
+		if (getDatabase().currentTransaction().isPresent())
+			refreshPatientOrderProjections(List.of(patientOrderId));
+		else
+			getDatabase().transaction(() -> refreshPatientOrderProjections(List.of(patientOrderId)));
+	}
+
+	/**
+	 * Replaces projection rows for the given patient orders with fresh data from {@code v_all_patient_order}.
+	 * <p>
+	 * Must be called inside a transaction.  Orders that no longer exist have their projection rows removed.
+	 *
+	 * @param patientOrderIds (nonnull) the patient orders to re-project
+	 */
+	public void refreshPatientOrderProjections(@Nonnull Collection<UUID> patientOrderIds) {
+		requireNonNull(patientOrderIds);
+
+		if (patientOrderIds.size() == 0)
+			return;
+
+		UUID[] patientOrderIdsAsArray = patientOrderIds.stream().distinct().sorted().toArray(UUID[]::new);
+
+		// Serialize concurrent refreshes of the same order (background refresh vs. read-your-writes refresh on a request thread).
+		// Locks are acquired in sorted order to avoid deadlocks
+		getDatabase().queryForList("""
+				SELECT pg_advisory_xact_lock(?, hashtext(ids.patient_order_id::TEXT))::TEXT
+				FROM (
+				  SELECT patient_order_id
+				  FROM UNNEST(CAST(? AS UUID[])) AS patient_order_id
+				  ORDER BY patient_order_id
+				) ids
+				""", String.class, AdvisoryLock.PATIENT_ORDER_PROJECTION_REFRESH.getKey(), (Object) patientOrderIdsAsArray);
+
+		getDatabase().execute("""
+				DELETE FROM patient_order_projection
+				WHERE patient_order_id = ANY (CAST(? AS UUID[]))
+				""", (Object) patientOrderIdsAsArray);
+
+		getDatabase().execute(format("""
+				INSERT INTO patient_order_projection (%s)
+				SELECT %s
+				FROM v_all_patient_order vapo
+				WHERE vapo.patient_order_id = ANY (CAST(? AS UUID[]))
+				""", patientOrderProjectionInsertColumnsSql(), patientOrderProjectionSelectColumnsSql()), (Object) patientOrderIdsAsArray);
+	}
+
+	/**
+	 * The columns copied from {@code v_all_patient_order} into {@code patient_order_projection}, in view order.
+	 * <p>
+	 * Checked against the projection table the first time they're needed: every view column must exist in the table with
+	 * the same type, and the table may only add {@code projected_at}.  If not, the view was redefined without recreating
+	 * the projection (see {@code 259-patient-order-projection.sql}) and this throws rather than copying into the wrong columns.
+	 *
+	 * @return (nonnull) the projected column names
+	 * @throws IllegalStateException if the projection table doesn't match the view
+	 */
+	@Nonnull
+	public List<String> getPatientOrderProjectionColumnNames() {
+		synchronized (getLock()) {
+			if (this.patientOrderProjectionColumnNames != null)
+				return this.patientOrderProjectionColumnNames;
+
+			List<ColumnDefinition> viewColumnDefinitions = findColumnDefinitions("v_all_patient_order");
+			List<ColumnDefinition> projectionColumnDefinitions = findColumnDefinitions("patient_order_projection");
+
+			Set<String> viewColumns = viewColumnDefinitions.stream()
+					.map(columnDefinition -> columnDefinition.getDescription())
+					.collect(Collectors.toCollection(LinkedHashSet::new));
+			Set<String> projectionColumns = projectionColumnDefinitions.stream()
+					.filter(columnDefinition -> !PROJECTED_AT_COLUMN_NAME.equals(columnDefinition.getColumnName()))
+					.map(columnDefinition -> columnDefinition.getDescription())
+					.collect(Collectors.toCollection(LinkedHashSet::new));
+
+			if (!viewColumns.equals(projectionColumns)) {
+				Set<String> missingColumns = new LinkedHashSet<>(viewColumns);
+				missingColumns.removeAll(projectionColumns);
+				Set<String> unexpectedColumns = new LinkedHashSet<>(projectionColumns);
+				unexpectedColumns.removeAll(viewColumns);
+
+				throw new IllegalStateException(format("patient_order_projection no longer matches v_all_patient_order and must be recreated from the view. " +
+						"Missing or changed: %s. Unexpected: %s.", missingColumns, unexpectedColumns));
+			}
+
+			this.patientOrderProjectionColumnNames = viewColumnDefinitions.stream()
+					.map(columnDefinition -> columnDefinition.getColumnName())
+					.collect(Collectors.toUnmodifiableList());
+
+			return this.patientOrderProjectionColumnNames;
+		}
+	}
+
+	@Nonnull
+	protected List<ColumnDefinition> findColumnDefinitions(@Nonnull String relationName) {
+		requireNonNull(relationName);
+
+		return getDatabase().queryForList("""
+				SELECT a.attname AS column_name, format_type(a.atttypid, a.atttypmod) AS data_type
+				FROM pg_attribute a
+				WHERE a.attrelid=CAST(? AS REGCLASS)
+				AND a.attnum > 0
+				AND NOT a.attisdropped
+				ORDER BY a.attnum
+				""", ColumnDefinition.class, relationName);
+	}
+
+	@Nonnull
+	protected String patientOrderProjectionInsertColumnsSql() {
+		List<String> columnNames = new ArrayList<>(getPatientOrderProjectionColumnNames());
+		columnNames.add(PROJECTED_AT_COLUMN_NAME);
+
+		return columnNames.stream()
+				.map(columnName -> quotedIdentifier(columnName))
+				.collect(Collectors.joining(", "));
+	}
+
+	@Nonnull
+	protected String patientOrderProjectionSelectColumnsSql() {
+		List<String> columnNames = getPatientOrderProjectionColumnNames().stream()
+				.map(columnName -> format("vapo.%s", quotedIdentifier(columnName)))
+				.collect(Collectors.toList());
+		columnNames.add("NOW()");
+
+		return columnNames.stream().collect(Collectors.joining(", "));
+	}
+
+	@Nonnull
+	protected String quotedIdentifier(@Nonnull String identifier) {
+		requireNonNull(identifier);
+		return format("\"%s\"", identifier.replace("\"", "\"\""));
+	}
+
+	@Nonnull
+	protected PatientOrderProjectionStatus lockPatientOrderProjectionStatus() {
+		return getDatabase().queryForObject("""
+				SELECT enabled, readable, last_updated
+				FROM patient_order_projection_status
+				FOR UPDATE
+				""", PatientOrderProjectionStatus.class).get();
+	}
+
+	protected void reloadPatientOrderProjectionStatus() {
+		PatientOrderProjectionStatus patientOrderProjectionStatus = findPatientOrderProjectionStatus();
+
+		this.patientOrderProjectionEnabled = patientOrderProjectionStatus.getEnabled();
+		this.patientOrderProjectionReadable = patientOrderProjectionStatus.getReadable();
+	}
+
+	@NotThreadSafe
+	protected static class ColumnDefinition {
+		@Nullable
+		private String columnName;
+		@Nullable
+		private String dataType;
+
+		@Nonnull
+		public String getDescription() {
+			return format("%s %s", getColumnName(), getDataType());
+		}
+
+		@Nullable
+		public String getColumnName() {
+			return this.columnName;
+		}
+
+		public void setColumnName(@Nullable String columnName) {
+			this.columnName = columnName;
+		}
+
+		@Nullable
+		public String getDataType() {
+			return this.dataType;
+		}
+
+		public void setDataType(@Nullable String dataType) {
+			this.dataType = dataType;
+		}
+	}
+
+	@Nonnull
+	public Boolean isStarted() {
+		synchronized (getLock()) {
+			return this.started;
+		}
+	}
+
+	@Nonnull
+	protected Boolean getPatientOrderProjectionEnabled() {
+		return this.patientOrderProjectionEnabled;
+	}
+
+	@Nonnull
+	protected Boolean getPatientOrderProjectionReadable() {
+		return this.patientOrderProjectionReadable;
+	}
+
+	@Nonnull
+	protected Integer getRefreshBatchSize() {
+		return REFRESH_BATCH_SIZE;
+	}
+
+	@Nonnull
+	protected Integer getReconcileBatchSize() {
+		return RECONCILE_BATCH_SIZE;
+	}
+
+	@Nonnull
+	protected SystemService getSystemService() {
+		return this.systemServiceProvider.get();
+	}
+
+	/**
+	 * Always the writable master - projection maintenance writes even when called from a read-replica request.
+	 */
+	@Nonnull
+	protected Database getDatabase() {
+		return this.databaseProvider.getWritableMasterDatabase();
+	}
+
+	@Nonnull
+	protected Configuration getConfiguration() {
+		return this.configuration;
+	}
+
+	@Nonnull
+	protected Optional<ScheduledExecutorService> getBackgroundTaskExecutorService() {
+		return Optional.ofNullable(this.backgroundTaskExecutorService);
+	}
+
+	@Nonnull
+	protected Object getLock() {
+		return this.lock;
+	}
+
+	@Nonnull
+	protected Logger getLogger() {
+		return this.logger;
+	}
+}
@@ -126,6 +126,7 @@ import com.cobaltplatform.api.model.db.PatientOrderDisposition.PatientOrderDispo
 import com.cobaltplatform.api.model.db.PatientOrderEventType.PatientOrderEventTypeId;
 import com.cobaltplatform.api.model.db.PatientOrderFocusType;
 import com.cobaltplatform.api.model.db.PatientOrderImport;
+import com.cobaltplatform.api.model.db.PatientOrderImportRowError;
 import com.cobaltplatform.api.model.db.PatientOrderImportType.PatientOrderImportTypeId;
 import com.cobaltplatform.api.model.db.PatientOrderIntakeInsuranceStatus.PatientOrderIntakeInsuranceStatusId;
 import com.cobaltplatform.api.model.db.PatientOrderIntakeLocationStatus.PatientOrderIntakeLocationStatusId;
@@ -194,12 +195,16 @@ import com.cobaltplatform.api.model.service.ScreeningSessionResult.ScreeningSess
 import com.cobaltplatform.api.model.service.SortDirectionId;
 import com.cobaltplatform.api.model.service.SortNullsId;
 import com.cobaltplatform.api.util.Authenticator;
+import com.cobaltplatform.api.util.ExecutorServiceUtility;
 import com.cobaltplatform.api.util.Formatter;
 import com.cobaltplatform.api.util.Normalizer;
 import com.cobaltplatform.api.util.ValidationException;
 import com.cobaltplatform.api.util.ValidationException.FieldError;
 import com.cobaltplatform.api.util.db.DatabaseProvider;
 import com.devskiller.friendly_id.FriendlyId;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.google.common.hash.Hasher;
 import com.google.common.hash.Hashing;
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.google.gson.Gson;
@@ -211,6 +216,7 @@ import com.google.gson.JsonParseException;
 import com.google.gson.JsonPrimitive;
 import com.google.gson.JsonSerializationContext;
 import com.google.gson.JsonSerializer;
+import com.google.gson.reflect.TypeToken;
 import com.lokalized.Strings;
 import com.pyranid.Database;
 import org.apache.commons.csv.CSVFormat;
@@ -245,9 +251,11 @@ import java.time.format.FormatStyle;
 import java.time.format.TextStyle;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Base64;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
@@ -256,8 +264,13 @@ import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
@@ -286,12 +299,21 @@ public class PatientOrderService implements AutoCloseable {
 	private static final Long BACKGROUND_TASK_INITIAL_DELAY_IN_SECONDS;
 	public static final int MAX_PATIENT_ORDER_IDS_PER_ASSIGN_REQUEST;
 	public static final int MAX_CURRENT_PAGE_PATIENT_ORDERS_FOR_BATCH_LOOKUPS;
+	@Nonnull
+	private static final Long PATIENT_ORDER_TOTAL_COUNT_CACHE_EXPIRATION_IN_SECONDS;
+	@Nonnull
+	private static final Integer PATIENT_ORDER_IMPORT_BATCH_SIZE;
+	@Nonnull
+	private static final Long PATIENT_ORDER_IMPORT_ABANDONED_AFTER_IN_SECONDS;
 
 	static {
 		BACKGROUND_TASK_INTERVAL_IN_SECONDS = 60L * 1L;
 		BACKGROUND_TASK_INITIAL_DELAY_IN_SECONDS = 10L;
 		MAX_PATIENT_ORDER_IDS_PER_ASSIGN_REQUEST = 100;
 		MAX_CURRENT_PAGE_PATIENT_ORDERS_FOR_BATCH_LOOKUPS = 100;
+		PATIENT_ORDER_TOTAL_COUNT_CACHE_EXPIRATION_IN_SECONDS = 30L;
+		PATIENT_ORDER_IMPORT_BATCH_SIZE = 100;
+		PATIENT_ORDER_IMPORT_ABANDONED_AFTER_IN_SECONDS = 60L * 15L;
 	}
 
 	@Nonnull
@@ -313,6 +335,8 @@ public class PatientOrderService implements AutoCloseable {
 	@Nonnull
 	private final Provider<ShortUrlService> shortUrlServiceProvider;
 	@Nonnull
+	private final Provider<PatientOrderProjectionService> patientOrderProjectionServiceProvider;
+	@Nonnull
 	private final Provider<BackgroundTask> backgroundTaskProvider;
 	@Nonnull
 	private final EnterprisePluginProvider enterprisePluginProvider;
@@ -329,12 +353,16 @@ public class PatientOrderService implements AutoCloseable {
 	@Nonnull
 	private final Authenticator authenticator;
 	@Nonnull
+	private final CurrentContextExecutor currentContextExecutor;
+	@Nonnull
 	private final ErrorReporter errorReporter;
 	@Nonnull
 	private final Configuration configuration;
 	@Nonnull
 	private final Gson gson;
 	@Nonnull
+	private final Cache<String, Integer> patientOrderTotalCountCache;
+	@Nonnull
 	private final Strings strings;
 	@Nonnull
 	private final Logger logger;
@@ -345,6 +373,8 @@ public class PatientOrderService implements AutoCloseable {
 	private Boolean backgroundTaskStarted;
 	@Nullable
 	private ScheduledExecutorService backgroundTaskExecutorService;
+	@Nonnull
+	private final ExecutorService patientOrderImportExecutorService;
 
 	@Inject
 	public PatientOrderService(@Nonnull Provider<AddressService> addressServiceProvider,
@@ -356,6 +386,7 @@ public class PatientOrderService implements AutoCloseable {
 														 @Nonnull Provider<SystemService> systemServiceProvider,
 														 @Nonnull Provider<CareResourceService> careResourceServiceProvider,
 														 @Nonnull Provider<ShortUrlService> shortUrlServiceProvider,
+														 @Nonnull Provider<PatientOrderProjectionService> patientOrderProjectionServiceProvider,
 														 @Nonnull Provider<BackgroundTask> backgroundTaskProvider,
 														 @Nonnull EnterprisePluginProvider enterprisePluginProvider,
 														 @Nonnull PatientOrderScheduledMessageGroupApiResponseFactory patientOrderScheduledMessageGroupApiResponseFactory,
@@ -364,6 +395,7 @@ public class PatientOrderService implements AutoCloseable {
 														 @Nonnull Normalizer normalizer,
 														 @Nonnull Formatter formatter,
 														 @Nonnull Authenticator authenticator,
+														 @Nonnull CurrentContextExecutor currentContextExecutor,
 														 @Nonnull ErrorReporter errorReporter,
 														 @Nonnull Configuration configuration,
 														 @Nonnull Strings strings) {
@@ -376,6 +408,7 @@ public class PatientOrderService implements AutoCloseable {
 		requireNonNull(systemServiceProvider);
 		requireNonNull(careResourceServiceProvider);
 		requireNonNull(shortUrlServiceProvider);
+		requireNonNull(patientOrderProjectionServiceProvider);
 		requireNonNull(backgroundTaskProvider);
 		requireNonNull(enterprisePluginProvider);
 		requireNonNull(patientOrderScheduledMessageGroupApiResponseFactory);
@@ -384,6 +417,7 @@ public class PatientOrderService implements AutoCloseable {
 		requireNonNull(normalizer);
 		requireNonNull(formatter);
 		requireNonNull(authenticator);
+		requireNonNull(currentContextExecutor);
 		requireNonNull(errorReporter);
 		requireNonNull(configuration);
 		requireNonNull(strings);
@@ -397,6 +431,7 @@ public class PatientOrderService implements AutoCloseable {
 		this.systemServiceProvider = systemServiceProvider;
 		this.careResourceServiceProvider = careResourceServiceProvider;
 		this.shortUrlServiceProvider = shortUrlServiceProvider;
+		this.patientOrderProjectionServiceProvider = patientOrderProjectionServiceProvider;
 		this.backgroundTaskProvider = backgroundTaskProvider;
 		this.enterprisePluginProvider = enterprisePluginProvider;
 		this.patientOrderScheduledMessageGroupApiResponseFactory = patientOrderScheduledMessageGroupApiResponseFactory;
@@ -405,19 +440,28 @@ public class PatientOrderService implements AutoCloseable {
 		this.normalizer = normalizer;
 		this.formatter = formatter;
 		this.authenticator = authenticator;
+		this.currentContextExecutor = currentContextExecutor;
 		this.errorReporter = errorReporter;
 		this.configuration = configuration;
 		this.gson = createGson();
 		this.strings = strings;
+		this.patientOrderTotalCountCache = Caffeine.newBuilder()
+				.expireAfterWrite(Duration.ofSeconds(PATIENT_ORDER_TOTAL_COUNT_CACHE_EXPIRATION_IN_SECONDS))
+				.maximumSize(10_000)
+				.build();
 		this.logger = LoggerFactory.getLogger(getClass());
 
 		this.backgroundTaskLock = new ReentrantLock();
 		this.backgroundTaskStarted = false;
+		this.patientOrderImportExecutorService = Executors.newCachedThreadPool(new ThreadFactoryBuilder().setNameFormat("patient-order-import-runner-%d").build());
 	}
 
 	@Override
 	public void close() throws Exception {
 		stopBackgroundTasks();
+
+		// Interrupted imports are marked as failed and can be resumed by uploading the same file again
+		getPatientOrderImportExecutorService().shutdownNow();
 	}
 
 	@Nonnull
@@ -528,12 +572,16 @@ public class PatientOrderService implements AutoCloseable {
 		if (patientOrderId == null)
 			return Optional.empty();
 
+		// If this order was modified and its projection hasn't caught up yet (e.g. we're reading our own writes), refresh it now
+		if (getPatientOrderProjectionService().isPatientOrderProjectionReadable())
+			getPatientOrderProjectionService().refreshPatientOrderProjectionIfStale(patientOrderId);
+
 		// First, try faster view that only has open/closed orders
 		PatientOrder patientOrder = getDatabase().queryForObject("""
 				SELECT *
-				FROM v_patient_order
+				FROM {{patientOrderViewName}}
 				WHERE patient_order_id=?
-				""", PatientOrder.class, patientOrderId).orElse(null);
+				""".replace("{{patientOrderViewName}}", patientOrderViewName(false)), PatientOrder.class, patientOrderId).orElse(null);
 
 		if (patientOrder != null)
 			return Optional.of(patientOrder);
@@ -541,9 +589,40 @@ public class PatientOrderService implements AutoCloseable {
 		// If we didn't find it in the faster view, try the slower one
 		return getDatabase().queryForObject("""
 				SELECT *
-				FROM v_all_patient_order
+				FROM {{patientOrderViewName}}
 				WHERE patient_order_id=?
-				""", PatientOrder.class, patientOrderId);
+				""".replace("{{patientOrderViewName}}", patientOrderViewName(true)), PatientOrder.class, patientOrderId);
+	}
+
+	/**
+	 * Which view patient order reads should use.
+	 * <p>
+	 * If an administrator has enabled the patient order projection and its initial build has finished, this is the
+	 * incrementally-maintained {@code patient_order_projection} table (see {@link PatientOrderProjectionService});
+	 * otherwise it's {@code v_patient_order}, which is computed on every read.
+	 *
+	 * @param includeArchived (nonnull) should ARCHIVED orders be included?
+	 * @return (nonnull) the view name to select from
+	 */
+	@Nonnull
+	protected String patientOrderViewName(@Nonnull Boolean includeArchived) {
+		requireNonNull(includeArchived);
+
+		if (getPatientOrderProjectionService().isPatientOrderProjectionReadable())
+			return includeArchived ? "v_all_patient_order_projection" : "v_patient_order_projection";
+
+		return includeArchived ? "v_all_patient_order" : "v_patient_order";
+	}
+
+	/**
+	 * If reads come from the patient order projection, re-projects the institution's queued orders first so lists and
+	 * counts reflect writes that were just made instead of lagging by a refresh interval.
+	 *
+	 * @param institutionId (nullable) the institution about to be read
+	 */
+	protected void refreshQueuedPatientOrderProjectionsForInstitutionId(@Nullable InstitutionId institutionId) {
+		if (institutionId != null && getPatientOrderProjectionService().isPatientOrderProjectionReadable())
+			getPatientOrderProjectionService().refreshQueuedPatientOrderProjectionsForInstitutionId(institutionId);
 	}
 
 	@Nonnull
@@ -558,6 +637,19 @@ public class PatientOrderService implements AutoCloseable {
 				""", PatientOrderImport.class, patientOrderImportId);
 	}
 
+	@Nonnull
+	public List<PatientOrderImportRowError> findPatientOrderImportRowErrorsByPatientOrderImportId(@Nullable UUID patientOrderImportId) {
+		if (patientOrderImportId == null)
+			return List.of();
+
+		return getDatabase().queryForList("""
+				SELECT *
+				FROM patient_order_import_row_error
+				WHERE patient_order_import_id=?
+				ORDER BY row_number
+				""", PatientOrderImportRowError.class, patientOrderImportId);
+	}
+
 	@Nonnull
 	public List<PatientOrder> findPatientOrdersByPatientAccountId(@Nullable UUID accountId) {
 		if (accountId == null)
@@ -565,11 +657,11 @@ public class PatientOrderService implements AutoCloseable {
 
 		return getDatabase().queryForList("""
 				SELECT *
-				FROM v_patient_order
+				FROM {{patientOrderViewName}}
 				WHERE patient_account_id=?
 				AND patient_order_disposition_id != ?
 				ORDER BY order_date DESC, order_age_in_minutes
-				""", PatientOrder.class, accountId, PatientOrderDispositionId.ARCHIVED);
+				""".replace("{{patientOrderViewName}}", patientOrderViewName(false)), PatientOrder.class, accountId, PatientOrderDispositionId.ARCHIVED);
 	}
 
 	@Nonnull
@@ -596,10 +688,10 @@ public class PatientOrderService implements AutoCloseable {
 		// There must be multiple orders in the import, use the slow query to pull
 		return getDatabase().queryForList("""
 				SELECT *
-				FROM v_patient_order
+				FROM {{patientOrderViewName}}
 				WHERE patient_order_import_id=?
 				ORDER BY order_date DESC, order_age_in_minutes
-				""", PatientOrder.class, patientOrderImportId);
+				""".replace("{{patientOrderViewName}}", patientOrderViewName(false)), PatientOrder.class, patientOrderImportId);
 	}
 
 	@Nonnull
@@ -677,13 +769,13 @@ public class PatientOrderService implements AutoCloseable {
 
 		return getDatabase().queryForObject("""
 				SELECT po.*
-				FROM v_patient_order po
+				FROM {{patientOrderViewName}} po
 				WHERE po.patient_order_id = (
 				  SELECT patient_order_id
 				  FROM screening_session
 				  WHERE screening_session_id = ?
 				)
-				""", PatientOrder.class, screeningSessionId);
+				""".replace("{{patientOrderViewName}}", patientOrderViewName(false)), PatientOrder.class, screeningSessionId);
 	}
 
 	@Nonnull
@@ -707,12 +799,12 @@ public class PatientOrderService implements AutoCloseable {
 
 		return getDatabase().queryForList("""
 				SELECT *
-				FROM v_patient_order
+				FROM {{patientOrderViewName}}
 				WHERE UPPER(?)=UPPER(test_patient_email_address)
 				AND institution_id=?
 				AND patient_order_disposition_id != ?
 				ORDER BY order_date DESC, order_age_in_minutes    
-				""", PatientOrder.class, icTestPatientEmailAddress.getEmailAddress(), institutionId, PatientOrderDispositionId.ARCHIVED);
+				""".replace("{{patientOrderViewName}}", patientOrderViewName(false)), PatientOrder.class, icTestPatientEmailAddress.getEmailAddress(), institutionId, PatientOrderDispositionId.ARCHIVED);
 	}
 
 	@Nonnull
@@ -970,7 +1062,10 @@ public class PatientOrderService implements AutoCloseable {
 		if (institutionId == null || panelAccountId == null)
 			return patientOrderCountsByPatientOrderViewTypeId;
 
-		if (usePanelCountsPerfOptimization) {
+		refreshQueuedPatientOrderProjectionsForInstitutionId(institutionId);
+
+		// The projection table already gives us indexed per-panel lookups, so the hand-tuned CTE isn't needed there
+		if (usePanelCountsPerfOptimization && !getPatientOrderProjectionService().isPatientOrderProjectionReadable()) {
 			PatientOrderViewTypeCounts patientOrderViewTypeCounts = getDatabase().queryForObject("""
 					WITH inst AS (
 					  SELECT
@@ -1266,6 +1361,8 @@ public class PatientOrderService implements AutoCloseable {
 		if (institutionId == null)
 			return 0;
 
+		refreshQueuedPatientOrderProjectionsForInstitutionId(institutionId);
+
 		List<String> whereClauseLines = new ArrayList<>();
 		List<Object> parameters = new ArrayList<>();
 
@@ -1287,10 +1384,11 @@ public class PatientOrderService implements AutoCloseable {
 
 		String sql = """
 				  SELECT COUNT(*)
-				  FROM v_patient_order
+				  FROM {{patientOrderViewName}}
 				  WHERE institution_id=?
 				  {{whereClauseLines}}
 				""".trim()
+				.replace("{{patientOrderViewName}}", patientOrderViewName(false))
 				.replace("{{whereClauseLines}}", whereClauseLines.stream().collect(Collectors.joining("\n")));
 
 		return getDatabase().queryForObject(sql, Integer.class, sqlVaragsParameters(parameters)).get();
@@ -1302,6 +1400,8 @@ public class PatientOrderService implements AutoCloseable {
 		if (institutionId == null)
 			return 0;
 
+		refreshQueuedPatientOrderProjectionsForInstitutionId(institutionId);
+
 		List<String> whereClauseLines = new ArrayList<>();
 		List<Object> parameters = new ArrayList<>();
 
@@ -1323,10 +1423,11 @@ public class PatientOrderService implements AutoCloseable {
 
 		String sql = """
 				  SELECT COUNT(*)
-				  FROM v_patient_order
+				  FROM {{patientOrderViewName}}
 				  WHERE institution_id=?
 				  {{whereClauseLines}}
 				""".trim()
+				.replace("{{patientOrderViewName}}", patientOrderViewName(false))
 				.replace("{{whereClauseLines}}", whereClauseLines.stream().collect(Collectors.joining("\n")));
 
 		return getDatabase().queryForObject(sql, Integer.class, sqlVaragsParameters(parameters)).get();
@@ -1338,6 +1439,8 @@ public class PatientOrderService implements AutoCloseable {
 		if (institutionId == null)
 			return 0;
 
+		refreshQueuedPatientOrderProjectionsForInstitutionId(institutionId);
+
 		List<String> whereClauseLines = new ArrayList<>();
 		List<Object> parameters = new ArrayList<>();
 
@@ -1363,10 +1466,11 @@ public class PatientOrderService implements AutoCloseable {
 
 		String sql = """
 				  SELECT COUNT(*)
-				  FROM v_patient_order
+				  FROM {{patientOrderViewName}}
 				  WHERE institution_id=?
 				  {{whereClauseLines}}
 				""".trim()
+				.replace("{{patientOrderViewName}}", patientOrderViewName(false))
 				.replace("{{whereClauseLines}}", whereClauseLines.stream().collect(Collectors.joining("\n")));
 
 		return getDatabase().queryForObject(sql, Integer.class, sqlVaragsParameters(parameters)).get();
@@ -1378,6 +1482,8 @@ public class PatientOrderService implements AutoCloseable {
 		if (institutionId == null)
 			return 0;
 
+		refreshQueuedPatientOrderProjectionsForInstitutionId(institutionId);
+
 		List<String> whereClauseLines = new ArrayList<>();
 		List<Object> parameters = new ArrayList<>();
 
@@ -1406,10 +1512,11 @@ public class PatientOrderService implements AutoCloseable {
 
 		String sql = """
 				  SELECT COUNT(*)
-				  FROM v_patient_order
+				  FROM {{patientOrderViewName}}
 				  WHERE institution_id=?
 				  {{whereClauseLines}}
 				""".trim()
+				.replace("{{patientOrderViewName}}", patientOrderViewName(false))
 				.replace("{{whereClauseLines}}", whereClauseLines.stream().collect(Collectors.joining("\n")));
 
 		return getDatabase().queryForObject(sql, Integer.class, sqlVaragsParameters(parameters)).get();
@@ -1421,6 +1528,8 @@ public class PatientOrderService implements AutoCloseable {
 		if (institutionId == null)
 			return Map.of();
 
+		refreshQueuedPatientOrderProjectionsForInstitutionId(institutionId);
+
 		List<String> whereClauseLines = new ArrayList<>();
 		List<Object> parameters = new ArrayList<>();
 
@@ -1447,11 +1556,12 @@ public class PatientOrderService implements AutoCloseable {
 				  COUNT(1) FILTER (where patient_order_triage_status_id = ?) as subclinical_count,
 				  COUNT(1) FILTER (where patient_order_triage_status_id = ?) as mhp_count,
 				  COUNT(1) FILTER (where patient_order_triage_status_id = ?) as specialty_care_count
-				  FROM v_patient_order
+				  FROM {{patientOrderViewName}}
 				  WHERE institution_id=?
 				  {{whereClauseLines}}
 				  GROUP BY institution_id
 				""".trim()
+				.replace("{{patientOrderViewName}}", patientOrderViewName(false))
 				.replace("{{whereClauseLines}}", whereClauseLines.stream().collect(Collectors.joining("\n")));
 
 		PatientOrderTriageStatusCountsResult patientOrderTriageStatusCountsResult = getDatabase().queryForObject(sql,
@@ -1529,6 +1639,8 @@ public class PatientOrderService implements AutoCloseable {
 		if (institutionId == null || patientOrderDispositionId == null)
 			return 0;
 
+		refreshQueuedPatientOrderProjectionsForInstitutionId(institutionId);
+
 		List<String> whereClauseLines = new ArrayList<>();
 		List<Object> parameters = new ArrayList<>();
 
@@ -1681,7 +1793,9 @@ public class PatientOrderService implements AutoCloseable {
 
 		FindPatientOrdersRequest.PatientOrdersQueryMode patientOrdersQueryMode = request.getPatientOrdersQueryMode();
 
-		if (patientOrdersQueryMode == null || patientOrdersQueryMode == FindPatientOrdersRequest.PatientOrdersQueryMode.LEGACY)
+		// The "legacy" query reads from the patient order projection when it's enabled, which is cheaper than the "optimized" inline CTEs
+		if (patientOrdersQueryMode == null || patientOrdersQueryMode == FindPatientOrdersRequest.PatientOrdersQueryMode.LEGACY
+				|| getPatientOrderProjectionService().isPatientOrderProjectionReadable())
 			return findPatientOrdersLegacy(request);
 
 		if (patientOrdersQueryMode == FindPatientOrdersRequest.PatientOrdersQueryMode.OPTIMIZED)
@@ -1713,6 +1827,8 @@ public class PatientOrderService implements AutoCloseable {
 		Integer pageSize = request.getPageSize();
 		List<PatientOrderSortRule> patientOrderSortRules = request.getPatientOrderSortRules() == null ? List.of() : request.getPatientOrderSortRules();
 
+		refreshQueuedPatientOrderProjectionsForInstitutionId(institutionId);
+
 		final int DEFAULT_PAGE_SIZE = 50;
 		final int MAXIMUM_PAGE_SIZE = 100;
 
@@ -2006,47 +2122,18 @@ public class PatientOrderService implements AutoCloseable {
 		for (PatientOrderSortRule patientOrderSortRule : patientOrderSortRules) {
 			String sortDirection = patientOrderSortRule.getSortDirectionId() == SortDirectionId.ASCENDING ? "ASC" : "DESC";
 			String nullsFirst = patientOrderSortRule.getSortNullsId() == SortNullsId.NULLS_FIRST ? "NULLS FIRST" : "NULLS LAST";
-			String orderByColumn;
-
-			if (patientOrderSortRule.getPatientOrderSortColumnId() == PatientOrderSortColumnId.ORDER_DATE)
-				orderByColumn = "bq.order_date";
-			else if (patientOrderSortRule.getPatientOrderSortColumnId() == PatientOrderSortColumnId.PATIENT_FIRST_NAME)
-				orderByColumn = "bq.patient_first_name";
-			else if (patientOrderSortRule.getPatientOrderSortColumnId() == PatientOrderSortColumnId.PATIENT_LAST_NAME)
-				orderByColumn = "bq.patient_last_name";
-			else if (patientOrderSortRule.getPatientOrderSortColumnId() == PatientOrderSortColumnId.MOST_RECENT_SCREENING_SESSION_COMPLETED_AT)
-				orderByColumn = "bq.most_recent_screening_session_completed_at";
-			else if (patientOrderSortRule.getPatientOrderSortColumnId() == PatientOrderSortColumnId.MOST_RECENT_OUTREACH_DATE_TIME)
-				orderByColumn = "bq.most_recent_total_outreach_date_time";
-			else if (patientOrderSortRule.getPatientOrderSortColumnId() == PatientOrderSortColumnId.MOST_RECENT_SCHEDULED_SCREENING_SCHEDULED_DATE_TIME)
-				orderByColumn = "bq.patient_order_scheduled_screening_scheduled_date_time";
-			else if (patientOrderSortRule.getPatientOrderSortColumnId() == PatientOrderSortColumnId.EPISODE_CLOSED_AT)
-				orderByColumn = "bq.episode_closed_at";
-			else if (patientOrderSortRule.getPatientOrderSortColumnId() == PatientOrderSortColumnId.PRACTICE)
-				orderByColumn = "bq.referring_practice_name";
-			else if (patientOrderSortRule.getPatientOrderSortColumnId() == PatientOrderSortColumnId.INSURANCE)
-				orderByColumn = "bq.primary_payor_name";
-			else if (patientOrderSortRule.getPatientOrderSortColumnId() == PatientOrderSortColumnId.OUTREACH_NUMBER)
-				orderByColumn = "bq.total_outreach_count";
-			else if (patientOrderSortRule.getPatientOrderSortColumnId() == PatientOrderSortColumnId.EPISODE_LENGTH)
-				orderByColumn = "bq.episode_duration_in_days";
-			else if (patientOrderSortRule.getPatientOrderSortColumnId() == PatientOrderSortColumnId.NEXT_CONTACT_SCHEDULED_AT)
-				orderByColumn = "bq.next_contact_scheduled_at";
-			else
-				throw new IllegalStateException(format("Not sure what to do with %s.%s", PatientOrderSortColumnId.class.getSimpleName(), patientOrderSortRule.getPatientOrderSortColumnId().name()));
+			String orderByColumn = format("bq.%s", patientOrderSortColumnNameFor(patientOrderSortRule.getPatientOrderSortColumnId()));
 
 			orderByColumns.add(format("%s %s %s", orderByColumn, sortDirection, nullsFirst));
 		}
 
-		List<Object> limitOffsetParameters = new ArrayList<>(2);
-
-		limitOffsetParameters.add(limit);
-		limitOffsetParameters.add(offset);
+		// Final tiebreaker so row order is stable across pages - required for keyset pagination
+		orderByColumns.add("bq.patient_order_id ASC");
 
 		// Use special 'v_all_patient_order' if a request comes in for ARCHIVED orders
-		String patientOrderViewName = patientOrderDispositionIds.contains(PatientOrderDispositionId.ARCHIVED) ? "v_all_patient_order" : "v_patient_order";
+		String patientOrderViewName = patientOrderViewName(patientOrderDispositionIds.contains(PatientOrderDispositionId.ARCHIVED));
 
-		String sql = """
+		String baseQuerySql = """
 				  WITH base_query AS (
 				  	SELECT po.*
 				  	FROM {{patientOrderViewName}} po
@@ -2057,37 +2144,17 @@ public class PatientOrderService implements AutoCloseable {
 				  		{{rawPatientOrderWhereClauseLines}}
 				  	)
 				  )
-				  SELECT
-				  bq.*,
-				  tcq.total_count
-				  FROM
-				  (SELECT COUNT(*) AS total_count FROM base_query) tcq,
-				  base_query bq
-				  ORDER BY {{orderByColumns}}
-				  LIMIT ?
-				  OFFSET ?
 				""".trim()
 				.replace("{{patientOrderViewName}}", patientOrderViewName)
 				.replace("{{whereClauseLines}}", whereClauseLines.stream().collect(Collectors.joining("\n")))
 				.replace("{{rawPatientOrderWhereClauseLines}}", rawPatientOrderWhereClauseLines.stream().collect(Collectors.joining("\n")))
-				.replace("{{orderByColumns}}", orderByColumns.stream().collect(Collectors.joining(", ")))
 				.trim();
 
-		List<Object> finalParameters = new ArrayList<>(parameters.size() + rawPatientOrderParameters.size() + limitOffsetParameters.size());
-		finalParameters.addAll(parameters);
-		finalParameters.addAll(rawPatientOrderParameters);
-		finalParameters.addAll(limitOffsetParameters);
-
-		List<PatientOrderWithTotalCount> patientOrders = getDatabase().queryForList(sql, PatientOrderWithTotalCount.class, sqlVaragsParameters(finalParameters));
-
-		Integer totalCount = patientOrders.stream()
-				.filter(patientOrder -> patientOrder.getTotalCount() != null)
-				.mapToInt(PatientOrderWithTotalCount::getTotalCount)
-				.findFirst()
-				.orElse(0);
+		List<Object> baseQueryParameters = new ArrayList<>(parameters.size() + rawPatientOrderParameters.size());
+		baseQueryParameters.addAll(parameters);
+		baseQueryParameters.addAll(rawPatientOrderParameters);
 
-		FindResult<? extends PatientOrder> findResult = new FindResult<>(patientOrders, totalCount);
-		return (FindResult<PatientOrder>) findResult;
+		return findPatientOrdersPage(request, baseQuerySql, baseQueryParameters, patientOrderSortRules, orderByColumns, limit, offset);
 	}
 
 	@Nonnull
@@ -2096,7 +2163,7 @@ public class PatientOrderService implements AutoCloseable {
 
 		FindPatientOrdersQueryContext queryContext = createFindPatientOrdersQueryContext(request);
 
-		String sql = """
+		String baseQuerySql = """
 					WITH raw_base AS MATERIALIZED (
 						SELECT raw_po.*
 						FROM patient_order raw_po
@@ -2611,40 +2678,18 @@ public class PatientOrderService implements AutoCloseable {
 					FROM enriched po
 					WHERE 1=1
 					{{whereClauseLines}}
-				),
-					paged AS (
-						SELECT
-							bq.*,
-							COUNT(*) OVER () AS total_count
-						FROM base_query bq
-					)
-					SELECT
-						bq.*
-					FROM paged bq
-					ORDER BY {{orderByColumns}}
-					LIMIT ?
-					OFFSET ?
+				)
 					""".trim()
 				.replace("{{whereClauseLines}}", queryContext.whereClauseLines.stream().collect(Collectors.joining("\n")))
 				.replace("{{rawPatientOrderWhereClauseLines}}", queryContext.rawPatientOrderWhereClauseLines.stream().collect(Collectors.joining("\n")))
-				.replace("{{orderByColumns}}", queryContext.orderByColumns.stream().collect(Collectors.joining(", ")))
 				.trim();
 
-		List<Object> finalParameters = new ArrayList<>(queryContext.rawPatientOrderParameters.size() + queryContext.parameters.size() + queryContext.limitOffsetParameters.size());
-		finalParameters.addAll(queryContext.rawPatientOrderParameters);
-		finalParameters.addAll(queryContext.parameters);
-		finalParameters.addAll(queryContext.limitOffsetParameters);
-
-		List<PatientOrderWithTotalCount> patientOrders = getDatabase().queryForList(sql, PatientOrderWithTotalCount.class, sqlVaragsParameters(finalParameters));
-
-		Integer totalCount = patientOrders.stream()
-				.filter(patientOrder -> patientOrder.getTotalCount() != null)
-				.mapToInt(PatientOrderWithTotalCount::getTotalCount)
-				.findFirst()
-				.orElse(0);
+		List<Object> baseQueryParameters = new ArrayList<>(queryContext.rawPatientOrderParameters.size() + queryContext.parameters.size());
+		baseQueryParameters.addAll(queryContext.rawPatientOrderParameters);
+		baseQueryParameters.addAll(queryContext.parameters);
 
-		FindResult<? extends PatientOrder> findResult = new FindResult<>(patientOrders, totalCount);
-		return (FindResult<PatientOrder>) findResult;
+		return findPatientOrdersPage(request, baseQuerySql, baseQueryParameters, queryContext.patientOrderSortRules,
+				queryContext.orderByColumns, queryContext.limit, queryContext.offset);
 	}
 
 	@Nonnull
@@ -2963,42 +3008,13 @@ public class PatientOrderService implements AutoCloseable {
 		for (PatientOrderSortRule patientOrderSortRule : patientOrderSortRules) {
 			String sortDirection = patientOrderSortRule.getSortDirectionId() == SortDirectionId.ASCENDING ? "ASC" : "DESC";
 			String nullsFirst = patientOrderSortRule.getSortNullsId() == SortNullsId.NULLS_FIRST ? "NULLS FIRST" : "NULLS LAST";
-			String orderByColumn;
-
-			if (patientOrderSortRule.getPatientOrderSortColumnId() == PatientOrderSortColumnId.ORDER_DATE)
-				orderByColumn = "bq.order_date";
-			else if (patientOrderSortRule.getPatientOrderSortColumnId() == PatientOrderSortColumnId.PATIENT_FIRST_NAME)
-				orderByColumn = "bq.patient_first_name";
-			else if (patientOrderSortRule.getPatientOrderSortColumnId() == PatientOrderSortColumnId.PATIENT_LAST_NAME)
-				orderByColumn = "bq.patient_last_name";
-			else if (patientOrderSortRule.getPatientOrderSortColumnId() == PatientOrderSortColumnId.MOST_RECENT_SCREENING_SESSION_COMPLETED_AT)
-				orderByColumn = "bq.most_recent_screening_session_completed_at";
-			else if (patientOrderSortRule.getPatientOrderSortColumnId() == PatientOrderSortColumnId.MOST_RECENT_OUTREACH_DATE_TIME)
-				orderByColumn = "bq.most_recent_total_outreach_date_time";
-			else if (patientOrderSortRule.getPatientOrderSortColumnId() == PatientOrderSortColumnId.MOST_RECENT_SCHEDULED_SCREENING_SCHEDULED_DATE_TIME)
-				orderByColumn = "bq.patient_order_scheduled_screening_scheduled_date_time";
-			else if (patientOrderSortRule.getPatientOrderSortColumnId() == PatientOrderSortColumnId.EPISODE_CLOSED_AT)
-				orderByColumn = "bq.episode_closed_at";
-			else if (patientOrderSortRule.getPatientOrderSortColumnId() == PatientOrderSortColumnId.PRACTICE)
-				orderByColumn = "bq.referring_practice_name";
-			else if (patientOrderSortRule.getPatientOrderSortColumnId() == PatientOrderSortColumnId.INSURANCE)
-				orderByColumn = "bq.primary_payor_name";
-			else if (patientOrderSortRule.getPatientOrderSortColumnId() == PatientOrderSortColumnId.OUTREACH_NUMBER)
-				orderByColumn = "bq.total_outreach_count";
-			else if (patientOrderSortRule.getPatientOrderSortColumnId() == PatientOrderSortColumnId.EPISODE_LENGTH)
-				orderByColumn = "bq.episode_duration_in_days";
-			else if (patientOrderSortRule.getPatientOrderSortColumnId() == PatientOrderSortColumnId.NEXT_CONTACT_SCHEDULED_AT)
-				orderByColumn = "bq.next_contact_scheduled_at";
-			else
-				throw new IllegalStateException(format("Not sure what to do with %s.%s", PatientOrderSortColumnId.class.getSimpleName(), patientOrderSortRule.getPatientOrderSortColumnId().name()));
+			String orderByColumn = format("bq.%s", patientOrderSortColumnNameFor(patientOrderSortRule.getPatientOrderSortColumnId()));
 
 			orderByColumns.add(format("%s %s %s", orderByColumn, sortDirection, nullsFirst));
 		}
 
-		List<Object> limitOffsetParameters = new ArrayList<>(2);
-
-		limitOffsetParameters.add(limit);
-		limitOffsetParameters.add(offset);
+		// Final tiebreaker so row order is stable across pages - required for keyset pagination
+		orderByColumns.add("bq.patient_order_id ASC");
 
 		FindPatientOrdersQueryContext queryContext = new FindPatientOrdersQueryContext();
 		queryContext.patientOrderDispositionIds = patientOrderDispositionIds;
@@ -3007,11 +3023,343 @@ public class PatientOrderService implements AutoCloseable {
 		queryContext.orderByColumns = orderByColumns;
 		queryContext.parameters = parameters;
 		queryContext.rawPatientOrderParameters = rawPatientOrderParameters;
-		queryContext.limitOffsetParameters = limitOffsetParameters;
+		queryContext.patientOrderSortRules = patientOrderSortRules;
+		queryContext.limit = limit;
+		queryContext.offset = offset;
 
 		return queryContext;
 	}
 
+	/**
+	 * Runs the page query for {@link #findPatientOrders(FindPatientOrdersRequest)} on top of a base query that defines a {@code base_query} CTE.
+	 * <p>
+	 * Supports both OFFSET paging and keyset paging (via {@link FindPatientOrdersRequest#getPageCursor()}), and can serve the total count
+	 * from a short-lived cache keyed on the filter signature so page flips and autorefresh polling don't re-count the whole set.
+	 */
+	@Nonnull
+	protected FindResult<PatientOrder> findPatientOrdersPage(@Nonnull FindPatientOrdersRequest request,
+																													 @Nonnull String baseQuerySql,
+																													 @Nonnull List<Object> baseQueryParameters,
+																													 @Nonnull List<PatientOrderSortRule> patientOrderSortRules,
+																													 @Nonnull List<String> orderByColumns,
+																													 @Nonnull Integer limit,
+																													 @Nonnull Integer offset) {
+		requireNonNull(request);
+		requireNonNull(baseQuerySql);
+		requireNonNull(baseQueryParameters);
+		requireNonNull(patientOrderSortRules);
+		requireNonNull(orderByColumns);
+		requireNonNull(limit);
+		requireNonNull(offset);
+
+		String pageCursor = trimToNull(request.getPageCursor());
+		boolean useCachedTotalCount = Boolean.TRUE.equals(request.getUseCachedTotalCount());
+
+		// The base query SQL + its parameters fully describe the filter (institution included), independent of sorting and paging
+		String totalCountCacheKey = totalCountCacheKeyFor(baseQuerySql, baseQueryParameters);
+
+		Integer cachedTotalCount = useCachedTotalCount ? getPatientOrderTotalCountCache().getIfPresent(totalCountCacheKey) : null;
+
+		List<String> keysetWhereClauseLines = new ArrayList<>();
+		List<Object> keysetParameters = new ArrayList<>();
+
+		// Keyset ("seek") pagination: rather than skipping OFFSET rows, start immediately after the last row of the previous page
+		if (pageCursor != null) {
+			keysetWhereClauseLines.add(keysetWhereClauseFor(patientOrderSortRules, pageCursor, keysetParameters));
+			offset = 0;
+		}
+
+		String sql = """
+				{{baseQuerySql}}
+				SELECT bq.*, {{totalCountColumn}} AS total_count
+				FROM base_query bq
+				WHERE 1=1
+				{{keysetWhereClauseLines}}
+				ORDER BY {{orderByColumns}}
+				LIMIT ?
+				OFFSET ?
+				""".trim()
+				.replace("{{totalCountColumn}}", cachedTotalCount == null ? "(SELECT COUNT(*) FROM base_query)" : "CAST(NULL AS INTEGER)")
+				.replace("{{keysetWhereClauseLines}}", keysetWhereClauseLines.stream().collect(Collectors.joining("\n")))
+				.replace("{{orderByColumns}}", orderByColumns.stream().collect(Collectors.joining(", ")))
+				.replace("{{baseQuerySql}}", baseQuerySql);
+
+		List<Object> finalParameters = new ArrayList<>(baseQueryParameters.size() + keysetParameters.size() + 2);
+		finalParameters.addAll(baseQueryParameters);
+		finalParameters.addAll(keysetParameters);
+		// Ask for one extra row so we know if there's a next page
+		finalParameters.add(limit + 1);
+		finalParameters.add(offset);
+
+		List<PatientOrderWithTotalCount> patientOrdersWithTotalCount = getDatabase().queryForList(sql, PatientOrderWithTotalCount.class, sqlVaragsParameters(finalParameters));
+
+		boolean hasNextPage = patientOrdersWithTotalCount.size() > limit;
+		List<PatientOrder> patientOrders = new ArrayList<>(patientOrdersWithTotalCount.subList(0, Math.min(patientOrdersWithTotalCount.size(), limit)));
+
+		Integer totalCount = cachedTotalCount;
+
+		if (totalCount == null) {
+			totalCount = patientOrdersWithTotalCount.stream()
+					.filter(patientOrder -> patientOrder.getTotalCount() != null)
+					.mapToInt(PatientOrderWithTotalCount::getTotalCount)
+					.findFirst()
+					.orElse(0);
+
+			// An empty page past the end of the results doesn't tell us the real count, so don't cache it
+			if (patientOrdersWithTotalCount.size() > 0 || (offset == 0 && pageCursor == null))
+				getPatientOrderTotalCountCache().put(totalCountCacheKey, totalCount);
+		}
+
+		String nextPageCursor = hasNextPage ? pageCursorFor(patientOrderSortRules, patientOrders.get(patientOrders.size() - 1)) : null;
+
+		return new FindResult<>(patientOrders, totalCount, nextPageCursor);
+	}
+
+	/**
+	 * SHA-256 of the base query SQL and its parameters, so cache keys are a fixed size rather than a copy of the whole query.
+	 * <p>
+	 * Each parameter is length-prefixed so that different parameter lists can't hash the same (e.g. {@code ["a,b"]} vs. {@code ["a", "b"]}).
+	 */
+	@Nonnull
+	protected String totalCountCacheKeyFor(@Nonnull String baseQuerySql,
+																				 @Nonnull List<Object> baseQueryParameters) {
+		requireNonNull(baseQuerySql);
+		requireNonNull(baseQueryParameters);
+
+		Hasher hasher = Hashing.sha256().newHasher();
+		hasher.putInt(baseQuerySql.length());
+		hasher.putString(baseQuerySql, StandardCharsets.UTF_8);
+
+		for (Object baseQueryParameter : baseQueryParameters) {
+			if (baseQueryParameter == null) {
+				hasher.putInt(-1);
+				continue;
+			}
+
+			String baseQueryParameterAsString = baseQueryParameter instanceof Object[]
+					? Arrays.deepToString((Object[]) baseQueryParameter)
+					: baseQueryParameter.toString();
+
+			hasher.putInt(baseQueryParameterAsString.length());
+			hasher.putString(baseQueryParameterAsString, StandardCharsets.UTF_8);
+		}
+
+		return hasher.hash().toString();
+	}
+
+	/**
+	 * Builds a predicate matching rows that sort strictly after the row identified by the page cursor.
+	 * <p>
+	 * Sort rules can mix directions and null orderings, so this can't be a single row-value comparison - instead it's the expanded form
+	 * {@code (k1 after v1) OR (k1 = v1 AND k2 after v2) OR ...}, with {@code patient_order_id} as the final tiebreaker.
+	 */
+	@Nonnull
+	protected String keysetWhereClauseFor(@Nonnull List<PatientOrderSortRule> patientOrderSortRules,
+																				@Nonnull String pageCursor,
+																				@Nonnull List<Object> keysetParameters) {
+		requireNonNull(patientOrderSortRules);
+		requireNonNull(pageCursor);
+		requireNonNull(keysetParameters);
+
+		List<String> cursorComponents = null;
+
+		try {
+			String cursorJson = new String(Base64.getUrlDecoder().decode(pageCursor), StandardCharsets.UTF_8);
+			cursorComponents = getGson().fromJson(cursorJson, new TypeToken<List<String>>() {}.getType());
+		} catch (Exception ignored) {
+			// Handled below
+		}
+
+		// Cursor layout is [sort signature, patient order ID, sort value 1, sort value 2, ...]
+		if (cursorComponents == null
+				|| cursorComponents.size() != patientOrderSortRules.size() + 2
+				|| !Objects.equals(cursorComponents.get(0), sortSignatureFor(patientOrderSortRules)))
+			throw new ValidationException(new FieldError("pageCursor", getStrings().get("This page of results is no longer available. Please start over from the first page.")));
+
+		UUID cursorPatientOrderId;
+		List<Object> cursorSortValues = new ArrayList<>(patientOrderSortRules.size());
+
+		try {
+			cursorPatientOrderId = UUID.fromString(cursorComponents.get(1));
+
+			for (int i = 0; i < patientOrderSortRules.size(); ++i)
+				cursorSortValues.add(parsePatientOrderSortValue(patientOrderSortRules.get(i).getPatientOrderSortColumnId(), cursorComponents.get(i + 2)));
+		} catch (Exception e) {
+			throw new ValidationException(new FieldError("pageCursor", getStrings().get("This page of results is no longer available. Please start over from the first page.")));
+		}
+
+		List<String> disjuncts = new ArrayList<>(patientOrderSortRules.size() + 1);
+
+		for (int i = 0; i <= patientOrderSortRules.size(); ++i) {
+			List<String> conjuncts = new ArrayList<>(i + 1);
+			List<Object> conjunctParameters = new ArrayList<>(i + 1);
+
+			// All earlier sort columns are tied with the cursor row...
+			for (int j = 0; j < i; ++j) {
+				String columnName = format("bq.%s", patientOrderSortColumnNameFor(patientOrderSortRules.get(j).getPatientOrderSortColumnId()));
+				Object cursorSortValue = cursorSortValues.get(j);
+
+				if (cursorSortValue == null) {
+					conjuncts.add(format("%s IS NULL", columnName));
+				} else {
+					conjuncts.add(format("%s = ?", columnName));
+					conjunctParameters.add(cursorSortValue);
+				}
+			}
+
+			// ...and this one sorts after it
+			if (i == patientOrderSortRules.size()) {
+				conjuncts.add("bq.patient_order_id > ?");
+				conjunctParameters.add(cursorPatientOrderId);
+			} else {
+				PatientOrderSortRule patientOrderSortRule = patientOrderSortRules.get(i);
+				String columnName = format("bq.%s", patientOrderSortColumnNameFor(patientOrderSortRule.getPatientOrderSortColumnId()));
+				Object cursorSortValue = cursorSortValues.get(i);
+				boolean nullsFirst = patientOrderSortRule.getSortNullsId() == SortNullsId.NULLS_FIRST;
+
+				if (cursorSortValue == null) {
+					// Nothing sorts after NULL when nulls are last
+					if (!nullsFirst)
+						continue;
+
+					conjuncts.add(format("%s IS NOT NULL", columnName));
+				} else {
+					String comparison = patientOrderSortRule.getSortDirectionId() == SortDirectionId.ASCENDING ? ">" : "<";
+
+					if (nullsFirst)
+						conjuncts.add(format("%s %s ?", columnName, comparison));
+					else
+						conjuncts.add(format("(%s %s ? OR %s IS NULL)", columnName, comparison, columnName));
+
+					conjunctParameters.add(cursorSortValue);
+				}
+			}
+
+			disjuncts.add(format("(%s)", conjuncts.stream().collect(Collectors.joining(" AND "))));
+			keysetParameters.addAll(conjunctParameters);
+		}
+
+		return format("AND (%s)", disjuncts.stream().collect(Collectors.joining(" OR ")));
+	}
+
+	@Nonnull
+	protected String pageCursorFor(@Nonnull List<PatientOrderSortRule> patientOrderSortRules,
+																 @Nonnull PatientOrder patientOrder) {
+		requireNonNull(patientOrderSortRules);
+		requireNonNull(patientOrder);
+
+		List<String> cursorComponents = new ArrayList<>(patientOrderSortRules.size() + 2);
+		cursorComponents.add(sortSignatureFor(patientOrderSortRules));
+		cursorComponents.add(patientOrder.getPatientOrderId().toString());
+
+		for (PatientOrderSortRule patientOrderSortRule : patientOrderSortRules) {
+			Object sortValue = patientOrderSortValueFor(patientOrderSortRule.getPatientOrderSortColumnId(), patientOrder);
+			cursorComponents.add(sortValue == null ? null : sortValue.toString());
+		}
+
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(getGson().toJson(cursorComponents).getBytes(StandardCharsets.UTF_8));
+	}
+
+	@Nonnull
+	protected String sortSignatureFor(@Nonnull List<PatientOrderSortRule> patientOrderSortRules) {
+		requireNonNull(patientOrderSortRules);
+
+		return patientOrderSortRules.stream()
+				.map(patientOrderSortRule -> format("%s.%s.%s", patientOrderSortRule.getPatientOrderSortColumnId().name(),
+						patientOrderSortRule.getSortDirectionId().name(), patientOrderSortRule.getSortNullsId().name()))
+				.collect(Collectors.joining(","));
+	}
+
+	@Nonnull
+	protected String patientOrderSortColumnNameFor(@Nonnull PatientOrderSortColumnId patientOrderSortColumnId) {
+		requireNonNull(patientOrderSortColumnId);
+
+		if (patientOrderSortColumnId == PatientOrderSortColumnId.ORDER_DATE)
+			return "order_date";
+		if (patientOrderSortColumnId == PatientOrderSortColumnId.PATIENT_FIRST_NAME)
+			return "patient_first_name";
+		if (patientOrderSortColumnId == PatientOrderSortColumnId.PATIENT_LAST_NAME)
+			return "patient_last_name";
+		if (patientOrderSortColumnId == PatientOrderSortColumnId.MOST_RECENT_SCREENING_SESSION_COMPLETED_AT)
+			return "most_recent_screening_session_completed_at";
+		if (patientOrderSortColumnId == PatientOrderSortColumnId.MOST_RECENT_OUTREACH_DATE_TIME)
+			return "most_recent_total_outreach_date_time";
+		if (patientOrderSortColumnId == PatientOrderSortColumnId.MOST_RECENT_SCHEDULED_SCREENING_SCHEDULED_DATE_TIME)
+			return "patient_order_scheduled_screening_scheduled_date_time";
+		if (patientOrderSortColumnId == PatientOrderSortColumnId.EPISODE_CLOSED_AT)
+			return "episode_closed_at";
+		if (patientOrderSortColumnId == PatientOrderSortColumnId.PRACTICE)
+			return "referring_practice_name";
+		if (patientOrderSortColumnId == PatientOrderSortColumnId.INSURANCE)
+			return "primary_payor_name";
+		if (patientOrderSortColumnId == PatientOrderSortColumnId.OUTREACH_NUMBER)
+			return "total_outreach_count";
+		if (patientOrderSortColumnId == PatientOrderSortColumnId.EPISODE_LENGTH)
+			return "episode_duration_in_days";
+		if (patientOrderSortColumnId == PatientOrderSortColumnId.NEXT_CONTACT_SCHEDULED_AT)
+			return "next_contact_scheduled_at";
+
+		throw new IllegalStateException(format("Not sure what to do with %s.%s", PatientOrderSortColumnId.class.getSimpleName(), patientOrderSortColumnId.name()));
+	}
+
+	@Nullable
+	protected Object patientOrderSortValueFor(@Nonnull PatientOrderSortColumnId patientOrderSortColumnId,
+																						@Nonnull PatientOrder patientOrder) {
+		requireNonNull(patientOrderSortColumnId);
+		requireNonNull(patientOrder);
+
+		if (patientOrderSortColumnId == PatientOrderSortColumnId.ORDER_DATE)
+			return patientOrder.getOrderDate();
+		if (patientOrderSortColumnId == PatientOrderSortColumnId.PATIENT_FIRST_NAME)
+			return patientOrder.getPatientFirstName();
+		if (patientOrderSortColumnId == PatientOrderSortColumnId.PATIENT_LAST_NAME)
+			return patientOrder.getPatientLastName();
+		if (patientOrderSortColumnId == PatientOrderSortColumnId.MOST_RECENT_SCREENING_SESSION_COMPLETED_AT)
+			return patientOrder.getMostRecentScreeningSessionCompletedAt();
+		if (patientOrderSortColumnId == PatientOrderSortColumnId.MOST_RECENT_OUTREACH_DATE_TIME)
+			return patientOrder.getMostRecentTotalOutreachDateTime();
+		if (patientOrderSortColumnId == PatientOrderSortColumnId.MOST_RECENT_SCHEDULED_SCREENING_SCHEDULED_DATE_TIME)
+			return patientOrder.getPatientOrderScheduledScreeningScheduledDateTime();
+		if (patientOrderSortColumnId == PatientOrderSortColumnId.EPISODE_CLOSED_AT)
+			return patientOrder.getEpisodeClosedAt();
+		if (patientOrderSortColumnId == PatientOrderSortColumnId.PRACTICE)
+			return patientOrder.getReferringPracticeName();
+		if (patientOrderSortColumnId == PatientOrderSortColumnId.INSURANCE)
+			return patientOrder.getPrimaryPayorName();
+		if (patientOrderSortColumnId == PatientOrderSortColumnId.OUTREACH_NUMBER)
+			return patientOrder.getTotalOutreachCount();
+		if (patientOrderSortColumnId == PatientOrderSortColumnId.EPISODE_LENGTH)
+			return patientOrder.getEpisodeDurationInDays();
+		if (patientOrderSortColumnId == PatientOrderSortColumnId.NEXT_CONTACT_SCHEDULED_AT)
+			return patientOrder.getNextContactScheduledAt();
+
+		throw new IllegalStateException(format("Not sure what to do with %s.%s", PatientOrderSortColumnId.class.getSimpleName(), patientOrderSortColumnId.name()));
+	}
+
+	@Nullable
+	protected Object parsePatientOrderSortValue(@Nonnull PatientOrderSortColumnId patientOrderSortColumnId,
+																							@Nullable String sortValue) {
+		requireNonNull(patientOrderSortColumnId);
+
+		if (sortValue == null)
+			return null;
+
+		if (patientOrderSortColumnId == PatientOrderSortColumnId.ORDER_DATE)
+			return LocalDate.parse(sortValue);
+		if (patientOrderSortColumnId == PatientOrderSortColumnId.MOST_RECENT_SCREENING_SESSION_COMPLETED_AT
+				|| patientOrderSortColumnId == PatientOrderSortColumnId.EPISODE_CLOSED_AT)
+			return Instant.parse(sortValue);
+		if (patientOrderSortColumnId == PatientOrderSortColumnId.MOST_RECENT_OUTREACH_DATE_TIME
+				|| patientOrderSortColumnId == PatientOrderSortColumnId.MOST_RECENT_SCHEDULED_SCREENING_SCHEDULED_DATE_TIME
+				|| patientOrderSortColumnId == PatientOrderSortColumnId.NEXT_CONTACT_SCHEDULED_AT)
+			return LocalDateTime.parse(sortValue);
+		if (patientOrderSortColumnId == PatientOrderSortColumnId.OUTREACH_NUMBER
+				|| patientOrderSortColumnId == PatientOrderSortColumnId.EPISODE_LENGTH)
+			return Integer.valueOf(sortValue);
+
+		return sortValue;
+	}
+
 	@Nonnull
 	protected String toPostgresArrayLiteral(@Nonnull Collection<?> values) {
 		requireNonNull(values);
@@ -3051,13 +3399,16 @@ public class PatientOrderService implements AutoCloseable {
 		if (panelAccountId == null)
 			return List.of();
 
+		if (getPatientOrderProjectionService().isPatientOrderProjectionReadable())
+			getPatientOrderProjectionService().refreshQueuedPatientOrderProjectionsForPanelAccountId(panelAccountId);
+
 		return getDatabase().queryForList("""
 					SELECT po.*
-				  FROM v_patient_order po
+				  FROM {{patientOrderViewName}} po
 				  WHERE po.panel_account_id=?
 				  AND po.patient_order_disposition_id=?
 				  ORDER BY po.order_date DESC, po.order_age_in_minutes, po.patient_first_name, po.patient_last_name
-				""", PatientOrder.class, panelAccountId, PatientOrderDispositionId.OPEN);
+				""".replace("{{patientOrderViewName}}", patientOrderViewName(false)), PatientOrder.class, panelAccountId, PatientOrderDispositionId.OPEN);
 	}
 
 	@Nonnull
@@ -6238,6 +6589,7 @@ public class PatientOrderService implements AutoCloseable {
 		String rawOrderChecksum = null;
 		String rawOrderJsonRepresentation = null;
 		UUID patientOrderImportId = UUID.randomUUID();
+		PatientOrderImport existingCsvPatientOrderImport = null;
 		List<UUID> patientOrderIds = new ArrayList<>();
 		ValidationException validationException = new ValidationException();
 
@@ -6261,10 +6613,10 @@ public class PatientOrderService implements AutoCloseable {
 						.hashString(csvContent, StandardCharsets.UTF_8)
 						.toString();
 
-				PatientOrderImport existingPatientOrderImportMatchingChecksum =
-						findPatientOrderImportByRawOrderChecksum(rawOrderChecksum, institutionId, patientOrderImportTypeId).orElse(null);
+				existingCsvPatientOrderImport = findPatientOrderImportByRawOrderChecksum(rawOrderChecksum, institutionId, patientOrderImportTypeId).orElse(null);
 
-				if (existingPatientOrderImportMatchingChecksum != null)
+				// An import that didn't finish can be resumed by uploading the same file again
+				if (existingCsvPatientOrderImport != null && existingCsvPatientOrderImport.getCompletedAt() != null)
 					validationException.add(new FieldError("csvContent", getStrings().get("This file has already been imported.")));
 			}
 		} else if (patientOrderImportTypeId == PatientOrderImportTypeId.HL7_MESSAGE) {
@@ -6306,296 +6658,15 @@ public class PatientOrderService implements AutoCloseable {
 		if (institution.getEpicPatientUniqueIdType() == null)
 			throw new IllegalStateException(format("No Epic Patient Unique ID Type configured for institution ID %s", institution.getName()));
 
-		getDatabase().execute("""
-						INSERT INTO patient_order_import (
-						patient_order_import_id,
-						patient_order_import_type_id,
-						institution_id,
-						account_id,
-						raw_order,
-						raw_order_checksum,
-						raw_order_json_representation,
-						raw_order_filename
-						) VALUES (?,?,?,?,?,?,CAST (? AS JSONB),?)
-						""", patientOrderImportId, patientOrderImportTypeId, institutionId, accountId, rawOrder,
-				rawOrderChecksum, rawOrderJsonRepresentation, filename);
-
-		if (patientOrderImportTypeId == PatientOrderImportTypeId.CSV) {
-			Map<Integer, ValidationException> validationExceptionsByRowNumber = new HashMap<>();
-			int rowNumber = 0;
-
-			// If first column header is "Test Patient Email Address", then this is a test file
-			boolean containsTestPatientData = csvContent.startsWith("Test Patient Email Address");
-
-			if (containsTestPatientData && !getConfiguration().getShouldEnableIcDebugging())
-				throw new IllegalStateException("Cannot upload test patient data in this environment.");
-
-			getLogger().info("Importing patient orders from CSV...");
-			int i = 0;
-
-			// Pull data from the CSV
-			try (Reader reader = new StringReader(csvContent)) {
-				for (CSVRecord record : CSVFormat.DEFAULT.withFirstRecordAsHeader().parse(reader)) {
-					getLogger().info("Importing patient order {}...", ++i);
-
-					CreatePatientOrderRequest patientOrderRequest = new CreatePatientOrderRequest();
-					patientOrderRequest.setPatientOrderImportId(patientOrderImportId);
-					patientOrderRequest.setInstitutionId(institutionId);
-					patientOrderRequest.setAccountId(accountId);
-
-					int columnOffset = 0;
-
-					if (containsTestPatientData) {
-						patientOrderRequest.setTestPatientEmailAddress(trimToNull(record.get("Test Patient Email Address")));
-						patientOrderRequest.setTestPatientPassword(trimToNull(record.get("Test Patient Password")));
-						patientOrderRequest.setTestPatientOrder(true);
-						columnOffset = 2;
-					}
-
-					String encounterDepartmentName = null;
-
-					// Support alternate names for this field
-					if (record.isMapped("Encounter Dept"))
-						encounterDepartmentName = trimToNull(record.get("Encounter Dept"));
-					else if (record.isMapped("Encounter Dept Name"))
-						encounterDepartmentName = trimToNull(record.get("Encounter Dept Name"));
-
-					patientOrderRequest.setEncounterDepartmentName(encounterDepartmentName);
-					patientOrderRequest.setEncounterDepartmentId(trimToNull(record.get("Encounter Dept ID")));
-
-					// Referring Practice has 2 fields with the same name (currently...)
-					// So we try the first one, and if it's null, we try the second
-					String rawReferringPracticeName = trimToNull(record.get(columnOffset + 2));
-
-					if (rawReferringPracticeName == null)
-						rawReferringPracticeName = trimToNull(record.get(columnOffset + 3));
-
-					if (rawReferringPracticeName != null) {
-						NameWithEmbeddedId referringPractice = new NameWithEmbeddedId(rawReferringPracticeName);
-						String referringPracticeId = referringPractice.getId().orElse(null);
-
-						if (referringPracticeId != null)
-							patientOrderRequest.setReferringPracticeId(referringPracticeId);
-
-						patientOrderRequest.setReferringPracticeName(referringPractice.getName());
-					}
-
-					CsvName orderingProviderName = new CsvName(trimToNull(record.get("Ordering Provider")));
-					patientOrderRequest.setOrderingProviderLastName(orderingProviderName.getLastName().orElse(null));
-					patientOrderRequest.setOrderingProviderFirstName(orderingProviderName.getFirstName().orElse(null));
-					patientOrderRequest.setOrderingProviderMiddleName(orderingProviderName.getMiddleName().orElse(null));
+		// CSV files can be large, so they're imported in batches that commit as they go, usually in the background.
+		// Everything else is imported all-or-nothing in the current transaction
+		if (patientOrderImportTypeId == PatientOrderImportTypeId.CSV)
+			return createCsvPatientOrderImport(institution, accountId, csvContent, rawOrderChecksum, filename, existingCsvPatientOrderImport);
 
-					// Normalizes some names and also extracts IDs.
-					//
-					// Examples:
-					// billingProviderName="ROBINSON, LAURA E [R11853]" -> "ROBINSON, LAURA E" (name), "R11853" (id)
-					String rawBillingProviderName = trimToNull(record.get("Billing Provider"));
-
-					if (rawBillingProviderName != null) {
-						NameWithEmbeddedId billingProviderName = new NameWithEmbeddedId(rawBillingProviderName);
-						String billingProviderId = billingProviderName.getId().orElse(null);
-
-						if (billingProviderId != null)
-							patientOrderRequest.setBillingProviderId(billingProviderId);
-
-						CsvName csvBillingProviderName = new CsvName(billingProviderName.getName());
-						patientOrderRequest.setBillingProviderLastName(csvBillingProviderName.getLastName().orElse(null));
-						patientOrderRequest.setBillingProviderFirstName(csvBillingProviderName.getFirstName().orElse(null));
-						patientOrderRequest.setBillingProviderMiddleName(csvBillingProviderName.getMiddleName().orElse(null));
-					}
-
-					patientOrderRequest.setPatientLastName(trimToNull(record.get("Last Name")));
-					patientOrderRequest.setPatientFirstName(trimToNull(record.get("First Name")));
-					patientOrderRequest.setPatientMrn(trimToNull(record.get("MRN")));
-					patientOrderRequest.setPatientUniqueId(trimToNull(record.get("UID")));
-					patientOrderRequest.setPatientUniqueIdType(institution.getEpicPatientUniqueIdType());
-
-					// Might be "Sex" or "Legal Sex"
-					String patientBirthSexId = null;
-
-					try {
-						patientBirthSexId = trimToNull(record.get("Legal Sex"));
-					} catch (IllegalArgumentException e) {
-						try {
-							patientBirthSexId = trimToNull(record.get("Sex"));
-						} catch (IllegalArgumentException e2) {
-							getLogger().warn("There is no 'Legal Sex' or 'Sex' column in this order report.");
-						}
-					}
-
-					patientOrderRequest.setPatientBirthSexId(patientBirthSexId);
-
-					patientOrderRequest.setPatientBirthdate(trimToNull(record.get("DOB")));
-
-					// e.g. 128000-IBC
-					String primaryPayor = trimToNull(record.get("Primary Payor"));
-					String primaryPayorId = null;
-					String primaryPayorName = null;
-
-					if (primaryPayor != null) {
-						int primaryPayorSeparatorIndex = primaryPayor.indexOf("-");
-
-						if (primaryPayorSeparatorIndex == -1) {
-							primaryPayorName = primaryPayor;
-						} else {
-							primaryPayorId = primaryPayor.substring(0, primaryPayorSeparatorIndex);
-							primaryPayorName = primaryPayor.length() > primaryPayorId.length() + 1
-									? primaryPayor.substring(primaryPayorSeparatorIndex + 1)
-									: null;
-						}
-					}
-
-					patientOrderRequest.setPrimaryPayorId(primaryPayorId);
-					patientOrderRequest.setPrimaryPayorName(primaryPayorName);
-
-					// e.g. 128002-KEYSTONE HEALTH PLAN EAST
-					String primaryPlan = trimToNull(record.get("Primary Plan"));
-					String primaryPlanId = null;
-					String primaryPlanName = null;
-
-					if (primaryPlan != null) {
-						int primaryPlanSeparatorIndex = primaryPlan.indexOf("-");
-
-						if (primaryPlanSeparatorIndex == -1) {
-							primaryPlanName = primaryPayor;
-						} else {
-							primaryPlanId = primaryPlan.substring(0, primaryPlanSeparatorIndex);
-							primaryPlanName = primaryPlan.length() > primaryPlanId.length() + 1
-									? primaryPlan.substring(primaryPlanSeparatorIndex + 1)
-									: null;
-						}
-					}
-
-					patientOrderRequest.setPrimaryPlanId(primaryPlanId);
-					patientOrderRequest.setPrimaryPlanName(primaryPlanName);
-					patientOrderRequest.setOrderDate(trimToNull(record.get("Order Date")));
-					patientOrderRequest.setOrderId(trimToNull(record.get("Order ID")));
-					patientOrderRequest.setOrderAge(trimToNull(record.get("Age of Order")));
-					patientOrderRequest.setRouting(trimToNull(record.get("CCBH Order Routing")));
-
-					// Comma-separated list
-					String reasonsForReferralAsString = trimToNull(record.get("Reasons for Referral"));
-					List<String> reasonsForReferral = new ArrayList<>();
-					Set<String> uniqueReasonsForReferral = new HashSet<>();
-
-					if (reasonsForReferralAsString != null) {
-						for (String reasonForReferral : reasonsForReferralAsString.split(",")) {
-							reasonForReferral = trimToNull(reasonForReferral);
-
-							if (reasonForReferral != null) {
-								// Prevent duplicates for this order
-								if (uniqueReasonsForReferral.contains(reasonsForReferral))
-									continue;
-
-								uniqueReasonsForReferral.add(reasonForReferral);
-								reasonsForReferral.add(reasonForReferral);
-							}
-						}
-					}
-
-					patientOrderRequest.setReasonsForReferral(reasonsForReferral);
-
-					// Might be encoded as names + bracketed IDs in CSV like this (a single field with newlines)
-					// "GAD (generalized anxiety disorder) [213881]
-					// Smoker [283397]
-					// Alcohol abuse [155739]"
-					String diagnosesAsString = trimToNull(record.get("DX"));
-					List<CreatePatientOrderDiagnosisRequest> diagnoses = parseNamesWithEmbeddedIds(diagnosesAsString).stream()
-							.map(nameWithEmbeddedId -> {
-								CreatePatientOrderDiagnosisRequest diagnosisRequest = new CreatePatientOrderDiagnosisRequest();
-								diagnosisRequest.setDiagnosisId(nameWithEmbeddedId.getId().orElse(null));
-								diagnosisRequest.setDiagnosisName(nameWithEmbeddedId.getName());
-								return diagnosisRequest;
-							})
-							.collect(Collectors.toList());
-
-					patientOrderRequest.setDiagnoses(diagnoses);
-
-					patientOrderRequest.setAssociatedDiagnosis(trimToNull(record.get("Order Associated Diagnosis (ICD-10)")));
-					patientOrderRequest.setPatientPhoneNumber(trimToNull(record.get("Call Back Number")));
-					patientOrderRequest.setPreferredContactHours(trimToNull(record.get("Preferred Contact Hours")));
-					patientOrderRequest.setComments(trimToNull(record.get("Order Comments")));
-					patientOrderRequest.setCcRecipients(trimToNull(record.get("IMG CC Recipients")));
-					patientOrderRequest.setPatientAddressLine1(trimToNull(record.get("Patient Address (Line 1)")));
-					patientOrderRequest.setPatientAddressLine2(trimToNull(record.get("Patient Address (Line 2)")));
-					patientOrderRequest.setPatientLocality(trimToNull(record.get("City")));
-					patientOrderRequest.setPatientRegion(trimToNull(record.get("Patient State")));
-					patientOrderRequest.setPatientPostalCode(trimToNull(record.get("ZIP Code")));
-
-					// e.g. "Take 1 tablet by mouth daily.<br>E-Prescribe, Disp-60 tablet, R-1"
-					String lastActiveMedicationOrderSummary = trimToNull(record.get("CCBH Last Active Med Order Summary"));
-
-					if (lastActiveMedicationOrderSummary != null)
-						// Replacing just <br> for now - any others?
-						lastActiveMedicationOrderSummary = lastActiveMedicationOrderSummary.replace("<br>", "\n");
-
-					patientOrderRequest.setLastActiveMedicationOrderSummary(lastActiveMedicationOrderSummary);
-
-					// e.g. "escitalopram 10 mg tablet [517587114]"
-					// Might have multiple lines...
-					String medicationsAsString = trimToNull(record.get("CCBH Medications List"));
-
-					List<CreatePatientOrderMedicationRequest> medications = parseNamesWithEmbeddedIds(medicationsAsString).stream()
-							.map(nameWithEmbeddedId -> {
-								CreatePatientOrderMedicationRequest medicationRequest = new CreatePatientOrderMedicationRequest();
-								medicationRequest.setMedicationId(nameWithEmbeddedId.getId().orElse(null));
-
-								String medicationName = nameWithEmbeddedId.getName();
-
-								// e.g. "escitalopram 10 mg tablet" -> "Escitalopram 10 mg tablet"
-								if (medicationName != null)
-									medicationName = StringUtils.capitalize(medicationName);
-
-								medicationRequest.setMedicationName(medicationName);
-								return medicationRequest;
-							})
-							.collect(Collectors.toList());
-
-					patientOrderRequest.setMedications(medications);
-					patientOrderRequest.setRecentPsychotherapeuticMedications(trimToNull(record.get("Psychotherapeutic Med Lst 2 Weeks")));
-
-					try {
-						UUID patientOrderId = createPatientOrder(patientOrderRequest);
-						patientOrderIds.add(patientOrderId);
-					} catch (ValidationException e) {
-						validationExceptionsByRowNumber.put(rowNumber, e);
-					}
-
-					++rowNumber;
-				}
-			} catch (IOException e) {
-				// In practice, we should never hit IOException because the Reader is operating over an in-memory String
-				throw new UncheckedIOException("Unable to read CSV string", e);
-			} catch (IllegalArgumentException e) {
-				getLogger().warn("Unable to read CSV order import file", e);
-				throw new ValidationException(getStrings().get("Unable to read the CSV patient order import file. Please double-check that the format is correct."));
-			}
-
-			// If any row-level validation exceptions, group all the errors per row into a single line.
-			// Then throw back the list of lines to the client.
-			// example: "Row 1: Patient ID is required. Callback Phone Number is invalid.", "Row 3: Patient Last Name is required."
-			if (validationExceptionsByRowNumber.size() > 0) {
-				List<String> globalErrors = new ArrayList<>();
-				List<Integer> rowNumbers = validationExceptionsByRowNumber.keySet().stream().sorted().toList();
-
-				for (Integer currentRowNumber : rowNumbers) {
-					ValidationException currentValidationException = validationExceptionsByRowNumber.get(currentRowNumber);
-					List<String> rowErrors = new ArrayList<>(currentValidationException.getGlobalErrors());
-					rowErrors.addAll(currentValidationException.getFieldErrors().stream()
-							.map(fieldError -> fieldError.getError())
-							.collect(Collectors.toSet()));
-
-					String rowErrorsAsString = rowErrors.stream().collect(Collectors.joining(" "));
-
-					globalErrors.add(getStrings().get("Row {{rowNumber}}: {{rowErrors}}", new HashMap<>() {{
-						put("rowNumber", currentRowNumber + 1);
-						put("rowErrors", rowErrorsAsString);
-					}}));
-				}
+		createPatientOrderImportRecord(patientOrderImportId, patientOrderImportTypeId, institutionId, accountId, rawOrder,
+				rawOrderChecksum, rawOrderJsonRepresentation, filename, Instant.now());
 
-				throw new ValidationException(globalErrors, List.of());
-			}
-		} else if (patientOrderImportTypeId == PatientOrderImportTypeId.HL7_MESSAGE) {
+		if (patientOrderImportTypeId == PatientOrderImportTypeId.HL7_MESSAGE) {
 			getLogger().info("Importing patient order from HL7 message...");
 
 			int orderCount = 0;
@@ -6952,24 +7023,434 @@ public class PatientOrderService implements AutoCloseable {
 			patientOrderIds.add(patientOrderId);
 		}
 
-		// See if we need to auto-assign this order to an account
-		for (UUID patientOrderId : patientOrderIds) {
-			RawPatientOrder patientOrder = findRawPatientOrderById(patientOrderId).get();
+		processImportedPatientOrders(institution, patientOrderIds, accountId);
 
-			// Some departments have specific panel accounts to assign to, check for that here
-			List<Account> autoAssignedAccounts = findEpicDepartmentOrderAutoAssignedAccounts(patientOrder.getEpicDepartmentId());
+		return new PatientOrderImportResult(patientOrderImportId, patientOrderIds);
+	}
 
-			// If there are accounts available to assign, arbitrarily pick the first one.
-			// Later, we might add additional heuristics
-			if (autoAssignedAccounts.size() > 0) {
-				Account autoAssignedAccount = autoAssignedAccounts.get(0);
-				assignPatientOrderToPanelAccount(patientOrderId, autoAssignedAccount.getAccountId(), accountId);
-			}
+	protected void createPatientOrderImportRecord(@Nonnull UUID patientOrderImportId,
+																								@Nonnull PatientOrderImportTypeId patientOrderImportTypeId,
+																								@Nonnull InstitutionId institutionId,
+																								@Nonnull UUID accountId,
+																								@Nonnull String rawOrder,
+																								@Nullable String rawOrderChecksum,
+																								@Nullable String rawOrderJsonRepresentation,
+																								@Nullable String filename,
+																								@Nullable Instant completedAt) {
+		requireNonNull(patientOrderImportId);
+		requireNonNull(patientOrderImportTypeId);
+		requireNonNull(institutionId);
+		requireNonNull(accountId);
+		requireNonNull(rawOrder);
+
+		getDatabase().execute("""
+						INSERT INTO patient_order_import (
+						patient_order_import_id,
+						patient_order_import_type_id,
+						institution_id,
+						account_id,
+						raw_order,
+						raw_order_checksum,
+						raw_order_json_representation,
+						raw_order_filename,
+						completed_at
+						) VALUES (?,?,?,?,?,?,CAST (? AS JSONB),?,?)
+						""", patientOrderImportId, patientOrderImportTypeId, institutionId, accountId, rawOrder,
+				rawOrderChecksum, rawOrderJsonRepresentation, filename, completedAt);
+	}
+
+	/**
+	 * Starts (or resumes) a CSV import.
+	 * <p>
+	 * If the caller already has a transaction open (e.g. tests), the file is imported inline and all-or-nothing, and rows
+	 * that fail validation are thrown back as a {@link ValidationException}.
+	 * <p>
+	 * Otherwise (e.g. the import endpoint) the import record is committed and the file is imported on a background thread,
+	 * one committed batch at a time, and this returns right away with no patient order IDs.  Progress, row errors and any
+	 * failure are on the import record - see {@link #findPatientOrderImportById(UUID)} and
+	 * {@link #findPatientOrderImportRowErrorsByPatientOrderImportId(UUID)}.  If the import fails partway through (or its node
+	 * goes away), uploading the same file again picks up after the last committed batch rather than importing those rows twice.
+	 */
+	@Nonnull
+	protected PatientOrderImportResult createCsvPatientOrderImport(@Nonnull Institution institution,
+																																 @Nonnull UUID accountId,
+																																 @Nonnull String csvContent,
+																																 @Nonnull String rawOrderChecksum,
+																																 @Nullable String filename,
+																																 @Nullable PatientOrderImport interruptedPatientOrderImport) {
+		requireNonNull(institution);
+		requireNonNull(accountId);
+		requireNonNull(csvContent);
+		requireNonNull(rawOrderChecksum);
+
+		// If first column header is "Test Patient Email Address", then this is a test file
+		boolean containsTestPatientData = csvContent.startsWith("Test Patient Email Address");
+
+		if (containsTestPatientData && !getConfiguration().getShouldEnableIcDebugging())
+			throw new IllegalStateException("Cannot upload test patient data in this environment.");
+
+		// Fail fast, before anything is recorded, if we can't even read the header row
+		try (Reader reader = new StringReader(csvContent)) {
+			patientOrderImportCsvRecordsFor(reader);
+		} catch (IOException e) {
+			// In practice, we should never hit IOException because the Reader is operating over an in-memory String
+			throw new UncheckedIOException("Unable to read CSV string", e);
+		}
+
+		UUID patientOrderImportId;
+		Integer skippedRecordCount;
+
+		if (interruptedPatientOrderImport == null) {
+			UUID newPatientOrderImportId = UUID.randomUUID();
+
+			// Batches commit on their own (unless the caller owns a transaction), so the import record has to be committed before any of them can reference it
+			performPatientOrderImportOperation(() -> {
+				createPatientOrderImportRecord(newPatientOrderImportId, PatientOrderImportTypeId.CSV, institution.getInstitutionId(), accountId,
+						csvContent, rawOrderChecksum, null, filename, null);
+			});
+
+			patientOrderImportId = newPatientOrderImportId;
+			skippedRecordCount = 0;
+		} else {
+			patientOrderImportId = interruptedPatientOrderImport.getPatientOrderImportId();
+			skippedRecordCount = resumePatientOrderImport(patientOrderImportId).orElse(null);
+
+			if (skippedRecordCount == null)
+				throw new ValidationException(new FieldError("csvContent", getStrings().get("This file is still being imported.")));
+
+			getLogger().info("Resuming patient order import ID {} after {} already-processed row[s]...", patientOrderImportId, skippedRecordCount);
+		}
+
+		if (getDatabase().currentTransaction().isPresent()) {
+			SortedMap<Integer, String> rowErrorsByRowNumber = new TreeMap<>();
+			List<UUID> patientOrderIds = importPatientOrdersFromCsv(institution, patientOrderImportId, accountId, csvContent,
+					containsTestPatientData, skippedRecordCount, rowErrorsByRowNumber);
+
+			// If any row-level validation errors, throw back the list of lines to the client.
+			// example: "Row 1: Patient ID is required. Callback Phone Number is invalid.", "Row 3: Patient Last Name is required."
+			if (rowErrorsByRowNumber.size() > 0) {
+				List<String> globalErrors = new ArrayList<>();
+
+				for (Entry<Integer, String> rowError : rowErrorsByRowNumber.entrySet()) {
+					globalErrors.add(getStrings().get("Row {{rowNumber}}: {{rowErrors}}", new HashMap<>() {{
+						put("rowNumber", rowError.getKey());
+						put("rowErrors", rowError.getValue());
+					}}));
+				}
+
+				throw new ValidationException(globalErrors, List.of());
+			}
+
+			return new PatientOrderImportResult(patientOrderImportId, patientOrderIds);
+		}
+
+		CurrentContext currentContext = getCurrentContextExecutor().getCurrentContext().orElse(null);
+
+		getPatientOrderImportExecutorService().execute(() -> {
+			Runnable importOperation = () -> performBackgroundCsvPatientOrderImport(institution, patientOrderImportId, accountId,
+					csvContent, containsTestPatientData, skippedRecordCount);
+
+			// Keep the uploader's context so footprints and localized row errors match a synchronous import
+			if (currentContext == null)
+				importOperation.run();
+			else
+				getCurrentContextExecutor().execute(currentContext, importOperation::run);
+		});
+
+		return new PatientOrderImportResult(patientOrderImportId, List.of());
+	}
+
+	protected void performBackgroundCsvPatientOrderImport(@Nonnull Institution institution,
+																												@Nonnull UUID patientOrderImportId,
+																												@Nonnull UUID accountId,
+																												@Nonnull String csvContent,
+																												@Nonnull Boolean containsTestPatientData,
+																												@Nonnull Integer skippedRecordCount) {
+		requireNonNull(institution);
+		requireNonNull(patientOrderImportId);
+		requireNonNull(accountId);
+		requireNonNull(csvContent);
+		requireNonNull(containsTestPatientData);
+		requireNonNull(skippedRecordCount);
+
+		try {
+			// Row errors are recorded on the import as each batch commits
+			importPatientOrdersFromCsv(institution, patientOrderImportId, accountId, csvContent, containsTestPatientData,
+					skippedRecordCount, new TreeMap<>());
+		} catch (Throwable t) {
+			getLogger().error(format("Patient order import ID %s failed partway through. Uploading the same file again will resume it.", patientOrderImportId), t);
+			getErrorReporter().report(t);
+
+			// Validation failures (e.g. a malformed row) are safe and useful to show; anything else gets a generic message
+			String failureMessage = t instanceof ValidationException validationException && validationException.getGlobalErrors().size() > 0
+					? validationException.getGlobalErrors().stream().collect(Collectors.joining(" "))
+					: getStrings().get("An unexpected error occurred while importing this file.");
+
+			try {
+				getDatabase().transaction(() -> {
+					getDatabase().execute("""
+							UPDATE patient_order_import
+							SET failed_at=NOW(), failure_message=?
+							WHERE patient_order_import_id=?
+							""", failureMessage, patientOrderImportId);
+				});
+			} catch (Exception e) {
+				getLogger().error(format("Unable to record failure of patient order import ID %s", patientOrderImportId), e);
+			}
+		}
+	}
+
+	/**
+	 * Claims an unfinished import so it can be resumed.  Only a failed import, or one that has made no progress in a while
+	 * (e.g. its node was restarted), can be claimed - one that's still running can't.
+	 *
+	 * @return the number of rows already processed by committed batches, or empty if the import can't be resumed right now
+	 */
+	@Nonnull
+	protected Optional<Integer> resumePatientOrderImport(@Nonnull UUID patientOrderImportId) {
+		requireNonNull(patientOrderImportId);
+
+		List<Integer> processedRecordCounts = new ArrayList<>(1);
+
+		// Clearing the failure also bumps last_updated, so a concurrent re-upload sees this import as running again
+		performPatientOrderImportOperation(() -> {
+			processedRecordCounts.addAll(getDatabase().queryForList("""
+					UPDATE patient_order_import
+					SET failed_at=NULL, failure_message=NULL
+					WHERE patient_order_import_id=?
+					AND completed_at IS NULL
+					AND (failed_at IS NOT NULL OR last_updated < NOW() - make_interval(secs => ?))
+					RETURNING processed_record_count
+					""", Integer.class, patientOrderImportId, PATIENT_ORDER_IMPORT_ABANDONED_AFTER_IN_SECONDS));
+		});
+
+		return processedRecordCounts.stream().findFirst();
+	}
+
+	@Nonnull
+	protected List<UUID> importPatientOrdersFromCsv(@Nonnull Institution institution,
+																									@Nonnull UUID patientOrderImportId,
+																									@Nonnull UUID accountId,
+																									@Nonnull String csvContent,
+																									@Nonnull Boolean containsTestPatientData,
+																									@Nonnull Integer skippedRecordCount,
+																									@Nonnull SortedMap<Integer, String> rowErrorsByRowNumber) {
+		requireNonNull(institution);
+		requireNonNull(patientOrderImportId);
+		requireNonNull(accountId);
+		requireNonNull(csvContent);
+		requireNonNull(containsTestPatientData);
+		requireNonNull(skippedRecordCount);
+		requireNonNull(rowErrorsByRowNumber);
+
+		List<UUID> patientOrderIds = new ArrayList<>();
+		int rowNumber = 0;
+
+		getLogger().info("Importing patient orders from CSV...");
+
+		// Expensive per-order remote lookups (Epic demographics) run concurrently, a batch at a time
+		ExecutorService patientOrderImportExecutorService = Executors.newFixedThreadPool(getConfiguration().getPatientOrderImportConcurrency(),
+				new ThreadFactoryBuilder().setNameFormat("patient-order-import-%d").build());
+
+		try (Reader reader = new StringReader(csvContent)) {
+			Iterator<CSVRecord> csvRecords = patientOrderImportCsvRecordsFor(reader);
+
+			try {
+				// When resuming, rows in batches that already committed are skipped
+				while (rowNumber < skippedRecordCount && csvRecords.hasNext()) {
+					csvRecords.next();
+					++rowNumber;
+				}
+			} catch (IllegalArgumentException e) {
+				throw unreadablePatientOrderImportCsvException(e);
+			}
+
+			while (csvRecords.hasNext()) {
+				Map<Integer, CreatePatientOrderRequest> patientOrderRequestsByRowNumber = new LinkedHashMap<>();
+
+				// Pull the next batch from the CSV, one record at a time...
+				try {
+					while (csvRecords.hasNext() && patientOrderRequestsByRowNumber.size() < PATIENT_ORDER_IMPORT_BATCH_SIZE)
+						patientOrderRequestsByRowNumber.put(++rowNumber, createPatientOrderRequestForCsvRecord(csvRecords.next(),
+								institution, patientOrderImportId, accountId, containsTestPatientData));
+				} catch (IllegalArgumentException e) {
+					throw unreadablePatientOrderImportCsvException(e);
+				}
+
+				// ...and import it (in its own transaction, unless the caller owns one)
+				importPatientOrderBatch(institution, patientOrderImportId, accountId, patientOrderRequestsByRowNumber,
+						patientOrderImportExecutorService, patientOrderIds, rowErrorsByRowNumber);
+			}
+		} catch (IOException e) {
+			// In practice, we should never hit IOException because the Reader is operating over an in-memory String
+			throw new UncheckedIOException("Unable to read CSV string", e);
+		} finally {
+			ExecutorServiceUtility.shutdownAndAwaitTermination(patientOrderImportExecutorService);
+		}
+
+		performPatientOrderImportOperation(() -> {
+			getDatabase().execute("""
+					UPDATE patient_order_import
+					SET completed_at=NOW()
+					WHERE patient_order_import_id=?
+					""", patientOrderImportId);
+		});
+
+		getLogger().info("Finished importing patient orders from CSV: {} row[s] imported, {} row[s] failed, {} row[s] skipped as already processed.",
+				patientOrderIds.size(), rowErrorsByRowNumber.size(), skippedRecordCount);
+
+		return patientOrderIds;
+	}
+
+	@Nonnull
+	protected Iterator<CSVRecord> patientOrderImportCsvRecordsFor(@Nonnull Reader reader) throws IOException {
+		requireNonNull(reader);
+
+		try {
+			return CSVFormat.DEFAULT.withFirstRecordAsHeader().parse(reader).iterator();
+		} catch (IllegalArgumentException e) {
+			throw unreadablePatientOrderImportCsvException(e);
+		}
+	}
+
+	protected void importPatientOrderBatch(@Nonnull Institution institution,
+																				 @Nonnull UUID patientOrderImportId,
+																				 @Nonnull UUID accountId,
+																				 @Nonnull Map<Integer, CreatePatientOrderRequest> patientOrderRequestsByRowNumber,
+																				 @Nonnull ExecutorService executorService,
+																				 @Nonnull List<UUID> patientOrderIds,
+																				 @Nonnull Map<Integer, String> rowErrorsByRowNumber) {
+		requireNonNull(institution);
+		requireNonNull(patientOrderImportId);
+		requireNonNull(accountId);
+		requireNonNull(patientOrderRequestsByRowNumber);
+		requireNonNull(executorService);
+		requireNonNull(patientOrderIds);
+		requireNonNull(rowErrorsByRowNumber);
+
+		// Remote lookups happen before the transaction opens so it isn't held across Epic calls
+		PatientOrderImportLookups patientOrderImportLookups = createPatientOrderImportLookups(institution,
+				new ArrayList<>(patientOrderRequestsByRowNumber.values()), executorService);
+
+		List<UUID> batchPatientOrderIds = new ArrayList<>();
+		Map<Integer, String> batchRowErrorsByRowNumber = new LinkedHashMap<>();
+
+		performPatientOrderImportOperation(() -> {
+			for (Entry<Integer, CreatePatientOrderRequest> entry : patientOrderRequestsByRowNumber.entrySet()) {
+				getLogger().info("Importing patient order from CSV row {}...", entry.getKey());
+
+				try {
+					batchPatientOrderIds.add(createPatientOrder(entry.getValue(), patientOrderImportLookups));
+				} catch (ValidationException e) {
+					batchRowErrorsByRowNumber.put(entry.getKey(), patientOrderImportRowErrorFor(e));
+				}
+			}
+
+			processImportedPatientOrders(institution, batchPatientOrderIds, accountId);
+
+			if (batchRowErrorsByRowNumber.size() > 0) {
+				List<List<Object>> parameterGroups = new ArrayList<>(batchRowErrorsByRowNumber.size());
+
+				for (Entry<Integer, String> rowError : batchRowErrorsByRowNumber.entrySet())
+					parameterGroups.add(List.of(patientOrderImportId, rowError.getKey(), rowError.getValue()));
+
+				getDatabase().executeBatch("""
+						INSERT INTO patient_order_import_row_error (
+						patient_order_import_id,
+						row_number,
+						error
+						) VALUES (?,?,?)
+						""", parameterGroups);
+			}
+
+			getDatabase().execute("""
+					UPDATE patient_order_import
+					SET processed_record_count=processed_record_count + ?,
+					imported_record_count=imported_record_count + ?,
+					failed_record_count=failed_record_count + ?
+					WHERE patient_order_import_id=?
+					""", patientOrderRequestsByRowNumber.size(), batchPatientOrderIds.size(), batchRowErrorsByRowNumber.size(), patientOrderImportId);
+		});
+
+		// Only record results once the batch has actually been written
+		patientOrderIds.addAll(batchPatientOrderIds);
+		rowErrorsByRowNumber.putAll(batchRowErrorsByRowNumber);
+
+		getLogger().info("Committed patient order import batch: {} imported, {} failed.", batchPatientOrderIds.size(), batchRowErrorsByRowNumber.size());
+	}
+
+	/**
+	 * Runs a step of a CSV import.
+	 * <p>
+	 * If the caller already has a transaction open, the step participates in it and the whole import stays all-or-nothing.
+	 * Otherwise (e.g. the import endpoint, which manages its own transactions) each step commits on its own, so a large
+	 * file never holds a single long-running transaction and completed batches survive a later failure.
+	 */
+	protected void performPatientOrderImportOperation(@Nonnull Runnable operation) {
+		requireNonNull(operation);
+
+		if (getDatabase().currentTransaction().isPresent()) {
+			operation.run();
+			return;
+		}
+
+		getDatabase().transaction(() -> {
+			getSystemService().applyFootprintForCurrentContextToCurrentTransaction();
+			getSystemService().applyFootprintEventGroupToCurrentTransaction(FootprintEventGroupTypeId.PATIENT_ORDER_IMPORT_CREATE);
+			operation.run();
+		});
+	}
+
+	/**
+	 * Groups all the errors for a row into a single line, e.g. "Patient ID is required. Callback Phone Number is invalid."
+	 */
+	@Nonnull
+	protected String patientOrderImportRowErrorFor(@Nonnull ValidationException validationException) {
+		requireNonNull(validationException);
+
+		List<String> rowErrors = new ArrayList<>(validationException.getGlobalErrors());
+		rowErrors.addAll(validationException.getFieldErrors().stream()
+				.map(fieldError -> fieldError.getError())
+				.collect(Collectors.toSet()));
+
+		return rowErrors.stream().collect(Collectors.joining(" "));
+	}
+
+	@Nonnull
+	protected ValidationException unreadablePatientOrderImportCsvException(@Nonnull IllegalArgumentException e) {
+		requireNonNull(e);
+
+		getLogger().warn("Unable to read CSV order import file", e);
+		return new ValidationException(getStrings().get("Unable to read the CSV patient order import file. Please double-check that the format is correct."));
+	}
+
+	protected void processImportedPatientOrders(@Nonnull Institution institution,
+																							@Nonnull List<UUID> patientOrderIds,
+																							@Nonnull UUID accountId) {
+		requireNonNull(institution);
+		requireNonNull(patientOrderIds);
+		requireNonNull(accountId);
+
+		// See if we need to auto-assign this order to an account
+		for (UUID patientOrderId : patientOrderIds) {
+			RawPatientOrder patientOrder = findRawPatientOrderById(patientOrderId).get();
+
+			// Some departments have specific panel accounts to assign to, check for that here
+			List<Account> autoAssignedAccounts = findEpicDepartmentOrderAutoAssignedAccounts(patientOrder.getEpicDepartmentId());
+
+			// If there are accounts available to assign, arbitrarily pick the first one.
+			// Later, we might add additional heuristics
+			if (autoAssignedAccounts.size() > 0) {
+				Account autoAssignedAccount = autoAssignedAccounts.get(0);
+				assignPatientOrderToPanelAccount(patientOrderId, autoAssignedAccount.getAccountId(), accountId);
+			}
 		}
 
 		// For any orders in the import batch that have no flags, send a welcome message automatically.
 		// Also, register orders as participating in studies if applicable
-		List<PatientOrder> importedPatientOrders = findPatientOrdersByPatientOrderImportId(patientOrderImportId);
+		List<PatientOrder> importedPatientOrders = patientOrderIds.stream()
+				.map(patientOrderId -> findPatientOrderById(patientOrderId).get())
+				.collect(Collectors.toList());
 		LocalDateTime now = LocalDateTime.now(institution.getTimeZone());
 
 		for (PatientOrder importedPatientOrder : importedPatientOrders) {
@@ -7037,8 +7518,6 @@ public class PatientOrderService implements AutoCloseable {
 				}
 			}
 		}
-
-		return new PatientOrderImportResult(patientOrderImportId, patientOrderIds);
 	}
 
 	@Nullable
@@ -7196,9 +7675,346 @@ public class PatientOrderService implements AutoCloseable {
 		return patientOrderId;
 	}
 
+	@Nonnull
+	protected CreatePatientOrderRequest createPatientOrderRequestForCsvRecord(@Nonnull CSVRecord record,
+																																						@Nonnull Institution institution,
+																																						@Nonnull UUID patientOrderImportId,
+																																						@Nonnull UUID accountId,
+																																						@Nonnull Boolean containsTestPatientData) {
+		requireNonNull(record);
+		requireNonNull(institution);
+		requireNonNull(patientOrderImportId);
+		requireNonNull(accountId);
+		requireNonNull(containsTestPatientData);
+
+		InstitutionId institutionId = institution.getInstitutionId();
+
+		CreatePatientOrderRequest patientOrderRequest = new CreatePatientOrderRequest();
+		patientOrderRequest.setPatientOrderImportId(patientOrderImportId);
+		patientOrderRequest.setInstitutionId(institutionId);
+		patientOrderRequest.setAccountId(accountId);
+
+		int columnOffset = 0;
+
+		if (containsTestPatientData) {
+			patientOrderRequest.setTestPatientEmailAddress(trimToNull(record.get("Test Patient Email Address")));
+			patientOrderRequest.setTestPatientPassword(trimToNull(record.get("Test Patient Password")));
+			patientOrderRequest.setTestPatientOrder(true);
+			columnOffset = 2;
+		}
+
+		String encounterDepartmentName = null;
+
+		// Support alternate names for this field
+		if (record.isMapped("Encounter Dept"))
+			encounterDepartmentName = trimToNull(record.get("Encounter Dept"));
+		else if (record.isMapped("Encounter Dept Name"))
+			encounterDepartmentName = trimToNull(record.get("Encounter Dept Name"));
+
+		patientOrderRequest.setEncounterDepartmentName(encounterDepartmentName);
+		patientOrderRequest.setEncounterDepartmentId(trimToNull(record.get("Encounter Dept ID")));
+
+		// Referring Practice has 2 fields with the same name (currently...)
+		// So we try the first one, and if it's null, we try the second
+		String rawReferringPracticeName = trimToNull(record.get(columnOffset + 2));
+
+		if (rawReferringPracticeName == null)
+			rawReferringPracticeName = trimToNull(record.get(columnOffset + 3));
+
+		if (rawReferringPracticeName != null) {
+			NameWithEmbeddedId referringPractice = new NameWithEmbeddedId(rawReferringPracticeName);
+			String referringPracticeId = referringPractice.getId().orElse(null);
+
+			if (referringPracticeId != null)
+				patientOrderRequest.setReferringPracticeId(referringPracticeId);
+
+			patientOrderRequest.setReferringPracticeName(referringPractice.getName());
+		}
+
+		CsvName orderingProviderName = new CsvName(trimToNull(record.get("Ordering Provider")));
+		patientOrderRequest.setOrderingProviderLastName(orderingProviderName.getLastName().orElse(null));
+		patientOrderRequest.setOrderingProviderFirstName(orderingProviderName.getFirstName().orElse(null));
+		patientOrderRequest.setOrderingProviderMiddleName(orderingProviderName.getMiddleName().orElse(null));
+
+		// Normalizes some names and also extracts IDs.
+		//
+		// Examples:
+		// billingProviderName="ROBINSON, LAURA E [R11853]" -> "ROBINSON, LAURA E" (name), "R11853" (id)
+		String rawBillingProviderName = trimToNull(record.get("Billing Provider"));
+
+		if (rawBillingProviderName != null) {
+			NameWithEmbeddedId billingProviderName = new NameWithEmbeddedId(rawBillingProviderName);
+			String billingProviderId = billingProviderName.getId().orElse(null);
+
+			if (billingProviderId != null)
+				patientOrderRequest.setBillingProviderId(billingProviderId);
+
+			CsvName csvBillingProviderName = new CsvName(billingProviderName.getName());
+			patientOrderRequest.setBillingProviderLastName(csvBillingProviderName.getLastName().orElse(null));
+			patientOrderRequest.setBillingProviderFirstName(csvBillingProviderName.getFirstName().orElse(null));
+			patientOrderRequest.setBillingProviderMiddleName(csvBillingProviderName.getMiddleName().orElse(null));
+		}
+
+		patientOrderRequest.setPatientLastName(trimToNull(record.get("Last Name")));
+		patientOrderRequest.setPatientFirstName(trimToNull(record.get("First Name")));
+		patientOrderRequest.setPatientMrn(trimToNull(record.get("MRN")));
+		patientOrderRequest.setPatientUniqueId(trimToNull(record.get("UID")));
+		patientOrderRequest.setPatientUniqueIdType(institution.getEpicPatientUniqueIdType());
+
+		// Might be "Sex" or "Legal Sex"
+		String patientBirthSexId = null;
+
+		try {
+			patientBirthSexId = trimToNull(record.get("Legal Sex"));
+		} catch (IllegalArgumentException e) {
+			try {
+				patientBirthSexId = trimToNull(record.get("Sex"));
+			} catch (IllegalArgumentException e2) {
+				getLogger().warn("There is no 'Legal Sex' or 'Sex' column in this order report.");
+			}
+		}
+
+		patientOrderRequest.setPatientBirthSexId(patientBirthSexId);
+
+		patientOrderRequest.setPatientBirthdate(trimToNull(record.get("DOB")));
+
+		// e.g. 128000-IBC
+		String primaryPayor = trimToNull(record.get("Primary Payor"));
+		String primaryPayorId = null;
+		String primaryPayorName = null;
+
+		if (primaryPayor != null) {
+			int primaryPayorSeparatorIndex = primaryPayor.indexOf("-");
+
+			if (primaryPayorSeparatorIndex == -1) {
+				primaryPayorName = primaryPayor;
+			} else {
+				primaryPayorId = primaryPayor.substring(0, primaryPayorSeparatorIndex);
+				primaryPayorName = primaryPayor.length() > primaryPayorId.length() + 1
+						? primaryPayor.substring(primaryPayorSeparatorIndex + 1)
+						: null;
+			}
+		}
+
+		patientOrderRequest.setPrimaryPayorId(primaryPayorId);
+		patientOrderRequest.setPrimaryPayorName(primaryPayorName);
+
+		// e.g. 128002-KEYSTONE HEALTH PLAN EAST
+		String primaryPlan = trimToNull(record.get("Primary Plan"));
+		String primaryPlanId = null;
+		String primaryPlanName = null;
+
+		if (primaryPlan != null) {
+			int primaryPlanSeparatorIndex = primaryPlan.indexOf("-");
+
+			if (primaryPlanSeparatorIndex == -1) {
+				primaryPlanName = primaryPayor;
+			} else {
+				primaryPlanId = primaryPlan.substring(0, primaryPlanSeparatorIndex);
+				primaryPlanName = primaryPlan.length() > primaryPlanId.length() + 1
+						? primaryPlan.substring(primaryPlanSeparatorIndex + 1)
+						: null;
+			}
+		}
+
+		patientOrderRequest.setPrimaryPlanId(primaryPlanId);
+		patientOrderRequest.setPrimaryPlanName(primaryPlanName);
+		patientOrderRequest.setOrderDate(trimToNull(record.get("Order Date")));
+		patientOrderRequest.setOrderId(trimToNull(record.get("Order ID")));
+		patientOrderRequest.setOrderAge(trimToNull(record.get("Age of Order")));
+		patientOrderRequest.setRouting(trimToNull(record.get("CCBH Order Routing")));
+
+		// Comma-separated list
+		String reasonsForReferralAsString = trimToNull(record.get("Reasons for Referral"));
+		List<String> reasonsForReferral = new ArrayList<>();
+		Set<String> uniqueReasonsForReferral = new HashSet<>();
+
+		if (reasonsForReferralAsString != null) {
+			for (String reasonForReferral : reasonsForReferralAsString.split(",")) {
+				reasonForReferral = trimToNull(reasonForReferral);
+
+				if (reasonForReferral != null) {
+					// Prevent duplicates for this order
+					if (uniqueReasonsForReferral.contains(reasonsForReferral))
+						continue;
+
+					uniqueReasonsForReferral.add(reasonForReferral);
+					reasonsForReferral.add(reasonForReferral);
+				}
+			}
+		}
+
+		patientOrderRequest.setReasonsForReferral(reasonsForReferral);
+
+		// Might be encoded as names + bracketed IDs in CSV like this (a single field with newlines)
+		// "GAD (generalized anxiety disorder) [213881]
+		// Smoker [283397]
+		// Alcohol abuse [155739]"
+		String diagnosesAsString = trimToNull(record.get("DX"));
+		List<CreatePatientOrderDiagnosisRequest> diagnoses = parseNamesWithEmbeddedIds(diagnosesAsString).stream()
+				.map(nameWithEmbeddedId -> {
+					CreatePatientOrderDiagnosisRequest diagnosisRequest = new CreatePatientOrderDiagnosisRequest();
+					diagnosisRequest.setDiagnosisId(nameWithEmbeddedId.getId().orElse(null));
+					diagnosisRequest.setDiagnosisName(nameWithEmbeddedId.getName());
+					return diagnosisRequest;
+				})
+				.collect(Collectors.toList());
+
+		patientOrderRequest.setDiagnoses(diagnoses);
+
+		patientOrderRequest.setAssociatedDiagnosis(trimToNull(record.get("Order Associated Diagnosis (ICD-10)")));
+		patientOrderRequest.setPatientPhoneNumber(trimToNull(record.get("Call Back Number")));
+		patientOrderRequest.setPreferredContactHours(trimToNull(record.get("Preferred Contact Hours")));
+		patientOrderRequest.setComments(trimToNull(record.get("Order Comments")));
+		patientOrderRequest.setCcRecipients(trimToNull(record.get("IMG CC Recipients")));
+		patientOrderRequest.setPatientAddressLine1(trimToNull(record.get("Patient Address (Line 1)")));
+		patientOrderRequest.setPatientAddressLine2(trimToNull(record.get("Patient Address (Line 2)")));
+		patientOrderRequest.setPatientLocality(trimToNull(record.get("City")));
+		patientOrderRequest.setPatientRegion(trimToNull(record.get("Patient State")));
+		patientOrderRequest.setPatientPostalCode(trimToNull(record.get("ZIP Code")));
+
+		// e.g. "Take 1 tablet by mouth daily.<br>E-Prescribe, Disp-60 tablet, R-1"
+		String lastActiveMedicationOrderSummary = trimToNull(record.get("CCBH Last Active Med Order Summary"));
+
+		if (lastActiveMedicationOrderSummary != null)
+			// Replacing just <br> for now - any others?
+			lastActiveMedicationOrderSummary = lastActiveMedicationOrderSummary.replace("<br>", "\n");
+
+		patientOrderRequest.setLastActiveMedicationOrderSummary(lastActiveMedicationOrderSummary);
+
+		// e.g. "escitalopram 10 mg tablet [517587114]"
+		// Might have multiple lines...
+		String medicationsAsString = trimToNull(record.get("CCBH Medications List"));
+
+		List<CreatePatientOrderMedicationRequest> medications = parseNamesWithEmbeddedIds(medicationsAsString).stream()
+				.map(nameWithEmbeddedId -> {
+					CreatePatientOrderMedicationRequest medicationRequest = new CreatePatientOrderMedicationRequest();
+					medicationRequest.setMedicationId(nameWithEmbeddedId.getId().orElse(null));
+
+					String medicationName = nameWithEmbeddedId.getName();
+
+					// e.g. "escitalopram 10 mg tablet" -> "Escitalopram 10 mg tablet"
+					if (medicationName != null)
+						medicationName = StringUtils.capitalize(medicationName);
+
+					medicationRequest.setMedicationName(medicationName);
+					return medicationRequest;
+				})
+				.collect(Collectors.toList());
+
+		patientOrderRequest.setMedications(medications);
+		patientOrderRequest.setRecentPsychotherapeuticMedications(trimToNull(record.get("Psychotherapeutic Med Lst 2 Weeks")));
+
+		return patientOrderRequest;
+	}
+
+	@Nonnull
+	protected PatientOrderImportLookups createPatientOrderImportLookups(@Nonnull Institution institution,
+																																		 @Nonnull List<CreatePatientOrderRequest> patientOrderRequests,
+																																		 @Nonnull ExecutorService executorService) {
+		requireNonNull(institution);
+		requireNonNull(patientOrderRequests);
+		requireNonNull(executorService);
+
+		Map<String, CompletableFuture<PatientSearchResponse>> patientSearchResponsesByPatientUniqueId = new HashMap<>();
+		EpicClient epicClient = null;
+
+		try {
+			epicClient = getEnterprisePluginProvider().enterprisePluginForInstitutionId(institution.getInstitutionId()).epicClientForBackendService().orElse(null);
+		} catch (Exception e) {
+			// Each order will try (and fail, and report) on its own, same as a one-off order
+			getLogger().warn(format("Unable to acquire Epic client for %s, will not prefetch patient demographics", institution.getInstitutionId().name()), e);
+		}
+
+		if (epicClient != null) {
+			EpicClient pinnedEpicClient = epicClient;
+
+			for (CreatePatientOrderRequest patientOrderRequest : patientOrderRequests) {
+				boolean testPatientOrder = patientOrderRequest.getTestPatientOrder() != null ? patientOrderRequest.getTestPatientOrder() : false;
+				String patientUniqueId = trimToNull(patientOrderRequest.getPatientUniqueId());
+				String patientUniqueIdType = trimToNull(patientOrderRequest.getPatientUniqueIdType());
+
+				if (testPatientOrder || patientUniqueId == null || patientUniqueIdType == null)
+					continue;
+
+				patientSearchResponsesByPatientUniqueId.computeIfAbsent(patientOrderImportLookupKey(patientUniqueIdType, patientUniqueId), ignored ->
+						CompletableFuture.supplyAsync(() -> pinnedEpicClient.patientSearchFhirR4(patientUniqueIdType, patientUniqueId), executorService));
+			}
+		}
+
+		return new PatientOrderImportLookups(findEpicDepartmentsByInstitutionId(institution.getInstitutionId()),
+				findPatientOrderReferralReasonIdsByDescription(), patientSearchResponsesByPatientUniqueId);
+	}
+
+	@Nonnull
+	protected String patientOrderImportLookupKey(@Nonnull String patientUniqueIdType,
+																							 @Nonnull String patientUniqueId) {
+		requireNonNull(patientUniqueIdType);
+		requireNonNull(patientUniqueId);
+
+		return format("%s|%s", patientUniqueIdType, patientUniqueId);
+	}
+
+	@Nonnull
+	protected Map<String, PatientOrderReferralReasonId> findPatientOrderReferralReasonIdsByDescription() {
+		return getDatabase().queryForList("""
+						SELECT *
+						FROM patient_order_referral_reason
+						""", PatientOrderReferralReason.class).stream()
+				.collect(Collectors.toMap(patientOrderReferralReason -> patientOrderReferralReason.getDescription().toLowerCase(Locale.US),
+						patientOrderReferralReason -> patientOrderReferralReason.getPatientOrderReferralReasonId()));
+	}
+
+	/**
+	 * Data shared by all orders in a single import, so each order doesn't have to look it up (or call Epic) on its own.
+	 */
+	@ThreadSafe
+	protected static class PatientOrderImportLookups {
+		@Nonnull
+		private final List<EpicDepartment> epicDepartments;
+		@Nonnull
+		private final Map<String, PatientOrderReferralReasonId> patientOrderReferralReasonIdsByDescription;
+		@Nonnull
+		private final Map<String, CompletableFuture<PatientSearchResponse>> patientSearchResponsesByPatientUniqueId;
+
+		public PatientOrderImportLookups(@Nonnull List<EpicDepartment> epicDepartments,
+																		 @Nonnull Map<String, PatientOrderReferralReasonId> patientOrderReferralReasonIdsByDescription,
+																		 @Nonnull Map<String, CompletableFuture<PatientSearchResponse>> patientSearchResponsesByPatientUniqueId) {
+			requireNonNull(epicDepartments);
+			requireNonNull(patientOrderReferralReasonIdsByDescription);
+			requireNonNull(patientSearchResponsesByPatientUniqueId);
+
+			this.epicDepartments = epicDepartments;
+			this.patientOrderReferralReasonIdsByDescription = patientOrderReferralReasonIdsByDescription;
+			this.patientSearchResponsesByPatientUniqueId = patientSearchResponsesByPatientUniqueId;
+		}
+
+		@Nonnull
+		public List<EpicDepartment> getEpicDepartments() {
+			return this.epicDepartments;
+		}
+
+		@Nonnull
+		public Map<String, PatientOrderReferralReasonId> getPatientOrderReferralReasonIdsByDescription() {
+			return this.patientOrderReferralReasonIdsByDescription;
+		}
+
+		@Nonnull
+		public Map<String, CompletableFuture<PatientSearchResponse>> getPatientSearchResponsesByPatientUniqueId() {
+			return this.patientSearchResponsesByPatientUniqueId;
+		}
+	}
+
 	@Nonnull
 	public UUID createPatientOrder(@Nonnull CreatePatientOrderRequest request) {
 		requireNonNull(request);
+		return createPatientOrder(request, null);
+	}
+
+	@Nonnull
+	protected UUID createPatientOrder(@Nonnull CreatePatientOrderRequest request,
+																		@Nullable PatientOrderImportLookups patientOrderImportLookups) {
+		requireNonNull(request);
 
 		PatientOrderDispositionId patientOrderDispositionId = PatientOrderDispositionId.OPEN;
 		UUID patientOrderImportId = request.getPatientOrderImportId();
@@ -7463,7 +8279,9 @@ public class PatientOrderService implements AutoCloseable {
 		if (encounterDepartmentId == null) {
 			throw new EpicDepartmentPatientOrderImportDisabledException(getStrings().get("Encounter department ID is required."));
 		} else {
-			List<EpicDepartment> epicDepartments = findEpicDepartmentsByInstitutionId(institutionId);
+			List<EpicDepartment> epicDepartments = patientOrderImportLookups == null
+					? findEpicDepartmentsByInstitutionId(institutionId)
+					: patientOrderImportLookups.getEpicDepartments();
 
 			for (EpicDepartment epicDepartment : epicDepartments) {
 				if (epicDepartment.getDepartmentId().equals(encounterDepartmentId)) {
@@ -7507,12 +8325,25 @@ public class PatientOrderService implements AutoCloseable {
 			getLogger().info("Detected that patient order ID {} for patient {} {} needs demographic information, attemping to pull from Epic...", patientOrderId, patientUniqueIdType, patientUniqueId);
 
 			try {
-				EnterprisePlugin enterprisePlugin = getEnterprisePluginProvider().enterprisePluginForInstitutionId(institutionId);
-				EpicClient epicClient = enterprisePlugin.epicClientForBackendService().get();
+				CompletableFuture<PatientSearchResponse> prefetchedPatientSearchResponse = patientOrderImportLookups == null ? null
+						: patientOrderImportLookups.getPatientSearchResponsesByPatientUniqueId().get(patientOrderImportLookupKey(patientUniqueIdType, patientUniqueId));
+				PatientSearchResponse patientSearchResponse;
 
-				// Per https://fhir.epic.com/Specifications?api=30
-				// identifiers are of the format <OID>|<value>
-				PatientSearchResponse patientSearchResponse = epicClient.patientSearchFhirR4(patientUniqueIdType, patientUniqueId);
+				if (prefetchedPatientSearchResponse != null) {
+					try {
+						patientSearchResponse = prefetchedPatientSearchResponse.join();
+					} catch (CompletionException e) {
+						// Surface the same exception the direct call would have thrown
+						throw e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+					}
+				} else {
+					EnterprisePlugin enterprisePlugin = getEnterprisePluginProvider().enterprisePluginForInstitutionId(institutionId);
+					EpicClient epicClient = enterprisePlugin.epicClientForBackendService().get();
+
+					// Per https://fhir.epic.com/Specifications?api=30
+					// identifiers are of the format <OID>|<value>
+					patientSearchResponse = epicClient.patientSearchFhirR4(patientUniqueIdType, patientUniqueId);
+				}
 
 				if (patientSearchResponse.getTotal() == null || patientSearchResponse.getTotal().equals(0))
 					throw new IllegalStateException(format("Unable to find %s patient record for patient %s %s",
@@ -7628,14 +8459,19 @@ public class PatientOrderService implements AutoCloseable {
 				patientPreferredPronounId, patientClinicalSexId, patientLegalSexId, patientAdministrativeGenderId, patientDemographicsImportedAt,
 				patientOrderReferralSourceId);
 
-		int diagnosisDisplayOrder = 0;
+		// Diagnoses, referral reasons, and medications are written as one batch each rather than a statement per row
+		List<List<Object>> diagnosisParameterGroups = new ArrayList<>(diagnoses.size());
 
 		for (CreatePatientOrderDiagnosisRequest diagnosis : diagnoses) {
 			String diagnosisId = trimToNull(diagnosis.getDiagnosisId());
 			String diagnosisIdType = trimToNull(diagnosis.getDiagnosisIdType());
 			String diagnosisName = trimToNull(diagnosis.getDiagnosisName());
 
-			getDatabase().execute("""
+			diagnosisParameterGroups.add(Arrays.asList(patientOrderId, diagnosisId, diagnosisIdType, diagnosisName, diagnosisParameterGroups.size()));
+		}
+
+		if (diagnosisParameterGroups.size() > 0)
+			getDatabase().executeBatch("""
 					INSERT INTO patient_order_diagnosis (
 					patient_order_id,
 					diagnosis_id,
@@ -7643,19 +8479,13 @@ public class PatientOrderService implements AutoCloseable {
 					diagnosis_name,
 					display_order
 					) VALUES (?,?,?,?,?)
-					""", patientOrderId, diagnosisId, diagnosisIdType, diagnosisName, diagnosisDisplayOrder);
+					""", diagnosisParameterGroups);
 
-			++diagnosisDisplayOrder;
-		}
+		Map<String, PatientOrderReferralReasonId> patientOrderReferralReasonIdsByDescription = patientOrderImportLookups == null
+				? findPatientOrderReferralReasonIdsByDescription()
+				: patientOrderImportLookups.getPatientOrderReferralReasonIdsByDescription();
 
-		int reasonForReferralDisplayOrder = 0;
-
-		Map<String, PatientOrderReferralReasonId> patientOrderReferralReasonIdsByDescription = getDatabase().queryForList("""
-						SELECT *
-						FROM patient_order_referral_reason
-						""", PatientOrderReferralReason.class).stream()
-				.collect(Collectors.toMap(patientOrderReferralReason -> patientOrderReferralReason.getDescription().toLowerCase(Locale.US),
-						patientOrderReferralReason -> patientOrderReferralReason.getPatientOrderReferralReasonId()));
+		List<List<Object>> referralParameterGroups = new ArrayList<>(reasonsForReferral.size());
 
 		for (String reasonForReferral : reasonsForReferral) {
 			PatientOrderReferralReasonId patientOrderReferralReasonId = patientOrderReferralReasonIdsByDescription.get(reasonForReferral.toLowerCase(Locale.US));
@@ -7665,25 +8495,30 @@ public class PatientOrderService implements AutoCloseable {
 				patientOrderReferralReasonId = PatientOrderReferralReasonId.UNKNOWN;
 			}
 
-			getDatabase().execute("""
+			referralParameterGroups.add(Arrays.asList(patientOrderId, patientOrderReferralReasonId, referralParameterGroups.size()));
+		}
+
+		if (referralParameterGroups.size() > 0)
+			getDatabase().executeBatch("""
 					INSERT INTO patient_order_referral (
 					patient_order_id,
 					patient_order_referral_reason_id,
 					display_order
 					) VALUES (?,?,?)
-					""", patientOrderId, patientOrderReferralReasonId, reasonForReferralDisplayOrder);
+					""", referralParameterGroups);
 
-			++reasonForReferralDisplayOrder;
-		}
-
-		int medicationDisplayOrder = 0;
+		List<List<Object>> medicationParameterGroups = new ArrayList<>(medications.size());
 
 		for (CreatePatientOrderMedicationRequest medication : medications) {
 			String medicationId = trimToNull(medication.getMedicationId());
 			String medicationIdType = trimToNull(medication.getMedicationIdType());
 			String medicationName = trimToNull(medication.getMedicationName());
 
-			getDatabase().execute("""
+			medicationParameterGroups.add(Arrays.asList(patientOrderId, medicationId, medicationIdType, medicationName, medicationParameterGroups.size()));
+		}
+
+		if (medicationParameterGroups.size() > 0)
+			getDatabase().executeBatch("""
 					INSERT INTO patient_order_medication (
 					patient_order_id,
 					medication_id,
@@ -7691,10 +8526,7 @@ public class PatientOrderService implements AutoCloseable {
 					medication_name,
 					display_order
 					) VALUES (?,?,?,?,?)
-					""", patientOrderId, medicationId, medicationIdType, medicationName, medicationDisplayOrder);
-
-			++medicationDisplayOrder;
-		}
+					""", medicationParameterGroups);
 
 		createPatientOrderEvent(new CreatePatientOrderEventRequest() {{
 			setPatientOrderEventTypeId(PatientOrderEventTypeId.IMPORTED);
@@ -8306,7 +9138,11 @@ public class PatientOrderService implements AutoCloseable {
 		@Nonnull
 		private List<Object> rawPatientOrderParameters = List.of();
 		@Nonnull
-		private List<Object> limitOffsetParameters = List.of();
+		private List<PatientOrderSortRule> patientOrderSortRules = List.of();
+		@Nonnull
+		private Integer limit = 0;
+		@Nonnull
+		private Integer offset = 0;
 	}
 
 	@NotThreadSafe
@@ -8561,6 +9397,11 @@ public class PatientOrderService implements AutoCloseable {
 		return this.shortUrlServiceProvider.get();
 	}
 
+	@Nonnull
+	protected PatientOrderProjectionService getPatientOrderProjectionService() {
+		return this.patientOrderProjectionServiceProvider.get();
+	}
+
 	@Nonnull
 	protected SystemService getSystemService() {
 		return this.systemServiceProvider.get();
@@ -8627,11 +9468,21 @@ public class PatientOrderService implements AutoCloseable {
 		return this.authenticator;
 	}
 
+	@Nonnull
+	protected CurrentContextExecutor getCurrentContextExecutor() {
+		return this.currentContextExecutor;
+	}
+
 	@Nonnull
 	protected ErrorReporter getErrorReporter() {
 		return this.errorReporter;
 	}
 
+	@Nonnull
+	protected ExecutorService getPatientOrderImportExecutorService() {
+		return this.patientOrderImportExecutorService;
+	}
+
 	@Nonnull
 	protected Configuration getConfiguration() {
 		return this.configuration;
@@ -8642,6 +9493,11 @@ public class PatientOrderService implements AutoCloseable {
 		return this.gson;
 	}
 
+	@Nonnull
+	protected Cache<String, Integer> getPatientOrderTotalCountCache() {
+		return this.patientOrderTotalCountCache;
+	}
+
 	@Nonnull
 	protected Strings getStrings() {
 		return this.strings;
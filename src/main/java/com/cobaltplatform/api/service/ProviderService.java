@@ -23,7 +23,7 @@ import com.cobaltplatform.api.Configuration;
 import com.cobaltplatform.api.integration.acuity.AcuitySchedulingCache;
 import com.cobaltplatform.api.integration.acuity.AcuitySchedulingClient;
 import com.cobaltplatform.api.integration.enterprise.EnterprisePluginProvider;
-import com.cobaltplatform.api.integration.epic.response.AppointmentFindFhirStu3Response;
+import com.cobaltplatform.api.integration.epic.EpicFhirAppointmentFindSlotCache;
 import com.cobaltplatform.api.model.api.request.ProviderFindRequest;
 import com.cobaltplatform.api.model.api.request.ProviderFindRequest.ProviderFindAvailability;
 import com.cobaltplatform.api.model.api.request.ProviderFindRequest.ProviderFindLicenseType;
@@ -38,7 +38,6 @@ import com.cobaltplatform.api.model.db.Assessment;
 import com.cobaltplatform.api.model.db.BusinessHour;
 import com.cobaltplatform.api.model.db.DepartmentAvailabilityStatus.DepartmentAvailabilityStatusId;
 import com.cobaltplatform.api.model.db.EpicDepartment;
-import com.cobaltplatform.api.model.db.EpicFhirAppointmentFindCache;
 import com.cobaltplatform.api.model.db.EpicProviderSchedule;
 import com.cobaltplatform.api.model.db.EpicProviderSlotBooking;
 import com.cobaltplatform.api.model.db.Holiday;
@@ -156,6 +155,8 @@ public class ProviderService {
 	@Nonnull
 	private final AcuitySchedulingCache acuitySchedulingCache;
 	@Nonnull
+	private final EpicFhirAppointmentFindSlotCache epicFhirAppointmentFindSlotCache;
+	@Nonnull
 	private final Strings strings;
 	@Nonnull
 	private final Set<ZoneId> providerTimeZones;
@@ -177,6 +178,7 @@ public class ProviderService {
 												 @Nonnull Configuration configuration,
 												 @Nonnull AcuitySchedulingClient acuitySchedulingClient,
 												 @Nonnull AcuitySchedulingCache acuitySchedulingCache,
+												 @Nonnull EpicFhirAppointmentFindSlotCache epicFhirAppointmentFindSlotCache,
 												 @Nonnull Strings strings) {
 		requireNonNull(accountServiceProvider);
 		requireNonNull(institutionServiceProvider);
@@ -192,6 +194,7 @@ public class ProviderService {
 		requireNonNull(configuration);
 		requireNonNull(acuitySchedulingClient);
 		requireNonNull(acuitySchedulingCache);
+		requireNonNull(epicFhirAppointmentFindSlotCache);
 		requireNonNull(strings);
 
 		this.accountServiceProvider = accountServiceProvider;
@@ -208,6 +211,7 @@ public class ProviderService {
 		this.configuration = configuration;
 		this.acuitySchedulingClient = acuitySchedulingClient;
 		this.acuitySchedulingCache = acuitySchedulingCache;
+		this.epicFhirAppointmentFindSlotCache = epicFhirAppointmentFindSlotCache;
 		this.strings = strings;
 		this.providerTimeZones = Collections.unmodifiableSet(determineProviderTimeZones());
 		this.logger = LoggerFactory.getLogger(getClass());
@@ -741,6 +745,22 @@ public class ProviderService {
 					setAvailability(availability);
 				}});
 
+		// For IC, we discard any availability slots that are not relevant for the order's scheduling Epic department
+		Set<UUID> schedulingEpicDepartmentIds = Set.of();
+
+		if (patientOrderId != null) {
+			UUID patientOrderEpicDepartmentId =
+					getPatientOrderService().findSchedulingEpicDepartmentIdForPatientOrderId(patientOrderId);
+
+			if (patientOrderEpicDepartmentId != null)
+				schedulingEpicDepartmentIds = Set.of(patientOrderEpicDepartmentId);
+		}
+
+		// Same idea as native scheduling: pull Acuity/EPIC provider_availability records for all providers in one go
+		// instead of once per provider
+		Map<UUID, List<ProviderAvailability>> providerAvailabilitiesByProviderId = loadNonNativeSchedulingProviderAvailabilitiesByProviderId(
+				providers, visitTypeIds, schedulingEpicDepartmentIds, currentDate, startDate, endDate);
+
 		for (Provider provider : providers) {
 			boolean intakeAssessmentRequired = false;
 			boolean intakeAssessmentIneligible = false;
@@ -768,16 +788,7 @@ public class ProviderService {
 			datesCommand.setCurrentDate(currentDate);
 			datesCommand.setDaysOfWeek(daysOfWeek);
 			datesCommand.setAvailability(availability);
-			datesCommand.setEpicDepartmentIds(Set.of());
-
-			// For IC, we discard any availability slots that are not relevant for the order's scheduling Epic department
-			if (patientOrderId != null) {
-				UUID patientOrderEpicDepartmentId =
-						getPatientOrderService().findSchedulingEpicDepartmentIdForPatientOrderId(patientOrderId);
-
-				if (patientOrderEpicDepartmentId != null)
-					datesCommand.setEpicDepartmentIds(Set.of(patientOrderEpicDepartmentId));
-			}
+			datesCommand.setEpicDepartmentIds(schedulingEpicDepartmentIds);
 
 			List<AvailabilityDate> dates = new ArrayList<>();
 
@@ -791,7 +802,8 @@ public class ProviderService {
 				List<AvailabilityDate> epicFhirAvailabilityDates = availabilityDatesByEpicFhirProviderId.get(provider.getProviderId());
 				dates.addAll(epicFhirAvailabilityDates == null ? List.of() : epicFhirAvailabilityDates);
 			} else {
-				dates.addAll(availabilityDatesForNonNativeScheduling(datesCommand));
+				dates.addAll(availabilityDatesForNonNativeScheduling(datesCommand,
+						providerAvailabilitiesByProviderId.getOrDefault(provider.getProviderId(), List.of())));
 			}
 
 			// Pick out distinct EPIC department IDs by provider by reviewing the availability data
@@ -1152,143 +1164,103 @@ public class ProviderService {
 			LocalDate startDate = command.getStartDate() != null ? command.getStartDate() : LocalDate.now(account.getTimeZone());
 			LocalDate endDate = command.getEndDate() != null ? command.getEndDate() : startDate.plusDays(90);
 
-			// Instead of calling Epic FHIR directly to find appointments, look at our local cache of serialized responses.
-			// Calling Epic over a date range like this for all providers would be prohibitively slow
-			List<EpicFhirAppointmentFindCache> epicFhirAppointmentFindCaches = getDatabase().queryForList("""
-					SELECT *
-					FROM epic_fhir_appointment_find_cache
-					WHERE institution_id=?
-					AND date >= ?
-					AND date <= ?
-					""", EpicFhirAppointmentFindCache.class, institution.getInstitutionId(), startDate, endDate);
-
-			// Deserialize the cached data into a list
-			List<AppointmentFindFhirStu3Response> appointmentFindResponses = epicFhirAppointmentFindCaches.stream()
-					.map(epicFhirAppointmentFindCache -> AppointmentFindFhirStu3Response.deserialize(epicFhirAppointmentFindCache.getApiResponse()))
-					.collect(Collectors.toList());
-
-			// Collect all of the entries for all dates into one big list of entries
-			List<AppointmentFindFhirStu3Response.Entry> entries = appointmentFindResponses.stream()
-					.map(appointmentFindFhirStu3Response -> appointmentFindFhirStu3Response.getEntry())
-					.flatMap(List::stream)
-					.collect(Collectors.toList());
-
-			Set<AppointmentFindFhirStu3SlotKey> slotKeys = new HashSet<>(entries.size());
-
-			for (AppointmentFindFhirStu3Response.Entry entry : entries) {
-				if (!"Appointment".equals(entry.getResource().getResourceType()))
-					continue;
+			// Instead of calling Epic FHIR directly to find appointments, look at our local cache of responses.
+			// Calling Epic over a date range like this for all providers would be prohibitively slow.
+			// The responses are kept parsed and indexed by practitioner in-process, so we only pay to deserialize a date when its row changes
+			Map<LocalDate, Map<String, List<EpicFhirAppointmentFindSlotCache.Slot>>> slotsByPractitionerFhirIdByDate =
+					getEpicFhirAppointmentFindSlotCache().findSlotsByPractitionerFhirIdByDate(institution.getInstitutionId(), startDate, endDate);
 
-				LocalDateTime slotStartDateTime = LocalDateTime.ofInstant(entry.getResource().getStart(), institution.getTimeZone());
+			Set<AppointmentFindFhirStu3SlotKey> slotKeys = new HashSet<>();
 
-				LocalDate slotDate = slotStartDateTime.toLocalDate();
-				LocalTime slotTime = slotStartDateTime.toLocalTime();
+			for (Map<String, List<EpicFhirAppointmentFindSlotCache.Slot>> slotsByPractitionerFhirId : slotsByPractitionerFhirIdByDate.values()) {
+				for (Entry<String, Provider> providerEntry : providersByEpicPractitionerFhirId.entrySet()) {
+					String epicPractitionerFhirId = providerEntry.getKey();
+					Provider provider = providerEntry.getValue();
+					List<EpicFhirAppointmentFindSlotCache.Slot> slots = slotsByPractitionerFhirId.get(epicPractitionerFhirId);
 
-				// Assumes single service type and coding
-				if (entry.getResource().getServiceType().size() != 1)
-					throw new IllegalStateException("Invalid size of serviceType element");
+					if (slots == null)
+						continue;
 
-				if (entry.getResource().getServiceType().get(0).getCoding().size() != 1)
-					throw new IllegalStateException("Invalid size of serviceType.coding element");
+					for (EpicFhirAppointmentFindSlotCache.Slot slot : slots) {
+						LocalDateTime slotStartDateTime = LocalDateTime.ofInstant(slot.getStart(), institution.getTimeZone());
 
-				AppointmentFindFhirStu3Response.Entry.Resource.ServiceType.Coding appointmentTypeCoding =
-						entry.getResource().getServiceType().get(0).getCoding().get(0);
+						LocalDate slotDate = slotStartDateTime.toLocalDate();
+						LocalTime slotTime = slotStartDateTime.toLocalTime();
 
-				// TODO: filter down slots based on passed-in criteria
+						// TODO: filter down slots based on passed-in criteria
 
-				// Find any participant actor URLs that look like this and extract the Practitioner FHIR ID (xxx below):
-				// $BASE_URL/FHIR/STU3/Practitioner/xxx
-				Set<String> epicPractitionerFhirIds = entry.getResource().getParticipant().stream()
-						.map(participant -> participant.getActor().getReference())
-						.filter(actorReference -> actorReference.contains("/FHIR/STU3/Practitioner/"))
-						.map(actorReference -> actorReference.substring(actorReference.lastIndexOf("/FHIR/STU3/Practitioner/") + "/FHIR/STU3/Practitioner/".length()))
-						.collect(Collectors.toSet());
+						Map<LocalDate, AvailabilityDate> availabilityDatesByDate = availabilityDatesByDateByProviderId.get(provider.getProviderId());
+						AvailabilityDate availabilityDate = availabilityDatesByDate.get(slotDate);
 
-				if (epicPractitionerFhirIds.size() == 0) {
-					getLogger().warn("Unable to find practitioner FHIR IDs for slot");
-				} else {
-					for (String epicPractitionerFhirId : epicPractitionerFhirIds) {
-						Provider provider = providersByEpicPractitionerFhirId.get(epicPractitionerFhirId);
-
-						if (provider != null) {
-							AppointmentFindFhirStu3Response.Entry.Resource.Participant practitioner = entry.getResource().getParticipant().stream()
-									.filter(participant -> participant.getActor().getReference().endsWith(epicPractitionerFhirId))
-									.findAny()
-									.get();
-
-							Map<LocalDate, AvailabilityDate> availabilityDatesByDate = availabilityDatesByDateByProviderId.get(provider.getProviderId());
-							AvailabilityDate availabilityDate = availabilityDatesByDate.get(slotDate);
-
-							if (availabilityDate == null) {
-								availabilityDate = new AvailabilityDate();
-								availabilityDate.setDate(slotDate);
-								availabilityDate.setTimes(new ArrayList<>());
-								availabilityDatesByDate.put(slotDate, availabilityDate);
-							}
+						if (availabilityDate == null) {
+							availabilityDate = new AvailabilityDate();
+							availabilityDate.setDate(slotDate);
+							availabilityDate.setTimes(new ArrayList<>());
+							availabilityDatesByDate.put(slotDate, availabilityDate);
+						}
 
-							AvailabilityTime availabilityTime = null;
+						AvailabilityTime availabilityTime = null;
 
-							for (AvailabilityTime potentialAvailabilityTime : availabilityDate.getTimes()) {
-								if (potentialAvailabilityTime.getTime().equals(slotTime)) {
-									availabilityTime = potentialAvailabilityTime;
-									break;
-								}
+						for (AvailabilityTime potentialAvailabilityTime : availabilityDate.getTimes()) {
+							if (potentialAvailabilityTime.getTime().equals(slotTime)) {
+								availabilityTime = potentialAvailabilityTime;
+								break;
 							}
+						}
 
-							if (availabilityTime == null) {
-								availabilityTime = new AvailabilityTime();
-								availabilityTime.setTime(slotTime);
-								availabilityTime.setStatus(AvailabilityStatus.AVAILABLE);
-								availabilityTime.setEpicAppointmentFhirId(entry.getResource().getId());
-								availabilityTime.setAppointmentTypeIds(new ArrayList<>());
-								availabilityTime.setSlotStatusCodesByAppointmentTypeId(new HashMap<>());
-								availabilityTime.setAppointmentStatusCodesByAppointmentTypeId(new HashMap<>());
-								availabilityTime.setAppointmentParticipantStatusCodesByAppointmentTypeId(new HashMap<>());
-							}
+						if (availabilityTime == null) {
+							availabilityTime = new AvailabilityTime();
+							availabilityTime.setTime(slotTime);
+							availabilityTime.setStatus(AvailabilityStatus.AVAILABLE);
+							availabilityTime.setEpicAppointmentFhirId(slot.getEpicAppointmentFhirId());
+							availabilityTime.setAppointmentTypeIds(new ArrayList<>());
+							availabilityTime.setSlotStatusCodesByAppointmentTypeId(new HashMap<>());
+							availabilityTime.setAppointmentStatusCodesByAppointmentTypeId(new HashMap<>());
+							availabilityTime.setAppointmentParticipantStatusCodesByAppointmentTypeId(new HashMap<>());
+						}
 
-							List<AppointmentType> potentialAppointmentTypes = appointmentTypesByProviderId.get(provider.getProviderId());
-							AppointmentType appointmentType = null;
+						List<AppointmentType> potentialAppointmentTypes = appointmentTypesByProviderId.get(provider.getProviderId());
+						AppointmentType appointmentType = null;
 
-							for (AppointmentType potentialAppointmentType : potentialAppointmentTypes) {
-								if (potentialAppointmentType.getEpicVisitTypeSystem().equals(appointmentTypeCoding.getSystem())) {
-									appointmentType = potentialAppointmentType;
-									break;
-								}
+						for (AppointmentType potentialAppointmentType : potentialAppointmentTypes) {
+							if (potentialAppointmentType.getEpicVisitTypeSystem().equals(slot.getVisitTypeSystem())) {
+								appointmentType = potentialAppointmentType;
+								break;
 							}
+						}
 
-							// Discard duplicate slots (protects against case where we get the same results back, e.g. running locally with mock data or Epic returns same data unintentionally)
-							AppointmentFindFhirStu3SlotKey slotKey = new AppointmentFindFhirStu3SlotKey(epicPractitionerFhirId, slotDate, slotTime, appointmentType.getAppointmentTypeId());
-
-							if (slotKeys.contains(slotKey)) {
-								getLogger().trace("Already have a slot for {}, skipping...", slotKey);
-								continue;
-							}
+						// Discard duplicate slots (protects against case where we get the same results back, e.g. running locally with mock data or Epic returns same data unintentionally)
+						AppointmentFindFhirStu3SlotKey slotKey = new AppointmentFindFhirStu3SlotKey(epicPractitionerFhirId, slotDate, slotTime, appointmentType.getAppointmentTypeId());
 
-							slotKeys.add(slotKey);
+						if (slotKeys.contains(slotKey)) {
+							getLogger().trace("Already have a slot for {}, skipping...", slotKey);
+							continue;
+						}
 
-							availabilityTime.getAppointmentTypeIds().add(appointmentType.getAppointmentTypeId());
-							availabilityTime.getAppointmentStatusCodesByAppointmentTypeId().put(appointmentType.getAppointmentTypeId(), entry.getResource().getStatus());
-							availabilityTime.getAppointmentParticipantStatusCodesByAppointmentTypeId().put(appointmentType.getAppointmentTypeId(), practitioner.getStatus());
+						slotKeys.add(slotKey);
 
-							// Assumes there is only one slot
-							if (entry.getResource().getContained().size() != 1)
-								throw new IllegalStateException("Invalid size of resource.contained element");
+						availabilityTime.getAppointmentTypeIds().add(appointmentType.getAppointmentTypeId());
+						availabilityTime.getAppointmentStatusCodesByAppointmentTypeId().put(appointmentType.getAppointmentTypeId(), slot.getAppointmentStatusCode());
+						availabilityTime.getAppointmentParticipantStatusCodesByAppointmentTypeId().put(appointmentType.getAppointmentTypeId(), slot.getAppointmentParticipantStatusCode());
 
-							availabilityTime.getSlotStatusCodesByAppointmentTypeId().put(appointmentType.getAppointmentTypeId(), entry.getResource().getContained().get(0).getStatus());
+						// Assumes there is only one slot
+						if (!slot.getSingleSlotContained())
+							throw new IllegalStateException("Invalid size of resource.contained element");
 
-							// Ensure we are not booking within the provider's lead time, if applicable
-							boolean slotIsTooEarly = false;
+						availabilityTime.getSlotStatusCodesByAppointmentTypeId().put(appointmentType.getAppointmentTypeId(), slot.getSlotStatusCode());
 
-							if (provider.getSchedulingLeadTimeInHours() != null) {
-								LocalDateTime now = LocalDateTime.now(provider.getTimeZone());
-								LocalDateTime appointmentStartTime = LocalDateTime.of(availabilityDate.getDate(), availabilityTime.getTime());
-								long hoursUntilAppointment = ChronoUnit.HOURS.between(now, appointmentStartTime);
-								slotIsTooEarly = hoursUntilAppointment < provider.getSchedulingLeadTimeInHours();
-							}
+						// Ensure we are not booking within the provider's lead time, if applicable
+						boolean slotIsTooEarly = false;
 
-							if (!slotIsTooEarly)
-								availabilityDate.getTimes().add(availabilityTime);
+						if (provider.getSchedulingLeadTimeInHours() != null) {
+							LocalDateTime now = LocalDateTime.now(provider.getTimeZone());
+							LocalDateTime appointmentStartTime = LocalDateTime.of(availabilityDate.getDate(), availabilityTime.getTime());
+							long hoursUntilAppointment = ChronoUnit.HOURS.between(now, appointmentStartTime);
+							slotIsTooEarly = hoursUntilAppointment < provider.getSchedulingLeadTimeInHours();
 						}
+
+						if (!slotIsTooEarly)
+							availabilityDate.getTimes().add(availabilityTime);
 					}
 				}
 			}
@@ -1947,33 +1919,85 @@ public class ProviderService {
 	}
 
 	@Nonnull
-	protected List<AvailabilityDate> availabilityDatesForNonNativeScheduling(@Nonnull AvailabilityDatesCommand command) {
-		requireNonNull(command);
+	protected Map<UUID, List<ProviderAvailability>> loadNonNativeSchedulingProviderAvailabilitiesByProviderId(@Nonnull List<Provider> providers,
+																																																			@Nonnull Set<VisitTypeId> visitTypeIds,
+																																																			@Nonnull Set<UUID> epicDepartmentIds,
+																																																			@Nonnull LocalDate currentDate,
+																																																			@Nullable LocalDate startDate,
+																																																			@Nullable LocalDate endDate) {
+		requireNonNull(providers);
+		requireNonNull(visitTypeIds);
+		requireNonNull(epicDepartmentIds);
+		requireNonNull(currentDate);
+
+		// Native scheduling and EPIC FHIR don't use provider_availability
+		List<UUID> providerIds = providers.stream()
+				.filter(provider -> provider.getSchedulingSystemId() != SchedulingSystemId.COBALT
+						&& provider.getSchedulingSystemId() != SchedulingSystemId.EPIC_FHIR)
+				.map(provider -> provider.getProviderId())
+				.collect(Collectors.toList());
 
-		List<AvailabilityDate> dates = new ArrayList<>();
+		if (providerIds.size() == 0)
+			return Map.of();
+
+		// Nothing "today" or earlier is ever shown, so don't bother pulling it
+		LocalDate minimumDate = currentDate.plusDays(1);
+
+		if (startDate != null && startDate.isAfter(minimumDate))
+			minimumDate = startDate;
+
+		StringBuilder providerAvailabilityQuery = new StringBuilder(format("""
+				SELECT pa.*
+				FROM provider_availability pa, v_appointment_type at
+				WHERE pa.provider_id IN %s
+				AND pa.appointment_type_id=at.appointment_type_id
+				AND pa.date_time >= ?
+				""", sqlInListPlaceholders(providerIds)));
 
-		// First, fill in "available" slots based on what we know from Acuity/EPIC
-		List<ProviderAvailability> providerAvailabilities;
-		StringBuilder providerAvailabilityQuery = new StringBuilder("SELECT pa.* FROM provider_availability pa, v_appointment_type at WHERE pa.provider_id=? AND pa.appointment_type_id=at.appointment_type_id ");
 		List<Object> providerAvailabilityParameters = new ArrayList<>();
-		providerAvailabilityParameters.add(command.getProvider().getProviderId());
+		providerAvailabilityParameters.addAll(providerIds);
+		providerAvailabilityParameters.add(minimumDate.atStartOfDay());
+
+		if (endDate != null) {
+			providerAvailabilityQuery.append(" AND pa.date_time < ? ");
+			providerAvailabilityParameters.add(endDate.plusDays(1).atStartOfDay());
+		}
 
-		if (command.getVisitTypeIds().size() > 0) {
+		if (visitTypeIds.size() > 0) {
 			providerAvailabilityQuery.append(" AND at.visit_type_id IN ");
-			providerAvailabilityQuery.append(sqlInListPlaceholders(command.getVisitTypeIds()));
+			providerAvailabilityQuery.append(sqlInListPlaceholders(visitTypeIds));
 
-			providerAvailabilityParameters.addAll(command.getVisitTypeIds());
+			providerAvailabilityParameters.addAll(visitTypeIds);
 		}
 
-		if (command.getEpicDepartmentIds().size() > 0) {
+		if (epicDepartmentIds.size() > 0) {
 			providerAvailabilityQuery.append(" AND pa.epic_department_id IN ");
-			providerAvailabilityQuery.append(sqlInListPlaceholders(command.getEpicDepartmentIds()));
+			providerAvailabilityQuery.append(sqlInListPlaceholders(epicDepartmentIds));
 
-			providerAvailabilityParameters.addAll(command.getEpicDepartmentIds());
+			providerAvailabilityParameters.addAll(epicDepartmentIds);
 		}
 
-		providerAvailabilities = getDatabase().queryForList(providerAvailabilityQuery.toString(), ProviderAvailability.class, providerAvailabilityParameters.toArray(new Object[]{}));
+		List<ProviderAvailability> providerAvailabilities = getDatabase().queryForList(providerAvailabilityQuery.toString(),
+				ProviderAvailability.class, providerAvailabilityParameters.toArray(new Object[]{}));
+
+		Map<UUID, List<ProviderAvailability>> providerAvailabilitiesByProviderId = new HashMap<>(providerIds.size());
+
+		for (ProviderAvailability providerAvailability : providerAvailabilities)
+			addToValues(providerAvailabilitiesByProviderId, providerAvailability.getProviderId(), providerAvailability);
+
+		return providerAvailabilitiesByProviderId;
+	}
+
+	@Nonnull
+	protected List<AvailabilityDate> availabilityDatesForNonNativeScheduling(@Nonnull AvailabilityDatesCommand command,
+																																					 @Nonnull List<ProviderAvailability> providerAvailabilities) {
+		requireNonNull(command);
+		requireNonNull(providerAvailabilities);
+
+		List<AvailabilityDate> dates = new ArrayList<>();
 
+		// First, fill in "available" slots based on what we know from Acuity/EPIC.
+		// Provider availabilities have already been narrowed down by visit type, EPIC department, and date range
 		Map<LocalDate, AvailabilityDate> availabilityDatesByDate = new HashMap<>(14);
 		Map<LocalDateTime, AvailabilityTime> availabilityTimesByDateTime = new HashMap<>();
 
@@ -2821,6 +2845,11 @@ public class ProviderService {
 		return acuitySchedulingCache;
 	}
 
+	@Nonnull
+	protected EpicFhirAppointmentFindSlotCache getEpicFhirAppointmentFindSlotCache() {
+		return this.epicFhirAppointmentFindSlotCache;
+	}
+
 	@Nonnull
 	protected Strings getStrings() {
 		return strings;
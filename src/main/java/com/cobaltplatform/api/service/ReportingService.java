@@ -67,6 +67,7 @@ import javax.annotation.concurrent.ThreadSafe;
 import javax.inject.Inject;
 import javax.inject.Provider;
 import javax.inject.Singleton;
+import java.io.Flushable;
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.io.Writer;
@@ -104,9 +105,12 @@ import static java.util.Objects.requireNonNull;
 public class ReportingService {
 	@Nonnull
 	private static final Gson GSON;
+	@Nonnull
+	private static final Integer REPORT_CURSOR_FETCH_SIZE;
 
 	static {
 		GSON = new Gson();
+		REPORT_CURSOR_FETCH_SIZE = 1_000;
 	}
 
 	@Nonnull
@@ -236,6 +240,60 @@ public class ReportingService {
 				.collect(Collectors.toList());
 	}
 
+	/**
+	 * Runs a report query through a server-side cursor, handing each row to the consumer as it arrives and flushing after every batch.
+	 * <p>
+	 * This keeps memory bounded regardless of report size and lets the first rows reach the client before the query has been fully read.
+	 * Rows are still mapped by Pyranid, so record classes work exactly as they do with {@code queryForList}.
+	 */
+	protected <T> void streamReportRecords(@Nonnull Flushable flushable,
+																				 @Nonnull String sql,
+																				 @Nonnull Class<T> resultType,
+																				 @Nonnull ReportRecordConsumer<T> reportRecordConsumer,
+																				 @Nullable Object... parameters) {
+		requireNonNull(flushable);
+		requireNonNull(sql);
+		requireNonNull(resultType);
+		requireNonNull(reportRecordConsumer);
+
+		Runnable streamOperation = () -> {
+			// Cursors only live as long as their transaction
+			String cursorName = format("report_cursor_%s", UUID.randomUUID().toString().replace("-", ""));
+			String fetchSql = format("FETCH FORWARD %d FROM %s", getReportCursorFetchSize(), cursorName);
+
+			getDatabase().execute(format("DECLARE %s NO SCROLL CURSOR FOR %s", cursorName, sql), parameters);
+
+			try {
+				while (true) {
+					List<T> records = getDatabase().queryForList(fetchSql, resultType);
+
+					for (T record : records)
+						reportRecordConsumer.accept(record);
+
+					flushable.flush();
+
+					if (records.size() < getReportCursorFetchSize())
+						break;
+				}
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+
+			getDatabase().execute(format("CLOSE %s", cursorName));
+		};
+
+		// Reports normally run outside of a transaction (read replica), so open one for the lifetime of the cursor
+		if (getDatabase().currentTransaction().isPresent())
+			streamOperation.run();
+		else
+			getDatabase().transaction(streamOperation);
+	}
+
+	@FunctionalInterface
+	protected interface ReportRecordConsumer<T> {
+		void accept(@Nonnull T record) throws IOException;
+	}
+
 	public void runProviderUnusedAvailabilityReportCsv(@Nonnull InstitutionId institutionId,
 																										 @Nonnull LocalDateTime startDateTime,
 																										 @Nonnull LocalDateTime endDateTime,
@@ -251,7 +309,7 @@ public class ReportingService {
 
 		// Ignoring TZ for now because the slot date-times are stored as "wall clock" times in the database
 		// and in practice anyone reporting over them is in the same institution/timezone as the provider
-		List<ProviderUnusedAvailabilityReportRecord> records = getDatabase().queryForList("""
+		String sql = """
 				SELECT pah.provider_id, pah.name AS provider_name, pah.slot_date_time
 				FROM provider_availability_history pah, provider p
 				WHERE pah.provider_id=p.provider_id
@@ -260,7 +318,7 @@ public class ReportingService {
 				AND slot_date_time >= ?
 				AND slot_date_time <= ?
 				ORDER BY pah.name, pah.slot_date_time
-				""", ProviderUnusedAvailabilityReportRecord.class, institutionId, startDateTime, endDateTime);
+				""";
 
 		DateTimeFormatter dateTimeFormatter = DateTimeFormatter.ofPattern("yyyy-MM-dd H:mm").withLocale(reportLocale);
 
@@ -271,7 +329,7 @@ public class ReportingService {
 		);
 
 		try (CSVPrinter csvPrinter = new CSVPrinter(writer, CSVFormat.DEFAULT.withHeader(headerColumns.toArray(new String[0])))) {
-			for (ProviderUnusedAvailabilityReportRecord record : records) {
+			streamReportRecords(csvPrinter, sql, ProviderUnusedAvailabilityReportRecord.class, (record) -> {
 				List<String> recordElements = new ArrayList<>();
 
 				recordElements.add(record.getProviderId().toString());
@@ -279,7 +337,7 @@ public class ReportingService {
 				recordElements.add(dateTimeFormatter.format(record.getSlotDateTime()));
 
 				csvPrinter.printRecord(recordElements.toArray(new Object[0]));
-			}
+			}, institutionId, startDateTime, endDateTime);
 
 			csvPrinter.flush();
 		} catch (IOException e) {
@@ -302,7 +360,7 @@ public class ReportingService {
 
 		// Ignoring TZ for now because the slot date-times are stored as "wall clock" times in the database
 		// and in practice anyone reporting over them is in the same institution/timezone as the provider
-		List<ProviderAppointmentReportRecord> records = getDatabase().queryForList("""
+		String sql = """
 				SELECT p.provider_id, p.name AS provider_name, app.start_time AS start_date_time, app.created as booked_at,
 				a.account_id AS patient_account_id, a.display_name AS patient_name, a.email_address AS patient_email_address,
 				a.phone_number AS patient_phone_number
@@ -314,7 +372,7 @@ public class ReportingService {
 				AND app.start_time >= ?
 				AND app.start_time <= ?  
 				ORDER BY p.name, app.start_time
-				""", ProviderAppointmentReportRecord.class, institutionId, startDateTime, endDateTime);
+				""";
 
 		DateTimeFormatter dateTimeFormatter = DateTimeFormatter.ofPattern("yyyy-MM-dd H:mm").withLocale(reportLocale);
 		DateTimeFormatter instantFormatter = DateTimeFormatter.ofPattern("yyyy-MM-dd H:mm:ss")
@@ -333,7 +391,7 @@ public class ReportingService {
 		);
 
 		try (CSVPrinter csvPrinter = new CSVPrinter(writer, CSVFormat.DEFAULT.withHeader(headerColumns.toArray(new String[0])))) {
-			for (ProviderAppointmentReportRecord record : records) {
+			streamReportRecords(csvPrinter, sql, ProviderAppointmentReportRecord.class, (record) -> {
 				List<String> recordElements = new ArrayList<>();
 
 				recordElements.add(record.getProviderId().toString());
@@ -346,7 +404,7 @@ public class ReportingService {
 				recordElements.add(record.getPatientPhoneNumber());
 
 				csvPrinter.printRecord(recordElements.toArray(new Object[0]));
-			}
+			}, institutionId, startDateTime, endDateTime);
 
 			csvPrinter.flush();
 		} catch (IOException e) {
@@ -574,7 +632,7 @@ public class ReportingService {
 
 		// Ignoring TZ for now because the slot date-times are stored as "wall clock" times in the database
 		// and in practice anyone reporting over them is in the same institution/timezone as the provider
-		List<ProviderAppointmentCancelationReportRecord> records = getDatabase().queryForList("""
+		String sql = """
 				SELECT p.provider_id, p.name AS provider_name, app.start_time AS start_date_time, app.canceled_at,
 				a.account_id AS patient_account_id, a.display_name AS patient_name, a.email_address AS patient_email_address,
 				a.phone_number AS patient_phone_number
@@ -586,7 +644,7 @@ public class ReportingService {
 				AND app.start_time >= ?
 				AND app.start_time <= ?  
 				ORDER BY p.name, app.start_time
-				""", ProviderAppointmentCancelationReportRecord.class, institutionId, startDateTime, endDateTime);
+				""";
 
 		DateTimeFormatter dateTimeFormatter = DateTimeFormatter.ofPattern("yyyy-MM-dd H:mm").withLocale(reportLocale);
 		DateTimeFormatter instantFormatter = DateTimeFormatter.ofPattern("yyyy-MM-dd H:mm:ss")
@@ -605,7 +663,7 @@ public class ReportingService {
 		);
 
 		try (CSVPrinter csvPrinter = new CSVPrinter(writer, CSVFormat.DEFAULT.withHeader(headerColumns.toArray(new String[0])))) {
-			for (ProviderAppointmentCancelationReportRecord record : records) {
+			streamReportRecords(csvPrinter, sql, ProviderAppointmentCancelationReportRecord.class, (record) -> {
 				List<String> recordElements = new ArrayList<>();
 
 				recordElements.add(record.getProviderId().toString());
@@ -618,7 +676,7 @@ public class ReportingService {
 				recordElements.add(record.getPatientPhoneNumber());
 
 				csvPrinter.printRecord(recordElements.toArray(new Object[0]));
-			}
+			}, institutionId, startDateTime, endDateTime);
 
 			csvPrinter.flush();
 		} catch (IOException e) {
@@ -1109,7 +1167,7 @@ public class ReportingService {
 		requireNonNull(reportLocale);
 		requireNonNull(writer);
 
-		List<IcSafetyPlanningReportRecord> records = getDatabase().queryForList("""
+		String sql = """
 				SELECT
 					po.reference_number as cobalt_reference_number,
 					ss.crisis_indicated_at,
@@ -1131,7 +1189,7 @@ public class ReportingService {
 				  AND ss.crisis_indicated=TRUE
 				ORDER BY
 				  ss.crisis_indicated_at
-				""", IcSafetyPlanningReportRecord.class, institutionId, startDateTime.atZone(reportTimeZone).toInstant(), endDateTime.atZone(reportTimeZone).toInstant());
+				""";
 
 		DateTimeFormatter dateTimeFormatter = DateTimeFormatter.ofLocalizedDateTime(FormatStyle.MEDIUM, FormatStyle.SHORT)
 				.withZone(reportTimeZone)
@@ -1151,7 +1209,7 @@ public class ReportingService {
 					getStrings().get("Safety Planning Status")
 			);
 
-			for (IcSafetyPlanningReportRecord record : records) {
+			streamReportRecords(csvPrinter, sql, IcSafetyPlanningReportRecord.class, (record) -> {
 				List<String> recordElements = new ArrayList<>(8);
 				recordElements.add(String.valueOf(record.getCobaltReferenceNumber()));
 				recordElements.add(dateTimeFormatter.format(record.getCrisisIndicatedAt()));
@@ -1163,7 +1221,7 @@ public class ReportingService {
 				recordElements.add(record.getPatientOrderSafetyPlanningStatusId().name());
 
 				csvPrinter.printRecord(recordElements.toArray(new Object[0]));
-			}
+			}, institutionId, startDateTime.atZone(reportTimeZone).toInstant(), endDateTime.atZone(reportTimeZone).toInstant());
 
 			csvPrinter.flush();
 		} catch (IOException e) {
@@ -1276,7 +1334,7 @@ public class ReportingService {
 		requireNonNull(reportLocale);
 		requireNonNull(writer);
 
-		List<IcTriageReportRecord> records = getDatabase().queryForList("""
+		String sql = """
 				SELECT
 				  po.reference_number as cobalt_reference_number,
 				  po.patient_mrn as patient_mrn,
@@ -1298,7 +1356,7 @@ public class ReportingService {
 				  AND po.most_recent_intake_screening_session_created_at <= ?
 				  AND po.test_patient_order=FALSE
 				ORDER BY po.most_recent_intake_screening_session_created_at
-				""", IcTriageReportRecord.class, institutionId, startDateTime.atZone(reportTimeZone).toInstant(), endDateTime.atZone(reportTimeZone).toInstant());
+				""";
 
 		DateTimeFormatter dateTimeFormatter = DateTimeFormatter.ofLocalizedDateTime(FormatStyle.MEDIUM, FormatStyle.SHORT)
 				.withZone(reportTimeZone)
@@ -1321,7 +1379,7 @@ public class ReportingService {
 					getStrings().get("Triage")
 			);
 
-			for (IcTriageReportRecord record : records) {
+			streamReportRecords(csvPrinter, sql, IcTriageReportRecord.class, (record) -> {
 				List<String> recordElements = new ArrayList<>(11);
 				recordElements.add(String.valueOf(record.getCobaltReferenceNumber()));
 				recordElements.add(record.getPatientMrn());
@@ -1336,7 +1394,7 @@ public class ReportingService {
 				recordElements.add(record.getTriage());
 
 				csvPrinter.printRecord(recordElements.toArray(new Object[0]));
-			}
+			}, institutionId, startDateTime.atZone(reportTimeZone).toInstant(), endDateTime.atZone(reportTimeZone).toInstant());
 
 			csvPrinter.flush();
 		} catch (IOException e) {
@@ -1526,7 +1584,7 @@ public class ReportingService {
 		Instant startInstant = startDateTime.atZone(institutionTimeZone).toInstant();
 		Instant endInstant = endDateTime.atZone(institutionTimeZone).toInstant();
 
-		List<AdminAnalyticsSignInPageviewNoAccountReportRecord> records = getDatabase().queryForList("""
+		String sql = """
 						SELECT
 							ane.analytics_native_event_id,
 							ane.timestamp,
@@ -1557,9 +1615,7 @@ public class ReportingService {
 								WHERE acd.client_device_id = ane.client_device_id
 							)
 						ORDER BY ane.timestamp
-						""", AdminAnalyticsSignInPageviewNoAccountReportRecord.class, institutionId, startInstant, endInstant,
-				AnalyticsNativeEventTypeId.PAGE_VIEW_SIGN_IN, AnalyticsNativeEventTypeId.PAGE_VIEW_SIGN_IN_EMAIL,
-				AnalyticsNativeEventTypeId.HEARTBEAT);
+						""";
 
 		DateTimeFormatter dateTimeFormatter = DateTimeFormatter.ofLocalizedDateTime(FormatStyle.MEDIUM, FormatStyle.SHORT)
 				.withZone(institutionTimeZone)
@@ -1581,7 +1637,7 @@ public class ReportingService {
 		);
 
 		try (CSVPrinter csvPrinter = new CSVPrinter(writer, CSVFormat.DEFAULT.withHeader(headerColumns.toArray(new String[0])))) {
-			for (AdminAnalyticsSignInPageviewNoAccountReportRecord record : records) {
+			streamReportRecords(csvPrinter, sql, AdminAnalyticsSignInPageviewNoAccountReportRecord.class, (record) -> {
 				List<String> recordElements = new ArrayList<>(12);
 
 				recordElements.add(record.getAnalyticsNativeEventId() == null ? "" : record.getAnalyticsNativeEventId().toString());
@@ -1598,7 +1654,8 @@ public class ReportingService {
 				recordElements.add(record.getClientDeviceTimeZone());
 
 				csvPrinter.printRecord(recordElements.toArray(new Object[0]));
-			}
+			}, institutionId, startInstant, endInstant, AnalyticsNativeEventTypeId.PAGE_VIEW_SIGN_IN,
+					AnalyticsNativeEventTypeId.PAGE_VIEW_SIGN_IN_EMAIL, AnalyticsNativeEventTypeId.HEARTBEAT);
 
 			csvPrinter.flush();
 		} catch (IOException e) {
@@ -1625,7 +1682,7 @@ public class ReportingService {
 		Instant startInstant = startDateTime.atZone(institutionTimeZone).toInstant();
 		Instant endInstant = endDateTime.atZone(institutionTimeZone).toInstant();
 
-		List<AdminAnalyticsAccountSignupUnverifiedReportRecord> records = getDatabase().queryForList("""
+		String sql = """
 						SELECT
 							a.account_id,
 							ai.created AS invite_created_at,
@@ -1669,8 +1726,7 @@ public class ReportingService {
 							AND (a.account_id IS NULL OR a.test_account = FALSE)
 							AND (a.account_id IS NULL OR a.account_source_id = ?)
 						ORDER BY ai.created, ml.created
-						""", AdminAnalyticsAccountSignupUnverifiedReportRecord.class, MessageTypeId.EMAIL, EmailMessageTemplate.ACCOUNT_VERIFICATION,
-				institutionId, startInstant, endInstant, RoleId.PATIENT, AccountSourceId.EMAIL_PASSWORD);
+						""";
 
 		DateTimeFormatter dateTimeFormatter = DateTimeFormatter.ofLocalizedDateTime(FormatStyle.MEDIUM, FormatStyle.SHORT)
 				.withZone(institutionTimeZone)
@@ -1693,7 +1749,7 @@ public class ReportingService {
 		);
 
 		try (CSVPrinter csvPrinter = new CSVPrinter(writer, CSVFormat.DEFAULT.withHeader(headerColumns.toArray(new String[0])))) {
-			for (AdminAnalyticsAccountSignupUnverifiedReportRecord record : records) {
+			streamReportRecords(csvPrinter, sql, AdminAnalyticsAccountSignupUnverifiedReportRecord.class, (record) -> {
 				List<String> recordElements = new ArrayList<>(13);
 
 				recordElements.add(record.getAccountId() == null ? "" : record.getAccountId().toString());
@@ -1711,7 +1767,8 @@ public class ReportingService {
 				recordElements.add(record.getDeliveryFailedReason());
 
 				csvPrinter.printRecord(recordElements.toArray(new Object[0]));
-			}
+			}, MessageTypeId.EMAIL, EmailMessageTemplate.ACCOUNT_VERIFICATION,
+					institutionId, startInstant, endInstant, RoleId.PATIENT, AccountSourceId.EMAIL_PASSWORD);
 
 			csvPrinter.flush();
 		} catch (IOException e) {
@@ -1738,7 +1795,7 @@ public class ReportingService {
 		Instant startInstant = startDateTime.atZone(institutionTimeZone).toInstant();
 		Instant endInstant = endDateTime.atZone(institutionTimeZone).toInstant();
 
-		List<AdminAnalyticsAccountOnboardingIncompleteReportRecord> records = getDatabase().queryForList("""
+		String sql = """
 						SELECT
 							a.account_id,
 							a.created AS account_created_at,
@@ -1801,8 +1858,7 @@ public class ReportingService {
 									AND ss_completed.completed = TRUE
 							)
 						ORDER BY a.created, ss.created, sa.created
-						""", AdminAnalyticsAccountOnboardingIncompleteReportRecord.class, institutionId, startInstant, endInstant,
-				RoleId.PATIENT);
+						""";
 
 		DateTimeFormatter dateTimeFormatter = DateTimeFormatter.ofLocalizedDateTime(FormatStyle.MEDIUM, FormatStyle.SHORT)
 				.withZone(institutionTimeZone)
@@ -1833,7 +1889,7 @@ public class ReportingService {
 		);
 
 		try (CSVPrinter csvPrinter = new CSVPrinter(writer, CSVFormat.DEFAULT.withHeader(headerColumns.toArray(new String[0])))) {
-			for (AdminAnalyticsAccountOnboardingIncompleteReportRecord record : records) {
+			streamReportRecords(csvPrinter, sql, AdminAnalyticsAccountOnboardingIncompleteReportRecord.class, (record) -> {
 				List<String> recordElements = new ArrayList<>(21);
 
 				recordElements.add(record.getAccountId() == null ? "" : record.getAccountId().toString());
@@ -1859,7 +1915,7 @@ public class ReportingService {
 				recordElements.add(record.getAnswerCreatedAt() == null ? "" : dateTimeFormatter.format(record.getAnswerCreatedAt()));
 
 				csvPrinter.printRecord(recordElements.toArray(new Object[0]));
-			}
+			}, institutionId, startInstant, endInstant, RoleId.PATIENT);
 
 			csvPrinter.flush();
 		} catch (IOException e) {
@@ -1886,7 +1942,7 @@ public class ReportingService {
 		Instant startInstant = startDateTime.atZone(institutionTimeZone).toInstant();
 		Instant endInstant = endDateTime.atZone(institutionTimeZone).toInstant();
 
-		List<AdminAnalyticsAccountOnboardingCompleteReportRecord> records = getDatabase().queryForList("""
+		String sql = """
 						SELECT
 							a.account_id,
 							a.created AS account_created_at,
@@ -1941,8 +1997,7 @@ public class ReportingService {
 							AND a.role_id = ?
 							AND a.test_account = FALSE
 						ORDER BY a.created, ss.created, sa.created
-						""", AdminAnalyticsAccountOnboardingCompleteReportRecord.class, institutionId, startInstant, endInstant,
-				RoleId.PATIENT);
+						""";
 
 		DateTimeFormatter dateTimeFormatter = DateTimeFormatter.ofLocalizedDateTime(FormatStyle.MEDIUM, FormatStyle.SHORT)
 				.withZone(institutionTimeZone)
@@ -1973,7 +2028,7 @@ public class ReportingService {
 		);
 
 		try (CSVPrinter csvPrinter = new CSVPrinter(writer, CSVFormat.DEFAULT.withHeader(headerColumns.toArray(new String[0])))) {
-			for (AdminAnalyticsAccountOnboardingCompleteReportRecord record : records) {
+			streamReportRecords(csvPrinter, sql, AdminAnalyticsAccountOnboardingCompleteReportRecord.class, (record) -> {
 				List<String> recordElements = new ArrayList<>(21);
 
 				recordElements.add(record.getAccountId() == null ? "" : record.getAccountId().toString());
@@ -1999,7 +2054,7 @@ public class ReportingService {
 				recordElements.add(record.getAnswerCreatedAt() == null ? "" : dateTimeFormatter.format(record.getAnswerCreatedAt()));
 
 				csvPrinter.printRecord(recordElements.toArray(new Object[0]));
-			}
+			}, institutionId, startInstant, endInstant, RoleId.PATIENT);
 
 			csvPrinter.flush();
 		} catch (IOException e) {
@@ -2069,7 +2124,7 @@ public class ReportingService {
 		Instant startInstant = startDateTime.atZone(institutionTimeZone).toInstant();
 		Instant endInstant = endDateTime.atZone(institutionTimeZone).toInstant();
 
-		List<AccountGeolocationReportRecord> records = getDatabase().queryForList("""
+		String sql = """
 						WITH event_ip_aggregates AS (
 							SELECT
 								ane.account_id,
@@ -2132,14 +2187,14 @@ public class ReportingService {
 						LEFT JOIN ip_geolocation ipg
 							ON ipg.ip_address = eia.ip_address_inet
 						ORDER BY eia.last_analytics_event_at DESC, a.created DESC, a.account_id, eia.ip_address
-						""", AccountGeolocationReportRecord.class, institutionId, startInstant, endInstant, institutionId);
+						""";
 
 		DateTimeFormatter dateTimeFormatter = DateTimeFormatter.ofLocalizedDateTime(FormatStyle.MEDIUM, FormatStyle.SHORT)
 				.withZone(institutionTimeZone)
 				.withLocale(reportLocale);
 
 		try (CSVPrinter csvPrinter = new CSVPrinter(writer, CSVFormat.DEFAULT.withHeader(ACCOUNT_GEOLOCATION_HEADER_COLUMNS.toArray(new String[0])))) {
-			for (AccountGeolocationReportRecord record : records) {
+			streamReportRecords(csvPrinter, sql, AccountGeolocationReportRecord.class, (record) -> {
 				List<String> recordElements = new ArrayList<>(ACCOUNT_GEOLOCATION_HEADER_COLUMNS.size());
 
 				recordElements.add(record.getAccountId() == null ? "" : record.getAccountId().toString());
@@ -2183,7 +2238,7 @@ public class ReportingService {
 				recordElements.add(record.getLastLookupSucceededAt() == null ? "" : dateTimeFormatter.format(record.getLastLookupSucceededAt()));
 
 				csvPrinter.printRecord(recordElements.toArray(new Object[0]));
-			}
+			}, institutionId, startInstant, endInstant, institutionId);
 
 			csvPrinter.flush();
 		} catch (IOException e) {
@@ -2468,7 +2523,7 @@ public class ReportingService {
 		Instant startInstant = startDateTime == null ? null : startDateTime.atZone(institutionTimeZone).toInstant();
 		Instant endInstant = endDateTime == null ? null : endDateTime.atZone(institutionTimeZone).toInstant();
 
-		List<AccountTimelineReportRecord> records = getDatabase().queryForList("""
+		String sql = """
 				WITH report_context AS (
 					SELECT
 						?::TEXT AS institution_id,
@@ -2914,14 +2969,14 @@ public class ReportingService {
 					SELECT * FROM group_session_reservation_events
 				) timeline
 				ORDER BY occurred_at, event_type_id, source_id
-				""", AccountTimelineReportRecord.class, institutionId, accountId, startInstant, endInstant);
+				""";
 
 		DateTimeFormatter dateTimeFormatter = DateTimeFormatter.ofLocalizedDateTime(FormatStyle.MEDIUM, FormatStyle.SHORT)
 				.withZone(institutionTimeZone)
 				.withLocale(reportLocale);
 
 		try (CSVPrinter csvPrinter = new CSVPrinter(writer, CSVFormat.DEFAULT.withHeader(ACCOUNT_TIMELINE_HEADER_COLUMNS.toArray(new String[0])))) {
-			for (AccountTimelineReportRecord record : records) {
+			streamReportRecords(csvPrinter, sql, AccountTimelineReportRecord.class, (record) -> {
 				List<String> recordElements = new ArrayList<>(ACCOUNT_TIMELINE_HEADER_COLUMNS.size());
 
 				recordElements.add(record.getOccurredAt() == null ? "" : dateTimeFormatter.format(record.getOccurredAt()));
@@ -2946,7 +3001,7 @@ public class ReportingService {
 				recordElements.add(record.getDetailsJson() == null ? "" : record.getDetailsJson());
 
 				csvPrinter.printRecord(recordElements.toArray(new Object[0]));
-			}
+			}, institutionId, accountId, startInstant, endInstant);
 
 			csvPrinter.flush();
 		} catch (IOException e) {
@@ -2983,7 +3038,7 @@ public class ReportingService {
 		Instant startInstant = startDateTime.atZone(institutionTimeZone).toInstant();
 		Instant endInstant = endDateTime.atZone(institutionTimeZone).toInstant();
 
-		List<CourseMcbDownloadReportRecord> records = getDatabase().queryForList("""
+		String sql = """
 						WITH institution_onboarding AS (
 							SELECT onboarding_screening_flow_id
 							FROM institution
@@ -3292,15 +3347,14 @@ public class ReportingService {
 						LEFT JOIN account_content_metric_maps acmm
 							ON acmm.account_id = ra.account_id
 						ORDER BY ra.account_created_at, ra.account_id
-						""", CourseMcbDownloadReportRecord.class, institutionId, startInstant, endInstant, institutionId, RoleId.PATIENT,
-				institutionId, institutionId, institutionId, institutionId, institutionId, institutionId);
+						""";
 
 		DateTimeFormatter dateFormatter = DateTimeFormatter.ofPattern("MM/dd/yyyy")
 				.withZone(institutionTimeZone)
 				.withLocale(reportLocale);
 
 		try (CSVPrinter csvPrinter = new CSVPrinter(writer, CSVFormat.DEFAULT.withHeader(ACCOUNT_ONBOARDING_COMPLETE_V2_HEADER_COLUMNS.toArray(new String[0])))) {
-			for (CourseMcbDownloadReportRecord record : records) {
+			streamReportRecords(csvPrinter, sql, CourseMcbDownloadReportRecord.class, (record) -> {
 				Map<String, String> screeningValues = parseJsonObjectAsStringMap(record.getScreeningValuesJson());
 				Map<String, String> metricCompleteValues = parseJsonObjectAsStringMap(record.getMetricCompleteValuesJson());
 				Map<String, String> metricTimeValues = parseJsonObjectAsStringMap(record.getMetricTimeValuesJson());
@@ -3312,7 +3366,8 @@ public class ReportingService {
 					recordElements.add(resolveCourseMcbDownloadColumnValue(headerColumn, record, dateFormatter, screeningValues, metricCompleteValues, metricTimeValues, metricVisitValues));
 
 				csvPrinter.printRecord(recordElements.toArray(new Object[0]));
-			}
+			}, institutionId, startInstant, endInstant, institutionId, RoleId.PATIENT,
+					institutionId, institutionId, institutionId, institutionId, institutionId, institutionId);
 
 			csvPrinter.flush();
 		} catch (IOException e) {
@@ -3341,7 +3396,7 @@ public class ReportingService {
 		Instant startInstant = startDateTime.atZone(institutionTimeZone).toInstant();
 		Instant endInstant = endDateTime.atZone(institutionTimeZone).toInstant();
 
-		List<CourseMcbDownloadReportRecord> records = getDatabase().queryForList("""
+		String sql = """
 							WITH institution_onboarding AS (
 								SELECT onboarding_screening_flow_id
 								FROM institution
@@ -3840,15 +3895,14 @@ public class ReportingService {
 						LEFT JOIN account_content_metric_maps acmm
 							ON acmm.account_id = ra.account_id
 						ORDER BY ra.account_created_at, ra.account_id
-						""", CourseMcbDownloadReportRecord.class, institutionId, startInstant, endInstant, institutionId, institutionId, institutionId, institutionId,
-				RoleId.PATIENT, institutionId, institutionId, institutionId, institutionId, institutionId);
+						""";
 
 		DateTimeFormatter dateFormatter = DateTimeFormatter.ofPattern("MM/dd/yyyy")
 				.withZone(institutionTimeZone)
 				.withLocale(reportLocale);
 
 		try (CSVPrinter csvPrinter = new CSVPrinter(writer, CSVFormat.DEFAULT.withHeader(headerColumns.toArray(new String[0])))) {
-			for (CourseMcbDownloadReportRecord record : records) {
+			streamReportRecords(csvPrinter, sql, CourseMcbDownloadReportRecord.class, (record) -> {
 				Map<String, String> screeningValues = parseJsonObjectAsStringMap(record.getScreeningValuesJson());
 				Map<String, String> metricCompleteValues = parseJsonObjectAsStringMap(record.getMetricCompleteValuesJson());
 				Map<String, String> metricTimeValues = parseJsonObjectAsStringMap(record.getMetricTimeValuesJson());
@@ -3860,7 +3914,8 @@ public class ReportingService {
 					recordElements.add(resolveCourseMcbDownloadColumnValue(headerColumn, record, dateFormatter, screeningValues, metricCompleteValues, metricTimeValues, metricVisitValues));
 
 				csvPrinter.printRecord(recordElements.toArray(new Object[0]));
-			}
+			}, institutionId, startInstant, endInstant, institutionId, institutionId, institutionId, institutionId,
+					RoleId.PATIENT, institutionId, institutionId, institutionId, institutionId, institutionId);
 
 			csvPrinter.flush();
 		} catch (IOException e) {
@@ -6547,6 +6602,11 @@ public class ReportingService {
 		return this.authorizationServiceProvider.get();
 	}
 
+	@Nonnull
+	protected Integer getReportCursorFetchSize() {
+		return REPORT_CURSOR_FETCH_SIZE;
+	}
+
 	@Nonnull
 	protected Database getDatabase() {
 		return this.databaseProvider.get();
@@ -115,6 +115,8 @@ import com.cobaltplatform.api.util.Normalizer;
 import com.cobaltplatform.api.util.ValidationException;
 import com.cobaltplatform.api.util.ValidationException.FieldError;
 import com.cobaltplatform.api.util.db.DatabaseProvider;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
 import com.lokalized.Strings;
 import com.pyranid.Database;
 import com.pyranid.DatabaseException;
@@ -145,10 +147,12 @@ import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -208,6 +212,8 @@ public class ScreeningService {
 	@Nonnull
 	private final Strings strings;
 	@Nonnull
+	private final LoadingCache<UUID, List<ScreeningQuestionWithAnswerOptions>> screeningQuestionsWithAnswerOptionsByScreeningVersionIdCache;
+	@Nonnull
 	private final Logger logger;
 
 	@Inject
@@ -266,6 +272,13 @@ public class ScreeningService {
 		this.databaseProvider = databaseProvider;
 		this.configuration = configuration;
 		this.strings = strings;
+		// Screening versions are immutable once published, so there is nothing to invalidate.
+		// The expiry only exists to pick up the occasional manual fix-up of question/answer text in the DB
+		this.screeningQuestionsWithAnswerOptionsByScreeningVersionIdCache = Caffeine.newBuilder()
+				.maximumSize(1_000)
+				.expireAfterWrite(Duration.ofHours(1))
+				.recordStats()
+				.build(screeningVersionId -> findUncachedScreeningQuestionsWithAnswerOptionsByScreeningVersionId(screeningVersionId));
 		this.logger = LoggerFactory.getLogger(getClass());
 	}
 
@@ -989,7 +1002,7 @@ public class ScreeningService {
 			return Optional.empty();
 
 		// Get all the questions + answer options
-		List<ScreeningQuestionWithAnswerOptions> screeningQuestionsWithAnswerOptions = findScreeningQuestionsWithAnswerOptionsByScreeningSessionScreeningId(screeningSessionScreening.getScreeningSessionScreeningId());
+		List<ScreeningQuestionWithAnswerOptions> screeningQuestionsWithAnswerOptions = findScreeningQuestionsWithAnswerOptionsByScreeningVersionId(screeningSessionScreening.getScreeningVersionId());
 
 		ScreeningQuestionWithAnswerOptions screeningQuestionWithAnswerOptions = null;
 
@@ -1097,21 +1110,29 @@ public class ScreeningService {
 			throw new IllegalStateException(format("Screening session ID %s does not have a current screening session screening.",
 					screeningSessionId));
 
+		// Pull inapplicable and answered questions for this session in one go - everything else is the (cached) screening version definition
+		List<ScreeningSessionScreeningQuestionStatus> screeningQuestionStatuses = findScreeningSessionScreeningQuestionStatusesByScreeningSessionScreeningId(screeningSessionScreening.getScreeningSessionScreeningId());
+		Set<UUID> inapplicableScreeningQuestionIds = new HashSet<>(screeningQuestionStatuses.size());
+		int answeredScreeningQuestionCount = 0;
+
+		for (ScreeningSessionScreeningQuestionStatus screeningQuestionStatus : screeningQuestionStatuses) {
+			if (screeningQuestionStatus.getAnswered())
+				++answeredScreeningQuestionCount;
+			else
+				inapplicableScreeningQuestionIds.add(screeningQuestionStatus.getScreeningQuestionId());
+		}
+
 		// Get all the questions + answer options, filtering out any inapplicable questions (that is, if we have branching logic to skip over some)
-		Set<UUID> inapplicableScreeningQuestionIds = findScreeningSessionInapplicableScreeningQuestionIdsByScreeningSessionScreeningId(screeningSessionScreening.getScreeningSessionScreeningId());
-		List<ScreeningQuestionWithAnswerOptions> screeningQuestionsWithAnswerOptions = findScreeningQuestionsWithAnswerOptionsByScreeningSessionScreeningId(screeningSessionScreening.getScreeningSessionScreeningId()).stream()
+		List<ScreeningQuestionWithAnswerOptions> screeningQuestionsWithAnswerOptions = findScreeningQuestionsWithAnswerOptionsByScreeningVersionId(screeningSessionScreening.getScreeningVersionId()).stream()
 				.filter(screeningQuestionWithAnswerOptions -> !inapplicableScreeningQuestionIds.contains(screeningQuestionWithAnswerOptions.getScreeningQuestion().getScreeningQuestionId()))
 				.collect(Collectors.toList());
 
-		// Get all the questions that have already been answered for this session
-		List<ScreeningSessionAnsweredScreeningQuestion> screeningSessionAnsweredScreeningQuestions = findScreeningSessionAnsweredScreeningQuestionsByScreeningSessionScreeningId(screeningSessionScreening.getScreeningSessionScreeningId());
-
 		// Holder for the next unanswered question (if there is one)
 		ScreeningQuestionWithAnswerOptions nextScreeningQuestionWithAnswerOptions = null;
 
-		// These lists are both ordered by question order, so figure out "next" by picking the last-answered index + 1
-		if (screeningSessionAnsweredScreeningQuestions.size() < screeningQuestionsWithAnswerOptions.size())
-			nextScreeningQuestionWithAnswerOptions = screeningQuestionsWithAnswerOptions.get(screeningSessionAnsweredScreeningQuestions.size());
+		// Questions are ordered by question order and answered in that order, so figure out "next" by picking the last-answered index + 1
+		if (answeredScreeningQuestionCount < screeningQuestionsWithAnswerOptions.size())
+			nextScreeningQuestionWithAnswerOptions = screeningQuestionsWithAnswerOptions.get(answeredScreeningQuestionCount);
 
 		// If everything was already answered, nothing comes next for this screening session screening
 		if (nextScreeningQuestionWithAnswerOptions == null)
@@ -1153,48 +1174,101 @@ public class ScreeningService {
 		if (screeningSessionScreeningId == null)
 			return Collections.emptyList();
 
+		UUID screeningVersionId = getDatabase().queryForObject("""
+				SELECT screening_version_id
+				FROM v_screening_session_screening
+				WHERE screening_session_screening_id=?
+				""", UUID.class, screeningSessionScreeningId).orElse(null);
+
+		return findScreeningQuestionsWithAnswerOptionsByScreeningVersionId(screeningVersionId);
+	}
+
+	/**
+	 * The returned questions (ordered by display order) and their answer options are shared across callers and must not be modified.
+	 */
+	@Nonnull
+	public List<ScreeningQuestionWithAnswerOptions> findScreeningQuestionsWithAnswerOptionsByScreeningVersionId(@Nullable UUID screeningVersionId) {
+		if (screeningVersionId == null)
+			return Collections.emptyList();
+
+		return getScreeningQuestionsWithAnswerOptionsByScreeningVersionIdCache().get(screeningVersionId);
+	}
+
+	@Nonnull
+	protected List<ScreeningQuestionWithAnswerOptions> findUncachedScreeningQuestionsWithAnswerOptionsByScreeningVersionId(@Nonnull UUID screeningVersionId) {
+		requireNonNull(screeningVersionId);
+
 		List<ScreeningQuestion> screeningQuestions = getDatabase().queryForList("""
-				SELECT sq.*
-				FROM screening_question sq, v_screening_session_screening sss 
-				WHERE sss.screening_session_screening_id=?
-				AND sss.screening_version_id=sq.screening_version_id
-				ORDER BY sq.display_order
-				""", ScreeningQuestion.class, screeningSessionScreeningId);
+				SELECT *
+				FROM screening_question
+				WHERE screening_version_id=?
+				ORDER BY display_order
+				""", ScreeningQuestion.class, screeningVersionId);
 
 		List<ScreeningAnswerOption> screeningAnswerOptions = getDatabase().queryForList("""
 				SELECT sao.*
-				FROM screening_answer_option sao, screening_question sq, v_screening_session_screening sss
+				FROM screening_answer_option sao, screening_question sq
 				WHERE sao.screening_question_id=sq.screening_question_id
-				AND sss.screening_version_id=sq.screening_version_id
-				AND sss.screening_session_screening_id=?
+				AND sq.screening_version_id=?
 				ORDER BY sao.display_order
-				""", ScreeningAnswerOption.class, screeningSessionScreeningId);
+				""", ScreeningAnswerOption.class, screeningVersionId);
+
+		// Group answer options by question, preserving display order
+		Map<UUID, List<ScreeningAnswerOption>> screeningAnswerOptionsByScreeningQuestionId = new HashMap<>(screeningQuestions.size());
+
+		for (ScreeningAnswerOption screeningAnswerOption : screeningAnswerOptions)
+			screeningAnswerOptionsByScreeningQuestionId.computeIfAbsent(screeningAnswerOption.getScreeningQuestionId(), ignored -> new ArrayList<>()).add(screeningAnswerOption);
 
 		List<ScreeningQuestionWithAnswerOptions> screeningQuestionsWithAnswerOptions = new ArrayList<>(screeningQuestions.size());
 
-		// Group answer options by question
 		for (ScreeningQuestion screeningQuestion : screeningQuestions) {
-			List<ScreeningAnswerOption> screeningAnswerOptionsForQuestion = screeningAnswerOptions.stream()
-					.filter(screeningAnswerOption -> screeningAnswerOption.getScreeningQuestionId().equals(screeningQuestion.getScreeningQuestionId()))
-					.collect(Collectors.toList());
-
-			screeningQuestionsWithAnswerOptions.add(new ScreeningQuestionWithAnswerOptions(screeningQuestion, screeningAnswerOptionsForQuestion));
+			List<ScreeningAnswerOption> screeningAnswerOptionsForQuestion = screeningAnswerOptionsByScreeningQuestionId.getOrDefault(screeningQuestion.getScreeningQuestionId(), List.of());
+			screeningQuestionsWithAnswerOptions.add(new ScreeningQuestionWithAnswerOptions(screeningQuestion, Collections.unmodifiableList(screeningAnswerOptionsForQuestion)));
 		}
 
-		return screeningQuestionsWithAnswerOptions;
+		return Collections.unmodifiableList(screeningQuestionsWithAnswerOptions);
 	}
 
 	@Nonnull
-	protected Set<UUID> findScreeningSessionInapplicableScreeningQuestionIdsByScreeningSessionScreeningId(@Nullable UUID screeningSessionScreeningId) {
+	protected List<ScreeningSessionScreeningQuestionStatus> findScreeningSessionScreeningQuestionStatusesByScreeningSessionScreeningId(@Nullable UUID screeningSessionScreeningId) {
 		if (screeningSessionScreeningId == null)
-			return Collections.emptySet();
+			return Collections.emptyList();
 
-		return new HashSet<>(getDatabase().queryForList("""
-				SELECT ssisq.screening_question_id
-				FROM v_screening_session_inapplicable_screening_question ssisq, screening_question sq
+		return getDatabase().queryForList("""
+				SELECT ssisq.screening_question_id, FALSE AS answered
+				FROM v_screening_session_inapplicable_screening_question ssisq
 				WHERE ssisq.screening_session_screening_id=?
-				AND ssisq.screening_question_id=sq.screening_question_id
-				""", UUID.class, screeningSessionScreeningId));
+				UNION ALL
+				SELECT ssasq.screening_question_id, TRUE AS answered
+				FROM v_screening_session_answered_screening_question ssasq
+				WHERE ssasq.screening_session_screening_id=?
+				""", ScreeningSessionScreeningQuestionStatus.class, screeningSessionScreeningId, screeningSessionScreeningId);
+	}
+
+	@NotThreadSafe
+	protected static class ScreeningSessionScreeningQuestionStatus {
+		@Nullable
+		private UUID screeningQuestionId;
+		@Nullable
+		private Boolean answered;
+
+		@Nullable
+		public UUID getScreeningQuestionId() {
+			return this.screeningQuestionId;
+		}
+
+		public void setScreeningQuestionId(@Nullable UUID screeningQuestionId) {
+			this.screeningQuestionId = screeningQuestionId;
+		}
+
+		@Nullable
+		public Boolean getAnswered() {
+			return this.answered;
+		}
+
+		public void setAnswered(@Nullable Boolean answered) {
+			this.answered = answered;
+		}
 	}
 
 	@Nonnull
@@ -1766,7 +1840,7 @@ public class ScreeningService {
 
 		// Score the individual screening by calling its scoring function
 		List<ScreeningQuestionWithAnswerOptions> screeningQuestionsWithAnswerOptions =
-				findScreeningQuestionsWithAnswerOptionsByScreeningSessionScreeningId(screeningSessionScreeningId);
+				findScreeningQuestionsWithAnswerOptionsByScreeningVersionId(screeningVersion.getScreeningVersionId());
 		List<ScreeningAnswer> screeningAnswers = findScreeningAnswersAcrossAllQuestionsByScreeningSessionScreeningId(screeningSessionScreeningId);
 
 		List<ScreeningSessionAnsweredScreeningQuestion> screeningSessionAnsweredScreeningQuestions = getDatabase().queryForList("""
@@ -2654,7 +2728,7 @@ public class ScreeningService {
 
 		// We could do this as a single query, but the dataset is small, and this is a little clearer and fast enough
 		for (ScreeningSessionScreening screeningSessionScreening : screeningSessionScreenings) {
-			List<ScreeningQuestionWithAnswerOptions> screeningQuestionsWithAnswerOptions = findScreeningQuestionsWithAnswerOptionsByScreeningSessionScreeningId(screeningSessionScreening.getScreeningSessionScreeningId());
+			List<ScreeningQuestionWithAnswerOptions> screeningQuestionsWithAnswerOptions = findScreeningQuestionsWithAnswerOptionsByScreeningVersionId(screeningSessionScreening.getScreeningVersionId());
 			List<ScreeningAnswer> screeningAnswers = findScreeningAnswersAcrossAllQuestionsByScreeningSessionScreeningId(screeningSessionScreening.getScreeningSessionScreeningId());
 			Map<UUID, ScreeningAnswer> screeningAnswersByAnswerOptionId = new HashMap<>(screeningAnswers.size());
 
@@ -2874,31 +2948,169 @@ public class ScreeningService {
 		if (screeningSession == null)
 			return Optional.empty();
 
-		ScreeningFlowVersion screeningFlowVersion = findScreeningFlowVersionById(screeningSession.getScreeningFlowVersionId()).get();
-		ScreeningFlow screeningFlow = findScreeningFlowById(screeningFlowVersion.getScreeningFlowId()).get();
-		List<ScreeningSessionScreening> screeningSessionScreenings = findCurrentScreeningSessionScreeningsByScreeningSessionId(screeningSession.getScreeningSessionId());
-		List<ScreeningSessionScreeningResult> screeningSessionScreeningResults = new ArrayList<>();
+		return Optional.ofNullable(findScreeningSessionResultsByScreeningSessions(List.of(screeningSession)).get(screeningSession.getScreeningSessionId()));
+	}
 
-		for (ScreeningSessionScreening screeningSessionScreening : screeningSessionScreenings) {
-			ScreeningVersion screeningVersion = findScreeningVersionById(screeningSessionScreening.getScreeningVersionId()).get();
-			Screening screening = findScreeningById(screeningVersion.getScreeningId()).get();
-			ScreeningScore screeningScore = screeningSessionScreening.getScoreAsObject().get();
-			List<ScreeningQuestionWithAnswerOptions> screeningQuestionsWithAnswerOptions = findScreeningQuestionsWithAnswerOptionsByScreeningSessionScreeningId(screeningSessionScreening.getScreeningSessionScreeningId());
-			List<ScreeningSessionAnsweredScreeningQuestion> screeningSessionAnsweredScreeningQuestions = findScreeningSessionAnsweredScreeningQuestionsByScreeningSessionScreeningId(screeningSessionScreening.getScreeningSessionScreeningId());
-			List<ScreeningQuestionResult> screeningQuestionResults = new ArrayList<>();
+	/**
+	 * Set-based equivalent of {@link #findScreeningSessionResult(ScreeningSession)}.
+	 * <p>
+	 * Uses a fixed number of queries regardless of how many sessions, screenings, questions and answers are involved,
+	 * so it's safe to call for a whole page of patient orders.
+	 *
+	 * @param screeningSessions (nonnull) the sessions to build results for
+	 * @return (nonnull) results keyed by screening session ID
+	 */
+	@Nonnull
+	public Map<UUID, ScreeningSessionResult> findScreeningSessionResultsByScreeningSessions(@Nonnull Collection<ScreeningSession> screeningSessions) {
+		requireNonNull(screeningSessions);
 
-			for (ScreeningSessionAnsweredScreeningQuestion screeningSessionAnsweredScreeningQuestion : screeningSessionAnsweredScreeningQuestions) {
-				for (ScreeningQuestionWithAnswerOptions screeningQuestionWithAnswerOptions : screeningQuestionsWithAnswerOptions) {
-					ScreeningQuestion screeningQuestion = screeningQuestionWithAnswerOptions.getScreeningQuestion();
-					List<ScreeningAnswerOption> screeningAnswerOptions = screeningQuestionWithAnswerOptions.getScreeningAnswerOptions();
-					List<ScreeningAnswerResult> screeningAnswerResults = new ArrayList<>();
+		if (screeningSessions.isEmpty())
+			return Map.of();
 
-					if (screeningQuestion.getScreeningQuestionId().equals(screeningSessionAnsweredScreeningQuestion.getScreeningQuestionId())) {
-						List<ScreeningAnswer> screeningAnswers = findScreeningAnswersByScreeningQuestionContextId(
-								new ScreeningQuestionContextId(screeningSessionScreening.getScreeningSessionScreeningId(), screeningQuestionWithAnswerOptions.getScreeningQuestion().getScreeningQuestionId()));
+		Set<UUID> screeningSessionIds = screeningSessions.stream()
+				.map(ScreeningSession::getScreeningSessionId)
+				.collect(Collectors.toSet());
+		Set<UUID> screeningFlowVersionIds = screeningSessions.stream()
+				.map(ScreeningSession::getScreeningFlowVersionId)
+				.collect(Collectors.toSet());
+
+		Map<UUID, ScreeningFlowVersion> screeningFlowVersionsById = getDatabase().queryForList("""
+				SELECT *
+				FROM screening_flow_version
+				WHERE screening_flow_version_id = ANY (CAST(? AS UUID[]))
+				""", ScreeningFlowVersion.class, (Object) screeningFlowVersionIds.toArray(new UUID[0])).stream()
+				.collect(Collectors.toMap(ScreeningFlowVersion::getScreeningFlowVersionId, screeningFlowVersion -> screeningFlowVersion));
+
+		Set<UUID> screeningFlowIds = screeningFlowVersionsById.values().stream()
+				.map(ScreeningFlowVersion::getScreeningFlowId)
+				.collect(Collectors.toSet());
+
+		Map<UUID, ScreeningFlow> screeningFlowsById = getDatabase().queryForList("""
+				SELECT *
+				FROM screening_flow
+				WHERE screening_flow_id = ANY (CAST(? AS UUID[]))
+				""", ScreeningFlow.class, (Object) screeningFlowIds.toArray(new UUID[0])).stream()
+				.collect(Collectors.toMap(ScreeningFlow::getScreeningFlowId, screeningFlow -> screeningFlow));
+
+		List<ScreeningSessionScreening> screeningSessionScreenings = getDatabase().queryForList("""
+				SELECT *
+				FROM v_screening_session_screening
+				WHERE screening_session_id = ANY (CAST(? AS UUID[]))
+				ORDER BY screening_order
+				""", ScreeningSessionScreening.class, (Object) screeningSessionIds.toArray(new UUID[0]));
+
+		Map<UUID, List<ScreeningSessionScreening>> screeningSessionScreeningsByScreeningSessionId = screeningSessionScreenings.stream()
+				.collect(Collectors.groupingBy(ScreeningSessionScreening::getScreeningSessionId, LinkedHashMap::new, Collectors.toList()));
+
+		Set<UUID> screeningVersionIds = screeningSessionScreenings.stream()
+				.map(ScreeningSessionScreening::getScreeningVersionId)
+				.collect(Collectors.toSet());
+		Set<UUID> screeningSessionScreeningIds = screeningSessionScreenings.stream()
+				.map(ScreeningSessionScreening::getScreeningSessionScreeningId)
+				.collect(Collectors.toSet());
 
-						for (ScreeningAnswerOption potentialScreeningAnswerOption : screeningAnswerOptions) {
-							for (ScreeningAnswer screeningAnswer : screeningAnswers) {
+		Map<UUID, ScreeningVersion> screeningVersionsById = getDatabase().queryForList("""
+				SELECT *
+				FROM screening_version
+				WHERE screening_version_id = ANY (CAST(? AS UUID[]))
+				""", ScreeningVersion.class, (Object) screeningVersionIds.toArray(new UUID[0])).stream()
+				.collect(Collectors.toMap(ScreeningVersion::getScreeningVersionId, screeningVersion -> screeningVersion));
+
+		Set<UUID> screeningIds = screeningVersionsById.values().stream()
+				.map(ScreeningVersion::getScreeningId)
+				.collect(Collectors.toSet());
+
+		Map<UUID, Screening> screeningsById = getDatabase().queryForList("""
+				SELECT *
+				FROM screening
+				WHERE screening_id = ANY (CAST(? AS UUID[]))
+				""", Screening.class, (Object) screeningIds.toArray(new UUID[0])).stream()
+				.collect(Collectors.toMap(Screening::getScreeningId, screening -> screening));
+
+		Map<UUID, List<ScreeningQuestion>> screeningQuestionsByScreeningVersionId = getDatabase().queryForList("""
+				SELECT *
+				FROM screening_question
+				WHERE screening_version_id = ANY (CAST(? AS UUID[]))
+				ORDER BY display_order
+				""", ScreeningQuestion.class, (Object) screeningVersionIds.toArray(new UUID[0])).stream()
+				.collect(Collectors.groupingBy(ScreeningQuestion::getScreeningVersionId, LinkedHashMap::new, Collectors.toList()));
+
+		Map<UUID, List<ScreeningAnswerOption>> screeningAnswerOptionsByScreeningQuestionId = getDatabase().queryForList("""
+				SELECT sao.*
+				FROM screening_answer_option sao, screening_question sq
+				WHERE sao.screening_question_id=sq.screening_question_id
+				AND sq.screening_version_id = ANY (CAST(? AS UUID[]))
+				ORDER BY sao.display_order
+				""", ScreeningAnswerOption.class, (Object) screeningVersionIds.toArray(new UUID[0])).stream()
+				.collect(Collectors.groupingBy(ScreeningAnswerOption::getScreeningQuestionId, LinkedHashMap::new, Collectors.toList()));
+
+		List<ScreeningSessionAnsweredScreeningQuestion> screeningSessionAnsweredScreeningQuestions = getDatabase().queryForList("""
+				SELECT ssasq.*
+				FROM v_screening_session_answered_screening_question ssasq, screening_question sq
+				WHERE ssasq.screening_session_screening_id = ANY (CAST(? AS UUID[]))
+				AND ssasq.screening_question_id=sq.screening_question_id
+				ORDER BY sq.display_order
+				""", ScreeningSessionAnsweredScreeningQuestion.class, (Object) screeningSessionScreeningIds.toArray(new UUID[0]));
+
+		Map<UUID, List<ScreeningSessionAnsweredScreeningQuestion>> screeningSessionAnsweredScreeningQuestionsByScreeningSessionScreeningId = screeningSessionAnsweredScreeningQuestions.stream()
+				.collect(Collectors.groupingBy(ScreeningSessionAnsweredScreeningQuestion::getScreeningSessionScreeningId, LinkedHashMap::new, Collectors.toList()));
+
+		Map<UUID, ScreeningSessionAnsweredScreeningQuestion> screeningSessionAnsweredScreeningQuestionsById = screeningSessionAnsweredScreeningQuestions.stream()
+				.collect(Collectors.toMap(ScreeningSessionAnsweredScreeningQuestion::getScreeningSessionAnsweredScreeningQuestionId, screeningSessionAnsweredScreeningQuestion -> screeningSessionAnsweredScreeningQuestion));
+
+		List<ScreeningAnswer> screeningAnswers = getDatabase().queryForList("""
+				SELECT sa.*
+				FROM v_screening_session_answered_screening_question ssasq, screening_question sq, screening_answer_option sao, v_screening_answer sa
+				WHERE ssasq.screening_session_screening_id = ANY (CAST(? AS UUID[]))
+				AND ssasq.screening_question_id=sq.screening_question_id
+				AND sq.screening_question_id=sao.screening_question_id
+				AND sa.screening_answer_option_id=sao.screening_answer_option_id
+				AND sa.screening_session_answered_screening_question_id=ssasq.screening_session_answered_screening_question_id
+				ORDER BY sa.created, sa.screening_answer_id
+				""", ScreeningAnswer.class, (Object) screeningSessionScreeningIds.toArray(new UUID[0]));
+
+		// Keyed by "screening session screening ID.screening question ID", same grouping as findScreeningAnswersByScreeningQuestionContextId()
+		Map<String, List<ScreeningAnswer>> screeningAnswersByScreeningQuestionContextKey = new HashMap<>();
+
+		for (ScreeningAnswer screeningAnswer : screeningAnswers) {
+			ScreeningSessionAnsweredScreeningQuestion screeningSessionAnsweredScreeningQuestion = screeningSessionAnsweredScreeningQuestionsById.get(screeningAnswer.getScreeningSessionAnsweredScreeningQuestionId());
+
+			if (screeningSessionAnsweredScreeningQuestion == null)
+				continue;
+
+			screeningAnswersByScreeningQuestionContextKey.computeIfAbsent(format("%s.%s", screeningSessionAnsweredScreeningQuestion.getScreeningSessionScreeningId(),
+					screeningSessionAnsweredScreeningQuestion.getScreeningQuestionId()), (ignored) -> new ArrayList<>()).add(screeningAnswer);
+		}
+
+		Map<UUID, ScreeningSessionResult> screeningSessionResultsByScreeningSessionId = new HashMap<>(screeningSessions.size());
+
+		for (ScreeningSession screeningSession : screeningSessions) {
+			ScreeningFlowVersion screeningFlowVersion = screeningFlowVersionsById.get(screeningSession.getScreeningFlowVersionId());
+
+			if (screeningFlowVersion == null)
+				throw new IllegalStateException(format("Unable to find screening flow version ID %s for screening session ID %s",
+						screeningSession.getScreeningFlowVersionId(), screeningSession.getScreeningSessionId()));
+
+			ScreeningFlow screeningFlow = screeningFlowsById.get(screeningFlowVersion.getScreeningFlowId());
+			List<ScreeningSessionScreeningResult> screeningSessionScreeningResults = new ArrayList<>();
+
+			for (ScreeningSessionScreening screeningSessionScreening : screeningSessionScreeningsByScreeningSessionId.getOrDefault(screeningSession.getScreeningSessionId(), List.of())) {
+				ScreeningVersion screeningVersion = screeningVersionsById.get(screeningSessionScreening.getScreeningVersionId());
+				Screening screening = screeningsById.get(screeningVersion.getScreeningId());
+				ScreeningScore screeningScore = screeningSessionScreening.getScoreAsObject().get();
+				List<ScreeningQuestionResult> screeningQuestionResults = new ArrayList<>();
+
+				for (ScreeningSessionAnsweredScreeningQuestion screeningSessionAnsweredScreeningQuestion : screeningSessionAnsweredScreeningQuestionsByScreeningSessionScreeningId.getOrDefault(screeningSessionScreening.getScreeningSessionScreeningId(), List.of())) {
+					for (ScreeningQuestion screeningQuestion : screeningQuestionsByScreeningVersionId.getOrDefault(screeningVersion.getScreeningVersionId(), List.of())) {
+						if (!screeningQuestion.getScreeningQuestionId().equals(screeningSessionAnsweredScreeningQuestion.getScreeningQuestionId()))
+							continue;
+
+						List<ScreeningAnswer> screeningQuestionAnswers = screeningAnswersByScreeningQuestionContextKey.getOrDefault(format("%s.%s",
+								screeningSessionScreening.getScreeningSessionScreeningId(), screeningQuestion.getScreeningQuestionId()), List.of());
+						List<ScreeningAnswerResult> screeningAnswerResults = new ArrayList<>();
+
+						for (ScreeningAnswerOption potentialScreeningAnswerOption : screeningAnswerOptionsByScreeningQuestionId.getOrDefault(screeningQuestion.getScreeningQuestionId(), List.of())) {
+							for (ScreeningAnswer screeningAnswer : screeningQuestionAnswers) {
 								if (screeningAnswer.getScreeningAnswerOptionId().equals(potentialScreeningAnswerOption.getScreeningAnswerOptionId())) {
 									ScreeningAnswerResult screeningAnswerResult = new ScreeningAnswerResult();
 									screeningAnswerResult.setScreeningAnswerId(screeningAnswer.getScreeningAnswerId());
@@ -2921,29 +3133,31 @@ public class ScreeningService {
 						screeningQuestionResults.add(screeningQuestionResult);
 					}
 				}
+
+				ScreeningSessionScreeningResult screeningSessionScreeningResult = new ScreeningSessionScreeningResult();
+				screeningSessionScreeningResult.setScreeningId(screening.getScreeningId());
+				screeningSessionScreeningResult.setScreeningName(screening.getName());
+				screeningSessionScreeningResult.setScreeningScore(screeningScore);
+				screeningSessionScreeningResult.setScreeningVersionNumber(screeningVersion.getVersionNumber());
+				screeningSessionScreeningResult.setScreeningTypeId(screeningVersion.getScreeningTypeId());
+				screeningSessionScreeningResult.setScreeningVersionId(screeningVersion.getScreeningVersionId());
+				screeningSessionScreeningResult.setBelowScoringThreshold(screeningSessionScreening.getBelowScoringThreshold());
+				screeningSessionScreeningResult.setScreeningQuestionResults(screeningQuestionResults);
+
+				screeningSessionScreeningResults.add(screeningSessionScreeningResult);
 			}
 
-			ScreeningSessionScreeningResult screeningSessionScreeningResult = new ScreeningSessionScreeningResult();
-			screeningSessionScreeningResult.setScreeningId(screening.getScreeningId());
-			screeningSessionScreeningResult.setScreeningName(screening.getName());
-			screeningSessionScreeningResult.setScreeningScore(screeningScore);
-			screeningSessionScreeningResult.setScreeningVersionNumber(screeningVersion.getVersionNumber());
-			screeningSessionScreeningResult.setScreeningTypeId(screeningVersion.getScreeningTypeId());
-			screeningSessionScreeningResult.setScreeningVersionId(screeningVersion.getScreeningVersionId());
-			screeningSessionScreeningResult.setBelowScoringThreshold(screeningSessionScreening.getBelowScoringThreshold());
-			screeningSessionScreeningResult.setScreeningQuestionResults(screeningQuestionResults);
+			ScreeningSessionResult screeningSessionResult = new ScreeningSessionResult();
+			screeningSessionResult.setScreeningFlowId(screeningFlow.getScreeningFlowId());
+			screeningSessionResult.setScreeningFlowName(screeningFlow.getName());
+			screeningSessionResult.setScreeningFlowVersionId(screeningFlowVersion.getScreeningFlowVersionId());
+			screeningSessionResult.setScreeningFlowVersionNumber(screeningFlowVersion.getVersionNumber());
+			screeningSessionResult.setScreeningSessionScreeningResults(screeningSessionScreeningResults);
 
-			screeningSessionScreeningResults.add(screeningSessionScreeningResult);
+			screeningSessionResultsByScreeningSessionId.put(screeningSession.getScreeningSessionId(), screeningSessionResult);
 		}
 
-		ScreeningSessionResult screeningSessionResult = new ScreeningSessionResult();
-		screeningSessionResult.setScreeningFlowId(screeningFlow.getScreeningFlowId());
-		screeningSessionResult.setScreeningFlowName(screeningFlow.getName());
-		screeningSessionResult.setScreeningFlowVersionId(screeningFlowVersion.getScreeningFlowVersionId());
-		screeningSessionResult.setScreeningFlowVersionNumber(screeningFlowVersion.getVersionNumber());
-		screeningSessionResult.setScreeningSessionScreeningResults(screeningSessionScreeningResults);
-
-		return Optional.of(screeningSessionResult);
+		return screeningSessionResultsByScreeningSessionId;
 	}
 
 	@Nonnull
@@ -3005,7 +3219,7 @@ public class ScreeningService {
 
 			logLines.add(format("\tScreening '%s', version %d, score %d", screening.getName(), screeningVersion.getVersionNumber(), screeningScore.getOverallScore()));
 
-			List<ScreeningQuestionWithAnswerOptions> screeningQuestionsWithAnswerOptions = findScreeningQuestionsWithAnswerOptionsByScreeningSessionScreeningId(screeningSessionScreening.getScreeningSessionScreeningId());
+			List<ScreeningQuestionWithAnswerOptions> screeningQuestionsWithAnswerOptions = findScreeningQuestionsWithAnswerOptionsByScreeningVersionId(screeningSessionScreening.getScreeningVersionId());
 			List<ScreeningSessionAnsweredScreeningQuestion> screeningSessionAnsweredScreeningQuestions = findScreeningSessionAnsweredScreeningQuestionsByScreeningSessionScreeningId(screeningSessionScreening.getScreeningSessionScreeningId());
 
 			for (ScreeningSessionAnsweredScreeningQuestion screeningSessionAnsweredScreeningQuestion : screeningSessionAnsweredScreeningQuestions) {
@@ -3586,6 +3800,11 @@ public class ScreeningService {
 		return this.strings;
 	}
 
+	@Nonnull
+	protected LoadingCache<UUID, List<ScreeningQuestionWithAnswerOptions>> getScreeningQuestionsWithAnswerOptionsByScreeningVersionIdCache() {
+		return this.screeningQuestionsWithAnswerOptionsByScreeningVersionIdCache;
+	}
+
 	@Nonnull
 	protected Logger getLogger() {
 		return this.logger;
@@ -28,10 +28,15 @@ import com.cobaltplatform.api.model.security.AccessTokenClaims;
 import com.cobaltplatform.api.model.security.AccessTokenStatus;
 import com.cobaltplatform.api.model.security.SigningTokenClaims;
 import com.cobaltplatform.api.service.AccountService;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.google.common.hash.Hashing;
 import com.google.gson.Gson;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.Jws;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.UnsupportedJwtException;
@@ -56,6 +61,7 @@ import javax.inject.Inject;
 import javax.inject.Provider;
 import javax.inject.Singleton;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.Base64;
 import java.util.Collections;
@@ -84,6 +90,8 @@ public class Authenticator {
 	private static final String ROLE_ID_CLAIM_NAME;
 	@Nonnull
 	private static final String MY_CHART_ACCESS_TOKEN_CLAIM_NAME;
+	@Nonnull
+	private static final Long ACCESS_TOKEN_CLAIMS_CACHE_MAXIMUM_SIZE;
 
 	@Nonnull
 	private final Configuration configuration;
@@ -95,11 +103,16 @@ public class Authenticator {
 	private final Logger logger;
 	@Nonnull
 	private final Provider<AccountService> accountServiceProvider;
+	@Nonnull
+	private final JwtParser jwtParser;
+	@Nonnull
+	private final Cache<String, AccessTokenClaims> accessTokenClaimsCache;
 
 	static {
 		DEFAULT_SIGNING_TOKEN_SUBJECT = "COBALT_SYSTEM";
 		ROLE_ID_CLAIM_NAME = "roleId";
 		MY_CHART_ACCESS_TOKEN_CLAIM_NAME = "myChartAccessToken";
+		ACCESS_TOKEN_CLAIMS_CACHE_MAXIMUM_SIZE = 10_000L;
 	}
 
 	@Inject
@@ -112,6 +125,41 @@ public class Authenticator {
 		this.missingIssuedAtOffsetInMinutes = 10080L;  // Arbitrary; supports legacy access tokens
 		this.logger = LoggerFactory.getLogger(getClass());
 		this.accountServiceProvider = accountServiceProvider;
+
+		// Parsers are immutable and thread-safe, so build once instead of per-request
+		this.jwtParser = Jwts.parserBuilder()
+				.setSigningKey(configuration.getSigningCredentials().getX509Certificate().getPublicKey())
+				.build();
+
+		// Successfully-verified access token claims, keyed by token hash.
+		// Each entry lives only as long as its token does, so a cache hit never extends a token's lifetime
+		this.accessTokenClaimsCache = Caffeine.newBuilder()
+				.maximumSize(ACCESS_TOKEN_CLAIMS_CACHE_MAXIMUM_SIZE)
+				.expireAfter(new Expiry<String, AccessTokenClaims>() {
+					@Override
+					public long expireAfterCreate(@Nonnull String accessTokenHash,
+																				@Nonnull AccessTokenClaims accessTokenClaims,
+																				long currentTime) {
+						return Math.max(Duration.between(Instant.now(), accessTokenClaims.getExpiration()).toNanos(), 0L);
+					}
+
+					@Override
+					public long expireAfterUpdate(@Nonnull String accessTokenHash,
+																				@Nonnull AccessTokenClaims accessTokenClaims,
+																				long currentTime,
+																				long currentDuration) {
+						return expireAfterCreate(accessTokenHash, accessTokenClaims, currentTime);
+					}
+
+					@Override
+					public long expireAfterRead(@Nonnull String accessTokenHash,
+																			@Nonnull AccessTokenClaims accessTokenClaims,
+																			long currentTime,
+																			long currentDuration) {
+						return currentDuration;
+					}
+				})
+				.build();
 	}
 
 	@Nonnull
@@ -240,7 +288,7 @@ public class Authenticator {
 		requireNonNull(signingToken);
 
 		try {
-			Jws<Claims> claims = Jwts.parserBuilder().setSigningKey(getConfiguration().getSigningCredentials().getX509Certificate().getPublicKey()).build().parseClaimsJws(signingToken);
+			Jws<Claims> claims = getJwtParser().parseClaimsJws(signingToken);
 			Map<String, Object> claimsAsMap = claims.getBody();
 			Instant expiration = claims.getBody().getExpiration().toInstant();
 
@@ -319,11 +367,18 @@ public class Authenticator {
 		if (accessToken == null)
 			return Optional.empty();
 
+		// If we have already verified this exact token, skip the signature check
+		String accessTokenHash = Hashing.sha256().hashString(accessToken, StandardCharsets.UTF_8).toString();
+		AccessTokenClaims cachedAccessTokenClaims = getAccessTokenClaimsCache().getIfPresent(accessTokenHash);
+
+		if (cachedAccessTokenClaims != null && cachedAccessTokenClaims.getExpiration().isAfter(Instant.now()))
+			return Optional.of(cachedAccessTokenClaims);
+
 		Jws<Claims> claims = null;
 
 		// Use public key of keypair to validate claims
 		try {
-			claims = Jwts.parserBuilder().setSigningKey(getConfiguration().getSigningCredentials().getX509Certificate().getPublicKey()).build().parseClaimsJws(accessToken);
+			claims = getJwtParser().parseClaimsJws(accessToken);
 		} catch (UnsupportedJwtException e) {
 			getLogger().trace("Very likely this access token is a legacy token, continuing on...", e);
 		} catch (ExpiredJwtException e) {
@@ -352,7 +407,10 @@ public class Authenticator {
 			if (serializedMyChartAccessToken != null)
 				myChartAccessToken = MyChartAccessToken.deserialize(serializedMyChartAccessToken);
 
-			return Optional.of(new AccessTokenClaims(accountId, issuedAt, claims.getBody().getExpiration().toInstant(), myChartAccessToken));
+			AccessTokenClaims accessTokenClaims = new AccessTokenClaims(accountId, issuedAt, claims.getBody().getExpiration().toInstant(), myChartAccessToken);
+			getAccessTokenClaimsCache().put(accessTokenHash, accessTokenClaims);
+
+			return Optional.of(accessTokenClaims);
 		} catch (Exception e) {
 			getLogger().debug("Access token claims extraction failed.", e);
 			return Optional.empty();
@@ -398,6 +456,16 @@ public class Authenticator {
 		return configuration;
 	}
 
+	@Nonnull
+	protected JwtParser getJwtParser() {
+		return this.jwtParser;
+	}
+
+	@Nonnull
+	protected Cache<String, AccessTokenClaims> getAccessTokenClaimsCache() {
+		return this.accessTokenClaimsCache;
+	}
+
 	@Nonnull
 	protected Gson getGson() {
 		return gson;
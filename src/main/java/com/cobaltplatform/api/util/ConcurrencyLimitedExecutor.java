@@ -0,0 +1,165 @@
+/*
+ * Copyright 2021 The University of Pennsylvania and Penn Medicine
+ *
+ * Originally created at the University of Pennsylvania and Penn Medicine by:
+ * Dr. David Asch; Dr. Lisa Bellini; Dr. Cecilia Livesey; Kelley Kugler; and Dr. Matthew Press.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cobaltplatform.api.util;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.ThreadSafe;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Hands at most {@code maximumConcurrency} tasks at a time to a shared delegate executor.
+ * <p>
+ * Tasks over the limit wait in this executor's own queue and are handed off only as running tasks finish, so they never
+ * occupy (and block) a delegate thread while waiting.  Several of these can share one pool - e.g. one per institution -
+ * without a large backlog for one of them starving the others.
+ *
+ * @author Transmogrify, LLC.
+ */
+@ThreadSafe
+public class ConcurrencyLimitedExecutor implements Executor {
+	@Nonnull
+	private final Executor delegate;
+	@Nonnull
+	private final Integer maximumConcurrency;
+	@Nonnull
+	private final Queue<Runnable> pendingTasks;
+	@Nonnull
+	private final Object lock;
+	@Nonnull
+	private final Logger logger;
+
+	private int runningTaskCount;
+
+	public ConcurrencyLimitedExecutor(@Nonnull Executor delegate,
+																		@Nonnull Integer maximumConcurrency) {
+		requireNonNull(delegate);
+		requireNonNull(maximumConcurrency);
+
+		if (maximumConcurrency < 1)
+			throw new IllegalArgumentException(format("Maximum concurrency must be at least 1, but was %d", maximumConcurrency));
+
+		this.delegate = delegate;
+		this.maximumConcurrency = maximumConcurrency;
+		this.pendingTasks = new ArrayDeque<>();
+		this.lock = new Object();
+		this.runningTaskCount = 0;
+		this.logger = LoggerFactory.getLogger(getClass());
+	}
+
+	@Override
+	public void execute(@Nonnull Runnable task) {
+		requireNonNull(task);
+
+		synchronized (getLock()) {
+			if (this.runningTaskCount >= getMaximumConcurrency()) {
+				getPendingTasks().add(task);
+				return;
+			}
+
+			++this.runningTaskCount;
+		}
+
+		try {
+			dispatch(task);
+		} catch (RejectedExecutionException e) {
+			synchronized (getLock()) {
+				--this.runningTaskCount;
+			}
+
+			throw e;
+		}
+	}
+
+	protected void dispatch(@Nonnull Runnable task) {
+		requireNonNull(task);
+
+		getDelegate().execute(() -> {
+			try {
+				task.run();
+			} finally {
+				dispatchNextPendingTask();
+			}
+		});
+	}
+
+	protected void dispatchNextPendingTask() {
+		Runnable nextTask;
+
+		synchronized (getLock()) {
+			nextTask = getPendingTasks().poll();
+
+			// Nothing waiting, so free up the slot
+			if (nextTask == null) {
+				--this.runningTaskCount;
+				return;
+			}
+		}
+
+		// Slot passes straight to the next task
+		try {
+			dispatch(nextTask);
+		} catch (RejectedExecutionException e) {
+			// Delegate is shutting down, so nothing left in the queue will ever run
+			int abandonedTaskCount;
+
+			synchronized (getLock()) {
+				abandonedTaskCount = getPendingTasks().size() + 1;
+				getPendingTasks().clear();
+				--this.runningTaskCount;
+			}
+
+			getLogger().warn("Delegate executor rejected work, abandoning {} pending task[s].", abandonedTaskCount);
+		}
+	}
+
+	@Nonnull
+	protected Executor getDelegate() {
+		return this.delegate;
+	}
+
+	@Nonnull
+	protected Integer getMaximumConcurrency() {
+		return this.maximumConcurrency;
+	}
+
+	@Nonnull
+	protected Queue<Runnable> getPendingTasks() {
+		return this.pendingTasks;
+	}
+
+	@Nonnull
+	protected Object getLock() {
+		return this.lock;
+	}
+
+	@Nonnull
+	protected Logger getLogger() {
+		return this.logger;
+	}
+}
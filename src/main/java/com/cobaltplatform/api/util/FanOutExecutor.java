@@ -0,0 +1,384 @@
+/*
+ * Copyright 2021 The University of Pennsylvania and Penn Medicine
+ *
+ * Originally created at the University of Pennsylvania and Penn Medicine by:
+ * Dr. David Asch; Dr. Lisa Bellini; Dr. Cecilia Livesey; Kelley Kugler; and Dr. Matthew Press.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cobaltplatform.api.util;
+
+import com.cobaltplatform.api.context.CurrentContext;
+import com.cobaltplatform.api.context.CurrentContextExecutor;
+import com.cobaltplatform.api.util.db.DatabaseProvider;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.pyranid.Database;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+import static java.util.stream.Collectors.joining;
+
+/**
+ * Runs independent pieces of a single request (e.g. the dozen queries behind an analytics dashboard) in parallel on a bounded, shared pool.
+ * <p>
+ * Each task runs with the originating request's {@link CurrentContext} and against the database the request selected
+ * (e.g. read replica for {@code @ReadReplica} resource methods).  Tasks don't share a transaction, so each one checks out its own connection.
+ * If the caller is inside a transaction, tasks are run inline on the calling thread instead, so they still see its uncommitted work.
+ * <p>
+ * Usage:
+ * <pre>
+ * FanOut fanOut = fanOutExecutor.createFanOut("analytics");
+ * FanOutTask&lt;Long&gt; count = fanOut.submit("count", () -&gt; ...);
+ * fanOut.await();
+ * Long value = count.get();
+ * </pre>
+ *
+ * @author Transmogrify, LLC.
+ */
+@Singleton
+@ThreadSafe
+public class FanOutExecutor implements AutoCloseable {
+	@Nonnull
+	private static final Integer THREAD_POOL_SIZE;
+	@Nonnull
+	private static final Integer QUEUE_CAPACITY;
+	@Nonnull
+	private static final Duration AWAIT_TIMEOUT;
+
+	@Nonnull
+	private final DatabaseProvider databaseProvider;
+	@Nonnull
+	private final CurrentContextExecutor currentContextExecutor;
+	@Nonnull
+	private final ExecutorService executorService;
+	@Nonnull
+	private final Logger logger;
+
+	static {
+		// Keep this comfortably below the read replica connection pool size
+		THREAD_POOL_SIZE = 8;
+		QUEUE_CAPACITY = 256;
+		AWAIT_TIMEOUT = Duration.ofSeconds(120);
+	}
+
+	@Inject
+	public FanOutExecutor(@Nonnull DatabaseProvider databaseProvider,
+												@Nonnull CurrentContextExecutor currentContextExecutor) {
+		requireNonNull(databaseProvider);
+		requireNonNull(currentContextExecutor);
+
+		this.databaseProvider = databaseProvider;
+		this.currentContextExecutor = currentContextExecutor;
+		// If the pool is saturated, the submitting request thread runs the task itself rather than failing
+		this.executorService = new ThreadPoolExecutor(getThreadPoolSize(), getThreadPoolSize(), 60L, TimeUnit.SECONDS,
+				new ArrayBlockingQueue<>(getQueueCapacity()),
+				new ThreadFactoryBuilder().setNameFormat("fan-out-executor-%d").setDaemon(true).build(),
+				new ThreadPoolExecutor.CallerRunsPolicy());
+		this.logger = LoggerFactory.getLogger(getClass());
+	}
+
+	@Override
+	public void close() {
+		ExecutorServiceUtility.shutdownAndAwaitTermination(getExecutorService());
+	}
+
+	/**
+	 * Creates a fan-out scoped to the calling thread's current context and database.  Must be called on the request thread.
+	 */
+	@Nonnull
+	public FanOut createFanOut(@Nonnull String name) {
+		requireNonNull(name);
+
+		Database database = getDatabaseProvider().get();
+		CurrentContext currentContext = getCurrentContextExecutor().getCurrentContext().orElse(null);
+		boolean inline = database.currentTransaction().isPresent();
+
+		return new FanOut(name, database, currentContext, inline);
+	}
+
+	@ThreadSafe
+	public class FanOut {
+		@Nonnull
+		private final String name;
+		@Nonnull
+		private final Database database;
+		@Nullable
+		private final CurrentContext currentContext;
+		@Nonnull
+		private final Boolean inline;
+		@Nonnull
+		private final List<FanOutTask<?>> tasks;
+
+		protected FanOut(@Nonnull String name,
+										 @Nonnull Database database,
+										 @Nullable CurrentContext currentContext,
+										 @Nonnull Boolean inline) {
+			requireNonNull(name);
+			requireNonNull(database);
+			requireNonNull(inline);
+
+			this.name = name;
+			this.database = database;
+			this.currentContext = currentContext;
+			this.inline = inline;
+			this.tasks = Collections.synchronizedList(new ArrayList<>());
+		}
+
+		@Nonnull
+		public <T> FanOutTask<T> submit(@Nonnull String taskName,
+																		@Nonnull Supplier<T> supplier) {
+			requireNonNull(taskName);
+			requireNonNull(supplier);
+
+			FanOutTask<T> task = new FanOutTask<>(taskName);
+			getTasks().add(task);
+
+			Supplier<T> contextualSupplier = () -> {
+				AtomicReference<T> result = new AtomicReference<>();
+				long startTime = System.nanoTime();
+
+				try {
+					Runnable operation = () -> getDatabaseProvider().executeWithPinnedDatabase(getDatabase(), () -> result.set(supplier.get()));
+
+					if (getCurrentContext().isPresent())
+						getCurrentContextExecutor().execute(getCurrentContext().get(), operation::run);
+					else
+						operation.run();
+				} finally {
+					task.setDuration(Duration.ofNanos(System.nanoTime() - startTime));
+				}
+
+				return result.get();
+			};
+
+			if (isInline()) {
+				CompletableFuture<T> future = new CompletableFuture<>();
+
+				try {
+					future.complete(contextualSupplier.get());
+				} catch (Throwable t) {
+					future.completeExceptionally(t);
+				}
+
+				task.setFuture(future);
+			} else {
+				task.setFuture(CompletableFuture.supplyAsync(contextualSupplier, getExecutorService()));
+			}
+
+			return task;
+		}
+
+		/**
+		 * Waits for every submitted task to finish.  If any failed, the first failure is rethrown once all tasks are done.
+		 */
+		public void await() {
+			List<FanOutTask<?>> tasks;
+
+			synchronized (getTasks()) {
+				tasks = new ArrayList<>(getTasks());
+			}
+
+			CompletableFuture<?>[] futures = tasks.stream()
+					.map(task -> task.getFuture())
+					.toArray(CompletableFuture[]::new);
+
+			long startTime = System.nanoTime();
+
+			try {
+				CompletableFuture.allOf(futures).get(getAwaitTimeout().toMillis(), TimeUnit.MILLISECONDS);
+			} catch (ExecutionException | CompletionException e) {
+				Throwable cause = e.getCause() == null ? e : e.getCause();
+
+				if (cause instanceof RuntimeException)
+					throw (RuntimeException) cause;
+				if (cause instanceof Error)
+					throw (Error) cause;
+
+				throw new RuntimeException(cause);
+			} catch (TimeoutException e) {
+				for (CompletableFuture<?> future : futures)
+					future.cancel(true);
+
+				throw new RuntimeException(format("Fan-out '%s' did not complete within %s", getName(), getAwaitTimeout()), e);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new RuntimeException(format("Interrupted while waiting for fan-out '%s'", getName()), e);
+			} finally {
+				if (getLogger().isDebugEnabled())
+					getLogger().debug("Fan-out '{}' completed in {}ms: {}", getName(),
+							TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime), toServerTimingHeaderValue());
+			}
+		}
+
+		/**
+		 * Per-task execution time, in submission order.  Tasks that have not finished are omitted.
+		 */
+		@Nonnull
+		public List<FanOutTask<?>> getCompletedTasks() {
+			synchronized (getTasks()) {
+				return getTasks().stream()
+						.filter(task -> task.getDuration() != null)
+						.collect(Collectors.toList());
+			}
+		}
+
+		/**
+		 * Task timings formatted for a {@code Server-Timing} response header, which browser dev tools display natively.
+		 */
+		@Nonnull
+		public String toServerTimingHeaderValue() {
+			return getCompletedTasks().stream()
+					.map(task -> format("%s;dur=%d", task.getName(), task.getDuration().toMillis()))
+					.collect(joining(", "));
+		}
+
+		@Nonnull
+		public String getName() {
+			return this.name;
+		}
+
+		@Nonnull
+		protected Database getDatabase() {
+			return this.database;
+		}
+
+		@Nonnull
+		protected Optional<CurrentContext> getCurrentContext() {
+			return Optional.ofNullable(this.currentContext);
+		}
+
+		@Nonnull
+		protected Boolean isInline() {
+			return this.inline;
+		}
+
+		@Nonnull
+		protected List<FanOutTask<?>> getTasks() {
+			return this.tasks;
+		}
+	}
+
+	@ThreadSafe
+	public static class FanOutTask<T> {
+		@Nonnull
+		private final String name;
+		@Nullable
+		private volatile CompletableFuture<T> future;
+		@Nullable
+		private volatile Duration duration;
+
+		protected FanOutTask(@Nonnull String name) {
+			requireNonNull(name);
+			this.name = name;
+		}
+
+		/**
+		 * The task's result.  Blocks if the task has not finished; call {@link FanOut#await()} first to get coordinated error handling.
+		 */
+		@Nullable
+		public T get() {
+			try {
+				return getFuture().join();
+			} catch (CompletionException e) {
+				if (e.getCause() instanceof RuntimeException)
+					throw (RuntimeException) e.getCause();
+
+				throw e;
+			}
+		}
+
+		@Nonnull
+		public String getName() {
+			return this.name;
+		}
+
+		@Nullable
+		public Duration getDuration() {
+			return this.duration;
+		}
+
+		protected void setDuration(@Nullable Duration duration) {
+			this.duration = duration;
+		}
+
+		@Nonnull
+		protected CompletableFuture<T> getFuture() {
+			return this.future;
+		}
+
+		protected void setFuture(@Nonnull CompletableFuture<T> future) {
+			requireNonNull(future);
+			this.future = future;
+		}
+	}
+
+	@Nonnull
+	protected Integer getThreadPoolSize() {
+		return THREAD_POOL_SIZE;
+	}
+
+	@Nonnull
+	protected Integer getQueueCapacity() {
+		return QUEUE_CAPACITY;
+	}
+
+	@Nonnull
+	protected Duration getAwaitTimeout() {
+		return AWAIT_TIMEOUT;
+	}
+
+	@Nonnull
+	protected DatabaseProvider getDatabaseProvider() {
+		return this.databaseProvider;
+	}
+
+	@Nonnull
+	protected CurrentContextExecutor getCurrentContextExecutor() {
+		return this.currentContextExecutor;
+	}
+
+	@Nonnull
+	protected ExecutorService getExecutorService() {
+		return this.executorService;
+	}
+
+	@Nonnull
+	protected Logger getLogger() {
+		return this.logger;
+	}
+}
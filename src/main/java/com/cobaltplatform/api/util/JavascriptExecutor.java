@@ -20,9 +20,13 @@
 package com.cobaltplatform.api.util;
 
 import com.cobaltplatform.api.util.JsonMapper.MappingFormat;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.google.common.hash.Hashing;
 import org.graalvm.polyglot.Context;
 import org.graalvm.polyglot.Engine;
 import org.graalvm.polyglot.PolyglotException;
+import org.graalvm.polyglot.Source;
 import org.graalvm.polyglot.Value;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -32,11 +36,15 @@ import javax.annotation.Nullable;
 import javax.annotation.concurrent.NotThreadSafe;
 import javax.annotation.concurrent.ThreadSafe;
 import javax.inject.Singleton;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
 import java.util.stream.Collectors;
 
 import static java.lang.String.format;
@@ -47,12 +55,23 @@ import static java.util.Objects.requireNonNull;
  */
 @Singleton
 @ThreadSafe
-public class JavascriptExecutor {
+public class JavascriptExecutor implements AutoCloseable {
 	@Nonnull
 	private static final Engine SHARED_ENGINE;
+	@Nonnull
+	private static final Integer MAXIMUM_IDLE_CONTEXTS;
+	@Nonnull
+	private static final Integer MAXIMUM_FUNCTIONS_PER_CONTEXT;
+	@Nonnull
+	private static final Long MAXIMUM_CACHED_SOURCES;
+
 	@Nonnull
 	private final JsonMapper jsonMapper;
 	@Nonnull
+	private final BlockingQueue<PooledContext> idlePooledContexts;
+	@Nonnull
+	private final Cache<String, Source> sourcesByJavascriptHash;
+	@Nonnull
 	private final Logger logger;
 
 	static {
@@ -60,6 +79,9 @@ public class JavascriptExecutor {
 		System.setProperty("polyglot.engine.WarnInterpreterOnly", "false");
 		// Appears to be threadsafe (the GraalVM Context instances are not)
 		SHARED_ENGINE = Engine.newBuilder("js").build();
+		MAXIMUM_IDLE_CONTEXTS = Math.max(Runtime.getRuntime().availableProcessors() * 2, 4);
+		MAXIMUM_FUNCTIONS_PER_CONTEXT = 256;
+		MAXIMUM_CACHED_SOURCES = 1_000L;
 	}
 
 	public JavascriptExecutor() {
@@ -69,6 +91,10 @@ public class JavascriptExecutor {
 	public JavascriptExecutor(@Nonnull JsonMapper jsonMapper) {
 		requireNonNull(jsonMapper);
 		this.jsonMapper = jsonMapper;
+		this.idlePooledContexts = new ArrayBlockingQueue<>(MAXIMUM_IDLE_CONTEXTS);
+		this.sourcesByJavascriptHash = Caffeine.newBuilder()
+				.maximumSize(MAXIMUM_CACHED_SOURCES)
+				.build();
 		this.logger = LoggerFactory.getLogger(getClass());
 	}
 
@@ -77,6 +103,10 @@ public class JavascriptExecutor {
 	 * <p>
 	 * Javascript code will automatically have `input` and `output` objects exposed to it.
 	 * <p>
+	 * Execution happens in a pooled context.  Code runs inside its own function scope, and any properties it adds to the
+	 * global object (including implicit globals from assigning undeclared variables) are removed before the context is
+	 * handed to the next caller.  A context whose execution fails is discarded.
+	 * <p>
 	 * At the end of execution, the `output` object will be marshaled to a new instance of the given {@code outputType}
 	 * and returned to the Java caller.  The Javascript code should not explicitly {@code return} any values.
 	 *
@@ -97,33 +127,32 @@ public class JavascriptExecutor {
 
 		long startTime = System.currentTimeMillis();
 
-		Context context = Context.newBuilder("js").engine(getEngine()).build();
+		// Compiled once per distinct function; the shared engine reuses parsed code across contexts
+		String javascriptHash = Hashing.sha256().hashString(javascript, StandardCharsets.UTF_8).toString();
+		Source source = getSourcesByJavascriptHash().get(javascriptHash, (ignored) -> createSource(javascript, javascriptHash));
+		String executedJavascript = source.getCharacters().toString();
 
-		// Convert context fields into JSON to embed in the JS
-		List<String> contextDeclarations = new ArrayList<>(input.size());
+		// Inputs are handed to the function as an argument rather than spliced into the code, so the code stays cacheable.
+		// Each value is serialized individually (as before) so null values are preserved
+		List<String> inputJsonComponents = new ArrayList<>(input.size());
 
 		for (Entry<String, Object> entry : input.entrySet())
-			contextDeclarations.add(format("input.%s=%s;", entry.getKey(), getJsonMapper().toJson(entry.getValue())));
+			inputJsonComponents.add(format("%s:%s", getJsonMapper().toJson(entry.getKey()), getJsonMapper().toJson(entry.getValue())));
 
-		// JS is understood to modify `output` object (add fields etc.) and that is what is returned...
-		String executedJavascript = format("""
-				(function() {
-				const input = {};
-				const output = {};
-				
-				// Input values set
-				%s
-				
-				// User-provided JS				    
-				%s
-				
-				return JSON.stringify(output);
-				})();
-				""", contextDeclarations.stream().collect(Collectors.joining("\n")), javascript).trim();
+		String inputAsJson = format("{%s}", inputJsonComponents.stream().collect(Collectors.joining(",")));
+
+		PooledContext pooledContext = acquirePooledContext();
+
+		// Don't hand a context in an unknown state to the next caller - only successful executions return it to the pool
+		boolean reusable = false;
 
 		try {
-			Object outputValue = context.eval("js", executedJavascript);
-			T result = getJsonMapper().fromJson(outputValue.toString(), outputType);
+			Value outputValue = pooledContext.getFunction(javascriptHash, source).execute(inputAsJson);
+			T result = getJsonMapper().fromJson(outputValue.asString(), outputType);
+
+			// Nothing this execution left on the global object may be visible to the next one
+			pooledContext.removeAddedGlobals();
+			reusable = true;
 
 			return result;
 		} catch (PolyglotException polyglotException) {
@@ -138,7 +167,7 @@ public class JavascriptExecutor {
 				if (thrown != null && thrown.hasMembers()) {
 					// Convert to JSON for logging/transport
 					// (simple approach: call JSON.stringify on the guest value)
-					String json = context.eval("js", "JSON.stringify").execute(thrown).asString();
+					String json = pooledContext.getContext().eval("js", "JSON.stringify").execute(thrown).asString();
 
 					// Attempt to parse out a validation exception if we see an object with { "type": "VALIDATION_EXCEPTION" }
 					ValidationException validationException = null;
@@ -175,10 +204,59 @@ public class JavascriptExecutor {
 		} catch (Exception e) {
 			throw new JavascriptExecutionException(e, new HashMap<>(input), javascript, executedJavascript);
 		} finally {
+			releasePooledContext(pooledContext, reusable);
 			getLogger().debug("JS function execution took {}ms.", System.currentTimeMillis() - startTime);
 		}
 	}
 
+	@Nonnull
+	protected Source createSource(@Nonnull String javascript,
+																@Nonnull String javascriptHash) {
+		requireNonNull(javascript);
+		requireNonNull(javascriptHash);
+
+		// JS is understood to modify `output` object (add fields etc.) and that is what is returned...
+		String wrappedJavascript = format("""
+				(function(inputAsJson) {
+				const input = JSON.parse(inputAsJson);
+				const output = {};
+				
+				// User-provided JS
+				%s
+				
+				return JSON.stringify(output);
+				})
+				""", javascript).trim();
+
+		return Source.newBuilder("js", wrappedJavascript, format("javascript-executor-%s.js", javascriptHash))
+				.cached(true)
+				.buildLiteral();
+	}
+
+	@Nonnull
+	protected PooledContext acquirePooledContext() {
+		PooledContext pooledContext = getIdlePooledContexts().poll();
+		return pooledContext == null ? new PooledContext(Context.newBuilder("js").engine(getEngine()).build()) : pooledContext;
+	}
+
+	protected void releasePooledContext(@Nonnull PooledContext pooledContext,
+																			@Nonnull Boolean reusable) {
+		requireNonNull(pooledContext);
+		requireNonNull(reusable);
+
+		// Past the idle limit (or unusable)?  Close it so its native memory is released
+		if (!reusable || !getIdlePooledContexts().offer(pooledContext))
+			pooledContext.close();
+	}
+
+	@Override
+	public void close() {
+		PooledContext pooledContext;
+
+		while ((pooledContext = getIdlePooledContexts().poll()) != null)
+			pooledContext.close();
+	}
+
 	private enum CustomJsExceptionType {
 		VALIDATION_EXCEPTION
 	}
@@ -235,11 +313,92 @@ public class JavascriptExecutor {
 		}
 	}
 
+	/**
+	 * A GraalVM context plus the user functions already evaluated in it.
+	 * <p>
+	 * Contexts are not threadsafe, so a pooled context is only ever used by one caller at a time.
+	 */
+	@NotThreadSafe
+	protected static class PooledContext implements AutoCloseable {
+		@Nonnull
+		private final Context context;
+		@Nonnull
+		private final Map<String, Value> functionsByJavascriptHash;
+		@Nonnull
+		private final Value removeAddedGlobalsFunction;
+
+		public PooledContext(@Nonnull Context context) {
+			requireNonNull(context);
+
+			this.context = context;
+
+			// Snapshot the pristine global object so anything added later can be deleted
+			this.removeAddedGlobalsFunction = context.eval("js", """
+					(function() {
+					  const pristineGlobalNames = new Set(Object.getOwnPropertyNames(globalThis));
+
+					  return function() {
+					    for (const globalName of Object.getOwnPropertyNames(globalThis))
+					      if (!pristineGlobalNames.has(globalName))
+					        delete globalThis[globalName];
+					  };
+					})()
+					""");
+			this.functionsByJavascriptHash = new LinkedHashMap<>(16, 0.75f, true) {
+				@Override
+				protected boolean removeEldestEntry(Map.Entry<String, Value> eldest) {
+					return size() > MAXIMUM_FUNCTIONS_PER_CONTEXT;
+				}
+			};
+		}
+
+		@Nonnull
+		public Value getFunction(@Nonnull String javascriptHash,
+														 @Nonnull Source source) {
+			requireNonNull(javascriptHash);
+			requireNonNull(source);
+
+			Value function = this.functionsByJavascriptHash.get(javascriptHash);
+
+			if (function == null) {
+				function = getContext().eval(source);
+				this.functionsByJavascriptHash.put(javascriptHash, function);
+			}
+
+			return function;
+		}
+
+		public void removeAddedGlobals() {
+			this.removeAddedGlobalsFunction.executeVoid();
+		}
+
+		@Override
+		public void close() {
+			this.functionsByJavascriptHash.clear();
+			getContext().close();
+		}
+
+		@Nonnull
+		public Context getContext() {
+			return this.context;
+		}
+	}
+
 	@Nonnull
 	protected Engine getEngine() {
 		return SHARED_ENGINE;
 	}
 
+	@Nonnull
+	protected BlockingQueue<PooledContext> getIdlePooledContexts() {
+		return this.idlePooledContexts;
+	}
+
+	@Nonnull
+	protected Cache<String, Source> getSourcesByJavascriptHash() {
+		return this.sourcesByJavascriptHash;
+	}
+
 	@Nonnull
 	protected JsonMapper getJsonMapper() {
 		return this.jsonMapper;
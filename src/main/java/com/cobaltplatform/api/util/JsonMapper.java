@@ -96,6 +96,34 @@ public class JsonMapper {
 		return toJsonInternal(object);
 	}
 
+	/**
+	 * Serializes directly to the given {@link Appendable} without materializing the JSON as a {@code String}.
+	 */
+	@SuppressWarnings("unchecked")
+	public void toJson(@Nullable Object object,
+										 @Nonnull Appendable appendable) {
+		requireNonNull(appendable);
+
+		Gson gson = getGsonSupplier().get();
+
+		// Same double-brace initialization workaround as toJsonInternal, but decided up front since we can't
+		// inspect output after it's been written.  Gson excludes anonymous and local classes
+		if (object != null && (object.getClass().isAnonymousClass() || object.getClass().isLocalClass())) {
+			if (object instanceof Map)
+				object = new HashMap((Map) object);
+			else if (object instanceof List)
+				object = new ArrayList((List) object);
+			else if (object instanceof Set)
+				object = new HashSet((Set) object);
+			else
+				throw new IllegalArgumentException(format("Sorry, it looks like GSON can't handle %s. " +
+						"Are you using double-brace initialization? " +
+						"It's a limitation of the library: https://github.com/google/gson/issues/298", object.getClass().getName()));
+		}
+
+		gson.toJson(object, appendable);
+	}
+
 	@Nullable
 	public Map<String, Object> toMap(@Nullable Object object) {
 		String json = toJsonInternal(object);
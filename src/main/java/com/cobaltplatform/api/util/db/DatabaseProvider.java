@@ -41,6 +41,13 @@ import static java.util.Objects.requireNonNull;
 @ThreadSafe
 @Singleton
 public class DatabaseProvider {
+	@Nonnull
+	private static final ThreadLocal<Database> PINNED_DATABASE_HOLDER;
+
+	static {
+		PINNED_DATABASE_HOLDER = new ThreadLocal<>();
+	}
+
 	@Nonnull
 	private final Database writableMasterDatabase;
 	@Nonnull
@@ -81,6 +88,13 @@ public class DatabaseProvider {
 	 */
 	@Nonnull
 	public Database get() {
+		// Work fanned out from a request to other threads has no request context of its own, so it runs against
+		// whichever database the originating request selected
+		Database pinnedDatabase = PINNED_DATABASE_HOLDER.get();
+
+		if (pinnedDatabase != null)
+			return pinnedDatabase;
+
 		Route route;
 
 		// Not in request context?  Fall back to writable master
@@ -138,6 +152,27 @@ public class DatabaseProvider {
 		return getWritableMasterDatabase();
 	}
 
+	/**
+	 * Performs the operation with {@link #get()} returning the given database on the current thread, regardless of request context.
+	 */
+	public void executeWithPinnedDatabase(@Nonnull Database database,
+																				@Nonnull Runnable operation) {
+		requireNonNull(database);
+		requireNonNull(operation);
+
+		Database previousPinnedDatabase = PINNED_DATABASE_HOLDER.get();
+		PINNED_DATABASE_HOLDER.set(database);
+
+		try {
+			operation.run();
+		} finally {
+			if (previousPinnedDatabase == null)
+				PINNED_DATABASE_HOLDER.remove();
+			else
+				PINNED_DATABASE_HOLDER.set(previousPinnedDatabase);
+		}
+	}
+
 	@Nonnull
 	public Database getWritableMasterDatabase() {
 		return this.writableMasterDatabase;
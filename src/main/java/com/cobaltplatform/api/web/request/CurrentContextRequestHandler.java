@@ -38,8 +38,6 @@ import com.cobaltplatform.api.model.security.AccessTokenStatus;
 import com.cobaltplatform.api.model.service.AccountSourceForInstitution;
 import com.cobaltplatform.api.model.service.RemoteClient;
 import com.cobaltplatform.api.service.AccountService;
-import com.cobaltplatform.api.service.ClientDeviceService;
-import com.cobaltplatform.api.service.FingerprintService;
 import com.cobaltplatform.api.service.InstitutionService;
 import com.cobaltplatform.api.util.Authenticator;
 import com.cobaltplatform.api.util.LoggingUtility;
@@ -100,11 +98,9 @@ public class CurrentContextRequestHandler {
 	@Nonnull
 	private final AccountService accountService;
 	@Nonnull
-	private final FingerprintService fingerprintService;
-	@Nonnull
 	private final InstitutionService institutionService;
 	@Nonnull
-	private final ClientDeviceService clientDeviceService;
+	private final RequestWriteCoalescer requestWriteCoalescer;
 	@Nonnull
 	private final Authenticator authenticator;
 	@Nonnull
@@ -132,8 +128,7 @@ public class CurrentContextRequestHandler {
 	public CurrentContextRequestHandler(@Nonnull CurrentContextExecutor currentContextExecutor,
 																			@Nonnull AccountService accountService,
 																			@Nonnull InstitutionService institutionService,
-																			@Nonnull FingerprintService fingerprintService,
-																			@Nonnull ClientDeviceService clientDeviceService,
+																			@Nonnull RequestWriteCoalescer requestWriteCoalescer,
 																			@Nonnull Authenticator authenticator,
 																			@Nonnull DatabaseProvider databaseProvider,
 																			@Nonnull Configuration configuration,
@@ -141,8 +136,7 @@ public class CurrentContextRequestHandler {
 		requireNonNull(currentContextExecutor);
 		requireNonNull(accountService);
 		requireNonNull(institutionService);
-		requireNonNull(fingerprintService);
-		requireNonNull(clientDeviceService);
+		requireNonNull(requestWriteCoalescer);
 		requireNonNull(authenticator);
 		requireNonNull(databaseProvider);
 		requireNonNull(configuration);
@@ -151,8 +145,7 @@ public class CurrentContextRequestHandler {
 		this.currentContextExecutor = currentContextExecutor;
 		this.accountService = accountService;
 		this.institutionService = institutionService;
-		this.fingerprintService = fingerprintService;
-		this.clientDeviceService = clientDeviceService;
+		this.requestWriteCoalescer = requestWriteCoalescer;
 		this.authenticator = authenticator;
 		this.databaseProvider = databaseProvider;
 		this.configuration = configuration;
@@ -265,7 +258,7 @@ public class CurrentContextRequestHandler {
 			String fingerprintIdValue = extractValueFromRequest(httpServletRequest, getFingerprintIdPropertyName()).orElse(null);
 
 			if (fingerprintIdValue != null && account != null)
-				getFingerprintService().storeFingerprintForAccount(account.getAccountId(), fingerprintIdValue);
+				getRequestWriteCoalescer().storeFingerprintForAccount(account.getAccountId(), fingerprintIdValue);
 
 			// We use webappBaseUrl to derive the institution context for this request (IOW - the URL the user sees in their browser drives the institution)
 			String webappBaseUrl = extractValueFromRequest(httpServletRequest, getWebappBaseUrlPropertyName()).orElse(null);
@@ -417,9 +410,9 @@ public class CurrentContextRequestHandler {
 		request.setOperatingSystemName(operatingSystemName);
 		request.setOperatingSystemVersion(operatingSystemVersion);
 
-		// We are not in the "request" transaction yet but that's OK - the upsert spins up its own transaction internally.
+		// Buffered and flushed in bulk off the request thread (we are not in the "request" transaction yet, so this is not tied to it)
 		try {
-			getClientDeviceService().upsertClientDevice(request);
+			getRequestWriteCoalescer().upsertClientDevice(request);
 			return true;
 		} catch (Exception e) {
 			// Something really unexpected happened when trying to auto-persist the client device,
@@ -490,13 +483,8 @@ public class CurrentContextRequestHandler {
 	}
 
 	@Nonnull
-	protected FingerprintService getFingerprintService() {
-		return this.fingerprintService;
-	}
-
-	@Nonnull
-	protected ClientDeviceService getClientDeviceService() {
-		return this.clientDeviceService;
+	protected RequestWriteCoalescer getRequestWriteCoalescer() {
+		return this.requestWriteCoalescer;
 	}
 
 	@Nonnull
@@ -0,0 +1,327 @@
+/*
+ * Copyright 2021 The University of Pennsylvania and Penn Medicine
+ *
+ * Originally created at the University of Pennsylvania and Penn Medicine by:
+ * Dr. David Asch; Dr. Lisa Bellini; Dr. Cecilia Livesey; Kelley Kugler; and Dr. Matthew Press.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cobaltplatform.api.web.request;
+
+import com.cobaltplatform.api.model.api.request.UpsertClientDeviceRequest;
+import com.cobaltplatform.api.service.ClientDeviceService;
+import com.cobaltplatform.api.service.FingerprintService;
+import com.cobaltplatform.api.service.FingerprintService.AccountFingerprint;
+import com.cobaltplatform.api.util.ExecutorServiceUtility;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+import javax.inject.Inject;
+import javax.inject.Provider;
+import javax.inject.Singleton;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Buffers the "bookkeeping" writes performed on every request (account fingerprints, native client devices)
+ * and flushes them in bulk on a background thread, so they stay out of request latency.
+ * <p>
+ * Writes are deduplicated while buffered - a device that makes 50 requests in a flush window results in a single row upsert.
+ * If the buffer is full or the coalescer is not running, writes are performed synchronously as before.
+ * <p>
+ * The first time this node sees a client device (or a device-account pairing), it is written synchronously so that
+ * follow-up calls which look the device up by fingerprint (e.g. push token registration) can find it right away.
+ *
+ * @author Transmogrify, LLC.
+ */
+@Singleton
+@ThreadSafe
+public class RequestWriteCoalescer implements AutoCloseable {
+	@Nonnull
+	private static final Long FLUSH_INTERVAL_IN_SECONDS;
+	@Nonnull
+	private static final Integer MAXIMUM_BUFFERED_WRITES;
+	@Nonnull
+	private static final Long KNOWN_CLIENT_DEVICE_CACHE_MAXIMUM_SIZE;
+	@Nonnull
+	private static final Duration KNOWN_CLIENT_DEVICE_CACHE_EXPIRATION;
+
+	@Nonnull
+	private final Provider<FingerprintService> fingerprintServiceProvider;
+	@Nonnull
+	private final Provider<ClientDeviceService> clientDeviceServiceProvider;
+	@Nonnull
+	private final Map<AccountFingerprint, Instant> bufferedLastUpdatedByAccountFingerprint;
+	@Nonnull
+	private final Map<String, UpsertClientDeviceRequest> bufferedUpsertClientDeviceRequestsByKey;
+	@Nonnull
+	private final Cache<String, Boolean> knownClientDeviceKeysCache;
+	@Nonnull
+	private final Object lock;
+	@Nonnull
+	private final Logger logger;
+
+	@Nullable
+	private ScheduledExecutorService flushExecutorService;
+	@Nonnull
+	private volatile Boolean started;
+
+	static {
+		FLUSH_INTERVAL_IN_SECONDS = 5L;
+		MAXIMUM_BUFFERED_WRITES = 50_000;
+		KNOWN_CLIENT_DEVICE_CACHE_MAXIMUM_SIZE = 100_000L;
+		KNOWN_CLIENT_DEVICE_CACHE_EXPIRATION = Duration.ofHours(1);
+	}
+
+	@Inject
+	public RequestWriteCoalescer(@Nonnull Provider<FingerprintService> fingerprintServiceProvider,
+															 @Nonnull Provider<ClientDeviceService> clientDeviceServiceProvider) {
+		requireNonNull(fingerprintServiceProvider);
+		requireNonNull(clientDeviceServiceProvider);
+
+		this.fingerprintServiceProvider = fingerprintServiceProvider;
+		this.clientDeviceServiceProvider = clientDeviceServiceProvider;
+		this.bufferedLastUpdatedByAccountFingerprint = new ConcurrentHashMap<>();
+		this.bufferedUpsertClientDeviceRequestsByKey = new ConcurrentHashMap<>();
+		this.knownClientDeviceKeysCache = Caffeine.newBuilder()
+				.maximumSize(KNOWN_CLIENT_DEVICE_CACHE_MAXIMUM_SIZE)
+				.expireAfterAccess(KNOWN_CLIENT_DEVICE_CACHE_EXPIRATION)
+				.build();
+		this.lock = new Object();
+		this.started = false;
+		this.logger = LoggerFactory.getLogger(getClass());
+	}
+
+	@Override
+	public void close() throws Exception {
+		stop();
+	}
+
+	@Nonnull
+	public Boolean start() {
+		synchronized (getLock()) {
+			if (isStarted())
+				return false;
+
+			getLogger().trace("Starting request write coalescer...");
+
+			this.flushExecutorService = Executors.newSingleThreadScheduledExecutor(new ThreadFactoryBuilder().setNameFormat("request-write-coalescer").build());
+			this.started = true;
+
+			getFlushExecutorService().get().scheduleWithFixedDelay(new Runnable() {
+				@Override
+				public void run() {
+					try {
+						flush();
+					} catch (Exception e) {
+						getLogger().warn(format("Unable to flush buffered request writes - will retry in %s seconds", getFlushIntervalInSeconds()), e);
+					}
+				}
+			}, getFlushIntervalInSeconds(), getFlushIntervalInSeconds(), TimeUnit.SECONDS);
+
+			getLogger().trace("Request write coalescer started.");
+
+			return true;
+		}
+	}
+
+	@Nonnull
+	public Boolean stop() {
+		synchronized (getLock()) {
+			if (!isStarted())
+				return false;
+
+			getLogger().trace("Stopping request write coalescer...");
+
+			ExecutorServiceUtility.shutdownAndAwaitTermination(getFlushExecutorService().get());
+			this.flushExecutorService = null;
+			this.started = false;
+
+			// Don't lose anything still sitting in the buffer
+			try {
+				flush();
+			} catch (Exception e) {
+				getLogger().warn("Unable to flush buffered request writes on shutdown", e);
+			}
+
+			getLogger().trace("Request write coalescer stopped.");
+
+			return true;
+		}
+	}
+
+	public void storeFingerprintForAccount(@Nonnull UUID accountId,
+																				 @Nonnull String fingerprintId) {
+		requireNonNull(accountId);
+		requireNonNull(fingerprintId);
+
+		if (!isStarted() || getBufferedLastUpdatedByAccountFingerprint().size() >= getMaximumBufferedWrites()) {
+			getFingerprintServiceProvider().get().storeFingerprintForAccount(accountId, fingerprintId);
+			return;
+		}
+
+		getBufferedLastUpdatedByAccountFingerprint().put(new AccountFingerprint(accountId, fingerprintId), Instant.now());
+	}
+
+	public void upsertClientDevice(@Nonnull UpsertClientDeviceRequest request) {
+		requireNonNull(request);
+
+		// Same device seen by different accounts in a window must produce distinct account associations
+		String key = format("%s.%s", request.getFingerprint(), request.getAccountId());
+
+		// Devices we haven't written yet go straight to the DB - later calls on this request's heels look them up by fingerprint
+		if (!isStarted() || getBufferedUpsertClientDeviceRequestsByKey().size() >= getMaximumBufferedWrites()
+				|| getKnownClientDeviceKeysCache().getIfPresent(key) == null) {
+			getClientDeviceServiceProvider().get().upsertClientDevice(request);
+			getKnownClientDeviceKeysCache().put(key, true);
+			return;
+		}
+
+		getBufferedUpsertClientDeviceRequestsByKey().put(key, request);
+	}
+
+	/**
+	 * Writes everything currently buffered. Safe to call concurrently with buffering - entries added mid-flush are picked up next time.
+	 * <p>
+	 * If a write fails, its entries are put back in the buffer (unless newer ones arrived in the meantime) so the next flush retries them.
+	 */
+	public void flush() {
+		Map<AccountFingerprint, Instant> lastUpdatedByAccountFingerprint = new HashMap<>();
+
+		for (AccountFingerprint accountFingerprint : getBufferedLastUpdatedByAccountFingerprint().keySet()) {
+			Instant lastUpdated = getBufferedLastUpdatedByAccountFingerprint().remove(accountFingerprint);
+
+			if (lastUpdated != null)
+				lastUpdatedByAccountFingerprint.put(accountFingerprint, lastUpdated);
+		}
+
+		Map<String, UpsertClientDeviceRequest> upsertClientDeviceRequestsByKey = new HashMap<>();
+
+		for (String key : getBufferedUpsertClientDeviceRequestsByKey().keySet()) {
+			UpsertClientDeviceRequest request = getBufferedUpsertClientDeviceRequestsByKey().remove(key);
+
+			if (request != null)
+				upsertClientDeviceRequestsByKey.put(key, request);
+		}
+
+		RuntimeException flushException = null;
+
+		if (lastUpdatedByAccountFingerprint.size() > 0) {
+			try {
+				getFingerprintServiceProvider().get().storeFingerprintsForAccounts(lastUpdatedByAccountFingerprint);
+			} catch (RuntimeException e) {
+				flushException = e;
+
+				for (Entry<AccountFingerprint, Instant> entry : lastUpdatedByAccountFingerprint.entrySet())
+					getBufferedLastUpdatedByAccountFingerprint().merge(entry.getKey(), entry.getValue(),
+							(bufferedLastUpdated, lastUpdated) -> bufferedLastUpdated.isAfter(lastUpdated) ? bufferedLastUpdated : lastUpdated);
+			}
+		}
+
+		if (upsertClientDeviceRequestsByKey.size() > 0) {
+			try {
+				getClientDeviceServiceProvider().get().upsertClientDevices(new ArrayList<>(upsertClientDeviceRequestsByKey.values()));
+			} catch (RuntimeException e) {
+				if (flushException == null)
+					flushException = e;
+				else
+					flushException.addSuppressed(e);
+
+				for (Entry<String, UpsertClientDeviceRequest> entry : upsertClientDeviceRequestsByKey.entrySet())
+					getBufferedUpsertClientDeviceRequestsByKey().putIfAbsent(entry.getKey(), entry.getValue());
+			}
+		}
+
+		if (flushException != null)
+			throw flushException;
+
+		if (lastUpdatedByAccountFingerprint.size() > 0 || upsertClientDeviceRequestsByKey.size() > 0)
+			getLogger().trace("Flushed {} account fingerprint[s] and {} client device[s].", lastUpdatedByAccountFingerprint.size(), upsertClientDeviceRequestsByKey.size());
+	}
+
+	@Nonnull
+	public Boolean isStarted() {
+		// Deliberately unsynchronized - this is checked on every request
+		return this.started;
+	}
+
+	@Nonnull
+	protected Long getFlushIntervalInSeconds() {
+		return FLUSH_INTERVAL_IN_SECONDS;
+	}
+
+	@Nonnull
+	protected Integer getMaximumBufferedWrites() {
+		return MAXIMUM_BUFFERED_WRITES;
+	}
+
+	@Nonnull
+	protected Provider<FingerprintService> getFingerprintServiceProvider() {
+		return this.fingerprintServiceProvider;
+	}
+
+	@Nonnull
+	protected Provider<ClientDeviceService> getClientDeviceServiceProvider() {
+		return this.clientDeviceServiceProvider;
+	}
+
+	@Nonnull
+	protected Map<AccountFingerprint, Instant> getBufferedLastUpdatedByAccountFingerprint() {
+		return this.bufferedLastUpdatedByAccountFingerprint;
+	}
+
+	@Nonnull
+	protected Map<String, UpsertClientDeviceRequest> getBufferedUpsertClientDeviceRequestsByKey() {
+		return this.bufferedUpsertClientDeviceRequestsByKey;
+	}
+
+	@Nonnull
+	protected Cache<String, Boolean> getKnownClientDeviceKeysCache() {
+		return this.knownClientDeviceKeysCache;
+	}
+
+	@Nonnull
+	protected Optional<ScheduledExecutorService> getFlushExecutorService() {
+		return Optional.ofNullable(this.flushExecutorService);
+	}
+
+	@Nonnull
+	protected Object getLock() {
+		return this.lock;
+	}
+
+	@Nonnull
+	protected Logger getLogger() {
+		return this.logger;
+	}
+}
@@ -77,12 +77,16 @@ import com.cobaltplatform.api.service.InstitutionService;
 import com.cobaltplatform.api.service.ScreeningService;
 import com.cobaltplatform.api.service.TagService;
 import com.cobaltplatform.api.service.TopicCenterService;
+import com.cobaltplatform.api.util.FanOutExecutor;
+import com.cobaltplatform.api.util.FanOutExecutor.FanOut;
+import com.cobaltplatform.api.util.FanOutExecutor.FanOutTask;
 import com.cobaltplatform.api.util.Formatter;
 import com.cobaltplatform.api.util.UserAgent;
 import com.cobaltplatform.api.util.ValidationException;
 import com.cobaltplatform.api.util.db.ReadReplica;
 import com.cobaltplatform.api.util.db.RequiresManualTransactionManagement;
 import com.cobaltplatform.api.web.request.RequestBodyParser;
+import com.cobaltplatform.api.web.response.Utf8BufferedJsonResponse;
 import com.lokalized.Strings;
 import com.soklet.web.annotation.GET;
 import com.soklet.web.annotation.POST;
@@ -170,6 +174,8 @@ public class AnalyticsResource {
 	@Nonnull
 	private final Formatter formatter;
 	@Nonnull
+	private final FanOutExecutor fanOutExecutor;
+	@Nonnull
 	private final Logger logger;
 
 	@Inject
@@ -186,7 +192,8 @@ public class AnalyticsResource {
 													 @Nonnull EnterprisePluginProvider enterprisePluginProvider,
 													 @Nonnull RequestBodyParser requestBodyParser,
 													 @Nonnull Strings strings,
-													 @Nonnull Formatter formatter) {
+													 @Nonnull Formatter formatter,
+													 @Nonnull FanOutExecutor fanOutExecutor) {
 		requireNonNull(analyticsService);
 		requireNonNull(authorizationService);
 		requireNonNull(screeningService);
@@ -201,6 +208,7 @@ public class AnalyticsResource {
 		requireNonNull(requestBodyParser);
 		requireNonNull(strings);
 		requireNonNull(formatter);
+		requireNonNull(fanOutExecutor);
 
 		this.analyticsService = analyticsService;
 		this.authorizationService = authorizationService;
@@ -216,6 +224,7 @@ public class AnalyticsResource {
 		this.requestBodyParser = requestBodyParser;
 		this.strings = strings;
 		this.formatter = formatter;
+		this.fanOutExecutor = fanOutExecutor;
 		this.logger = LoggerFactory.getLogger(getClass());
 	}
 
@@ -309,8 +318,11 @@ public class AnalyticsResource {
 	@GET("/analytics")
 	@AuthenticationRequired
 	@ReadReplica
-	public ApiResponse analytics(@Nonnull @QueryParameter LocalDate startDate,
+	@Utf8BufferedJsonResponse
+	public ApiResponse analytics(@Nonnull HttpServletResponse httpServletResponse,
+															 @Nonnull @QueryParameter LocalDate startDate,
 															 @Nonnull @QueryParameter LocalDate endDate) {
+		requireNonNull(httpServletResponse);
 		requireNonNull(startDate);
 		requireNonNull(endDate);
 
@@ -320,25 +332,46 @@ public class AnalyticsResource {
 		if (!getAuthorizationService().canViewAnalytics(institutionId, account))
 			throw new AuthorizationException();
 
+		// Each of these is an independent query, so run them concurrently
+		FanOut fanOut = getFanOutExecutor().createFanOut("analytics");
+
 		// Overview analytics
-		AnalyticsResultNewVersusReturning activeUserCountsNewVersusReturning = getAnalyticsService().findActiveUserCountsNewVersusReturning(institutionId, startDate, endDate);
-		Map<AccountSourceId, Long> activeUserCountsByAccountSourceId = getAnalyticsService().findActiveUserCountsByAccountSourceId(institutionId, startDate, endDate);
-		List<SectionCountSummary> sectionCountSummaries = getAnalyticsService().findSectionCountSummaries(institutionId, startDate, endDate);
-		TrafficSourceSummary trafficSourceSummary = getAnalyticsService().findTrafficSourceSummary(institutionId, startDate, endDate);
-		Map<String, Long> activeUserCountsByInstitutionLocation = getAnalyticsService().findActiveUserCountsByInstitutionLocation(institutionId, startDate, endDate);
+		FanOutTask<AnalyticsResultNewVersusReturning> activeUserCountsNewVersusReturningTask = fanOut.submit("activeUserCountsNewVersusReturning", () -> getAnalyticsService().findActiveUserCountsNewVersusReturning(institutionId, startDate, endDate));
+		FanOutTask<Map<AccountSourceId, Long>> activeUserCountsByAccountSourceIdTask = fanOut.submit("activeUserCountsByAccountSourceId", () -> getAnalyticsService().findActiveUserCountsByAccountSourceId(institutionId, startDate, endDate));
+		FanOutTask<List<SectionCountSummary>> sectionCountSummariesTask = fanOut.submit("sectionCountSummaries", () -> getAnalyticsService().findSectionCountSummaries(institutionId, startDate, endDate));
+		FanOutTask<TrafficSourceSummary> trafficSourceSummaryTask = fanOut.submit("trafficSourceSummary", () -> getAnalyticsService().findTrafficSourceSummary(institutionId, startDate, endDate));
+		FanOutTask<Map<String, Long>> activeUserCountsByInstitutionLocationTask = fanOut.submit("activeUserCountsByInstitutionLocation", () -> getAnalyticsService().findActiveUserCountsByInstitutionLocation(institutionId, startDate, endDate));
 
 		// Assessments and appointments analytics
-		Map<UUID, ScreeningSessionCompletion> screeningSessionCompletions = getAnalyticsService().findClinicalScreeningSessionCompletionsByScreeningFlowId(institutionId, startDate, endDate);
-		Map<UUID, SortedMap<String, Long>> screeningSessionSeverityCounts = getAnalyticsService().findClinicalScreeningSessionSeverityCountsByDescriptionByScreeningFlowId(institutionId, startDate, endDate);
-		List<CrisisTriggerCount> crisisTriggerCounts = getAnalyticsService().findCrisisTriggerCounts(institutionId, startDate, endDate);
-		List<AppointmentCount> appointmentCounts = getAnalyticsService().findAppointmentCounts(institutionId, startDate, endDate);
-		List<AppointmentClickToCallCount> appointmentClickToCallCounts = getAnalyticsService().findAppointmentClickToCallCounts(institutionId, startDate, endDate);
+		FanOutTask<Map<UUID, ScreeningSessionCompletion>> screeningSessionCompletionsTask = fanOut.submit("screeningSessionCompletions", () -> getAnalyticsService().findClinicalScreeningSessionCompletionsByScreeningFlowId(institutionId, startDate, endDate));
+		FanOutTask<Map<UUID, SortedMap<String, Long>>> screeningSessionSeverityCountsTask = fanOut.submit("screeningSessionSeverityCounts", () -> getAnalyticsService().findClinicalScreeningSessionSeverityCountsByDescriptionByScreeningFlowId(institutionId, startDate, endDate));
+		FanOutTask<List<CrisisTriggerCount>> crisisTriggerCountsTask = fanOut.submit("crisisTriggerCounts", () -> getAnalyticsService().findCrisisTriggerCounts(institutionId, startDate, endDate));
+		FanOutTask<List<AppointmentCount>> appointmentCountsTask = fanOut.submit("appointmentCounts", () -> getAnalyticsService().findAppointmentCounts(institutionId, startDate, endDate));
+		FanOutTask<List<AppointmentClickToCallCount>> appointmentClickToCallCountsTask = fanOut.submit("appointmentClickToCallCounts", () -> getAnalyticsService().findAppointmentClickToCallCounts(institutionId, startDate, endDate));
 
 		// Group Sessions
-		GroupSessionSummary groupSessionSummary = getAnalyticsService().findGroupSessionSummary(institutionId, startDate, endDate);
+		FanOutTask<GroupSessionSummary> groupSessionSummaryTask = fanOut.submit("groupSessionSummary", () -> getAnalyticsService().findGroupSessionSummary(institutionId, startDate, endDate));
 
 		// Resources and Topics
-		ResourceAndTopicSummary resourceAndTopicSummary = getAnalyticsService().findResourceAndTopicSummary(institutionId, startDate, endDate);
+		FanOutTask<ResourceAndTopicSummary> resourceAndTopicSummaryTask = fanOut.submit("resourceAndTopicSummary", () -> getAnalyticsService().findResourceAndTopicSummary(institutionId, startDate, endDate));
+
+		fanOut.await();
+
+		// Lets us see which query is the bottleneck in browser dev tools
+		httpServletResponse.setHeader("Server-Timing", fanOut.toServerTimingHeaderValue());
+
+		AnalyticsResultNewVersusReturning activeUserCountsNewVersusReturning = activeUserCountsNewVersusReturningTask.get();
+		Map<AccountSourceId, Long> activeUserCountsByAccountSourceId = activeUserCountsByAccountSourceIdTask.get();
+		List<SectionCountSummary> sectionCountSummaries = sectionCountSummariesTask.get();
+		TrafficSourceSummary trafficSourceSummary = trafficSourceSummaryTask.get();
+		Map<String, Long> activeUserCountsByInstitutionLocation = activeUserCountsByInstitutionLocationTask.get();
+		Map<UUID, ScreeningSessionCompletion> screeningSessionCompletions = screeningSessionCompletionsTask.get();
+		Map<UUID, SortedMap<String, Long>> screeningSessionSeverityCounts = screeningSessionSeverityCountsTask.get();
+		List<CrisisTriggerCount> crisisTriggerCounts = crisisTriggerCountsTask.get();
+		List<AppointmentCount> appointmentCounts = appointmentCountsTask.get();
+		List<AppointmentClickToCallCount> appointmentClickToCallCounts = appointmentClickToCallCountsTask.get();
+		GroupSessionSummary groupSessionSummary = groupSessionSummaryTask.get();
+		ResourceAndTopicSummary resourceAndTopicSummary = resourceAndTopicSummaryTask.get();
 
 		Map<String, Object> response = new HashMap<>();
 		response.put("sections", Map.of(
@@ -2192,6 +2225,11 @@ public class AnalyticsResource {
 		return this.formatter;
 	}
 
+	@Nonnull
+	protected FanOutExecutor getFanOutExecutor() {
+		return this.fanOutExecutor;
+	}
+
 	@Nonnull
 	protected Logger getLogger() {
 		return this.logger;
@@ -31,6 +31,9 @@ import com.cobaltplatform.api.model.security.AuthenticationRequired;
 import com.cobaltplatform.api.service.AnalyticsXrayService;
 import com.cobaltplatform.api.service.AnalyticsXrayService.AnalyticsXrayFilter;
 import com.cobaltplatform.api.service.AuthorizationService;
+import com.cobaltplatform.api.util.FanOutExecutor;
+import com.cobaltplatform.api.util.FanOutExecutor.FanOut;
+import com.cobaltplatform.api.util.FanOutExecutor.FanOutTask;
 import com.cobaltplatform.api.util.db.ReadReplica;
 import com.soklet.web.annotation.GET;
 import com.soklet.web.annotation.PathParameter;
@@ -46,6 +49,7 @@ import javax.annotation.concurrent.ThreadSafe;
 import javax.inject.Inject;
 import javax.inject.Provider;
 import javax.inject.Singleton;
+import javax.servlet.http.HttpServletResponse;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
@@ -72,22 +76,27 @@ public class AnalyticsXrayResource {
 	@Nonnull
 	private final Provider<CurrentContext> currentContextProvider;
 	@Nonnull
+	private final FanOutExecutor fanOutExecutor;
+	@Nonnull
 	private final Logger logger;
 
 	@Inject
 	public AnalyticsXrayResource(@Nonnull AnalyticsXrayService analyticsXrayService,
 															 @Nonnull AuthorizationService authorizationService,
 															 @Nonnull AnalyticsReportGroupApiResponseFactory analyticsReportGroupApiResponseFactory,
-															 @Nonnull Provider<CurrentContext> currentContextProvider) {
+															 @Nonnull Provider<CurrentContext> currentContextProvider,
+															 @Nonnull FanOutExecutor fanOutExecutor) {
 		requireNonNull(analyticsXrayService);
 		requireNonNull(authorizationService);
 		requireNonNull(analyticsReportGroupApiResponseFactory);
 		requireNonNull(currentContextProvider);
+		requireNonNull(fanOutExecutor);
 
 		this.analyticsXrayService = analyticsXrayService;
 		this.authorizationService = authorizationService;
 		this.analyticsReportGroupApiResponseFactory = analyticsReportGroupApiResponseFactory;
 		this.currentContextProvider = currentContextProvider;
+		this.fanOutExecutor = fanOutExecutor;
 		this.logger = LoggerFactory.getLogger(getClass());
 	}
 
@@ -115,10 +124,12 @@ public class AnalyticsXrayResource {
 	@GET("/analytics-report-groups/{analyticsReportGroupId}/widgets")
 	@AuthenticationRequired
 	@ReadReplica
-	public ApiResponse widgetsByAnalyticsReportGroupId(@Nonnull @PathParameter UUID analyticsReportGroupId,
+	public ApiResponse widgetsByAnalyticsReportGroupId(@Nonnull HttpServletResponse httpServletResponse,
+																										 @Nonnull @PathParameter UUID analyticsReportGroupId,
 																										 @Nonnull @QueryParameter LocalDate startDate,
 																										 @Nonnull @QueryParameter LocalDate endDate,
 																										 @Nonnull @QueryParameter Optional<Boolean> behaviorBridgeProvider) {
+		requireNonNull(httpServletResponse);
 		requireNonNull(analyticsReportGroupId);
 		requireNonNull(startDate);
 		requireNonNull(endDate);
@@ -131,93 +142,126 @@ public class AnalyticsXrayResource {
 			throw new AuthorizationException();
 
 		List<AnalyticsReportGroupReport> reports = getAnalyticsXrayService().findAnalyticsReportGroupReportsByAnalyticsReportGroupId(analyticsReportGroupId);
-		List<AnalyticsWidget> widgets = new ArrayList<>(reports.size());
 
 		// TODO: temporary hack, remove
 		endDate = endDate.plusDays(1);
 		AnalyticsXrayFilter analyticsXrayFilter = new AnalyticsXrayFilter(behaviorBridgeProvider.orElse(null));
 
-		// Based on report type, pull data for it
-		for (AnalyticsReportGroupReport report : reports) {
-			switch (report.getReportTypeId()) {
-				// ** Account-related reports
-
-				// N of unique people that accessed the website
-				case ADMIN_ANALYTICS_ACCOUNT_VISITS ->
-						widgets.add(getAnalyticsXrayService().createAccountVisitsWidget(institutionId, startDate, endDate, analyticsXrayFilter));
-
-				// N of people that created an account
-				case ADMIN_ANALYTICS_ACCOUNT_CREATION ->
-						widgets.add(getAnalyticsXrayService().createAccountsCreatedWidget(institutionId, startDate, endDate, analyticsXrayFilter));
-
-				// N of repeat users (logged on more than once)
-				case ADMIN_ANALYTICS_ACCOUNT_REPEAT_VISITS ->
-						widgets.add(getAnalyticsXrayService().createAccountRepeatVisitsWidget(institutionId, startDate, endDate, analyticsXrayFilter));
-
-				// List of websites from which the user accessed the platform
-				case ADMIN_ANALYTICS_ACCOUNT_REFERRER ->
-						widgets.add(getAnalyticsXrayService().createAccountReferrersWidget(institutionId, startDate, endDate, analyticsXrayFilter));
-
-				// N of people who started the onboarding screening flow and N of people who finished
-				case ADMIN_ANALYTICS_ACCOUNT_ONBOARDING_RESULTS ->
-						widgets.add(getAnalyticsXrayService().createAccountOnboardingResultsWidget(institutionId, startDate, endDate, analyticsXrayFilter));
-
-				// Using IP address to organized by zip code
-				//	case ADMIN_ANALYTICS_ACCOUNT_LOCATION -> throw new UnsupportedOperationException("TODO");
-
-				// ** Course-related reports
-
-				// N of users per course
-				case ADMIN_ANALYTICS_COURSE_ACCOUNT_VISITS ->
-						widgets.add(getAnalyticsXrayService().createCourseAccountVisitsWidget(institutionId, startDate, endDate, analyticsXrayFilter));
-
-				// N of users doing more than one course
-				case ADMIN_ANALYTICS_COURSE_AGGREGATE_VISITS ->
-						widgets.add(getAnalyticsXrayService().createCourseAggregateVisitsWidget(institutionId, startDate, endDate, analyticsXrayFilter));
-
-				// N of people that clicked/opened a unique module
-				case ADMIN_ANALYTICS_COURSE_MODULE_ACCOUNT_VISITS -> {
-					List<AnalyticsMultiChartWidget> widgetList =
-							getAnalyticsXrayService().createCourseModuleVisitWidget(
-									institutionId, startDate, endDate, analyticsXrayFilter);
-					widgets.addAll(widgetList);
-				}
-
-				// N of minutes it takes for people to complete a course (mean, median, mode)
-				case ADMIN_ANALYTICS_COURSE_DWELL_TIME ->
-						widgets.add(getAnalyticsXrayService().createCourseDwellTimeWidget(institutionId, startDate, endDate, analyticsXrayFilter));
-
-				// N of minutes it takes for people to get through a unique module (mean, median, mode)
-				case ADMIN_ANALYTICS_COURSE_MODULE_DWELL_TIME ->
-						widgets.addAll(getAnalyticsXrayService().createCourseUnitDwellTimeWidgets(institutionId, startDate, endDate, analyticsXrayFilter));
-
-				// N of people who complete each course
-				case ADMIN_ANALYTICS_COURSE_COMPLETION ->
-						widgets.add(getAnalyticsXrayService().createCourseCompletionWidget(institutionId, startDate, endDate, analyticsXrayFilter));
-
-				// N of people completing one or more course
-				case ADMIN_ANALYTICS_COURSE_AGGREGATE_COMPLETIONS ->
-						widgets.add(getAnalyticsXrayService().createCourseAggregateCompletionsWidget(institutionId, startDate, endDate, analyticsXrayFilter));
-
-				// N of people who complete a unique module
-				case ADMIN_ANALYTICS_COURSE_MODULE_COMPLETION -> {
-					List<AnalyticsMultiChartWidget> widgetList =
-							getAnalyticsXrayService().createCourseModuleCompletionWidget(
-									institutionId, startDate, endDate, analyticsXrayFilter);
-					widgets.addAll(widgetList);
-				}
-
-				// default ->
-				// 	throw new UnsupportedOperationException(format("Unsupported %s value '%s' for analytics_report_group_id %s",
-				// 		ReportTypeId.class.getSimpleName(), report.getReportTypeId().name(), analyticsReportGroupId));
-			}
-		}
+		// Widgets are independent of each other, so build them concurrently
+		FanOut fanOut = getFanOutExecutor().createFanOut("analytics-xray-widgets");
+		List<FanOutTask<List<AnalyticsWidget>>> widgetTasks = new ArrayList<>(reports.size());
+		LocalDate widgetEndDate = endDate;
+
+		for (AnalyticsReportGroupReport report : reports)
+			widgetTasks.add(fanOut.submit(report.getReportTypeId().name(),
+					() -> createWidgetsForReport(report, institutionId, startDate, widgetEndDate, analyticsXrayFilter)));
+
+		fanOut.await();
+
+		// Lets us see which widget is the bottleneck in browser dev tools
+		httpServletResponse.setHeader("Server-Timing", fanOut.toServerTimingHeaderValue());
+
+		List<AnalyticsWidget> widgets = new ArrayList<>(reports.size());
+
+		for (FanOutTask<List<AnalyticsWidget>> widgetTask : widgetTasks)
+			widgets.addAll(widgetTask.get());
 
 		return new ApiResponse(
 				Map.of("widgets", widgets)
 		);
 	}
 
+	@Nonnull
+	protected List<AnalyticsWidget> createWidgetsForReport(@Nonnull AnalyticsReportGroupReport report,
+																												 @Nonnull InstitutionId institutionId,
+																												 @Nonnull LocalDate startDate,
+																												 @Nonnull LocalDate endDate,
+																												 @Nonnull AnalyticsXrayFilter analyticsXrayFilter) {
+		requireNonNull(report);
+		requireNonNull(institutionId);
+		requireNonNull(startDate);
+		requireNonNull(endDate);
+		requireNonNull(analyticsXrayFilter);
+
+		List<AnalyticsWidget> widgets = new ArrayList<>();
+
+		// Based on report type, pull data for it
+		switch (report.getReportTypeId()) {
+			// ** Account-related reports
+
+			// N of unique people that accessed the website
+			case ADMIN_ANALYTICS_ACCOUNT_VISITS ->
+					widgets.add(getAnalyticsXrayService().createAccountVisitsWidget(institutionId, startDate, endDate, analyticsXrayFilter));
+
+			// N of people that created an account
+			case ADMIN_ANALYTICS_ACCOUNT_CREATION ->
+					widgets.add(getAnalyticsXrayService().createAccountsCreatedWidget(institutionId, startDate, endDate, analyticsXrayFilter));
+
+			// N of repeat users (logged on more than once)
+			case ADMIN_ANALYTICS_ACCOUNT_REPEAT_VISITS ->
+					widgets.add(getAnalyticsXrayService().createAccountRepeatVisitsWidget(institutionId, startDate, endDate, analyticsXrayFilter));
+
+			// List of websites from which the user accessed the platform
+			case ADMIN_ANALYTICS_ACCOUNT_REFERRER ->
+					widgets.add(getAnalyticsXrayService().createAccountReferrersWidget(institutionId, startDate, endDate, analyticsXrayFilter));
+
+			// N of people who started the onboarding screening flow and N of people who finished
+			case ADMIN_ANALYTICS_ACCOUNT_ONBOARDING_RESULTS ->
+					widgets.add(getAnalyticsXrayService().createAccountOnboardingResultsWidget(institutionId, startDate, endDate, analyticsXrayFilter));
+
+			// Using IP address to organized by zip code
+			//	case ADMIN_ANALYTICS_ACCOUNT_LOCATION -> throw new UnsupportedOperationException("TODO");
+
+			// ** Course-related reports
+
+			// N of users per course
+			case ADMIN_ANALYTICS_COURSE_ACCOUNT_VISITS ->
+					widgets.add(getAnalyticsXrayService().createCourseAccountVisitsWidget(institutionId, startDate, endDate, analyticsXrayFilter));
+
+			// N of users doing more than one course
+			case ADMIN_ANALYTICS_COURSE_AGGREGATE_VISITS ->
+					widgets.add(getAnalyticsXrayService().createCourseAggregateVisitsWidget(institutionId, startDate, endDate, analyticsXrayFilter));
+
+			// N of people that clicked/opened a unique module
+			case ADMIN_ANALYTICS_COURSE_MODULE_ACCOUNT_VISITS -> {
+				List<AnalyticsMultiChartWidget> widgetList =
+						getAnalyticsXrayService().createCourseModuleVisitWidget(
+								institutionId, startDate, endDate, analyticsXrayFilter);
+				widgets.addAll(widgetList);
+			}
+
+			// N of minutes it takes for people to complete a course (mean, median, mode)
+			case ADMIN_ANALYTICS_COURSE_DWELL_TIME ->
+					widgets.add(getAnalyticsXrayService().createCourseDwellTimeWidget(institutionId, startDate, endDate, analyticsXrayFilter));
+
+			// N of minutes it takes for people to get through a unique module (mean, median, mode)
+			case ADMIN_ANALYTICS_COURSE_MODULE_DWELL_TIME ->
+					widgets.addAll(getAnalyticsXrayService().createCourseUnitDwellTimeWidgets(institutionId, startDate, endDate, analyticsXrayFilter));
+
+			// N of people who complete each course
+			case ADMIN_ANALYTICS_COURSE_COMPLETION ->
+					widgets.add(getAnalyticsXrayService().createCourseCompletionWidget(institutionId, startDate, endDate, analyticsXrayFilter));
+
+			// N of people completing one or more course
+			case ADMIN_ANALYTICS_COURSE_AGGREGATE_COMPLETIONS ->
+					widgets.add(getAnalyticsXrayService().createCourseAggregateCompletionsWidget(institutionId, startDate, endDate, analyticsXrayFilter));
+
+			// N of people who complete a unique module
+			case ADMIN_ANALYTICS_COURSE_MODULE_COMPLETION -> {
+				List<AnalyticsMultiChartWidget> widgetList =
+						getAnalyticsXrayService().createCourseModuleCompletionWidget(
+								institutionId, startDate, endDate, analyticsXrayFilter);
+				widgets.addAll(widgetList);
+			}
+
+			// default ->
+			// 	throw new UnsupportedOperationException(format("Unsupported %s value '%s' for analytics_report_group_id %s",
+			// 		ReportTypeId.class.getSimpleName(), report.getReportTypeId().name(), analyticsReportGroupId));
+		}
+
+		return widgets;
+	}
+
 	@Nonnull
 	protected AnalyticsXrayService getAnalyticsXrayService() {
 		return this.analyticsXrayService;
@@ -238,6 +282,11 @@ public class AnalyticsXrayResource {
 		return this.currentContextProvider.get();
 	}
 
+	@Nonnull
+	protected FanOutExecutor getFanOutExecutor() {
+		return this.fanOutExecutor;
+	}
+
 	@Nonnull
 	protected Logger getLogger() {
 		return this.logger;
@@ -93,6 +93,7 @@ import com.cobaltplatform.api.service.PageService;
 import com.cobaltplatform.api.util.Formatter;
 import com.cobaltplatform.api.util.db.ReadReplica;
 import com.cobaltplatform.api.web.request.RequestBodyParser;
+import com.cobaltplatform.api.web.response.Utf8BufferedJsonResponse;
 import com.lokalized.Strings;
 import com.soklet.web.annotation.DELETE;
 import com.soklet.web.annotation.GET;
@@ -320,6 +321,7 @@ public class PageResource {
 	@GET("/pages")
 	@AuthenticationRequired
 	@ReadReplica
+	@Utf8BufferedJsonResponse
 	public ApiResponse pages(@Nonnull @QueryParameter Optional<Integer> pageNumber,
 													 @Nonnull @QueryParameter Optional<Integer> pageSize,
 													 @Nonnull @QueryParameter Optional<String> searchQuery,
@@ -97,6 +97,8 @@ import com.cobaltplatform.api.model.db.PatientOrderClosureReason;
 import com.cobaltplatform.api.model.db.PatientOrderConsentStatus.PatientOrderConsentStatusId;
 import com.cobaltplatform.api.model.db.PatientOrderDisposition.PatientOrderDispositionId;
 import com.cobaltplatform.api.model.db.PatientOrderIntakeScreeningStatus.PatientOrderIntakeScreeningStatusId;
+import com.cobaltplatform.api.model.db.PatientOrderImport;
+import com.cobaltplatform.api.model.db.PatientOrderImportRowError;
 import com.cobaltplatform.api.model.db.PatientOrderImportType.PatientOrderImportTypeId;
 import com.cobaltplatform.api.model.db.PatientOrderNote;
 import com.cobaltplatform.api.model.db.PatientOrderOutreach;
@@ -141,7 +143,9 @@ import com.cobaltplatform.api.util.Formatter;
 import com.cobaltplatform.api.util.JsonMapper;
 import com.cobaltplatform.api.util.PatientOrderCsvGenerator;
 import com.cobaltplatform.api.util.db.ReadReplica;
+import com.cobaltplatform.api.util.db.RequiresManualTransactionManagement;
 import com.cobaltplatform.api.web.request.RequestBodyParser;
+import com.cobaltplatform.api.web.response.Utf8BufferedJsonResponse;
 import com.lokalized.Strings;
 import com.soklet.web.annotation.DELETE;
 import com.soklet.web.annotation.GET;
@@ -151,6 +155,7 @@ import com.soklet.web.annotation.PUT;
 import com.soklet.web.annotation.PathParameter;
 import com.soklet.web.annotation.QueryParameter;
 import com.soklet.web.annotation.RequestBody;
+import com.soklet.web.annotation.RequestHeader;
 import com.soklet.web.annotation.Resource;
 import com.soklet.web.exception.AuthorizationException;
 import com.soklet.web.exception.NotFoundException;
@@ -382,10 +387,7 @@ public class PatientOrderResource {
 
 		return new ApiResponse(new HashMap<String, Object>() {{
 			put("patientOrder", getPatientOrderApiResponseFactory().create(patientOrder, responseFormat, finalResponseSupplements));
-			put("associatedPatientOrders", associatedPatientOrders.stream()
-					.map(associatedPatientOrder -> getPatientOrderApiResponseFactory().create(associatedPatientOrder,
-							responseFormat, Set.of(PatientOrderApiResponseSupplement.PANEL)))
-					.collect(Collectors.toList()));
+			put("associatedPatientOrders", patientOrderApiResponsesFor(associatedPatientOrders, responseFormat, Set.of(PatientOrderApiResponseSupplement.PANEL)));
 		}});
 	}
 
@@ -764,6 +766,7 @@ public class PatientOrderResource {
 	@GET("/patient-orders")
 	@AuthenticationRequired
 	@ReadReplica
+	@Utf8BufferedJsonResponse
 	public ApiResponse findPatientOrders(@Nonnull @QueryParameter Optional<PatientOrderViewTypeId> patientOrderViewTypeId,
 																			 @Nonnull @QueryParameter("patientOrderDispositionId") Optional<List<PatientOrderDispositionId>> patientOrderDispositionIds,
 																			 @Nonnull @QueryParameter Optional<PatientOrderConsentStatusId> patientOrderConsentStatusId,
@@ -780,11 +783,13 @@ public class PatientOrderResource {
 																			 @Nonnull @QueryParameter Optional<String> searchQuery,
 																			 @Nonnull @QueryParameter Optional<Integer> pageNumber,
 																			 @Nonnull @QueryParameter Optional<Integer> pageSize,
+																			 @Nonnull @QueryParameter Optional<String> pageCursor,
 																			 // These 3 are used to construct a single sort rule
 																			 @Nonnull @QueryParameter Optional<PatientOrderSortColumnId> patientOrderSortColumnId,
 																			 @Nonnull @QueryParameter Optional<SortDirectionId> sortDirectionId,
 																			 @Nonnull @QueryParameter Optional<SortNullsId> sortNullsId,
-																			 @Nonnull @QueryParameter Optional<PatientOrdersPerfMode> mode) {
+																			 @Nonnull @QueryParameter Optional<PatientOrdersPerfMode> mode,
+																			 @Nonnull @RequestHeader("X-Cobalt-Autorefresh") Optional<String> autorefresh) {
 		requireNonNull(patientOrderViewTypeId);
 		requireNonNull(patientOrderDispositionIds);
 		requireNonNull(patientOrderConsentStatusId);
@@ -801,10 +806,12 @@ public class PatientOrderResource {
 		requireNonNull(searchQuery);
 		requireNonNull(pageNumber);
 		requireNonNull(pageSize);
+		requireNonNull(pageCursor);
 		requireNonNull(patientOrderSortColumnId);
 		requireNonNull(sortDirectionId);
 		requireNonNull(sortNullsId);
 		requireNonNull(mode);
+		requireNonNull(autorefresh);
 
 		CurrentContext currentContext = getCurrentContext();
 		Account account = currentContext.getAccount().get();
@@ -844,6 +851,12 @@ public class PatientOrderResource {
 			}});
 		}
 
+		// Total counts only need to be exact when a user lands on the first page of a list.
+		// Flipping through pages and UI autorefresh polling can use a recently-cached count instead of re-counting every matching order
+		boolean useCachedTotalCount = "true".equals(autorefresh.orElse(null))
+				|| pageCursor.isPresent()
+				|| pageNumber.orElse(0) > 0;
+
 		PatientOrdersPerfMode patientOrdersPerfMode = patientOrdersPerfModeFor(mode, account);
 		Institution institution = getInstitutionService().findInstitutionById(institutionId).get();
 		boolean defaultUsePatientOrdersPerfOptimization = Boolean.TRUE.equals(institution.getIntegratedCarePatientOrdersPerfOptimizationEnabled());
@@ -854,34 +867,34 @@ public class PatientOrderResource {
 					patientOrderConsentStatusId, patientOrderScreeningStatusId, patientOrderTriageStatusIds,
 					patientOrderAssignmentStatusId, patientOrderOutreachStatusId, patientOrderResponseStatusId,
 					patientOrderSafetyPlanningStatusId, patientOrderFilterFlagTypeIds, referringPracticeIds,
-					panelAccountIds, patientMrn, searchQuery, pageNumber, pageSize, patientOrderSortRules,
+					panelAccountIds, patientMrn, searchQuery, pageNumber, pageSize, pageCursor, useCachedTotalCount, patientOrderSortRules,
 					defaultUsePatientOrdersPerfOptimization ? FindPatientOrdersRequest.PatientOrdersQueryMode.OPTIMIZED : FindPatientOrdersRequest.PatientOrdersQueryMode.LEGACY);
 		} else if (patientOrdersPerfMode == PatientOrdersPerfMode.LEGACY) {
 			responseBody = findPatientOrdersResponseBodyFor(account, institutionId, patientOrderViewTypeId, patientOrderDispositionIds,
 					patientOrderConsentStatusId, patientOrderScreeningStatusId, patientOrderTriageStatusIds,
 					patientOrderAssignmentStatusId, patientOrderOutreachStatusId, patientOrderResponseStatusId,
 					patientOrderSafetyPlanningStatusId, patientOrderFilterFlagTypeIds, referringPracticeIds,
-					panelAccountIds, patientMrn, searchQuery, pageNumber, pageSize, patientOrderSortRules,
+					panelAccountIds, patientMrn, searchQuery, pageNumber, pageSize, pageCursor, useCachedTotalCount, patientOrderSortRules,
 					FindPatientOrdersRequest.PatientOrdersQueryMode.LEGACY);
 		} else if (patientOrdersPerfMode == PatientOrdersPerfMode.OPTIMIZED) {
 			responseBody = findPatientOrdersResponseBodyFor(account, institutionId, patientOrderViewTypeId, patientOrderDispositionIds,
 					patientOrderConsentStatusId, patientOrderScreeningStatusId, patientOrderTriageStatusIds,
 					patientOrderAssignmentStatusId, patientOrderOutreachStatusId, patientOrderResponseStatusId,
 					patientOrderSafetyPlanningStatusId, patientOrderFilterFlagTypeIds, referringPracticeIds,
-					panelAccountIds, patientMrn, searchQuery, pageNumber, pageSize, patientOrderSortRules,
+					panelAccountIds, patientMrn, searchQuery, pageNumber, pageSize, pageCursor, useCachedTotalCount, patientOrderSortRules,
 					FindPatientOrdersRequest.PatientOrdersQueryMode.OPTIMIZED);
 		} else if (patientOrdersPerfMode == PatientOrdersPerfMode.COMPARE) {
 			Map<String, Object> legacyResponseBody = findPatientOrdersResponseBodyFor(account, institutionId, patientOrderViewTypeId, patientOrderDispositionIds,
 					patientOrderConsentStatusId, patientOrderScreeningStatusId, patientOrderTriageStatusIds,
 					patientOrderAssignmentStatusId, patientOrderOutreachStatusId, patientOrderResponseStatusId,
 					patientOrderSafetyPlanningStatusId, patientOrderFilterFlagTypeIds, referringPracticeIds,
-					panelAccountIds, patientMrn, searchQuery, pageNumber, pageSize, patientOrderSortRules,
+					panelAccountIds, patientMrn, searchQuery, pageNumber, pageSize, pageCursor, useCachedTotalCount, patientOrderSortRules,
 					FindPatientOrdersRequest.PatientOrdersQueryMode.LEGACY);
 			Map<String, Object> optimizedResponseBody = findPatientOrdersResponseBodyFor(account, institutionId, patientOrderViewTypeId, patientOrderDispositionIds,
 					patientOrderConsentStatusId, patientOrderScreeningStatusId, patientOrderTriageStatusIds,
 					patientOrderAssignmentStatusId, patientOrderOutreachStatusId, patientOrderResponseStatusId,
 					patientOrderSafetyPlanningStatusId, patientOrderFilterFlagTypeIds, referringPracticeIds,
-					panelAccountIds, patientMrn, searchQuery, pageNumber, pageSize, patientOrderSortRules,
+					panelAccountIds, patientMrn, searchQuery, pageNumber, pageSize, pageCursor, useCachedTotalCount, patientOrderSortRules,
 					FindPatientOrdersRequest.PatientOrdersQueryMode.OPTIMIZED);
 			responseBody = comparisonResponseBodyFor(legacyResponseBody, optimizedResponseBody);
 		} else {
@@ -910,6 +923,8 @@ public class PatientOrderResource {
 																												 @Nonnull Optional<String> searchQuery,
 																												 @Nonnull Optional<Integer> pageNumber,
 																												 @Nonnull Optional<Integer> pageSize,
+																												 @Nonnull Optional<String> pageCursor,
+																												 @Nonnull Boolean useCachedTotalCount,
 																												 @Nonnull List<PatientOrderSortRule> patientOrderSortRules,
 																												 @Nonnull FindPatientOrdersRequest.PatientOrdersQueryMode patientOrdersQueryMode) {
 		requireNonNull(account);
@@ -930,6 +945,8 @@ public class PatientOrderResource {
 		requireNonNull(searchQuery);
 		requireNonNull(pageNumber);
 		requireNonNull(pageSize);
+		requireNonNull(pageCursor);
+		requireNonNull(useCachedTotalCount);
 		requireNonNull(patientOrderSortRules);
 		requireNonNull(patientOrdersQueryMode);
 
@@ -952,6 +969,8 @@ public class PatientOrderResource {
 				setSearchQuery(searchQuery.orElse(null));
 				setPageNumber(pageNumber.orElse(0));
 				setPageSize(pageSize.orElse(0));
+				setPageCursor(pageCursor.orElse(null));
+				setUseCachedTotalCount(useCachedTotalCount);
 				setPatientOrderSortRules(patientOrderSortRules);
 				setPatientOrdersQueryMode(patientOrdersQueryMode);
 			}
@@ -967,17 +986,9 @@ public class PatientOrderResource {
 		List<PatientOrderApiResponse> patientOrders;
 
 		if (useBatching) {
-			PatientOrderApiResponseBatchContext batchContext = patientOrderApiResponseBatchContextFor(
-					findResult.getResults(),
-					Set.of(PatientOrderApiResponseSupplement.PANEL)
-			);
-
-			patientOrders = findResult.getResults().stream()
-					.map(patientOrder -> getPatientOrderApiResponseFactory().create(patientOrder,
-							PatientOrderApiResponseFormat.fromRoleId(account.getRoleId()),
-							Set.of(PatientOrderApiResponseSupplement.PANEL),
-							batchContext))
-					.collect(Collectors.toList());
+			patientOrders = patientOrderApiResponsesFor(findResult.getResults(),
+					PatientOrderApiResponseFormat.fromRoleId(account.getRoleId()),
+					Set.of(PatientOrderApiResponseSupplement.PANEL));
 		} else {
 			patientOrders = findResult.getResults().stream()
 					.map(patientOrder -> getPatientOrderApiResponseFactory().create(patientOrder,
@@ -990,6 +1001,7 @@ public class PatientOrderResource {
 		findResultJson.put("patientOrders", patientOrders);
 		findResultJson.put("totalCount", findResult.getTotalCount());
 		findResultJson.put("totalCountDescription", getFormatter().formatNumber(findResult.getTotalCount()));
+		findResultJson.put("nextPageCursor", findResult.getNextPageCursor().orElse(null));
 
 		// If there's a patient MRN provided, return it in the form of an autocomplete result.
 		// We assume this one is just whatever the first result is...
@@ -1041,6 +1053,27 @@ public class PatientOrderResource {
 		);
 	}
 
+	/**
+	 * Builds API responses for a page of orders using a constant number of queries, regardless of page size.
+	 */
+	@Nonnull
+	protected List<PatientOrderApiResponse> patientOrderApiResponsesFor(@Nonnull Collection<PatientOrder> patientOrders,
+																																			@Nonnull PatientOrderApiResponseFormat format,
+																																			@Nonnull Set<PatientOrderApiResponseSupplement> supplements) {
+		requireNonNull(patientOrders);
+		requireNonNull(format);
+		requireNonNull(supplements);
+
+		if (patientOrders.isEmpty())
+			return List.of();
+
+		PatientOrderApiResponseBatchContext batchContext = patientOrderApiResponseBatchContextFor(patientOrders, supplements);
+
+		return patientOrders.stream()
+				.map(patientOrder -> getPatientOrderApiResponseFactory().create(patientOrder, format, supplements, batchContext))
+				.collect(Collectors.toList());
+	}
+
 	@Nonnull
 	@GET("/patient-orders/autocomplete")
 	@AuthenticationRequired
@@ -1102,6 +1135,7 @@ public class PatientOrderResource {
 	@Nonnull
 	@POST("/patient-order-imports")
 	@AuthenticationRequired
+	@RequiresManualTransactionManagement
 	public ApiResponse createPatientOrderImport(@Nonnull @RequestBody String requestBody) {
 		requireNonNull(requestBody);
 
@@ -1110,8 +1144,8 @@ public class PatientOrderResource {
 		if (!getAuthorizationService().canImportPatientOrders(account.getInstitutionId(), account))
 			throw new AuthorizationException();
 
-		getSystemService().applyFootprintEventGroupToCurrentTransaction(FootprintEventGroupTypeId.PATIENT_ORDER_IMPORT_CREATE);
-
+		// Large CSV imports commit in batches on a background thread, so the service opens (and footprints) its own transactions.
+		// The response carries the import ID right away - poll GET /patient-order-imports/{patientOrderImportId} for progress
 		CreatePatientOrderImportRequest request = getRequestBodyParser().parse(requestBody, CreatePatientOrderImportRequest.class);
 		request.setInstitutionId(account.getInstitutionId());
 		request.setAccountId(account.getAccountId());
@@ -1122,6 +1156,49 @@ public class PatientOrderResource {
 		return new ApiResponse(patientOrderImportResult);
 	}
 
+	@Nonnull
+	@GET("/patient-order-imports/{patientOrderImportId}")
+	@AuthenticationRequired
+	public ApiResponse patientOrderImport(@Nonnull @PathParameter UUID patientOrderImportId) {
+		requireNonNull(patientOrderImportId);
+
+		Account account = getCurrentContext().getAccount().get();
+		PatientOrderImport patientOrderImport = getPatientOrderService().findPatientOrderImportById(patientOrderImportId).orElse(null);
+
+		if (patientOrderImport == null)
+			throw new NotFoundException();
+
+		if (!patientOrderImport.getInstitutionId().equals(account.getInstitutionId())
+				|| !getAuthorizationService().canImportPatientOrders(account.getInstitutionId(), account))
+			throw new AuthorizationException();
+
+		List<PatientOrderImportRowError> patientOrderImportRowErrors = getPatientOrderService().findPatientOrderImportRowErrorsByPatientOrderImportId(patientOrderImportId);
+
+		// Deliberately leaves out the raw file, which contains patient data
+		Map<String, Object> normalizedPatientOrderImport = new HashMap<>();
+		normalizedPatientOrderImport.put("patientOrderImportId", patientOrderImport.getPatientOrderImportId());
+		normalizedPatientOrderImport.put("patientOrderImportTypeId", patientOrderImport.getPatientOrderImportTypeId());
+		normalizedPatientOrderImport.put("filename", patientOrderImport.getRawOrderFilename());
+		normalizedPatientOrderImport.put("processedRecordCount", patientOrderImport.getProcessedRecordCount());
+		normalizedPatientOrderImport.put("importedRecordCount", patientOrderImport.getImportedRecordCount());
+		normalizedPatientOrderImport.put("failedRecordCount", patientOrderImport.getFailedRecordCount());
+		normalizedPatientOrderImport.put("completed", patientOrderImport.getCompletedAt() != null);
+		normalizedPatientOrderImport.put("completedAt", patientOrderImport.getCompletedAt());
+		normalizedPatientOrderImport.put("failed", patientOrderImport.getFailedAt() != null);
+		normalizedPatientOrderImport.put("failedAt", patientOrderImport.getFailedAt());
+		normalizedPatientOrderImport.put("failureMessage", patientOrderImport.getFailureMessage());
+		normalizedPatientOrderImport.put("created", patientOrderImport.getCreated());
+		normalizedPatientOrderImport.put("rowErrors", patientOrderImportRowErrors.stream()
+				.map(patientOrderImportRowError -> Map.<String, Object>of(
+						"rowNumber", patientOrderImportRowError.getRowNumber(),
+						"error", patientOrderImportRowError.getError()))
+				.collect(Collectors.toList()));
+
+		return new ApiResponse(new HashMap<String, Object>() {{
+			put("patientOrderImport", normalizedPatientOrderImport);
+		}});
+	}
+
 	@Nonnull
 	@GET("/patient-order-notes")
 	@AuthenticationRequired
@@ -187,7 +187,8 @@ public class ReportingResource {
 		httpServletResponse.setHeader("Content-Encoding", "gzip");
 		httpServletResponse.setHeader("Content-Disposition", format("attachment; filename=\"%s\"", filename));
 
-		try (PrintWriter printWriter = new PrintWriter(new GZIPOutputStream(httpServletResponse.getOutputStream()))) {
+		// Sync-flush the gzip stream so each batch of streamed report rows is sent to the client as soon as it's written
+		try (PrintWriter printWriter = new PrintWriter(new GZIPOutputStream(httpServletResponse.getOutputStream(), true))) {
 			if (reportTypeId == ReportTypeId.PROVIDER_UNUSED_AVAILABILITY)
 				getReportingService().runProviderUnusedAvailabilityReportCsv(account.getInstitutionId(), startDateTime, endDateTime, reportTimeZone, reportLocale, printWriter);
 			else if (reportTypeId == ReportTypeId.PROVIDER_APPOINTMENTS)
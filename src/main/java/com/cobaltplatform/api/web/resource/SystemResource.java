@@ -30,17 +30,23 @@ import com.cobaltplatform.api.integration.enterprise.EnterprisePluginProvider;
 import com.cobaltplatform.api.integration.epic.EpicSyncManager;
 import com.cobaltplatform.api.integration.tableau.TableauClient;
 import com.cobaltplatform.api.integration.tableau.request.AccessTokenRequest;
+import com.cobaltplatform.api.messaging.MessageSendMetrics;
 import com.cobaltplatform.api.model.api.request.CreateCommunitySubscriberNotificationRequest;
 import com.cobaltplatform.api.model.api.request.CreateMarketingSiteOutreachRequest;
 import com.cobaltplatform.api.model.db.Account;
 import com.cobaltplatform.api.model.db.Institution;
 import com.cobaltplatform.api.model.db.Institution.InstitutionId;
+import com.cobaltplatform.api.model.db.MessageType.MessageTypeId;
+import com.cobaltplatform.api.model.db.PatientOrderProjectionStatus;
 import com.cobaltplatform.api.model.db.Role.RoleId;
 import com.cobaltplatform.api.model.security.AuthenticationRequired;
+import com.cobaltplatform.api.service.AnalyticsNativeEventWriter;
 import com.cobaltplatform.api.service.AuthorizationService;
 import com.cobaltplatform.api.service.CommunityService;
 import com.cobaltplatform.api.service.IpGeolocationService;
 import com.cobaltplatform.api.service.InstitutionService;
+import com.cobaltplatform.api.service.MessageService;
+import com.cobaltplatform.api.service.PatientOrderProjectionService;
 import com.cobaltplatform.api.service.SystemService;
 import com.cobaltplatform.api.service.Way2HealthService;
 import com.cobaltplatform.api.util.Authenticator;
@@ -123,6 +129,14 @@ public class SystemResource {
 	@Nonnull
 	private final InstitutionService institutionService;
 	@Nonnull
+	private final MessageService messageService;
+	@Nonnull
+	private final MessageSendMetrics messageSendMetrics;
+	@Nonnull
+	private final AnalyticsNativeEventWriter analyticsNativeEventWriter;
+	@Nonnull
+	private final PatientOrderProjectionService patientOrderProjectionService;
+	@Nonnull
 	private final Provider<CurrentContext> currentContextProvider;
 	@Nonnull
 	private final Formatter formatter;
@@ -145,6 +159,10 @@ public class SystemResource {
 												@Nonnull EnterprisePluginProvider enterprisePluginProvider,
 												@Nonnull AuthorizationService authorizationService,
 												@Nonnull InstitutionService institutionService,
+												@Nonnull MessageService messageService,
+												@Nonnull MessageSendMetrics messageSendMetrics,
+												@Nonnull AnalyticsNativeEventWriter analyticsNativeEventWriter,
+												@Nonnull PatientOrderProjectionService patientOrderProjectionService,
 												@Nonnull Provider<CurrentContext> currentContextProvider,
 												@Nonnull Formatter formatter,
 												@Nonnull Strings strings) {
@@ -163,6 +181,10 @@ public class SystemResource {
 		requireNonNull(enterprisePluginProvider);
 		requireNonNull(authorizationService);
 		requireNonNull(institutionService);
+		requireNonNull(messageService);
+		requireNonNull(messageSendMetrics);
+		requireNonNull(analyticsNativeEventWriter);
+		requireNonNull(patientOrderProjectionService);
 		requireNonNull(requestBodyParser);
 		requireNonNull(currentContextProvider);
 		requireNonNull(formatter);
@@ -183,6 +205,10 @@ public class SystemResource {
 		this.enterprisePluginProvider = enterprisePluginProvider;
 		this.authorizationService = authorizationService;
 		this.institutionService = institutionService;
+		this.messageService = messageService;
+		this.messageSendMetrics = messageSendMetrics;
+		this.analyticsNativeEventWriter = analyticsNativeEventWriter;
+		this.patientOrderProjectionService = patientOrderProjectionService;
 		this.currentContextProvider = currentContextProvider;
 		this.formatter = formatter;
 		this.strings = strings;
@@ -271,6 +297,23 @@ public class SystemResource {
 		return new ApiResponse(204);
 	}
 
+	@Nonnull
+	@GET("/system/institution-cache")
+	public ApiResponse institutionCache() {
+		Map<String, Map<String, Object>> cacheStatistics = getInstitutionService().findInstitutionCacheStatistics();
+
+		return new ApiResponse(new HashMap<String, Object>() {{
+			put("cacheStatistics", cacheStatistics);
+		}});
+	}
+
+	@Nonnull
+	@PUT("/system/institution-cache/invalidate")
+	public ApiResponse invalidateInstitutionCache() {
+		getInstitutionService().invalidateInstitutionCaches();
+		return new ApiResponse(204);
+	}
+
 	@Nonnull
 	@GET("/system/acuity-scheduling-cache/availability-classes")
 	public ApiResponse acuitySchedulingCacheAvailabilityClasses() {
@@ -315,6 +358,40 @@ public class SystemResource {
 		}});
 	}
 
+	@Nonnull
+	@GET("/system/message-send-metrics")
+	@AuthenticationRequired
+	public ApiResponse messageSendMetrics() {
+		if (getCurrentContext().getAccount().get().getRoleId() != RoleId.ADMINISTRATOR)
+			throw new AuthorizationException();
+
+		Map<String, Map<String, Long>> sendMetricsByMessageVendorId = getMessageSendMetrics().snapshot();
+		Map<MessageTypeId, Long> enqueuedMessageCountsByMessageTypeId = getMessageService().findEnqueuedMessageCountsByMessageTypeId();
+
+		return new ApiResponse(new HashMap<String, Object>() {{
+			put("nodeIdentifier", getConfiguration().getNodeIdentifier());
+			put("sendMetricsByMessageVendorId", sendMetricsByMessageVendorId);
+			put("enqueuedMessageCountsByMessageTypeId", enqueuedMessageCountsByMessageTypeId);
+		}});
+	}
+
+	@Nonnull
+	@GET("/system/analytics-native-event-ingestion-metrics")
+	@AuthenticationRequired
+	public ApiResponse analyticsNativeEventIngestionMetrics() {
+		if (getCurrentContext().getAccount().get().getRoleId() != RoleId.ADMINISTRATOR)
+			throw new AuthorizationException();
+
+		Map<String, Long> ingestionMetrics = getAnalyticsNativeEventWriter().snapshot();
+
+		return new ApiResponse(new HashMap<String, Object>() {{
+			put("nodeIdentifier", getConfiguration().getNodeIdentifier());
+			put("durabilityModeId", getConfiguration().getAnalyticsNativeEventDurabilityModeId());
+			put("started", getAnalyticsNativeEventWriter().isStarted());
+			put("ingestionMetrics", ingestionMetrics);
+		}});
+	}
+
 	@Nonnull
 	@GET("/system/epic/sync-provider")
 	public ApiResponse epicSyncProvider(@Nonnull @QueryParameter UUID providerId,
@@ -394,6 +471,47 @@ public class SystemResource {
 		return new ApiResponse();
 	}
 
+	@Nonnull
+	@GET("/system/patient-order-projection")
+	@AuthenticationRequired
+	public ApiResponse patientOrderProjection() {
+		if (getCurrentContext().getAccount().get().getRoleId() != RoleId.ADMINISTRATOR)
+			throw new AuthorizationException();
+
+		PatientOrderProjectionStatus patientOrderProjectionStatus = getPatientOrderProjectionService().findPatientOrderProjectionStatus();
+
+		return new ApiResponse(new HashMap<String, Object>() {{
+			put("nodeIdentifier", getConfiguration().getNodeIdentifier());
+			put("enabled", patientOrderProjectionStatus.getEnabled());
+			put("readable", patientOrderProjectionStatus.getReadable());
+			put("lastUpdated", patientOrderProjectionStatus.getLastUpdated());
+			put("readableOnThisNode", getPatientOrderProjectionService().isPatientOrderProjectionReadable());
+		}});
+	}
+
+	/**
+	 * Turns the patient order projection on or off for every node.  Turning it on rebuilds the projection first.
+	 */
+	@Nonnull
+	@PUT("/system/patient-order-projection")
+	@AuthenticationRequired
+	public ApiResponse updatePatientOrderProjection(@Nonnull @QueryParameter Boolean enabled) {
+		requireNonNull(enabled);
+
+		if (getCurrentContext().getAccount().get().getRoleId() != RoleId.ADMINISTRATOR)
+			throw new AuthorizationException();
+
+		// The rebuild is slow, do it on a background thread
+		new Thread() {
+			@Override
+			public void run() {
+				getPatientOrderProjectionService().updatePatientOrderProjectionEnabled(enabled);
+			}
+		}.start();
+
+		return new ApiResponse();
+	}
+
 	/**
 	 * Simplify Way2Health testing by permitting the mock client to be "reset" so incidents can be re-fetched.
 	 *
@@ -584,6 +702,26 @@ public class SystemResource {
 		return this.institutionService;
 	}
 
+	@Nonnull
+	protected MessageService getMessageService() {
+		return this.messageService;
+	}
+
+	@Nonnull
+	protected MessageSendMetrics getMessageSendMetrics() {
+		return this.messageSendMetrics;
+	}
+
+	@Nonnull
+	protected AnalyticsNativeEventWriter getAnalyticsNativeEventWriter() {
+		return this.analyticsNativeEventWriter;
+	}
+
+	@Nonnull
+	protected PatientOrderProjectionService getPatientOrderProjectionService() {
+		return this.patientOrderProjectionService;
+	}
+
 	@Nonnull
 	protected IpGeolocationService getIpGeolocationService() {
 		return this.ipGeolocationService;
@@ -28,6 +28,7 @@ import com.cobaltplatform.api.util.ValidationException;
 import com.cobaltplatform.api.util.ValidationException.FieldError;
 import com.cobaltplatform.api.web.request.RequestBodyParsingException;
 import com.google.common.hash.Hashing;
+import com.google.common.hash.HashingOutputStream;
 import com.lokalized.Strings;
 import com.soklet.web.response.ApiResponse;
 import com.soklet.web.response.writer.ApiResponseWriter;
@@ -35,20 +36,30 @@ import com.soklet.web.routing.Route;
 import org.eclipse.jetty.io.EofException;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import javax.annotation.concurrent.ThreadSafe;
 import javax.inject.Inject;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
+import java.io.BufferedWriter;
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
 
 import static com.soklet.util.IoUtils.copyStreamCloseAfterwards;
+import static java.lang.String.format;
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.Objects.requireNonNull;
 import static java.util.stream.Collectors.joining;
@@ -59,6 +70,13 @@ import static java.util.stream.Collectors.toList;
  */
 @ThreadSafe
 public class JsonApiResponseWriter implements ApiResponseWriter {
+	@Nonnull
+	private static final Integer JSON_BUFFER_SIZE_IN_BYTES;
+
+	static {
+		JSON_BUFFER_SIZE_IN_BYTES = 8_192;
+	}
+
 	@Nonnull
 	private final Configuration configuration;
 	@Nonnull
@@ -166,28 +184,305 @@ public class JsonApiResponseWriter implements ApiResponseWriter {
 		httpServletResponse.setContentType("application/json;charset=UTF-8");
 
 		if (model != null) {
-			// Write to a string first instead of directly to OutputStream.
-			// This way if an error occurs, we can render a correct error response instead of terminating the write midstream
-			String json = getJsonMapper().toJson(model);
-
-			// Create a checksum of the JSON content and pass back in response headers.
-			// Useful for clients to see if response body has changed
-			String checksum = Hashing.sha256()
-					.hashString(json, StandardCharsets.UTF_8)
-					.toString();
-
-			httpServletResponse.setHeader("X-Cobalt-Checksum", checksum);
-
-			// HSTS support
-			// See https://developer.mozilla.org/en-US/docs/Web/HTTP/Headers/Strict-Transport-Security
-			httpServletResponse.setHeader("Strict-Transport-Security", "max-age=31536000; includeSubDomains");
-
-			try {
-				copyStreamCloseAfterwards(new ByteArrayInputStream(json.getBytes(UTF_8)),
-						httpServletResponse.getOutputStream());
-			} catch (EofException e) {
-				// Ignored
+			boolean conditionalRequestEligible = exception.isEmpty() && isConditionalRequestEligible(httpServletRequest, httpServletResponse);
+			boolean utf8Buffered = exception.isEmpty() && route.isPresent()
+					&& route.get().resourceMethod().getAnnotation(Utf8BufferedJsonResponse.class) != null;
+
+			if (utf8Buffered)
+				writeUtf8BufferedJson(httpServletRequest, httpServletResponse, model, conditionalRequestEligible);
+			else
+				writeBufferedJson(httpServletRequest, httpServletResponse, model, conditionalRequestEligible);
+		}
+	}
+
+	protected void writeBufferedJson(@Nonnull HttpServletRequest httpServletRequest,
+																	 @Nonnull HttpServletResponse httpServletResponse,
+																	 @Nonnull Object model,
+																	 @Nonnull Boolean conditionalRequestEligible) throws IOException {
+		requireNonNull(httpServletRequest);
+		requireNonNull(httpServletResponse);
+		requireNonNull(model);
+		requireNonNull(conditionalRequestEligible);
+
+		// Write to a string first instead of directly to OutputStream.
+		// This way if an error occurs, we can render a correct error response instead of terminating the write midstream
+		String json = getJsonMapper().toJson(model);
+
+		// Create a checksum of the JSON content and pass back in response headers.
+		// Useful for clients to see if response body has changed
+		String checksum = Hashing.sha256()
+				.hashString(json, StandardCharsets.UTF_8)
+				.toString();
+
+		byte[] body = json.getBytes(UTF_8);
+
+		ContentEncoding contentEncoding = writeResponseHeaders(httpServletRequest, httpServletResponse, checksum, body.length, conditionalRequestEligible).orElse(null);
+
+		// Not modified
+		if (contentEncoding == null)
+			return;
+
+		if (contentEncoding != ContentEncoding.IDENTITY) {
+			body = compress(body, contentEncoding);
+			httpServletResponse.setHeader("Content-Encoding", contentEncoding.getName());
+		}
+
+		httpServletResponse.setContentLength(body.length);
+
+		try {
+			copyStreamCloseAfterwards(new ByteArrayInputStream(body),
+					httpServletResponse.getOutputStream());
+		} catch (EofException e) {
+			// Ignored
+		}
+	}
+
+	/**
+	 * Serializes the model once into a UTF-8 byte buffer, rather than building an intermediate {@link String} like {@link #writeBufferedJson}.
+	 * <p>
+	 * The whole body is buffered before anything is sent: the checksum, ETag and Content-Length headers need all of it,
+	 * and a serialization failure can still become a clean error response.  The bytes are hashed as they're written,
+	 * and compression, if any, is applied on the way out to the client so we never hold a second compressed copy.
+	 */
+	protected void writeUtf8BufferedJson(@Nonnull HttpServletRequest httpServletRequest,
+																		@Nonnull HttpServletResponse httpServletResponse,
+																		@Nonnull Object model,
+																		@Nonnull Boolean conditionalRequestEligible) throws IOException {
+		requireNonNull(httpServletRequest);
+		requireNonNull(httpServletResponse);
+		requireNonNull(model);
+		requireNonNull(conditionalRequestEligible);
+
+		ByteArrayOutputStream body = new ByteArrayOutputStream(JSON_BUFFER_SIZE_IN_BYTES);
+		HashingOutputStream hashingOutputStream = new HashingOutputStream(Hashing.sha256(), body);
+
+		try (Writer writer = new BufferedWriter(new OutputStreamWriter(hashingOutputStream, UTF_8), JSON_BUFFER_SIZE_IN_BYTES)) {
+			getJsonMapper().toJson(model, writer);
+		}
+
+		String checksum = hashingOutputStream.hash().toString();
+
+		ContentEncoding contentEncoding = writeResponseHeaders(httpServletRequest, httpServletResponse, checksum, body.size(), conditionalRequestEligible).orElse(null);
+
+		// Not modified
+		if (contentEncoding == null)
+			return;
+
+		if (contentEncoding == ContentEncoding.IDENTITY)
+			httpServletResponse.setContentLength(body.size());
+		else
+			httpServletResponse.setHeader("Content-Encoding", contentEncoding.getName());
+
+		try (OutputStream outputStream = encodingOutputStreamFor(httpServletResponse.getOutputStream(), contentEncoding)) {
+			body.writeTo(outputStream);
+		} catch (EofException e) {
+			// Ignored
+		}
+	}
+
+	/**
+	 * Writes headers common to every JSON body and handles conditional requests.
+	 *
+	 * @return the encoding to use for the body, or empty if a {@code 304 Not Modified} was sent and no body should be written
+	 */
+	@Nonnull
+	protected Optional<ContentEncoding> writeResponseHeaders(@Nonnull HttpServletRequest httpServletRequest,
+																													 @Nonnull HttpServletResponse httpServletResponse,
+																													 @Nonnull String checksum,
+																													 long bodyLengthInBytes,
+																													 @Nonnull Boolean conditionalRequestEligible) {
+		requireNonNull(httpServletRequest);
+		requireNonNull(httpServletResponse);
+		requireNonNull(checksum);
+		requireNonNull(conditionalRequestEligible);
+
+		httpServletResponse.setHeader("X-Cobalt-Checksum", checksum);
+
+		// HSTS support
+		// See https://developer.mozilla.org/en-US/docs/Web/HTTP/Headers/Strict-Transport-Security
+		httpServletResponse.setHeader("Strict-Transport-Security", "max-age=31536000; includeSubDomains");
+
+		// Representation varies by Accept-Encoding, so caches must key on it too
+		httpServletResponse.addHeader("Vary", "Accept-Encoding");
+
+		ContentEncoding contentEncoding = ContentEncoding.IDENTITY;
+
+		if (getConfiguration().getJsonResponseCompressionEnabled() && bodyLengthInBytes >= getConfiguration().getJsonResponseCompressionThresholdInBytes())
+			contentEncoding = preferredContentEncodingFor(httpServletRequest.getHeader("Accept-Encoding"));
+
+		if (conditionalRequestEligible) {
+			// Strong ETag derived from the checksum.  Each encoding is a distinct representation, so it gets a distinct tag
+			String entityTag = contentEncoding == ContentEncoding.IDENTITY
+					? format("\"%s\"", checksum)
+					: format("\"%s-%s\"", checksum, contentEncoding.getName());
+
+			httpServletResponse.setHeader("ETag", entityTag);
+
+			// Data is per-account, so never let a shared cache hold it, and always revalidate
+			if (httpServletResponse.getHeader("Cache-Control") == null)
+				httpServletResponse.setHeader("Cache-Control", "private, no-cache");
+
+			if (entityTagMatches(httpServletRequest.getHeader("If-None-Match"), checksum)) {
+				httpServletResponse.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+				return Optional.empty();
+			}
+		}
+
+		return Optional.of(contentEncoding);
+	}
+
+	@Nonnull
+	protected Boolean isConditionalRequestEligible(@Nonnull HttpServletRequest httpServletRequest,
+																								 @Nonnull HttpServletResponse httpServletResponse) {
+		requireNonNull(httpServletRequest);
+		requireNonNull(httpServletResponse);
+
+		String method = httpServletRequest.getMethod();
+
+		if (!"GET".equalsIgnoreCase(method) && !"HEAD".equalsIgnoreCase(method))
+			return false;
+
+		int status = httpServletResponse.getStatus();
+		return status >= 200 && status < 300;
+	}
+
+	/**
+	 * Does the client's {@code If-None-Match} header contain a tag for this checksum?
+	 * <p>
+	 * Per RFC 9110, {@code If-None-Match} uses weak comparison, so {@code W/} prefixes are ignored.
+	 * Encoding suffixes are ignored as well - the underlying JSON is identical no matter how it was compressed.
+	 */
+	@Nonnull
+	protected Boolean entityTagMatches(@Nullable String ifNoneMatch,
+																		 @Nonnull String checksum) {
+		requireNonNull(checksum);
+
+		if (ifNoneMatch == null)
+			return false;
+
+		for (String entityTag : ifNoneMatch.split(",")) {
+			entityTag = entityTag.trim();
+
+			if (entityTag.equals("*"))
+				return true;
+
+			if (entityTag.startsWith("W/"))
+				entityTag = entityTag.substring(2);
+
+			if (entityTag.length() < 2 || !entityTag.startsWith("\"") || !entityTag.endsWith("\""))
+				continue;
+
+			entityTag = entityTag.substring(1, entityTag.length() - 1);
+
+			for (ContentEncoding contentEncoding : ContentEncoding.values()) {
+				String suffix = format("-%s", contentEncoding.getName());
+
+				if (contentEncoding != ContentEncoding.IDENTITY && entityTag.endsWith(suffix)) {
+					entityTag = entityTag.substring(0, entityTag.length() - suffix.length());
+					break;
+				}
+			}
+
+			if (entityTag.equals(checksum))
+				return true;
+		}
+
+		return false;
+	}
+
+	/**
+	 * Picks the best encoding the client accepts, honoring q-values.  Ties favor gzip, which decompresses fastest in browsers.
+	 */
+	@Nonnull
+	protected ContentEncoding preferredContentEncodingFor(@Nullable String acceptEncoding) {
+		if (acceptEncoding == null)
+			return ContentEncoding.IDENTITY;
+
+		ContentEncoding preferredContentEncoding = ContentEncoding.IDENTITY;
+		double preferredQuality = 0;
+
+		for (String acceptEncodingComponent : acceptEncoding.split(",")) {
+			String[] parameters = acceptEncodingComponent.trim().split(";");
+			String name = parameters[0].trim().toLowerCase(Locale.US);
+			double quality = 1;
+
+			for (int i = 1; i < parameters.length; ++i) {
+				String parameter = parameters[i].trim();
+
+				if (parameter.startsWith("q=")) {
+					try {
+						quality = Double.parseDouble(parameter.substring(2).trim());
+					} catch (NumberFormatException e) {
+						quality = 0;
+					}
+				}
 			}
+
+			ContentEncoding contentEncoding = null;
+
+			if (name.equals("gzip") || name.equals("x-gzip") || name.equals("*"))
+				contentEncoding = ContentEncoding.GZIP;
+			else if (name.equals("deflate"))
+				contentEncoding = ContentEncoding.DEFLATE;
+
+			if (contentEncoding == null || quality <= 0)
+				continue;
+
+			if (quality > preferredQuality || (quality == preferredQuality && contentEncoding == ContentEncoding.GZIP)) {
+				preferredContentEncoding = contentEncoding;
+				preferredQuality = quality;
+			}
+		}
+
+		return preferredContentEncoding;
+	}
+
+	@Nonnull
+	protected byte[] compress(@Nonnull byte[] body,
+														@Nonnull ContentEncoding contentEncoding) throws IOException {
+		requireNonNull(body);
+		requireNonNull(contentEncoding);
+
+		ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream(Math.max(body.length / 4, 64));
+
+		try (OutputStream outputStream = encodingOutputStreamFor(byteArrayOutputStream, contentEncoding)) {
+			outputStream.write(body);
+		}
+
+		return byteArrayOutputStream.toByteArray();
+	}
+
+	@Nonnull
+	protected OutputStream encodingOutputStreamFor(@Nonnull OutputStream outputStream,
+																								 @Nonnull ContentEncoding contentEncoding) throws IOException {
+		requireNonNull(outputStream);
+		requireNonNull(contentEncoding);
+
+		if (contentEncoding == ContentEncoding.GZIP)
+			return new GZIPOutputStream(outputStream, JSON_BUFFER_SIZE_IN_BYTES);
+
+		if (contentEncoding == ContentEncoding.DEFLATE)
+			return new DeflaterOutputStream(outputStream);
+
+		return outputStream;
+	}
+
+	public enum ContentEncoding {
+		IDENTITY("identity"),
+		GZIP("gzip"),
+		DEFLATE("deflate");
+
+		@Nonnull
+		private final String name;
+
+		ContentEncoding(@Nonnull String name) {
+			requireNonNull(name);
+			this.name = name;
+		}
+
+		@Nonnull
+		public String getName() {
+			return this.name;
 		}
 	}
 
@@ -0,0 +1,43 @@
+/*
+ * Copyright 2021 The University of Pennsylvania and Penn Medicine
+ *
+ * Originally created at the University of Pennsylvania and Penn Medicine by:
+ * Dr. David Asch; Dr. Lisa Bellini; Dr. Cecilia Livesey; Kelley Kugler; and Dr. Matthew Press.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cobaltplatform.api.web.response;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+/**
+ * Marks a resource method whose JSON response should be serialized once into a UTF-8 byte buffer, instead of into a
+ * {@code String} that is then copied to bytes (and, if compressed, copied again).
+ * <p>
+ * The body is still fully buffered - not streamed - because the checksum, {@code ETag} and {@code Content-Length}
+ * headers all need the complete body before the first byte is sent.  This keeps one copy on the heap rather than three.
+ * <p>
+ * Intended for endpoints that can return very large payloads.  Error responses always use the {@code String} path.
+ *
+ * @author Transmogrify, LLC.
+ */
+@Target({METHOD})
+@Retention(RUNTIME)
+public @interface Utf8BufferedJsonResponse {
+	// No attributes
+}
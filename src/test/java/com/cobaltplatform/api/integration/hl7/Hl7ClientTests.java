@@ -20,6 +20,7 @@
 package com.cobaltplatform.api.integration.hl7;
 
 import com.cobaltplatform.api.integration.hl7.model.event.Hl7GeneralOrderTriggerEvent;
+import org.junit.Assert;
 import org.junit.BeforeClass;
 import org.junit.Test;
 
@@ -27,6 +28,13 @@ import javax.annotation.concurrent.ThreadSafe;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static com.soklet.util.LoggingUtils.initializeLogback;
 
@@ -51,4 +59,63 @@ public class Hl7ClientTests {
 		System.out.println(generalOrderHl7AsString);
 		System.out.println(generalOrder);
 	}
+
+	@Test
+	public void testConcurrentHl7Parsing() throws Exception {
+		List<Path> generalOrderHl7Paths;
+
+		try (Stream<Path> paths = Files.list(Path.of("localstack/secrets/patient-order-hl7"))) {
+			generalOrderHl7Paths = paths
+					.filter(path -> path.getFileName().toString().endsWith(".txt"))
+					.sorted()
+					.collect(Collectors.toList());
+		}
+
+		Assert.assertTrue("No sample HL7 messages found", generalOrderHl7Paths.size() > 0);
+
+		Hl7Client hl7Client = new Hl7Client();
+		List<String> generalOrderHl7AsStrings = new ArrayList<>(generalOrderHl7Paths.size());
+
+		for (Path generalOrderHl7Path : generalOrderHl7Paths)
+			generalOrderHl7AsStrings.add(hl7Client.messageFromBytes(Files.readAllBytes(generalOrderHl7Path)));
+
+		final int ROUNDS = 20;
+		final int THREAD_COUNT = 8;
+
+		// Baseline: a fresh client (and therefore a fresh HAPI context) per message, which is how parsing used to work
+		List<String> expectedGeneralOrders = new ArrayList<>(generalOrderHl7AsStrings.size());
+		long baselineStartTime = System.nanoTime();
+
+		for (int i = 0; i < ROUNDS; ++i) {
+			for (String generalOrderHl7AsString : generalOrderHl7AsStrings) {
+				String generalOrder = new Hl7Client().parseGeneralOrder(generalOrderHl7AsString).toString();
+
+				if (i == 0)
+					expectedGeneralOrders.add(generalOrder);
+			}
+		}
+
+		long baselineElapsedMillis = (System.nanoTime() - baselineStartTime) / 1_000_000;
+
+		// Shared client, many threads parsing the same messages at once.  Results must match the baseline exactly
+		ExecutorService executorService = Executors.newFixedThreadPool(THREAD_COUNT);
+		List<Future<String>> futures = new ArrayList<>(ROUNDS * generalOrderHl7AsStrings.size());
+		long sharedStartTime = System.nanoTime();
+
+		try {
+			for (int i = 0; i < ROUNDS; ++i)
+				for (String generalOrderHl7AsString : generalOrderHl7AsStrings)
+					futures.add(executorService.submit(() -> hl7Client.parseGeneralOrder(generalOrderHl7AsString).toString()));
+
+			for (int i = 0; i < futures.size(); ++i)
+				Assert.assertEquals("Concurrently-parsed order does not match", expectedGeneralOrders.get(i % expectedGeneralOrders.size()), futures.get(i).get());
+		} finally {
+			executorService.shutdownNow();
+		}
+
+		long sharedElapsedMillis = (System.nanoTime() - sharedStartTime) / 1_000_000;
+
+		System.out.printf("Parsed %d messages: context per message took %dms, shared client with %d threads took %dms\n",
+				futures.size(), baselineElapsedMillis, THREAD_COUNT, sharedElapsedMillis);
+	}
 }
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2021 The University of Pennsylvania and Penn Medicine
+ *
+ * Originally created at the University of Pennsylvania and Penn Medicine by:
+ * Dr. David Asch; Dr. Lisa Bellini; Dr. Cecilia Livesey; Kelley Kugler; and Dr. Matthew Press.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cobaltplatform.api.service;
+
+import com.cobaltplatform.api.IntegrationTestExecutor;
+import com.cobaltplatform.api.model.api.request.UpsertClientDeviceRequest;
+import com.cobaltplatform.api.model.db.Account;
+import com.cobaltplatform.api.model.db.ClientDevice;
+import com.cobaltplatform.api.model.db.ClientDeviceType.ClientDeviceTypeId;
+import com.cobaltplatform.api.model.db.Institution.InstitutionId;
+import org.junit.Assert;
+import org.junit.Test;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+import java.util.List;
+import java.util.UUID;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * @author Transmogrify, LLC.
+ */
+@ThreadSafe
+public class ClientDeviceServiceTests {
+	@Test
+	public void upsertClientDevicesFlush() {
+		IntegrationTestExecutor.runTransactionallyAndForceRollback((app) -> {
+			ClientDeviceService clientDeviceService = app.getInjector().getInstance(ClientDeviceService.class);
+			AccountService accountService = app.getInjector().getInstance(AccountService.class);
+			Account account = accountService.findAdminAccountsForInstitution(InstitutionId.COBALT).get(0);
+
+			UUID fingerprint = UUID.randomUUID();
+			UUID otherFingerprint = UUID.randomUUID();
+
+			// Same device seen twice in one flush (last one wins) plus a second, anonymous device
+			clientDeviceService.upsertClientDevices(List.of(
+					upsertClientDeviceRequest(account.getAccountId(), fingerprint, "17.0"),
+					upsertClientDeviceRequest(account.getAccountId(), fingerprint, "17.1"),
+					upsertClientDeviceRequest(null, otherFingerprint, "14")
+			));
+
+			ClientDevice clientDevice = clientDeviceService.findClientDeviceByFingerprint(fingerprint).orElse(null);
+			ClientDevice otherClientDevice = clientDeviceService.findClientDeviceByFingerprint(otherFingerprint).orElse(null);
+
+			Assert.assertNotNull("Client device was not upserted", clientDevice);
+			Assert.assertNotNull("Other client device was not upserted", otherClientDevice);
+			Assert.assertEquals("Latest request for a fingerprint should win", "17.1", clientDevice.getOperatingSystemVersion());
+			Assert.assertTrue("Account was not associated with client device",
+					clientDeviceService.isAccountAssociatedWithClientDeviceId(account.getAccountId(), clientDevice.getClientDeviceId()));
+			Assert.assertFalse("Account should not be associated with other client device",
+					clientDeviceService.isAccountAssociatedWithClientDeviceId(account.getAccountId(), otherClientDevice.getClientDeviceId()));
+
+			// A later flush for an existing device updates it in place and doesn't duplicate the association
+			clientDeviceService.upsertClientDevices(List.of(upsertClientDeviceRequest(account.getAccountId(), fingerprint, "18.0")));
+
+			ClientDevice updatedClientDevice = clientDeviceService.findClientDeviceByFingerprint(fingerprint).get();
+
+			Assert.assertEquals("Client device should have been updated in place", clientDevice.getClientDeviceId(), updatedClientDevice.getClientDeviceId());
+			Assert.assertEquals("Client device OS version was not updated", "18.0", updatedClientDevice.getOperatingSystemVersion());
+		});
+	}
+
+	@Nonnull
+	protected UpsertClientDeviceRequest upsertClientDeviceRequest(@Nullable UUID accountId,
+																																@Nonnull UUID fingerprint,
+																																@Nonnull String operatingSystemVersion) {
+		requireNonNull(fingerprint);
+		requireNonNull(operatingSystemVersion);
+
+		UpsertClientDeviceRequest request = new UpsertClientDeviceRequest();
+		request.setAccountId(accountId);
+		request.setClientDeviceTypeId(ClientDeviceTypeId.IOS_APP);
+		request.setFingerprint(fingerprint);
+		request.setBrand("Apple");
+		request.setModel("iPhone");
+		request.setOperatingSystemName("iOS");
+		request.setOperatingSystemVersion(operatingSystemVersion);
+
+		return request;
+	}
+}
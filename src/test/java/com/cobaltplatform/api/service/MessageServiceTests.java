@@ -25,6 +25,8 @@ import com.cobaltplatform.api.messaging.email.EmailMessage;
 import com.cobaltplatform.api.messaging.email.EmailMessageTemplate;
 import com.cobaltplatform.api.model.api.request.CreateScheduledMessageRequest;
 import com.cobaltplatform.api.model.db.Institution.InstitutionId;
+import com.cobaltplatform.api.model.db.MessageStatus.MessageStatusId;
+import com.cobaltplatform.api.model.db.MessageType.MessageTypeId;
 import com.cobaltplatform.api.model.db.ScheduledMessage;
 import com.cobaltplatform.api.model.db.ScheduledMessageStatus.ScheduledMessageStatusId;
 import com.cobaltplatform.api.util.db.DatabaseProvider;
@@ -216,6 +218,37 @@ public class MessageServiceTests {
 		});
 	}
 
+	@Test
+	public void abandonedSendingMessagesAreFailed() {
+		IntegrationTestExecutor.runTransactionallyAndForceRollback((app) -> {
+			MessageService.SendMessageTask sendMessageTask = app.getInjector().getInstance(MessageService.SendMessageTask.class);
+			Database database = app.getInjector().getInstance(DatabaseProvider.class).getWritableMasterDatabase();
+
+			UUID abandonedMessageId = UUID.randomUUID();
+			UUID inFlightMessageId = UUID.randomUUID();
+
+			database.execute("""
+					INSERT INTO message_log (message_id, message_type_id, message_status_id, serialized_message, enqueued, sending_started_at)
+					VALUES (?, ?, ?, '{}'::jsonb, NOW() - INTERVAL '2 hours', NOW() - INTERVAL '1 hour')
+					""", abandonedMessageId, MessageTypeId.EMAIL, MessageStatusId.SENDING);
+
+			database.execute("""
+					INSERT INTO message_log (message_id, message_type_id, message_status_id, serialized_message, enqueued, sending_started_at)
+					VALUES (?, ?, ?, '{}'::jsonb, NOW() - INTERVAL '2 hours', NOW())
+					""", inFlightMessageId, MessageTypeId.EMAIL, MessageStatusId.SENDING);
+
+			sendMessageTask.failAbandonedSendingMessages();
+
+			MessageStatusId abandonedMessageStatusId = database.queryForObject("SELECT message_status_id FROM message_log WHERE message_id=?",
+					MessageStatusId.class, abandonedMessageId).get();
+			MessageStatusId inFlightMessageStatusId = database.queryForObject("SELECT message_status_id FROM message_log WHERE message_id=?",
+					MessageStatusId.class, inFlightMessageId).get();
+
+			Assert.assertEquals("Abandoned message was not transitioned to ERROR", MessageStatusId.ERROR, abandonedMessageStatusId);
+			Assert.assertEquals("In-flight message should have been left alone", MessageStatusId.SENDING, inFlightMessageStatusId);
+		});
+	}
+
 	@Nonnull
 	protected Message createMessage() {
 		return new EmailMessage.Builder(InstitutionId.COBALT, EmailMessageTemplate.ACCOUNT_VERIFICATION, Locale.US)
@@ -0,0 +1,156 @@
+/*
+ * Copyright 2021 The University of Pennsylvania and Penn Medicine
+ *
+ * Originally created at the University of Pennsylvania and Penn Medicine by:
+ * Dr. David Asch; Dr. Lisa Bellini; Dr. Cecilia Livesey; Kelley Kugler; and Dr. Matthew Press.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cobaltplatform.api.service;
+
+import com.cobaltplatform.api.IntegrationTestExecutor;
+import com.cobaltplatform.api.model.api.request.CreatePatientOrderImportRequest;
+import com.cobaltplatform.api.model.db.Account;
+import com.cobaltplatform.api.model.db.Institution.InstitutionId;
+import com.cobaltplatform.api.model.db.PatientOrder;
+import com.cobaltplatform.api.model.db.PatientOrderImportType.PatientOrderImportTypeId;
+import com.cobaltplatform.api.util.db.DatabaseProvider;
+import com.pyranid.Database;
+import org.junit.Assert;
+import org.junit.Test;
+
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.ThreadSafe;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * @author Transmogrify, LLC.
+ */
+@ThreadSafe
+public class PatientOrderProjectionServiceTests {
+	@Test
+	public void projectionColumnsMatchView() {
+		IntegrationTestExecutor.runTransactionallyAndForceRollback((app) -> {
+			PatientOrderProjectionService patientOrderProjectionService = app.getInjector().getInstance(PatientOrderProjectionService.class);
+
+			List<String> columnNames = patientOrderProjectionService.getPatientOrderProjectionColumnNames();
+
+			Assert.assertTrue("Projection should copy patient_order_id", columnNames.contains("patient_order_id"));
+			Assert.assertFalse("projected_at is set by the projection, not copied from the view", columnNames.contains("projected_at"));
+		});
+	}
+
+	@Test
+	public void refreshedProjectionMatchesView() {
+		IntegrationTestExecutor.runTransactionallyAndForceRollback((app) -> {
+			PatientOrderProjectionService patientOrderProjectionService = app.getInjector().getInstance(PatientOrderProjectionService.class);
+			Database database = app.getInjector().getInstance(DatabaseProvider.class).getWritableMasterDatabase();
+			UUID patientOrderImportId = importPatientOrders(app.getInjector().getInstance(PatientOrderService.class),
+					app.getInjector().getInstance(AccountService.class));
+
+			List<UUID> patientOrderIds = app.getInjector().getInstance(PatientOrderService.class).findPatientOrdersByPatientOrderImportId(patientOrderImportId).stream()
+					.map(patientOrder -> patientOrder.getPatientOrderId())
+					.collect(Collectors.toList());
+
+			patientOrderProjectionService.refreshPatientOrderProjections(patientOrderIds);
+
+			String columnsSql = patientOrderProjectionService.getPatientOrderProjectionColumnNames().stream()
+					.map(columnName -> format("\"%s\"", columnName))
+					.collect(Collectors.joining(", "));
+
+			// Rows are compared as JSONB so column types without an equality operator (e.g. JSON) don't break EXCEPT
+			Long mismatchedCount = database.queryForObject(format("""
+					SELECT COUNT(*) FROM (
+					  (SELECT to_jsonb(v) FROM (SELECT %s FROM v_all_patient_order WHERE patient_order_id IN (SELECT patient_order_id FROM patient_order WHERE patient_order_import_id=?)) v
+					   EXCEPT
+					   SELECT to_jsonb(p) FROM (SELECT %s FROM patient_order_projection WHERE patient_order_id IN (SELECT patient_order_id FROM patient_order WHERE patient_order_import_id=?)) p)
+					  UNION ALL
+					  (SELECT to_jsonb(p) FROM (SELECT %s FROM patient_order_projection WHERE patient_order_id IN (SELECT patient_order_id FROM patient_order WHERE patient_order_import_id=?)) p
+					   EXCEPT
+					   SELECT to_jsonb(v) FROM (SELECT %s FROM v_all_patient_order WHERE patient_order_id IN (SELECT patient_order_id FROM patient_order WHERE patient_order_import_id=?)) v)
+					) mismatched
+					""", columnsSql, columnsSql, columnsSql, columnsSql), Long.class,
+					patientOrderImportId, patientOrderImportId, patientOrderImportId, patientOrderImportId).get();
+
+			Assert.assertEquals("Projection rows should match the view they were copied from", Long.valueOf(0), mismatchedCount);
+			Assert.assertEquals("Every imported order should have been projected", Long.valueOf(patientOrderIds.size()), database.queryForObject("""
+					SELECT COUNT(*)
+					FROM patient_order_projection
+					WHERE patient_order_id IN (SELECT patient_order_id FROM patient_order WHERE patient_order_import_id=?)
+					""", Long.class, patientOrderImportId).get());
+		});
+	}
+
+	@Test
+	public void queuedProjectionsRefreshedForInstitution() {
+		IntegrationTestExecutor.runTransactionallyAndForceRollback((app) -> {
+			PatientOrderProjectionService patientOrderProjectionService = app.getInjector().getInstance(PatientOrderProjectionService.class);
+			PatientOrderService patientOrderService = app.getInjector().getInstance(PatientOrderService.class);
+			Database database = app.getInjector().getInstance(DatabaseProvider.class).getWritableMasterDatabase();
+			UUID patientOrderImportId = importPatientOrders(patientOrderService, app.getInjector().getInstance(AccountService.class));
+
+			PatientOrder patientOrder = patientOrderService.findPatientOrdersByPatientOrderImportId(patientOrderImportId).get(0);
+			UUID patientOrderId = patientOrder.getPatientOrderId();
+
+			// Simulate a write the background refresh hasn't picked up yet, regardless of whether the triggers are enabled here
+			database.execute("DELETE FROM patient_order_projection WHERE patient_order_id=?", patientOrderId);
+			database.execute("INSERT INTO patient_order_projection_queue (patient_order_id) VALUES (?) ON CONFLICT DO NOTHING", patientOrderId);
+
+			// Orders queued for other institutions are left alone
+			patientOrderProjectionService.refreshQueuedPatientOrderProjectionsForInstitutionId(InstitutionId.COBALT);
+
+			Assert.assertFalse("Order should not have been projected for a different institution", isProjected(database, patientOrderId));
+
+			patientOrderProjectionService.refreshQueuedPatientOrderProjectionsForInstitutionId(patientOrder.getInstitutionId());
+
+			Assert.assertTrue("Queued order was not projected for its institution", isProjected(database, patientOrderId));
+		});
+	}
+
+	@Nonnull
+	protected UUID importPatientOrders(@Nonnull PatientOrderService patientOrderService,
+																		 @Nonnull AccountService accountService) throws Exception {
+		requireNonNull(patientOrderService);
+		requireNonNull(accountService);
+
+		Account adminAccount = accountService.findAdminAccountsForInstitution(InstitutionId.COBALT).get(0);
+		String csvContent = Files.readString(Path.of("resources/test/ic-order-report.csv"), StandardCharsets.UTF_8);
+
+		return patientOrderService.createPatientOrderImport(new CreatePatientOrderImportRequest() {{
+			setCsvContent(csvContent);
+			setInstitutionId(InstitutionId.COBALT_IC);
+			setPatientOrderImportTypeId(PatientOrderImportTypeId.CSV);
+			setAccountId(adminAccount.getAccountId());
+		}}).getPatientOrderImportId();
+	}
+
+	@Nonnull
+	protected Boolean isProjected(@Nonnull Database database,
+																@Nonnull UUID patientOrderId) {
+		requireNonNull(database);
+		requireNonNull(patientOrderId);
+
+		return database.queryForObject("""
+				SELECT EXISTS (SELECT 1 FROM patient_order_projection WHERE patient_order_id=?)
+				""", Boolean.class, patientOrderId).get();
+	}
+}
@@ -25,6 +25,8 @@ import com.cobaltplatform.api.model.api.request.CreatePatientOrderImportRequest;
 import com.cobaltplatform.api.model.api.request.CreatePatientOrderNoteRequest;
 import com.cobaltplatform.api.model.api.request.DeletePatientOrderNoteRequest;
 import com.cobaltplatform.api.model.api.request.FindPatientOrdersRequest;
+import com.cobaltplatform.api.model.api.request.FindPatientOrdersRequest.PatientOrderSortColumnId;
+import com.cobaltplatform.api.model.api.request.FindPatientOrdersRequest.PatientOrderSortRule;
 import com.cobaltplatform.api.model.api.request.UpdatePatientOrderNoteRequest;
 import com.cobaltplatform.api.model.db.Account;
 import com.cobaltplatform.api.model.db.AccountSource.AccountSourceId;
@@ -37,14 +39,30 @@ import com.cobaltplatform.api.model.db.PatientOrderNote;
 import com.cobaltplatform.api.model.db.Role.RoleId;
 import com.cobaltplatform.api.model.service.FindResult;
 import com.cobaltplatform.api.model.service.PatientOrderImportResult;
+import com.cobaltplatform.api.model.service.SortDirectionId;
+import com.cobaltplatform.api.model.service.SortNullsId;
+import com.cobaltplatform.api.util.ValidationException;
+import com.cobaltplatform.api.util.db.DatabaseProvider;
+import com.pyranid.Database;
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVRecord;
 import org.junit.Assert;
 import org.junit.Test;
 
+import javax.annotation.Nonnull;
 import javax.annotation.concurrent.ThreadSafe;
+import java.io.Reader;
+import java.io.StringReader;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 import static java.lang.String.format;
@@ -77,6 +95,10 @@ public class PatientOrderServiceTests {
 			PatientOrderImport patientOrderImport = patientOrderService.findPatientOrderImportById(patientOrderImportId).orElse(null);
 
 			Assert.assertNotNull("Unable to read back patient order import after creating it", patientOrderImport);
+			Assert.assertNotNull("Patient order import was not marked as completed", patientOrderImport.getCompletedAt());
+			Assert.assertEquals("Unexpected number of processed records for import", Integer.valueOf(8), patientOrderImport.getProcessedRecordCount());
+			Assert.assertEquals("Unexpected number of imported records for import", Integer.valueOf(8), patientOrderImport.getImportedRecordCount());
+			Assert.assertEquals("Unexpected number of failed records for import", Integer.valueOf(0), patientOrderImport.getFailedRecordCount());
 
 			List<PatientOrder> patientOrders = patientOrderService.findPatientOrdersByPatientOrderImportId(patientOrderImportId);
 
@@ -171,4 +193,252 @@ public class PatientOrderServiceTests {
 			Assert.assertEquals("Patient order panel account assignment failed", panelAccount.getAccountId(), patientOrder.getPanelAccountId());
 		});
 	}
+
+	@Test
+	public void patientOrderImportResume() {
+		IntegrationTestExecutor.runTransactionallyAndForceRollback((app) -> {
+			PatientOrderService patientOrderService = app.getInjector().getInstance(PatientOrderService.class);
+			AccountService accountService = app.getInjector().getInstance(AccountService.class);
+			Database database = app.getInjector().getInstance(DatabaseProvider.class).getWritableMasterDatabase();
+			Account adminAccount = accountService.findAdminAccountsForInstitution(InstitutionId.COBALT).get(0);
+			String csvContent = Files.readString(Path.of("resources/test/ic-order-report.csv"), StandardCharsets.UTF_8);
+
+			CreatePatientOrderImportRequest request = new CreatePatientOrderImportRequest() {{
+				setCsvContent(csvContent);
+				setInstitutionId(InstitutionId.COBALT_IC);
+				setPatientOrderImportTypeId(PatientOrderImportTypeId.CSV);
+				setAccountId(adminAccount.getAccountId());
+			}};
+
+			UUID patientOrderImportId = patientOrderService.createPatientOrderImport(request).getPatientOrderImportId();
+
+			// Pretend the import died after its first 5 rows were committed
+			database.execute("""
+					UPDATE patient_order_import
+					SET completed_at=NULL, processed_record_count=5, imported_record_count=5
+					WHERE patient_order_import_id=?
+					""", patientOrderImportId);
+
+			// Still looks like it's running (no failure, recently updated), so a re-upload is turned away
+			try {
+				patientOrderService.createPatientOrderImport(request);
+				Assert.fail("Re-uploading a file that's still being imported should fail");
+			} catch (ValidationException ignored) {
+				// Expected
+			}
+
+			database.execute("UPDATE patient_order_import SET failed_at=NOW(), failure_message='Test' WHERE patient_order_import_id=?", patientOrderImportId);
+
+			// Once it has failed, re-uploading the same file resumes it after the committed rows
+			PatientOrderImportResult resumedPatientOrderImportResult = patientOrderService.createPatientOrderImport(request);
+
+			Assert.assertEquals("Re-upload should resume the same import", patientOrderImportId, resumedPatientOrderImportResult.getPatientOrderImportId());
+			Assert.assertEquals("Only rows after the committed ones should be imported", 3, resumedPatientOrderImportResult.getPatientOrderIds().size());
+
+			PatientOrderImport patientOrderImport = patientOrderService.findPatientOrderImportById(patientOrderImportId).get();
+
+			Assert.assertNotNull("Resumed import was not marked as completed", patientOrderImport.getCompletedAt());
+			Assert.assertNull("Resumed import should no longer be marked as failed", patientOrderImport.getFailedAt());
+			Assert.assertEquals("Unexpected number of processed records for resumed import", Integer.valueOf(8), patientOrderImport.getProcessedRecordCount());
+
+			// Rows 6-8 were really imported the first time too, so they exist twice now - but rows 1-5 must not have been touched
+			List<String> firstRowOrderIds = new ArrayList<>();
+
+			try (Reader reader = new StringReader(csvContent)) {
+				for (CSVRecord record : CSVFormat.DEFAULT.withFirstRecordAsHeader().parse(reader))
+					if (firstRowOrderIds.size() < 5)
+						firstRowOrderIds.add(record.get("Order ID").trim());
+			}
+
+			List<PatientOrder> patientOrders = patientOrderService.findPatientOrdersByPatientOrderImportId(patientOrderImportId);
+
+			Assert.assertEquals("Unexpected number of orders after resuming", 11, patientOrders.size());
+
+			for (String firstRowOrderId : firstRowOrderIds)
+				Assert.assertEquals(format("Order ID %s from an already-committed row was imported again", firstRowOrderId), 1,
+						patientOrders.stream().filter(patientOrder -> firstRowOrderId.equals(patientOrder.getOrderId())).count());
+		});
+	}
+
+	@Test
+	public void patientOrderPageCursorRoundTrip() {
+		IntegrationTestExecutor.runTransactionallyAndForceRollback((app) -> {
+			PatientOrderService patientOrderService = app.getInjector().getInstance(PatientOrderService.class);
+
+			List<PatientOrderSortRule> patientOrderSortRules = List.of(
+					patientOrderSortRule(PatientOrderSortColumnId.ORDER_DATE, SortDirectionId.DESCENDING, SortNullsId.NULLS_LAST),
+					patientOrderSortRule(PatientOrderSortColumnId.PATIENT_LAST_NAME, SortDirectionId.ASCENDING, SortNullsId.NULLS_FIRST),
+					patientOrderSortRule(PatientOrderSortColumnId.EPISODE_CLOSED_AT, SortDirectionId.ASCENDING, SortNullsId.NULLS_LAST),
+					patientOrderSortRule(PatientOrderSortColumnId.OUTREACH_NUMBER, SortDirectionId.DESCENDING, SortNullsId.NULLS_FIRST)
+			);
+
+			UUID patientOrderId = UUID.randomUUID();
+			LocalDate orderDate = LocalDate.of(2024, 2, 29);
+			Instant episodeClosedAt = Instant.parse("2024-03-01T12:34:56.789Z");
+
+			PatientOrder patientOrder = new PatientOrder();
+			patientOrder.setPatientOrderId(patientOrderId);
+			patientOrder.setOrderDate(orderDate);
+			patientOrder.setPatientLastName("O'Brien, \"Jr\"");
+			patientOrder.setEpisodeClosedAt(episodeClosedAt);
+			patientOrder.setTotalOutreachCount(3);
+
+			String pageCursor = patientOrderService.pageCursorFor(patientOrderSortRules, patientOrder);
+			List<Object> keysetParameters = new ArrayList<>();
+			patientOrderService.keysetWhereClauseFor(patientOrderSortRules, pageCursor, keysetParameters);
+
+			// Each disjunct repeats the earlier sort values as ties, then the patient order ID breaks the final tie
+			List<Object> expectedKeysetParameters = List.of(
+					orderDate,
+					orderDate, "O'Brien, \"Jr\"",
+					orderDate, "O'Brien, \"Jr\"", episodeClosedAt,
+					orderDate, "O'Brien, \"Jr\"", episodeClosedAt, 3,
+					orderDate, "O'Brien, \"Jr\"", episodeClosedAt, 3, patientOrderId
+			);
+
+			Assert.assertEquals("Page cursor sort values did not survive a round trip", expectedKeysetParameters, keysetParameters);
+
+			// Every sortable type should parse back to an equal value from its string form
+			Assert.assertEquals(orderDate, patientOrderService.parsePatientOrderSortValue(PatientOrderSortColumnId.ORDER_DATE, orderDate.toString()));
+			Assert.assertEquals(episodeClosedAt, patientOrderService.parsePatientOrderSortValue(PatientOrderSortColumnId.EPISODE_CLOSED_AT, episodeClosedAt.toString()));
+			Assert.assertEquals(episodeClosedAt, patientOrderService.parsePatientOrderSortValue(PatientOrderSortColumnId.MOST_RECENT_SCREENING_SESSION_COMPLETED_AT, episodeClosedAt.toString()));
+
+			LocalDateTime nextContactScheduledAt = LocalDateTime.of(2024, 3, 1, 9, 0, 30, 500_000_000);
+			Assert.assertEquals(nextContactScheduledAt, patientOrderService.parsePatientOrderSortValue(PatientOrderSortColumnId.NEXT_CONTACT_SCHEDULED_AT, nextContactScheduledAt.toString()));
+			Assert.assertEquals(nextContactScheduledAt, patientOrderService.parsePatientOrderSortValue(PatientOrderSortColumnId.MOST_RECENT_OUTREACH_DATE_TIME, nextContactScheduledAt.toString()));
+
+			Assert.assertEquals(42, patientOrderService.parsePatientOrderSortValue(PatientOrderSortColumnId.EPISODE_LENGTH, "42"));
+			Assert.assertEquals("Acme Practice", patientOrderService.parsePatientOrderSortValue(PatientOrderSortColumnId.PRACTICE, "Acme Practice"));
+			Assert.assertNull(patientOrderService.parsePatientOrderSortValue(PatientOrderSortColumnId.ORDER_DATE, null));
+
+			// A cursor is only valid for the sort it was created with
+			List<PatientOrderSortRule> differentPatientOrderSortRules = List.of(
+					patientOrderSortRule(PatientOrderSortColumnId.ORDER_DATE, SortDirectionId.ASCENDING, SortNullsId.NULLS_LAST),
+					patientOrderSortRule(PatientOrderSortColumnId.PATIENT_LAST_NAME, SortDirectionId.ASCENDING, SortNullsId.NULLS_FIRST),
+					patientOrderSortRule(PatientOrderSortColumnId.EPISODE_CLOSED_AT, SortDirectionId.ASCENDING, SortNullsId.NULLS_LAST),
+					patientOrderSortRule(PatientOrderSortColumnId.OUTREACH_NUMBER, SortDirectionId.DESCENDING, SortNullsId.NULLS_FIRST)
+			);
+
+			Assert.assertThrows(ValidationException.class,
+					() -> patientOrderService.keysetWhereClauseFor(differentPatientOrderSortRules, pageCursor, new ArrayList<>()));
+			Assert.assertThrows(ValidationException.class,
+					() -> patientOrderService.keysetWhereClauseFor(patientOrderSortRules, "not-a-cursor", new ArrayList<>()));
+		});
+	}
+
+	@Test
+	public void patientOrderPageCursorTieBreak() {
+		IntegrationTestExecutor.runTransactionallyAndForceRollback((app) -> {
+			PatientOrderService patientOrderService = app.getInjector().getInstance(PatientOrderService.class);
+
+			List<PatientOrderSortRule> patientOrderSortRules = List.of(
+					patientOrderSortRule(PatientOrderSortColumnId.PATIENT_LAST_NAME, SortDirectionId.ASCENDING, SortNullsId.NULLS_LAST));
+
+			UUID patientOrderId = UUID.randomUUID();
+			PatientOrder patientOrder = new PatientOrder();
+			patientOrder.setPatientOrderId(patientOrderId);
+			patientOrder.setPatientLastName("Smith");
+
+			List<Object> keysetParameters = new ArrayList<>();
+			String keysetWhereClause = patientOrderService.keysetWhereClauseFor(patientOrderSortRules,
+					patientOrderService.pageCursorFor(patientOrderSortRules, patientOrder), keysetParameters);
+
+			// Rows tied on last name fall back to patient order ID, and trailing NULLs still come after "Smith"
+			Assert.assertEquals("AND (((bq.patient_last_name > ? OR bq.patient_last_name IS NULL)) OR (bq.patient_last_name = ? AND bq.patient_order_id > ?))", keysetWhereClause);
+			Assert.assertEquals(List.of("Smith", "Smith", patientOrderId), keysetParameters);
+
+			// Cursor row has a NULL last name: with NULLS LAST, only other NULL rows can follow it
+			patientOrder.setPatientLastName(null);
+			keysetParameters.clear();
+			keysetWhereClause = patientOrderService.keysetWhereClauseFor(patientOrderSortRules,
+					patientOrderService.pageCursorFor(patientOrderSortRules, patientOrder), keysetParameters);
+
+			Assert.assertEquals("AND ((bq.patient_last_name IS NULL AND bq.patient_order_id > ?))", keysetWhereClause);
+			Assert.assertEquals(List.of(patientOrderId), keysetParameters);
+		});
+	}
+
+	@Test
+	public void patientOrderKeysetPagingVisitsEveryOrderOnce() {
+		IntegrationTestExecutor.runTransactionallyAndForceRollback((app) -> {
+			InstitutionId institutionId = InstitutionId.COBALT_IC;
+			PatientOrderService patientOrderService = app.getInjector().getInstance(PatientOrderService.class);
+			AccountService accountService = app.getInjector().getInstance(AccountService.class);
+			Account adminAccount = accountService.findAdminAccountsForInstitution(InstitutionId.COBALT).get(0);
+
+			String csvContent = Files.readString(Path.of("resources/test/ic-order-report.csv"), StandardCharsets.UTF_8);
+
+			patientOrderService.createPatientOrderImport(new CreatePatientOrderImportRequest() {{
+				setCsvContent(csvContent);
+				setInstitutionId(institutionId);
+				setPatientOrderImportTypeId(PatientOrderImportTypeId.CSV);
+				setAccountId(adminAccount.getAccountId());
+			}});
+
+			// Sort on a low-cardinality column so most rows are tied and the patient order ID tiebreaker does the work
+			List<PatientOrderSortRule> patientOrderSortRules = List.of(
+					patientOrderSortRule(PatientOrderSortColumnId.OUTREACH_NUMBER, SortDirectionId.ASCENDING, SortNullsId.NULLS_LAST));
+
+			// Results are capped at one page, so compare against the total count rather than the number of results
+			int totalCount = patientOrderService.findPatientOrders(new FindPatientOrdersRequest() {{
+				setInstitutionId(institutionId);
+				setPatientOrderSortRules(patientOrderSortRules);
+			}}).getTotalCount();
+
+			int pageSize = 3;
+			int maximumPageCount = totalCount / pageSize + 2;
+			Set<UUID> pagedPatientOrderIds = new HashSet<>();
+			String pageCursor = null;
+			int pageCount = 0;
+
+			do {
+				String currentPageCursor = pageCursor;
+
+				FindResult<PatientOrder> page = patientOrderService.findPatientOrders(new FindPatientOrdersRequest() {{
+					setInstitutionId(institutionId);
+					setPatientOrderSortRules(patientOrderSortRules);
+					setPageSize(pageSize);
+					setPageCursor(currentPageCursor);
+				}});
+
+				for (PatientOrder patientOrder : page.getResults())
+					Assert.assertTrue("Keyset paging returned the same patient order twice", pagedPatientOrderIds.add(patientOrder.getPatientOrderId()));
+
+				pageCursor = page.getNextPageCursor().orElse(null);
+				++pageCount;
+			} while (pageCursor != null && pageCount < maximumPageCount);
+
+			Assert.assertNull("Keyset paging did not reach the last page", pageCursor);
+			Assert.assertEquals("Keyset paging skipped patient orders", totalCount, pagedPatientOrderIds.size());
+		});
+	}
+
+	@Test
+	public void patientOrderTotalCountCacheKey() {
+		IntegrationTestExecutor.runTransactionallyAndForceRollback((app) -> {
+			PatientOrderService patientOrderService = app.getInjector().getInstance(PatientOrderService.class);
+
+			String sql = "WITH base_query AS (SELECT * FROM patient_order WHERE institution_id=? AND patient_last_name=?)";
+			String totalCountCacheKey = patientOrderService.totalCountCacheKeyFor(sql, List.of(InstitutionId.COBALT_IC, "Smith"));
+
+			Assert.assertEquals("Cache key should be a hex-encoded SHA-256", 64, totalCountCacheKey.length());
+			Assert.assertEquals(totalCountCacheKey, patientOrderService.totalCountCacheKeyFor(sql, List.of(InstitutionId.COBALT_IC, "Smith")));
+			Assert.assertNotEquals(totalCountCacheKey, patientOrderService.totalCountCacheKeyFor(sql, List.of(InstitutionId.COBALT_IC, "Smyth")));
+
+			// Parameter boundaries are part of the key
+			Assert.assertNotEquals(patientOrderService.totalCountCacheKeyFor(sql, List.of("a,b")),
+					patientOrderService.totalCountCacheKeyFor(sql, List.of("a", "b")));
+		});
+	}
+
+	@Nonnull
+	protected PatientOrderSortRule patientOrderSortRule(@Nonnull PatientOrderSortColumnId patientOrderSortColumnId,
+																											@Nonnull SortDirectionId sortDirectionId,
+																											@Nonnull SortNullsId sortNullsId) {
+		PatientOrderSortRule patientOrderSortRule = new PatientOrderSortRule();
+		patientOrderSortRule.setPatientOrderSortColumnId(patientOrderSortColumnId);
+		patientOrderSortRule.setSortDirectionId(sortDirectionId);
+		patientOrderSortRule.setSortNullsId(sortNullsId);
+		return patientOrderSortRule;
+	}
 }
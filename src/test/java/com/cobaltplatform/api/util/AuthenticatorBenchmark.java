@@ -0,0 +1,94 @@
+/*
+ * Copyright 2021 The University of Pennsylvania and Penn Medicine
+ *
+ * Originally created at the University of Pennsylvania and Penn Medicine by:
+ * Dr. David Asch; Dr. Lisa Bellini; Dr. Cecilia Livesey; Kelley Kugler; and Dr. Matthew Press.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cobaltplatform.api.util;
+
+import com.cobaltplatform.api.Configuration;
+import com.cobaltplatform.api.IntegrationTestExecutor;
+import com.cobaltplatform.api.model.db.Role.RoleId;
+import com.cobaltplatform.api.service.AccountService;
+import io.jsonwebtoken.Jwts;
+
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.ThreadSafe;
+import java.util.UUID;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Measures access token validation throughput: "cold" is what every request used to pay (build a parser and verify the
+ * RSA signature), "warm" is a repeat of an already-verified token served from {@link Authenticator}'s verified-claims cache.
+ * <p>
+ * Not part of the test suite - run by hand, e.g. before and after changing how access tokens are validated.
+ *
+ * @author Transmogrify, LLC.
+ */
+@ThreadSafe
+public class AuthenticatorBenchmark {
+	@Nonnull
+	private static final UUID ACCOUNT_ID;
+	@Nonnull
+	private static final Integer WARMUP_ITERATIONS;
+	@Nonnull
+	private static final Integer MEASUREMENT_ITERATIONS;
+
+	static {
+		ACCOUNT_ID = UUID.fromString("6e54bdb9-b19c-4ca3-9cd0-52cae0c9d2a0");
+		WARMUP_ITERATIONS = 500;
+		MEASUREMENT_ITERATIONS = 5_000;
+	}
+
+	public static void main(String[] args) {
+		new AuthenticatorBenchmark().benchmark(RoleId.ADMINISTRATOR);
+	}
+
+	public void benchmark(@Nonnull RoleId roleId) {
+		requireNonNull(roleId);
+
+		IntegrationTestExecutor.runTransactionallyAndForceRollback((app) -> {
+			Configuration configuration = new Configuration();
+			Authenticator authenticator = new Authenticator(configuration, app.getInjector().getProvider(AccountService.class));
+			String accessToken = authenticator.generateAccessToken(ACCOUNT_ID, roleId);
+
+			for (int i = 0; i < WARMUP_ITERATIONS; ++i)
+				Jwts.parserBuilder().setSigningKey(configuration.getSigningCredentials().getX509Certificate().getPublicKey()).build().parseClaimsJws(accessToken);
+
+			long coldStartTime = System.nanoTime();
+
+			for (int i = 0; i < MEASUREMENT_ITERATIONS; ++i)
+				Jwts.parserBuilder().setSigningKey(configuration.getSigningCredentials().getX509Certificate().getPublicKey()).build().parseClaimsJws(accessToken);
+
+			long coldElapsedNanos = System.nanoTime() - coldStartTime;
+
+			for (int i = 0; i < WARMUP_ITERATIONS; ++i)
+				authenticator.validateAccessToken(accessToken);
+
+			long warmStartTime = System.nanoTime();
+
+			for (int i = 0; i < MEASUREMENT_ITERATIONS; ++i)
+				authenticator.validateAccessToken(accessToken);
+
+			long warmElapsedNanos = System.nanoTime() - warmStartTime;
+
+			System.out.printf("Access token validation: cold %.0f ops/sec, warm %.0f ops/sec\n",
+					MEASUREMENT_ITERATIONS / (coldElapsedNanos / 1_000_000_000D),
+					MEASUREMENT_ITERATIONS / (warmElapsedNanos / 1_000_000_000D));
+		});
+	}
+}
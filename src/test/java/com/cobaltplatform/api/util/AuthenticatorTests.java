@@ -26,22 +26,40 @@ import com.cobaltplatform.api.model.security.AccessTokenClaims;
 import com.cobaltplatform.api.model.security.SigningTokenClaims;
 import com.cobaltplatform.api.service.AccountService;
 import com.cobaltplatform.api.util.Authenticator.SigningTokenValidationException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import org.junit.Assert;
 import org.junit.Test;
 import org.mindrot.jbcrypt.BCrypt;
 
+import javax.annotation.Nonnull;
 import javax.annotation.concurrent.ThreadSafe;
+import javax.inject.Provider;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Random;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.time.temporal.ChronoUnit.MINUTES;
+import static java.util.Objects.requireNonNull;
 
 /**
  * @author Transmogrify, LLC.
  */
 @ThreadSafe
 public class AuthenticatorTests {
+	@Nonnull
+	private static final UUID ACCOUNT_ID;
+
+	static {
+		ACCOUNT_ID = UUID.fromString("6e54bdb9-b19c-4ca3-9cd0-52cae0c9d2a0");
+	}
+
 	@Test
 	public void testAccessTokenClaims() {
 		IntegrationTestExecutor.runTransactionallyAndForceRollback((app) -> {
@@ -80,6 +98,103 @@ public class AuthenticatorTests {
 		});
 	}
 
+	@Test
+	public void testVerifiedAccessTokenIsServedFromCache() {
+		Configuration configuration = new Configuration();
+		AtomicInteger verificationCount = new AtomicInteger();
+		Authenticator authenticator = createVerificationCountingAuthenticator(configuration, verificationCount);
+
+		String accessToken = generateAccessToken(authenticator, configuration, ACCOUNT_ID, Instant.now().plus(10, MINUTES));
+
+		AccessTokenClaims accessTokenClaims = authenticator.validateAccessToken(accessToken).get();
+		Assert.assertEquals("Account ID was not correctly stored in access token claims", ACCOUNT_ID, accessTokenClaims.getAccountId());
+		Assert.assertEquals("First validation should verify the token signature", 1, verificationCount.get());
+
+		AccessTokenClaims cachedAccessTokenClaims = authenticator.validateAccessToken(accessToken).get();
+		Assert.assertEquals("Cached access token claims did not match", accessTokenClaims, cachedAccessTokenClaims);
+		Assert.assertEquals("Repeat validation of the same token should skip signature verification", 1, verificationCount.get());
+	}
+
+	@Test
+	public void testCachedAccessTokenExpiresWithToken() throws InterruptedException {
+		Configuration configuration = new Configuration();
+		AtomicInteger verificationCount = new AtomicInteger();
+		Authenticator authenticator = createVerificationCountingAuthenticator(configuration, verificationCount);
+
+		// JWT expiration has second granularity
+		String accessToken = generateAccessToken(authenticator, configuration, ACCOUNT_ID, Instant.now().plusSeconds(2));
+
+		Assert.assertTrue("Access token should validate before it expires", authenticator.validateAccessToken(accessToken).isPresent());
+		Assert.assertTrue("Access token should be served from cache before it expires", authenticator.validateAccessToken(accessToken).isPresent());
+		Assert.assertEquals("Only the first validation should verify the token signature", 1, verificationCount.get());
+
+		// Wait long enough for the access token to expire...
+		Thread.sleep(3000);
+
+		// ...then the cache must not keep it alive
+		Assert.assertTrue("Expired access token should not validate", authenticator.validateAccessToken(accessToken).isEmpty());
+		Assert.assertEquals("Expired access token should not be served from cache", 2, verificationCount.get());
+	}
+
+	@Test
+	public void testTamperedAccessTokenIsNotServedFromCache() {
+		Configuration configuration = new Configuration();
+		AtomicInteger verificationCount = new AtomicInteger();
+		Authenticator authenticator = createVerificationCountingAuthenticator(configuration, verificationCount);
+
+		String accessToken = generateAccessToken(authenticator, configuration, ACCOUNT_ID, Instant.now().plus(10, MINUTES));
+		Assert.assertTrue("Access token should validate", authenticator.validateAccessToken(accessToken).isPresent());
+
+		// Same header and claims as the cached token, but a different signature
+		String tamperedAccessToken = accessToken.substring(0, accessToken.lastIndexOf('.') + 1)
+				+ Base64.getUrlEncoder().withoutPadding().encodeToString("not-the-signature".getBytes(StandardCharsets.UTF_8));
+
+		Assert.assertTrue("Tampered access token should not validate", authenticator.validateAccessToken(tamperedAccessToken).isEmpty());
+		Assert.assertEquals("Tampered access token should have gone through signature verification", 2, verificationCount.get());
+
+		// The genuine token is still cached
+		Assert.assertTrue("Access token should still validate", authenticator.validateAccessToken(accessToken).isPresent());
+		Assert.assertEquals("Access token should still be served from cache", 2, verificationCount.get());
+	}
+
+	@Nonnull
+	protected Authenticator createVerificationCountingAuthenticator(@Nonnull Configuration configuration,
+																																	@Nonnull AtomicInteger verificationCount) {
+		requireNonNull(configuration);
+		requireNonNull(verificationCount);
+
+		// Tokens are generated by hand below, so account lookups are never needed
+		Provider<AccountService> accountServiceProvider = () -> {
+			throw new UnsupportedOperationException();
+		};
+
+		return new Authenticator(configuration, accountServiceProvider) {
+			@Nonnull
+			@Override
+			protected JwtParser getJwtParser() {
+				verificationCount.incrementAndGet();
+				return super.getJwtParser();
+			}
+		};
+	}
+
+	@Nonnull
+	protected String generateAccessToken(@Nonnull Authenticator authenticator,
+																			 @Nonnull Configuration configuration,
+																			 @Nonnull UUID accountId,
+																			 @Nonnull Instant expiration) {
+		requireNonNull(authenticator);
+		requireNonNull(configuration);
+		requireNonNull(accountId);
+		requireNonNull(expiration);
+
+		return Jwts.builder().setSubject(accountId.toString())
+				.setIssuedAt(Date.from(Instant.now()))
+				.setExpiration(Date.from(expiration))
+				.signWith(configuration.getSigningCredentials().getPrivateKey(), authenticator.getSignatureAlgorithm())
+				.compact();
+	}
+
 	@Test
 	public void testSigningToken() throws SigningTokenValidationException {
 		IntegrationTestExecutor.runTransactionallyAndForceRollback((app) -> {
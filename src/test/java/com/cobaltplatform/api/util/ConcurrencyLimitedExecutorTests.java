@@ -0,0 +1,104 @@
+/*
+ * Copyright 2021 The University of Pennsylvania and Penn Medicine
+ *
+ * Originally created at the University of Pennsylvania and Penn Medicine by:
+ * Dr. David Asch; Dr. Lisa Bellini; Dr. Cecilia Livesey; Kelley Kugler; and Dr. Matthew Press.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cobaltplatform.api.util;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import javax.annotation.concurrent.ThreadSafe;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * @author Transmogrify, LLC.
+ */
+@ThreadSafe
+public class ConcurrencyLimitedExecutorTests {
+	@Test
+	public void testConcurrencyLimitIsRespected() throws Exception {
+		ExecutorService executorService = Executors.newFixedThreadPool(8);
+
+		try {
+			ConcurrencyLimitedExecutor concurrencyLimitedExecutor = new ConcurrencyLimitedExecutor(executorService, 2);
+			AtomicInteger runningCount = new AtomicInteger(0);
+			AtomicInteger maximumRunningCount = new AtomicInteger(0);
+			List<CompletableFuture<Void>> futures = new ArrayList<>();
+
+			for (int i = 0; i < 20; ++i) {
+				futures.add(CompletableFuture.runAsync(() -> {
+					maximumRunningCount.accumulateAndGet(runningCount.incrementAndGet(), Math::max);
+
+					try {
+						Thread.sleep(10);
+					} catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+					} finally {
+						runningCount.decrementAndGet();
+					}
+				}, concurrencyLimitedExecutor));
+			}
+
+			CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get(10, TimeUnit.SECONDS);
+
+			Assert.assertEquals("Concurrency limit was not respected", 2, maximumRunningCount.get());
+		} finally {
+			ExecutorServiceUtility.shutdownAndAwaitTermination(executorService);
+		}
+	}
+
+	@Test
+	public void testQueuedTasksDoNotOccupySharedThreads() throws Exception {
+		// One shared thread pool, two limited executors on top of it
+		ExecutorService executorService = Executors.newFixedThreadPool(2);
+
+		try {
+			ConcurrencyLimitedExecutor busyExecutor = new ConcurrencyLimitedExecutor(executorService, 1);
+			ConcurrencyLimitedExecutor otherExecutor = new ConcurrencyLimitedExecutor(executorService, 1);
+			CountDownLatch releaseBusyTasks = new CountDownLatch(1);
+
+			// Pile up a backlog behind a task that won't finish until we say so
+			for (int i = 0; i < 10; ++i) {
+				busyExecutor.execute(() -> {
+					try {
+						releaseBusyTasks.await();
+					} catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+					}
+				});
+			}
+
+			// The backlog is waiting in busyExecutor's queue, not on pool threads, so the other executor still gets a thread
+			CountDownLatch otherTaskRan = new CountDownLatch(1);
+			otherExecutor.execute(otherTaskRan::countDown);
+
+			Assert.assertTrue("Other executor was starved by a backlog it doesn't own", otherTaskRan.await(5, TimeUnit.SECONDS));
+
+			releaseBusyTasks.countDown();
+		} finally {
+			ExecutorServiceUtility.shutdownAndAwaitTermination(executorService);
+		}
+	}
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2021 The University of Pennsylvania and Penn Medicine
+ *
+ * Originally created at the University of Pennsylvania and Penn Medicine by:
+ * Dr. David Asch; Dr. Lisa Bellini; Dr. Cecilia Livesey; Kelley Kugler; and Dr. Matthew Press.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cobaltplatform.api.util;
+
+import com.cobaltplatform.api.util.JavascriptExecutorTests.ScoringOutput;
+
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.ThreadSafe;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Measures screening scoring function throughput through {@link JavascriptExecutor} from several threads at once,
+ * which exercises context pooling and compiled source caching.
+ * <p>
+ * Not part of the test suite - run by hand, e.g. before and after changing how Javascript is executed.
+ *
+ * @author Transmogrify, LLC.
+ */
+@ThreadSafe
+public class JavascriptExecutorBenchmark {
+	@Nonnull
+	private static final Integer WARMUP_ITERATIONS;
+	@Nonnull
+	private static final Integer MEASUREMENT_ITERATIONS;
+	@Nonnull
+	private static final String SCORING_FUNCTION;
+
+	static {
+		WARMUP_ITERATIONS = 200;
+		MEASUREMENT_ITERATIONS = 2_000;
+
+		// Representative of screening_version.scoring_function: sum option scores, complete once all questions are answered
+		SCORING_FUNCTION = """
+				const questionCount = input.questionCount;
+				let score = 0;
+
+				input.screeningAnswers.forEach(screeningAnswer => {
+				  score += input.screeningAnswerOptionsByScreeningAnswerId[screeningAnswer.screeningAnswerId].score;
+				});
+
+				output.completed = input.screeningAnswers.length === questionCount;
+				output.score = score;
+				""".trim();
+	}
+
+	public static void main(String[] args) throws Exception {
+		JavascriptExecutorBenchmark javascriptExecutorBenchmark = new JavascriptExecutorBenchmark();
+
+		for (Integer threadCount : new Integer[]{1, 4})
+			javascriptExecutorBenchmark.benchmark(threadCount);
+	}
+
+	public void benchmark(@Nonnull Integer threadCount) throws Exception {
+		requireNonNull(threadCount);
+
+		Map<String, Object> phq9Input = createScoringInput(9, 2);
+		Map<String, Object> gad7Input = createScoringInput(7, 3);
+
+		try (JavascriptExecutor javascriptExecutor = new JavascriptExecutor()) {
+			for (int i = 0; i < WARMUP_ITERATIONS; ++i) {
+				javascriptExecutor.execute(SCORING_FUNCTION, phq9Input, ScoringOutput.class);
+				javascriptExecutor.execute(SCORING_FUNCTION, gad7Input, ScoringOutput.class);
+			}
+
+			ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+			List<Future<Void>> futures = new ArrayList<>(threadCount);
+			long startTime = System.nanoTime();
+
+			for (int i = 0; i < threadCount; ++i) {
+				futures.add(executorService.submit(() -> {
+					for (int j = 0; j < MEASUREMENT_ITERATIONS / threadCount; ++j) {
+						ScoringOutput phq9Output = javascriptExecutor.execute(SCORING_FUNCTION, phq9Input, ScoringOutput.class);
+						ScoringOutput gad7Output = javascriptExecutor.execute(SCORING_FUNCTION, gad7Input, ScoringOutput.class);
+
+						// Make sure we're measuring correct executions
+						if (phq9Output.getScore() != 18 || gad7Output.getScore() != 21)
+							throw new IllegalStateException(format("Unexpected scores %s and %s", phq9Output.getScore(), gad7Output.getScore()));
+					}
+
+					return null;
+				}));
+			}
+
+			for (Future<Void> future : futures)
+				future.get();
+
+			long elapsedNanos = System.nanoTime() - startTime;
+			ExecutorServiceUtility.shutdownAndAwaitTermination(executorService);
+
+			System.out.printf("Scoring function execution: %.0f ops/sec across %d thread[s]\n",
+					(MEASUREMENT_ITERATIONS * 2) / (elapsedNanos / 1_000_000_000D), threadCount);
+		}
+	}
+
+	@Nonnull
+	protected Map<String, Object> createScoringInput(int questionCount,
+																									 int scorePerAnswer) {
+		List<Map<String, Object>> screeningAnswers = new ArrayList<>(questionCount);
+		Map<String, Object> screeningAnswerOptionsByScreeningAnswerId = new HashMap<>(questionCount);
+
+		for (int i = 0; i < questionCount; ++i) {
+			String screeningAnswerId = UUID.randomUUID().toString();
+			screeningAnswers.add(Map.of("screeningAnswerId", screeningAnswerId));
+			screeningAnswerOptionsByScreeningAnswerId.put(screeningAnswerId, Map.of("score", scorePerAnswer));
+		}
+
+		return Map.of(
+				"questionCount", questionCount,
+				"screeningAnswers", screeningAnswers,
+				"screeningAnswerOptionsByScreeningAnswerId", screeningAnswerOptionsByScreeningAnswerId
+		);
+	}
+}
@@ -19,16 +19,25 @@
 
 package com.cobaltplatform.api.util;
 
+import com.cobaltplatform.api.util.JavascriptExecutor.PooledContext;
+import org.graalvm.polyglot.Source;
 import org.junit.Test;
 
+import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import javax.annotation.concurrent.NotThreadSafe;
 import javax.annotation.concurrent.ThreadSafe;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.UUID;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
 
 /**
  * @author Transmogrify, LLC.
@@ -80,6 +89,181 @@ public class JavascriptExecutorTests {
 		}
 	}
 
+	@Test
+	public void testJavascriptNullInput() throws JavascriptExecutionException {
+		Map<String, Object> input = new HashMap<>();
+		input.put("missing", null);
+
+		new JavascriptExecutor().execute("""
+				if(input.missing !== null)
+				  throw 'Null input was not preserved';
+				""".trim(), input, TestOutput.class);
+	}
+
+	@Test
+	public void testGlobalsDoNotLeakBetweenExecutions() throws JavascriptExecutionException {
+		// A single caller always gets the same pooled context back, so this exercises context reuse
+		try (JavascriptExecutor javascriptExecutor = new JavascriptExecutor()) {
+			javascriptExecutor.execute("""
+					globalThis.leakedPatientScore = input.score;
+					""".trim(), Map.of("score", 27), TestOutput.class);
+
+			LeakOutput leakOutput = javascriptExecutor.execute("""
+					output.leaked = typeof leakedPatientScore !== 'undefined';
+					""".trim(), Map.of(), LeakOutput.class);
+
+			assertEquals("Global assigned in one execution was visible in the next", Boolean.FALSE, leakOutput.getLeaked());
+			assertEquals("Context should have been returned to the pool", 1, javascriptExecutor.getIdlePooledContexts().size());
+		}
+	}
+
+	@Test
+	public void testImplicitGlobalsDoNotLeakBetweenExecutions() throws JavascriptExecutionException {
+		try (JavascriptExecutor javascriptExecutor = new JavascriptExecutor()) {
+			// Existing scoring functions may assign undeclared variables, which creates an implicit global
+			javascriptExecutor.execute("""
+					leakedPatientScore = input.score;
+					""".trim(), Map.of("score", 27), TestOutput.class);
+
+			LeakOutput leakOutput = javascriptExecutor.execute("""
+					output.leaked = typeof leakedPatientScore !== 'undefined';
+					""".trim(), Map.of(), LeakOutput.class);
+
+			assertEquals("Implicit global assigned in one execution was visible in the next", Boolean.FALSE, leakOutput.getLeaked());
+		}
+	}
+
+	@Test
+	public void testSourceIsCachedAndReused() throws JavascriptExecutionException {
+		final String SCORING_FUNCTION = """
+				let score = 0;
+
+				input.screeningAnswers.forEach(screeningAnswer => {
+				  score += input.screeningAnswerOptionsByScreeningAnswerId[screeningAnswer.screeningAnswerId].score;
+				});
+
+				output.completed = input.screeningAnswers.length === input.questionCount;
+				output.score = score;
+				""".trim();
+
+		try (JavascriptExecutor javascriptExecutor = new JavascriptExecutor()) {
+			ScoringOutput phq9Output = javascriptExecutor.execute(SCORING_FUNCTION, createScoringInput(9, 2), ScoringOutput.class);
+			Source source = javascriptExecutor.getSourcesByJavascriptHash().asMap().values().stream().findFirst().get();
+
+			ScoringOutput gad7Output = javascriptExecutor.execute(SCORING_FUNCTION, createScoringInput(7, 3), ScoringOutput.class);
+
+			assertEquals(Integer.valueOf(18), phq9Output.getScore());
+			assertEquals(Boolean.TRUE, phq9Output.getCompleted());
+			assertEquals(Integer.valueOf(21), gad7Output.getScore());
+			assertEquals(Boolean.TRUE, gad7Output.getCompleted());
+
+			assertEquals("Same function with different input should share one cached source", 1, javascriptExecutor.getSourcesByJavascriptHash().asMap().size());
+			assertSame("Cached source should be reused", source, javascriptExecutor.getSourcesByJavascriptHash().asMap().values().stream().findFirst().get());
+		}
+	}
+
+	@Test
+	public void testContextIsClosedAfterFailure() throws JavascriptExecutionException {
+		List<PooledContext> acquiredPooledContexts = new ArrayList<>();
+
+		try (JavascriptExecutor javascriptExecutor = new JavascriptExecutor() {
+			@Nonnull
+			@Override
+			protected PooledContext acquirePooledContext() {
+				PooledContext pooledContext = super.acquirePooledContext();
+				acquiredPooledContexts.add(pooledContext);
+				return pooledContext;
+			}
+		}) {
+			try {
+				javascriptExecutor.execute("""
+						throw 'oops';
+						""".trim(), Map.of(), TestOutput.class);
+
+				fail("Execution should have failed");
+			} catch (JavascriptExecutionException e) {
+				// Expected
+			}
+
+			assertEquals("Failed context should not have been returned to the pool", 0, javascriptExecutor.getIdlePooledContexts().size());
+
+			try {
+				acquiredPooledContexts.get(0).getContext().eval("js", "1");
+				fail("Failed context should have been closed");
+			} catch (IllegalStateException e) {
+				// Expected
+			}
+
+			// The next execution gets a fresh context and succeeds
+			TestOutput testOutput = javascriptExecutor.execute("""
+					output.stringList = ['a'];
+					""".trim(), Map.of(), TestOutput.class);
+
+			assertEquals(List.of("a"), testOutput.getStringList());
+			assertNotSame(acquiredPooledContexts.get(0), acquiredPooledContexts.get(1));
+		}
+	}
+
+	@Nonnull
+	protected Map<String, Object> createScoringInput(int questionCount,
+																									 int scorePerAnswer) {
+		List<Map<String, Object>> screeningAnswers = new ArrayList<>(questionCount);
+		Map<String, Object> screeningAnswerOptionsByScreeningAnswerId = new HashMap<>(questionCount);
+
+		for (int i = 0; i < questionCount; ++i) {
+			String screeningAnswerId = UUID.randomUUID().toString();
+			screeningAnswers.add(Map.of("screeningAnswerId", screeningAnswerId));
+			screeningAnswerOptionsByScreeningAnswerId.put(screeningAnswerId, Map.of("score", scorePerAnswer));
+		}
+
+		return Map.of(
+				"questionCount", questionCount,
+				"screeningAnswers", screeningAnswers,
+				"screeningAnswerOptionsByScreeningAnswerId", screeningAnswerOptionsByScreeningAnswerId
+		);
+	}
+
+	@NotThreadSafe
+	public static class LeakOutput {
+		@Nullable
+		private Boolean leaked;
+
+		@Nullable
+		public Boolean getLeaked() {
+			return this.leaked;
+		}
+
+		public void setLeaked(@Nullable Boolean leaked) {
+			this.leaked = leaked;
+		}
+	}
+
+	@NotThreadSafe
+	public static class ScoringOutput {
+		@Nullable
+		private Boolean completed;
+		@Nullable
+		private Integer score;
+
+		@Nullable
+		public Boolean getCompleted() {
+			return this.completed;
+		}
+
+		public void setCompleted(@Nullable Boolean completed) {
+			this.completed = completed;
+		}
+
+		@Nullable
+		public Integer getScore() {
+			return this.score;
+		}
+
+		public void setScore(@Nullable Integer score) {
+			this.score = score;
+		}
+	}
+
 	@NotThreadSafe
 	public static class TestOutput {
 		@Nullable
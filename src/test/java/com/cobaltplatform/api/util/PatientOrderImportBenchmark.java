@@ -0,0 +1,95 @@
+/*
+ * Copyright 2021 The University of Pennsylvania and Penn Medicine
+ *
+ * Originally created at the University of Pennsylvania and Penn Medicine by:
+ * Dr. David Asch; Dr. Lisa Bellini; Dr. Cecilia Livesey; Kelley Kugler; and Dr. Matthew Press.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cobaltplatform.api.util;
+
+import com.cobaltplatform.api.IntegrationTestExecutor;
+import com.cobaltplatform.api.model.api.request.CreatePatientOrderImportRequest;
+import com.cobaltplatform.api.model.db.Account;
+import com.cobaltplatform.api.model.db.Institution.InstitutionId;
+import com.cobaltplatform.api.model.db.PatientOrderImportType.PatientOrderImportTypeId;
+import com.cobaltplatform.api.model.service.PatientOrderImportResult;
+import com.cobaltplatform.api.service.AccountService;
+import com.cobaltplatform.api.service.PatientOrderService;
+
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.ThreadSafe;
+import java.time.Duration;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Measures CSV patient order import throughput against a local database, using files from {@link PatientOrderCsvGenerator}.
+ * <p>
+ * Not part of the test suite - run by hand, e.g. before and after changing how imports are batched.
+ * Generated files contain test patients, so IC debugging must be enabled in the local configuration.
+ * Everything imported is rolled back afterwards.
+ *
+ * @author Transmogrify, LLC.
+ */
+@ThreadSafe
+public class PatientOrderImportBenchmark {
+	@Nonnull
+	private final InstitutionId institutionId;
+
+	public static void main(String[] args) {
+		PatientOrderImportBenchmark patientOrderImportBenchmark = new PatientOrderImportBenchmark(InstitutionId.COBALT_IC);
+
+		for (Integer numberOfRows : new Integer[]{100, 1_000, 5_000})
+			patientOrderImportBenchmark.benchmark(numberOfRows);
+	}
+
+	public PatientOrderImportBenchmark(@Nonnull InstitutionId institutionId) {
+		requireNonNull(institutionId);
+		this.institutionId = institutionId;
+	}
+
+	public void benchmark(@Nonnull Integer numberOfRows) {
+		requireNonNull(numberOfRows);
+
+		IntegrationTestExecutor.runTransactionallyAndForceRollback((app) -> {
+			PatientOrderService patientOrderService = app.getInjector().getInstance(PatientOrderService.class);
+			AccountService accountService = app.getInjector().getInstance(AccountService.class);
+			Account adminAccount = accountService.findAdminAccountsForInstitution(InstitutionId.COBALT).get(0);
+
+			String csvContent = new PatientOrderCsvGenerator().generateCsv(numberOfRows);
+
+			// The import runs inline in this (rolled-back) transaction, but still reads and inserts a batch at a time
+			long startTime = System.nanoTime();
+
+			PatientOrderImportResult patientOrderImportResult = patientOrderService.createPatientOrderImport(new CreatePatientOrderImportRequest() {{
+				setCsvContent(csvContent);
+				setInstitutionId(getInstitutionId());
+				setPatientOrderImportTypeId(PatientOrderImportTypeId.CSV);
+				setAccountId(adminAccount.getAccountId());
+			}});
+
+			Duration duration = Duration.ofNanos(System.nanoTime() - startTime);
+			int importedCount = patientOrderImportResult.getPatientOrderIds().size();
+
+			System.out.printf("Imported %d of %d row[s] in %d ms (%.1f rows/sec)\n", importedCount, numberOfRows, duration.toMillis(),
+					importedCount / Math.max(duration.toNanos() / 1_000_000_000D, 0.001D));
+		});
+	}
+
+	@Nonnull
+	protected InstitutionId getInstitutionId() {
+		return this.institutionId;
+	}
+}